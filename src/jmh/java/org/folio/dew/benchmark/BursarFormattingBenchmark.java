@@ -0,0 +1,48 @@
+package org.folio.dew.benchmark;
+
+import static org.folio.dew.batch.bursarfeesfines.service.BursarFeesFinesUtils.BURSAR_FIELD_NAMES;
+import static org.folio.dew.batch.bursarfeesfines.service.BursarFeesFinesUtils.BURSAR_LINE_FORMAT;
+
+import org.folio.dew.batch.bursarfeesfines.service.BursarWriterBuilder;
+import org.folio.dew.domain.dto.bursarfeesfines.BursarFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.batch.item.file.transform.LineAggregator;
+
+import java.util.List;
+
+/**
+ * Fixed-width formatting of bursar export lines, as configured for {@link org.folio.dew.batch.bursarfeesfines.service.BursarWriter}.
+ */
+@State(Scope.Benchmark)
+public class BursarFormattingBenchmark {
+
+  @Param({ "8", "64" })
+  public int fieldLength;
+
+  @Param({ "1000" })
+  public int records;
+
+  private LineAggregator<BursarFormat> lineAggregator;
+  private List<BursarFormat> data;
+
+  @Setup
+  public void setUp() {
+    var formatted = new BursarWriterBuilder<BursarFormat>().formatted();
+    formatted.format(BURSAR_LINE_FORMAT).names(BURSAR_FIELD_NAMES.toArray(String[]::new));
+    lineAggregator = formatted.build();
+    data = SyntheticRecords.generate(BursarFormat::new, records, fieldLength, 0);
+  }
+
+  @Benchmark
+  public String formatLines() {
+    var sb = new StringBuilder();
+    for (var rec : data) {
+      sb.append(lineAggregator.aggregate(rec)).append('\n');
+    }
+    return sb.toString();
+  }
+}
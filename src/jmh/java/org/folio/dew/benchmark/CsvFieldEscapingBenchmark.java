@@ -0,0 +1,52 @@
+package org.folio.dew.benchmark;
+
+import org.folio.dew.batch.CsvWriter;
+import org.folio.dew.domain.dto.CirculationLogExportFormat;
+import org.folio.dew.repository.LocalFilesStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.batch.item.file.transform.LineAggregator;
+
+import java.util.List;
+
+/**
+ * Field extraction and CSV escaping of {@link org.folio.dew.batch.AbstractStorageStreamWriter} (one line per record).
+ */
+@State(Scope.Benchmark)
+public class CsvFieldEscapingBenchmark {
+  private static final String[] FIELD_NAMES = {
+    "userBarcode", "items", "objectField", "action", "date", "servicePointId", "source", "description"
+  };
+
+  @Param({ "16", "256" })
+  public int fieldLength;
+
+  @Param({ "0.0", "0.05" })
+  public double specialCharsRatio;
+
+  @Param({ "1000" })
+  public int records;
+
+  private LineAggregator<CirculationLogExportFormat> lineAggregator;
+  private List<CirculationLogExportFormat> data;
+
+  @Setup
+  public void setUp() {
+    var writer = new CsvWriter<CirculationLogExportFormat, LocalFilesStorage>("benchmark.csv", null, FIELD_NAMES,
+      (field, i) -> field, null);
+    lineAggregator = writer.getLineAggregator();
+    data = SyntheticRecords.generate(CirculationLogExportFormat::new, records, fieldLength, specialCharsRatio);
+  }
+
+  @Benchmark
+  public String aggregateLines() {
+    var sb = new StringBuilder();
+    for (var rec : data) {
+      sb.append(lineAggregator.aggregate(rec)).append('\n');
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,42 @@
+package org.folio.dew.benchmark;
+
+import org.folio.dew.domain.dto.authoritycontrol.exportformat.AuthUpdateHeadingExportFormat;
+import org.folio.dew.utils.ExportFormatHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Reflection based row rendering of {@link ExportFormatHelper#getItemRow(Object)}.
+ */
+@State(Scope.Benchmark)
+public class ExportFormatHelperBenchmark {
+
+  @Param({ "16", "256" })
+  public int fieldLength;
+
+  @Param({ "0.0", "0.05" })
+  public double specialCharsRatio;
+
+  @Param({ "1000" })
+  public int records;
+
+  private List<AuthUpdateHeadingExportFormat> data;
+
+  @Setup
+  public void setUp() {
+    data = SyntheticRecords.generate(AuthUpdateHeadingExportFormat::new, records, fieldLength, specialCharsRatio);
+  }
+
+  @Benchmark
+  public void getItemRows(Blackhole blackhole) {
+    for (var rec : data) {
+      blackhole.consume(ExportFormatHelper.getItemRow(rec));
+    }
+  }
+}
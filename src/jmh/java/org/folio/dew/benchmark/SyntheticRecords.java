@@ -0,0 +1,63 @@
+package org.folio.dew.benchmark;
+
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Produces synthetic records for benchmarks. All string fields of the record are filled with random values of the
+ * given length, the given share of characters are the ones requiring CSV escaping (quotes, commas, line breaks).
+ * Records are generated with fixed seed, so results of different builds are comparable.
+ */
+@UtilityClass
+public class SyntheticRecords {
+  private static final long SEED = 42;
+  private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 ";
+  private static final String SPECIAL_CHARS = "\",\n";
+
+  public static <T> List<T> generate(Supplier<T> factory, int count, int fieldLength, double specialCharsRatio) {
+    var random = new Random(SEED);
+    var records = new ArrayList<T>(count);
+    for (int i = 0; i < count; i++) {
+      records.add(fill(factory.get(), random, fieldLength, specialCharsRatio));
+    }
+    return records;
+  }
+
+  public static byte[] bytes(int size) {
+    var bytes = new byte[size];
+    var random = new Random(SEED);
+    for (int i = 0; i < size; i++) {
+      bytes[i] = (byte) ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+    }
+    return bytes;
+  }
+
+  static String value(Random random, int length, double specialCharsRatio) {
+    var sb = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      sb.append(random.nextDouble() < specialCharsRatio
+        ? SPECIAL_CHARS.charAt(random.nextInt(SPECIAL_CHARS.length()))
+        : ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+    return sb.toString();
+  }
+
+  private static <T> T fill(T rec, Random random, int fieldLength, double specialCharsRatio) {
+    for (var field : FieldUtils.getAllFieldsList(rec.getClass())) {
+      if (field.getType() == String.class && !Modifier.isStatic(field.getModifiers())) {
+        try {
+          FieldUtils.writeField(field, rec, value(random, fieldLength, specialCharsRatio), true);
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException("Cannot fill field " + field.getName(), e);
+        }
+      }
+    }
+    return rec;
+  }
+}
@@ -7,6 +7,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.ColumnTransformer;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import lombok.Data;
@@ -16,15 +18,21 @@ import lombok.Data;
 @Table(name = "e_holdings_package")
 @IdClass(EHoldingsPackage.PackageId.class)
 public class EHoldingsPackage {
+  private static final String JSONB = "?::jsonb";
+
   @Id
   private String id;
   @Id
   private Long jobExecutionId;
+  @ColumnTransformer(write = JSONB)
   @JsonProperty("ePackage")
   private String ePackage;
+  @ColumnTransformer(write = JSONB)
   @JsonProperty("eProvider")
   private String eProvider;
+  @ColumnTransformer(write = JSONB)
   private String agreements;
+  @ColumnTransformer(write = JSONB)
   private String notes;
 
   @Data
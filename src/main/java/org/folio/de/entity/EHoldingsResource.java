@@ -7,6 +7,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.ColumnTransformer;
+
 import lombok.Data;
 
 @Data
@@ -14,13 +16,18 @@ import lombok.Data;
 @Table(name = "e_holdings_resource")
 @IdClass(EHoldingsResource.ResourceId.class)
 public class EHoldingsResource {
+  private static final String JSONB = "?::jsonb";
+
   @Id
   private String id;
   private String name;
   @Id
   private Long jobExecutionId;
+  @ColumnTransformer(write = JSONB)
   private String resourcesData;
+  @ColumnTransformer(write = JSONB)
   private String agreements;
+  @ColumnTransformer(write = JSONB)
   private String notes;
 
   @Data
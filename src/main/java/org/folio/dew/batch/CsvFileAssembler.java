@@ -10,6 +10,8 @@ import org.springframework.batch.core.partition.support.StepExecutionAggregator;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Component
@@ -17,12 +19,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CsvFileAssembler implements StepExecutionAggregator {
   private static final String TEXT_CSV = "text/csv";
+  private static final String PARTITION = "partition";
 
   private final RemoteFilesStorage remoteFilesStorage;
 
   @Override
   public void aggregate(StepExecution stepExecution, Collection<StepExecution> finishedStepExecutions) {
-    var csvFilePartObjectNames = finishedStepExecutions.stream()
+    var csvFilePartObjectNames = sortByPartition(finishedStepExecutions).stream()
         .map(e -> e.getExecutionContext().getString(JobParameterNames.TEMP_OUTPUT_FILE_PATH))
         .collect(Collectors.toList());
     var destCsvObject = FilenameUtils.getName(
@@ -40,7 +43,7 @@ public class CsvFileAssembler implements StepExecutionAggregator {
         var csvUrl = remoteFilesStorage.objectToPresignedObjectUrl(
           remoteFilesStorage.composeObject(destCsvObject, csvFilePartObjectNames, null, TEXT_CSV));
 
-        var jsonFilePartObjectNames = finishedStepExecutions.stream()
+        var jsonFilePartObjectNames = sortByPartition(finishedStepExecutions).stream()
           .map(e -> e.getExecutionContext().getString(JobParameterNames.TEMP_OUTPUT_FILE_PATH) + ".json")
           .collect(Collectors.toList());
         var destJsonObject = prefix + FilenameUtils.getName(
@@ -54,4 +57,10 @@ public class CsvFileAssembler implements StepExecutionAggregator {
       throw new IllegalStateException(e);
     }
   }
+
+  private List<StepExecution> sortByPartition(Collection<StepExecution> stepExecutions) {
+    return stepExecutions.stream()
+      .sorted(Comparator.comparingLong(e -> e.getExecutionContext().getLong(PARTITION, 0L)))
+      .collect(Collectors.toList());
+  }
 }
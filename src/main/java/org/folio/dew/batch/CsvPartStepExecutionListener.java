@@ -5,16 +5,36 @@ import org.apache.commons.io.FilenameUtils;
 import org.folio.dew.domain.dto.JobParameterNames;
 import org.folio.dew.repository.LocalFilesStorage;
 import org.folio.dew.repository.RemoteFilesStorage;
+import org.folio.dew.repository.StagingFilesStorage;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Log4j2
 @Component
 public class CsvPartStepExecutionListener extends BaseStepListener {
 
-  public CsvPartStepExecutionListener(RemoteFilesStorage remoteFilesStorage, LocalFilesStorage localFilesStorage) {
+  private static final String JSON_EXTENSION = ".json";
+
+  private final StagingFilesStorage stagingFilesStorage;
+
+  public CsvPartStepExecutionListener(RemoteFilesStorage remoteFilesStorage, LocalFilesStorage localFilesStorage,
+      StagingFilesStorage stagingFilesStorage) {
     super(remoteFilesStorage, localFilesStorage);
+    this.stagingFilesStorage = stagingFilesStorage;
+  }
+
+  @Override
+  public ExitStatus afterStep(StepExecution stepExecution) {
+    var exitStatus = super.afterStep(stepExecution);
+    if (stagingFilesStorage.isEnabled()) {
+      // staged parts are either uploaded or useless at this point, so they don't hold the disk quota
+      getStagedFiles(stepExecution).forEach(stagingFilesStorage::delete);
+    }
+    return exitStatus;
   }
 
   @Override
@@ -24,6 +44,9 @@ public class CsvPartStepExecutionListener extends BaseStepListener {
     var remoteFilesStorage = super.getRemoteFilesStorage();
 
     var filename = stepExecution.getExecutionContext().getString(JobParameterNames.TEMP_OUTPUT_FILE_PATH);
+    if (stagingFilesStorage.isEnabled() && stagingFilesStorage.exists(filename)) {
+      return uploadStagedFiles(stepExecution);
+    }
     if (localFilesStorage.notExists(filename)) {
       log.error("Can't find {}.", filename);
       return ExitStatus.FAILED;
@@ -40,4 +63,27 @@ public class CsvPartStepExecutionListener extends BaseStepListener {
     return exitStatus;
   }
 
+  private ExitStatus uploadStagedFiles(StepExecution stepExecution) {
+    try {
+      for (var path : getStagedFiles(stepExecution)) {
+        stagingFilesStorage.uploadTo(super.getRemoteFilesStorage(), path);
+      }
+    } catch (Exception e) {
+      log.error(e.toString(), e);
+      stepExecution.getJobExecution().addFailureException(e);
+      return ExitStatus.FAILED;
+    }
+    return stepExecution.getExitStatus();
+  }
+
+  private List<String> getStagedFiles(StepExecution stepExecution) {
+    var filename = stepExecution.getExecutionContext().getString(JobParameterNames.TEMP_OUTPUT_FILE_PATH, null);
+    if (filename == null) {
+      return List.of();
+    }
+    return Stream.of(filename, filename + JSON_EXTENSION)
+      .filter(stagingFilesStorage::exists)
+      .toList();
+  }
+
 }
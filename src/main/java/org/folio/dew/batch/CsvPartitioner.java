@@ -10,45 +10,39 @@ import org.springframework.batch.item.ExecutionContext;
 @Log4j2
 public abstract class CsvPartitioner implements Partitioner {
 
-  private static final int QUANTITY_PER_PARTITION = 250000;
-
   private final String outputFilePathTemplate;
-  private long offset;
+  private final PartitionPlanner partitionPlanner;
+  private final long offset;
   private Long limit;
 
-  protected CsvPartitioner(Long offset, Long limit, String tempOutputFilePath) {
+  protected CsvPartitioner(Long offset, Long limit, String tempOutputFilePath, PartitionPlanner partitionPlanner) {
     this.offset = offset == null ? 0 : offset;
     this.limit = limit;
+    this.partitionPlanner = partitionPlanner;
     outputFilePathTemplate = createOutputFilePathTemplate(tempOutputFilePath);
   }
 
+  /**
+   * @param gridSize - number of partitions executed at once
+   */
   @Override
   public Map<String, ExecutionContext> partition(int gridSize) {
     limit = limit == null ? getLimit() : limit;
 
     Map<String, ExecutionContext> result = new HashMap<>();
 
-    long numberOfPartitions = limit / QUANTITY_PER_PARTITION;
-    if (numberOfPartitions == 0) {
-      numberOfPartitions = 1;
-    }
-
-    long currentLimit;
-    for (var i = 0; i < numberOfPartitions; i++) {
+    var ranges = partitionPlanner.plan(offset, limit, gridSize);
+    for (var i = 0; i < ranges.size(); i++) {
       String tempOutputFilePath = getPartitionOutputFilePath(i);
-      currentLimit = limit - QUANTITY_PER_PARTITION >= QUANTITY_PER_PARTITION ? QUANTITY_PER_PARTITION : limit;
+      var range = ranges.get(i);
 
       var executionContext = new ExecutionContext();
-      executionContext.putLong("offset", offset);
-      executionContext.putLong("limit", currentLimit);
+      executionContext.putLong("offset", range.offset());
+      executionContext.putLong("limit", range.limit());
       executionContext.putLong("partition", i);
       executionContext.putString(JobParameterNames.TEMP_OUTPUT_FILE_PATH, tempOutputFilePath);
       result.put("Partition_" + i, executionContext);
-      log.info("Partition {}: offset {}, limit {}, tempOutputFilePath {}.", i, offset, currentLimit, tempOutputFilePath);
-
-      offset += currentLimit;
-      limit -= QUANTITY_PER_PARTITION;
-
+      log.info("Partition {}: offset {}, limit {}, tempOutputFilePath {}.", i, range.offset(), range.limit(), tempOutputFilePath);
     }
 
     return result;
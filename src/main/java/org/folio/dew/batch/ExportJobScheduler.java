@@ -0,0 +1,322 @@
+package org.folio.dew.batch;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.log4j.Log4j2;
+import org.folio.dew.config.kafka.KafkaService;
+import org.folio.dew.config.properties.JobSchedulingProperties;
+import org.folio.dew.domain.dto.ExportType;
+import org.folio.dew.domain.dto.JobParameterNames;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.job.AbstractJob;
+import org.springframework.batch.integration.launch.JobLaunchRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admits export jobs received from Kafka to {@link ExportJobManagerSync}, so a single tenant cannot take the whole
+ * executor shared by all jobs.
+ * <p>
+ * Jobs are queued per tenant and per export type. At most {@link JobSchedulingProperties#getMaxConcurrentJobs()} jobs
+ * run at once and at most {@link JobSchedulingProperties#getMaxConcurrentJobsPerTenant()} of them belong to the same
+ * tenant. A free slot goes to the tenant with the fewest running jobs; within the tenant export types are served by
+ * stride scheduling with {@link JobSchedulingProperties#getWeights()}. Consumption of job commands is paused while
+ * {@link JobSchedulingProperties#getQueueCapacity()} jobs are queued and resumed once half of them are started.
+ * <p>
+ * Jobs admitted when another job finishes are started by {@code jobSchedulerTaskExecutor}, so the folio execution
+ * context of the finishing job's thread is left untouched.
+ * <p>
+ * Queues are kept in memory of the module instance, so the limits and the fairness hold per instance, not across the
+ * cluster. Job commands are acknowledged once queued, so jobs still queued when the instance stops are reported as
+ * FAILED instead of being left without any job update.
+ */
+@Component
+@Log4j2
+public class ExportJobScheduler implements JobExecutionListener, Ordered {
+
+  private final ExportJobManagerSync exportJobManagerSync;
+  private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  private final JobSchedulingProperties properties;
+  private final List<Job> jobs;
+  private final TaskExecutor launchExecutor;
+  private final KafkaService kafkaService;
+
+  private final Map<String, TenantQueues> tenants = new LinkedHashMap<>();
+  private final Map<String, String> runningJobs = new HashMap<>();
+  private int queuedJobs;
+  private long dispatchSequence;
+  private boolean consumptionPaused;
+  private boolean stopped;
+
+  private record ScheduledJob(String jobId, String tenantId, String exportType, JobLaunchRequest request,
+                              FolioExecutionContext context) {
+  }
+
+  private static final class TypeQueue {
+    private final Deque<ScheduledJob> jobs = new ArrayDeque<>();
+    private double pass;
+  }
+
+  private static final class TenantQueues {
+    private final Map<String, TypeQueue> types = new LinkedHashMap<>();
+    private int queued;
+    private int running;
+    private long lastDispatch;
+    private double virtualTime;
+  }
+
+  public ExportJobScheduler(ExportJobManagerSync exportJobManagerSync,
+      KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry, JobSchedulingProperties properties, List<Job> jobs,
+      @Qualifier("jobSchedulerTaskExecutor") TaskExecutor launchExecutor, KafkaService kafkaService) {
+    this.exportJobManagerSync = exportJobManagerSync;
+    this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+    this.properties = properties;
+    this.jobs = jobs;
+    this.launchExecutor = launchExecutor;
+    this.kafkaService = kafkaService;
+  }
+
+  @PostConstruct
+  public void registerListener() {
+    jobs.stream()
+      .filter(AbstractJob.class::isInstance)
+      .map(AbstractJob.class::cast)
+      .forEach(job -> job.registerJobExecutionListener(this));
+  }
+
+  /**
+   * Queues the job and starts queued jobs which fit into the limits. The job is started in the calling thread if a slot
+   * is free.
+   *
+   * @param tenantId - tenant of the job
+   * @param exportType - export type of the job
+   * @param request - the job to launch, its parameters contain {@link JobParameterNames#JOB_ID}
+   * @param context - folio execution context the job is launched with
+   */
+  public void submit(String tenantId, ExportType exportType, JobLaunchRequest request, FolioExecutionContext context) {
+    var jobId = request.getJobParameters().getString(JobParameterNames.JOB_ID);
+    var scheduledJob = new ScheduledJob(jobId, tenantId, exportType.getValue(), request, context);
+    boolean pause;
+    synchronized (this) {
+      if (stopped) {
+        failJobs(List.of(scheduledJob));
+        return;
+      }
+      var tenant = tenants.computeIfAbsent(tenantId, t -> new TenantQueues());
+      var queue = tenant.types.computeIfAbsent(scheduledJob.exportType(), t -> new TypeQueue());
+      if (queue.jobs.isEmpty()) {
+        // an export type which was idle doesn't get credit for the time it had no jobs
+        queue.pass = Math.max(queue.pass, tenant.virtualTime);
+      }
+      queue.jobs.add(scheduledJob);
+      tenant.queued++;
+      queuedJobs++;
+      pause = !consumptionPaused && queuedJobs >= properties.getQueueCapacity();
+      consumptionPaused |= pause;
+      log.info("Queued job {} of tenant {}, export type {}: {} jobs queued, {} running.", jobId, tenantId,
+        scheduledJob.exportType(), queuedJobs, runningJobs.size());
+    }
+    if (pause) {
+      log.warn("Job queue is full, pausing consumption of job commands.");
+      setConsumptionPaused(true);
+    }
+    dispatch(scheduledJob);
+  }
+
+  /**
+   * Reports jobs which are still queued as FAILED, the queue is not kept over restarts of the module.
+   */
+  @PreDestroy
+  public void failQueuedJobs() {
+    List<ScheduledJob> queued = new ArrayList<>();
+    synchronized (this) {
+      stopped = true;
+      for (var tenant : tenants.values()) {
+        tenant.types.values().forEach(queue -> queued.addAll(queue.jobs));
+        tenant.types.clear();
+        tenant.queued = 0;
+      }
+      queuedJobs = 0;
+    }
+    if (!queued.isEmpty()) {
+      log.warn("Module is stopping, failing {} queued jobs.", queued.size());
+      failJobs(queued);
+    }
+  }
+
+  /**
+   * Job listeners are called after the job in reverse order and ordered listeners go before unordered ones, so the
+   * highest precedence makes {@link #afterJob(JobExecution)} run after the job's own listeners have finished their
+   * completion work.
+   */
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+
+  @Override
+  public void afterJob(JobExecution jobExecution) {
+    var jobId = jobExecution.getJobParameters().getString(JobParameterNames.JOB_ID);
+    if (jobId != null && release(jobId)) {
+      log.info("Job {} finished with status {}.", jobId, jobExecution.getStatus());
+      dispatch(null);
+    }
+  }
+
+  /**
+   * @return number of jobs waiting for a slot
+   */
+  public synchronized int getQueuedJobs() {
+    return queuedJobs;
+  }
+
+  /**
+   * @return number of started jobs which have not finished yet
+   */
+  public synchronized int getRunningJobs() {
+    return runningJobs.size();
+  }
+
+  private void dispatch(ScheduledJob submitted) {
+    List<ScheduledJob> admitted = new ArrayList<>();
+    boolean resume;
+    synchronized (this) {
+      ScheduledJob next;
+      while (runningJobs.size() < properties.getMaxConcurrentJobs() && (next = pollNext()) != null) {
+        runningJobs.put(next.jobId(), next.tenantId());
+        admitted.add(next);
+      }
+      resume = consumptionPaused && queuedJobs <= properties.getQueueCapacity() / 2;
+      consumptionPaused &= !resume;
+    }
+    if (resume) {
+      log.info("Job queue is drained, resuming consumption of job commands.");
+      setConsumptionPaused(false);
+    }
+    admitted.forEach(job -> launch(job, job == submitted));
+  }
+
+  private ScheduledJob pollNext() {
+    TenantQueues tenant = null;
+    for (var candidate : tenants.values()) {
+      if (candidate.queued > 0 && candidate.running < properties.getMaxConcurrentJobsPerTenant()
+        && (tenant == null || candidate.running < tenant.running
+        || candidate.running == tenant.running && candidate.lastDispatch < tenant.lastDispatch)) {
+        tenant = candidate;
+      }
+    }
+    if (tenant == null) {
+      return null;
+    }
+    TypeQueue queue = null;
+    String exportType = null;
+    for (var entry : tenant.types.entrySet()) {
+      var candidate = entry.getValue();
+      if (!candidate.jobs.isEmpty() && (queue == null || candidate.pass < queue.pass)) {
+        queue = candidate;
+        exportType = entry.getKey();
+      }
+    }
+    tenant.virtualTime = queue.pass;
+    queue.pass += 1.0 / Math.max(1, properties.getWeights().getOrDefault(exportType, 1));
+    tenant.queued--;
+    tenant.running++;
+    tenant.lastDispatch = ++dispatchSequence;
+    queuedJobs--;
+    return queue.jobs.poll();
+  }
+
+  private void launch(ScheduledJob job, boolean inSubmittingThread) {
+    if (inSubmittingThread) {
+      start(job);
+      return;
+    }
+    try {
+      launchExecutor.execute(() -> {
+        try (var context = new FolioExecutionContextSetter(job.context())) {
+          start(job);
+        }
+      });
+    } catch (Exception e) {
+      log.error("Cannot schedule start of job {}: {}", job.jobId(), e.getMessage(), e);
+      if (release(job.jobId())) {
+        dispatch(null);
+      }
+    }
+  }
+
+  private void start(ScheduledJob job) {
+    log.info("Starting job {} of tenant {}, export type {}.", job.jobId(), job.tenantId(), job.exportType());
+    JobExecution jobExecution = null;
+    try {
+      jobExecution = exportJobManagerSync.launchJob(job.request());
+    } catch (Exception e) {
+      log.error("Cannot start job {}: {}", job.jobId(), e.getMessage(), e);
+    }
+    if (jobExecution == null || !jobExecution.isRunning() && jobExecution.getEndTime() == null) {
+      // the job has not been started, so its listener will not release the slot
+      if (release(job.jobId())) {
+        dispatch(null);
+      }
+    }
+  }
+
+  private synchronized boolean release(String jobId) {
+    var tenantId = runningJobs.remove(jobId);
+    if (tenantId == null) {
+      return false;
+    }
+    var tenant = tenants.get(tenantId);
+    tenant.running--;
+    if (tenant.running == 0 && tenant.queued == 0) {
+      tenants.remove(tenantId);
+    }
+    return true;
+  }
+
+  private void failJobs(List<ScheduledJob> jobs) {
+    for (var job : jobs) {
+      try (var context = new FolioExecutionContextSetter(job.context())) {
+        var jobUpdate = new org.folio.de.entity.Job();
+        jobUpdate.setId(UUID.fromString(job.jobId()));
+        jobUpdate.setBatchStatus(BatchStatus.FAILED);
+        jobUpdate.setExitStatus(ExitStatus.FAILED);
+        jobUpdate.setErrorDetails("Job was not started before the module instance stopped");
+        jobUpdate.setEndTime(new Date());
+        kafkaService.send(KafkaService.Topic.JOB_UPDATE, job.jobId(), jobUpdate);
+      } catch (Exception e) {
+        log.error("Cannot report job {} as failed: {}", job.jobId(), e.getMessage(), e);
+      }
+    }
+  }
+
+  private void setConsumptionPaused(boolean paused) {
+    var container = kafkaListenerEndpointRegistry.getListenerContainer(KafkaService.EVENT_LISTENER_ID);
+    if (container == null) {
+      return;
+    }
+    if (paused) {
+      container.pause();
+    } else {
+      container.resume();
+    }
+  }
+}
@@ -176,10 +176,8 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
     if (files.size() == 0) {
       return;
     }
-    for (String f : files) {
-        localFilesStorage.delete(f);
-    }
-    log.info("Deleted temp files {} of job {}.", files, jobId);
+    localFilesStorage.deleteObjectsAsync(files);
+    log.info("Scheduled deletion of {} temp files of job {}.", files.size(), jobId);
   }
 
   private Job createJobExecutionUpdate(String jobId, JobExecution jobExecution) {
@@ -0,0 +1,27 @@
+package org.folio.dew.batch;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.JobSynchronizationManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Makes job scoped beans available to the worker steps of a partitioned step. Partitions are executed by threads of
+ * the task executor, which have only the step context registered; the listener registers the context of the job for
+ * the time of the step, so job scoped beans are shared with the thread which launched the job.
+ */
+@Component
+public class PartitionJobScopeListener implements StepExecutionListener {
+
+  @Override
+  public void beforeStep(StepExecution stepExecution) {
+    JobSynchronizationManager.register(stepExecution.getJobExecution());
+  }
+
+  @Override
+  public ExitStatus afterStep(StepExecution stepExecution) {
+    JobSynchronizationManager.release();
+    return stepExecution.getExitStatus();
+  }
+}
@@ -0,0 +1,69 @@
+package org.folio.dew.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.dew.config.properties.PartitioningProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Splits records of an export into partitions sized by the total number of records, the number of partitions executed
+ * at once and the target part file size from {@link PartitioningProperties}.
+ * <p>
+ * Partitions are planned with guided self-scheduling: each partition takes a share of the records which are left, so
+ * the first partitions are large and they get smaller towards the end. Partitions are queued to the executor and a
+ * worker which is done takes the next one, so workers which finished early share the remaining records instead of
+ * waiting for a single large lagging partition. Parts are planned not smaller than the min part size, parts which
+ * still turn out smaller than the compose minimum because records are smaller than estimated are concatenated by
+ * {@link org.folio.dew.repository.RemoteFilesStorage#composeObject} before composing.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class PartitionPlanner {
+
+  private static final int SHARES_PER_WORKER = 2;
+
+  private final PartitioningProperties properties;
+
+  public record Range(long offset, long limit) {
+  }
+
+  /**
+   * Plans partitions of the records.
+   *
+   * @param offset - offset of the first record
+   * @param total - number of records to export
+   * @param concurrency - number of partitions executed at once
+   * @return ranges of records of the partitions, in the order of records
+   */
+  public List<Range> plan(long offset, long total, int concurrency) {
+    if (total <= 0) {
+      return List.of(new Range(offset, 0));
+    }
+    var maxRecords = Math.max(1, properties.getTargetPartSize() / properties.getEstimatedRecordSize());
+    var minRecords = Math.max(1, Math.min(maxRecords, properties.getMinPartSize() / properties.getEstimatedRecordSize()));
+    var shares = (long) Math.max(1, concurrency) * SHARES_PER_WORKER;
+
+    var ranges = new ArrayList<Range>();
+    var remaining = total;
+    while (remaining > 0) {
+      var size = Math.min(maxRecords, Math.max(minRecords, ceilDiv(remaining, shares)));
+      if (remaining - size < minRecords) {
+        // the tail too small for a separate part is added to the last one
+        size = remaining;
+      }
+      ranges.add(new Range(offset, size));
+      offset += size;
+      remaining -= size;
+    }
+    log.info("Planned {} partitions of {} records for concurrency {}, largest partition {} records.", ranges.size(), total,
+      concurrency, ranges.get(0).limit());
+    return ranges;
+  }
+
+  private static long ceilDiv(long dividend, long divisor) {
+    return (dividend + divisor - 1) / divisor;
+  }
+}
@@ -0,0 +1,109 @@
+package org.folio.dew.batch;
+
+import static java.util.Objects.isNull;
+import static org.folio.dew.config.metrics.ExportMetrics.ERROR;
+import static org.folio.dew.config.metrics.ExportMetrics.OUTCOME_TAG;
+import static org.folio.dew.config.metrics.ExportMetrics.SUCCESS;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.dew.config.metrics.ExportMetrics;
+import org.springframework.batch.core.annotation.AfterProcess;
+import org.springframework.batch.core.annotation.AfterRead;
+import org.springframework.batch.core.annotation.AfterWrite;
+import org.springframework.batch.core.annotation.BeforeProcess;
+import org.springframework.batch.core.annotation.BeforeRead;
+import org.springframework.batch.core.annotation.BeforeWrite;
+import org.springframework.batch.core.annotation.OnProcessError;
+import org.springframework.batch.core.annotation.OnReadError;
+import org.springframework.batch.core.annotation.OnWriteError;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records read/process/write timings and item counters of chunk oriented steps. The listener is shared by all steps
+ * (and threads), timings are kept per thread; partitions are reported under the name of the partitioned step.
+ * Listener methods are declared with annotations, so it's registered with {@code .listener(stepMetricsListener)}
+ * next to other listeners of the step.
+ */
+@Component
+@RequiredArgsConstructor
+public class StepMetricsListener {
+  static final String READ_METRIC = "dew.batch.read";
+  static final String PROCESS_METRIC = "dew.batch.process";
+  static final String WRITE_METRIC = "dew.batch.write";
+  static final String ITEMS_METRIC = "dew.batch.items";
+
+  private static final String STEP_TAG = "step";
+  private static final String PHASE_TAG = "phase";
+  private static final String FILTERED = "filtered";
+  private static final String PARTITION_SEPARATOR = ":";
+
+  private final ExportMetrics metrics;
+
+  private final ThreadLocal<Long> readStart = new ThreadLocal<>();
+  private final ThreadLocal<Long> processStart = new ThreadLocal<>();
+  private final ThreadLocal<Long> writeStart = new ThreadLocal<>();
+
+  @BeforeRead
+  public void beforeRead() {
+    readStart.set(System.nanoTime());
+  }
+
+  @AfterRead
+  public void afterRead(Object item) {
+    record(READ_METRIC, readStart, SUCCESS, 1);
+  }
+
+  @OnReadError
+  public void onReadError(Exception e) {
+    record(READ_METRIC, readStart, ERROR, 1);
+  }
+
+  @BeforeProcess
+  public void beforeProcess(Object item) {
+    processStart.set(System.nanoTime());
+  }
+
+  @AfterProcess
+  public void afterProcess(Object item, Object result) {
+    record(PROCESS_METRIC, processStart, isNull(result) ? FILTERED : SUCCESS, 1);
+  }
+
+  @OnProcessError
+  public void onProcessError(Object item, Exception e) {
+    record(PROCESS_METRIC, processStart, ERROR, 1);
+  }
+
+  @BeforeWrite
+  public void beforeWrite(Chunk<?> items) {
+    writeStart.set(System.nanoTime());
+  }
+
+  @AfterWrite
+  public void afterWrite(Chunk<?> items) {
+    record(WRITE_METRIC, writeStart, SUCCESS, items.size());
+  }
+
+  @OnWriteError
+  public void onWriteError(Exception e, Chunk<?> items) {
+    record(WRITE_METRIC, writeStart, ERROR, items.size());
+  }
+
+  private void record(String metric, ThreadLocal<Long> start, String outcome, int items) {
+    var startedAt = start.get();
+    start.remove();
+    var phase = StringUtils.substringAfterLast(metric, ".");
+    var tags = metrics.tags(STEP_TAG, getStepName());
+    if (!isNull(startedAt)) {
+      metrics.recordTime(metric, System.nanoTime() - startedAt, tags.and(OUTCOME_TAG, outcome));
+    }
+    metrics.count(ITEMS_METRIC, items, tags.and(PHASE_TAG, phase, OUTCOME_TAG, outcome));
+  }
+
+  private String getStepName() {
+    var context = StepSynchronizationManager.getContext();
+    return isNull(context) ? "none" : StringUtils.substringBefore(context.getStepName(), PARTITION_SEPARATOR);
+  }
+}
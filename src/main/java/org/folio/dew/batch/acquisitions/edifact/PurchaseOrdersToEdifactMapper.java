@@ -1,6 +1,7 @@
 package org.folio.dew.batch.acquisitions.edifact;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -25,13 +26,31 @@ public class PurchaseOrdersToEdifactMapper {
   public String convertOrdersToEdifact(List<CompositePurchaseOrder> compPOs, VendorEdiOrdersExportConfig ediExportConfig, String jobName) throws EDIStreamException {
     ByteArrayOutputStream stream = new ByteArrayOutputStream();
 
+    var ordersWriter = openOrdersWriter(stream, ediExportConfig, jobName);
+    for (CompositePurchaseOrder compPO : compPOs) {
+      ordersWriter.write(compPO);
+    }
+    ordersWriter.close();
+
+    return stream.toString();
+  }
+
+  /**
+   * Starts the interchange in the output stream, purchase orders are written as messages one by one, so they can be
+   * mapped as they are fetched.
+   *
+   * @param stream - the output stream of the edifact file
+   * @param ediExportConfig - export configuration
+   * @param jobName - job name, used as file id
+   * @return writer of purchase orders, the interchange is completed when the writer is closed
+   * @throws EDIStreamException if the interchange header can't be written
+   */
+  public OrdersWriter openOrdersWriter(OutputStream stream, VendorEdiOrdersExportConfig ediExportConfig, String jobName) throws EDIStreamException {
     EDIOutputFactory factory = EDIOutputFactory.newFactory();
     factory.setProperty(EDIOutputFactory.PRETTY_PRINT, true);
 
     EDIStreamWriter writer = factory.createEDIStreamWriter(stream);
 
-    // Count of messages (one message per purchase order)
-    int messageCount = 0;
     writer.startInterchange();
     writeStartFile(writer);
 
@@ -44,17 +63,7 @@ public class PurchaseOrdersToEdifactMapper {
 
     writeInterchangeHeader(writer, ediFileConfig);
 
-    // Purchase orders
-    for (CompositePurchaseOrder compPO : compPOs) {
-      compositePOConverter.convertPOtoEdifact(writer, compPO, ediFileConfig);
-      messageCount++;
-    }
-
-    writeInterchangeFooter(writer, ediFileConfig.getFileId(), messageCount);
-    writer.endInterchange();
-    writer.close();
-
-    return stream.toString();
+    return new OrdersWriter(writer, ediFileConfig);
   }
 
   public byte[] convertOrdersToEdifactArray(List<CompositePurchaseOrder> compPOs, VendorEdiOrdersExportConfig ediExportConfig, String jobName) throws EDIStreamException {
@@ -107,4 +116,31 @@ public class PurchaseOrdersToEdifactMapper {
       .writeElement(fileId)
       .writeEndSegment();
   }
+
+  public class OrdersWriter {
+    private final EDIStreamWriter writer;
+    private final EdiFileConfig ediFileConfig;
+    // Count of messages (one message per purchase order)
+    private int messageCount;
+
+    OrdersWriter(EDIStreamWriter writer, EdiFileConfig ediFileConfig) {
+      this.writer = writer;
+      this.ediFileConfig = ediFileConfig;
+    }
+
+    public void write(CompositePurchaseOrder compPO) throws EDIStreamException {
+      compositePOConverter.convertPOtoEdifact(writer, compPO, ediFileConfig);
+      messageCount++;
+    }
+
+    public int getMessageCount() {
+      return messageCount;
+    }
+
+    public void close() throws EDIStreamException {
+      writeInterchangeFooter(writer, ediFileConfig.getFileId(), messageCount);
+      writer.endInterchange();
+      writer.close();
+    }
+  }
 }
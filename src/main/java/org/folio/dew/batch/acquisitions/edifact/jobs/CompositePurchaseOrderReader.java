@@ -1,26 +1,24 @@
 package org.folio.dew.batch.acquisitions.edifact.jobs;
 
-import static org.folio.dew.domain.dto.JobParameterNames.EDIFACT_ORDERS_EXPORT;
-
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
-import org.folio.dew.batch.ExecutionContextUtils;
-import org.folio.dew.batch.acquisitions.edifact.PurchaseOrdersToEdifactMapper;
 import org.folio.dew.batch.acquisitions.edifact.exceptions.EdifactException;
 import org.folio.dew.batch.acquisitions.edifact.exceptions.OrderNotFoundException;
 import org.folio.dew.batch.acquisitions.edifact.services.OrdersService;
+import org.folio.dew.batch.acquisitions.edifact.services.PoLineLocationsResolver;
 import org.folio.dew.domain.dto.CompositePoLine;
 import org.folio.dew.domain.dto.CompositePurchaseOrder;
-import org.folio.dew.domain.dto.JobParameterNames;
+import org.folio.dew.domain.dto.PurchaseOrder;
 import org.folio.dew.domain.dto.VendorEdiOrdersExportConfig;
-import org.springframework.batch.core.StepContribution;
+import org.folio.dew.service.ParallelBatchFetcher;
 import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.batch.core.scope.context.ChunkContext;
-import org.springframework.batch.core.step.tasklet.Tasklet;
-import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -29,32 +27,74 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+/**
+ * Reads purchase orders to export. Ids of the orders are paged from orders storage, composite orders of a page are
+ * fetched concurrently (see {@link ParallelBatchFetcher}) and returned in the order of ids with po lines to export only.
+ * Holdings and locations of the po lines of a page are resolved with {@link PoLineLocationsResolver} before the page is
+ * converted.
+ */
 @RequiredArgsConstructor
 @Component
 @StepScope
 @Log4j2
-public class MapToEdifactTasklet implements Tasklet {
-  private final ObjectMapper ediObjectMapper;
+public class CompositePurchaseOrderReader implements ItemReader<CompositePurchaseOrder> {
+  static final int PAGE_SIZE = 100;
 
+  private final ObjectMapper ediObjectMapper;
   private final OrdersService ordersService;
-  private final PurchaseOrdersToEdifactMapper purchaseOrdersToEdifactMapper;
+  private final ParallelBatchFetcher batchFetcher;
+  private final PoLineLocationsResolver poLineLocationsResolver;
+
+  @Value("#{jobParameters['edifactOrdersExport']}")
+  private String edifactOrdersExport;
+
+  private VendorEdiOrdersExportConfig ediExportConfig;
+  private String poQuery;
+  private final Deque<CompositePurchaseOrder> orders = new ArrayDeque<>();
+  private int offset;
+  private boolean exhausted;
+  private int count;
 
   @Override
-  public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-    log.info("Execute MapToEdifactTasklet");
-    var jobParameters = chunkContext.getStepContext().getJobParameters();
-    var ediExportConfig = ediObjectMapper.readValue((String)jobParameters.get(EDIFACT_ORDERS_EXPORT), VendorEdiOrdersExportConfig.class);
+  public CompositePurchaseOrder read() throws JsonProcessingException {
+    if (ediExportConfig == null) {
+      init();
+    }
+    while (orders.isEmpty() && !exhausted) {
+      readPage();
+    }
+    if (orders.isEmpty()) {
+      if (count == 0) {
+        throw new OrderNotFoundException("Orders for export not found", false);
+      }
+      return null;
+    }
+    count++;
+    return orders.poll();
+  }
+
+  private void init() throws JsonProcessingException {
+    ediExportConfig = ediObjectMapper.readValue(edifactOrdersExport, VendorEdiOrdersExportConfig.class);
     validateEdiExportConfig(ediExportConfig);
+    poQuery = buildPurchaseOrderQuery(ediExportConfig);
+  }
 
-    List<CompositePurchaseOrder> compOrders = getCompPOList(ediExportConfig);
-    // save poLineIds in memory
-    persistPoLineIds(chunkContext, compOrders);
+  private void readPage() {
+    var ids = Optional.ofNullable(ordersService.getCompositePurchaseOrderByQuery(poQuery, offset, PAGE_SIZE).getPurchaseOrders())
+      .orElse(List.of())
+      .stream()
+      .map(PurchaseOrder::getId)
+      .collect(Collectors.toList());
+    offset += ids.size();
+    exhausted = ids.size() < PAGE_SIZE;
 
-    String jobName = jobParameters.get(JobParameterNames.JOB_NAME).toString();
-    String edifactOrderAsString = purchaseOrdersToEdifactMapper.convertOrdersToEdifact(compOrders, ediExportConfig, jobName);
-    // save edifact file content in memory
-    ExecutionContextUtils.addToJobExecutionContext(chunkContext.getStepContext().getStepExecution(), "edifactOrderAsString", edifactOrderAsString, "");
-    return RepeatStatus.FINISHED;
+    batchFetcher.fetch(ids, 1, bucket -> List.of(ordersService.getCompositePurchaseOrderById(bucket.get(0))))
+      .stream()
+      .map(order -> order.compositePoLines(poLineFilteredOrder(order, ediExportConfig)))
+      .filter(order -> !order.getCompositePoLines().isEmpty())
+      .forEach(orders::add);
+    poLineLocationsResolver.resolve(orders);
+    log.debug("Read {} purchase orders at offset {}, {} to export.", ids.size(), offset, orders.size());
   }
 
   private void validateEdiExportConfig(VendorEdiOrdersExportConfig ediExportConfig) {
@@ -71,44 +111,16 @@ public class MapToEdifactTasklet implements Tasklet {
     }
   }
 
-  private List<CompositePurchaseOrder> getCompPOList(VendorEdiOrdersExportConfig ediConfig) {
-    var poQuery = buildPurchaseOrderQuery(ediConfig);
-
-    var orders = ordersService.getCompositePurchaseOrderByQuery(poQuery, Integer.MAX_VALUE);
-
-    var compOrders = orders.getPurchaseOrders()
-      .stream().sequential()
-      .map(order -> ordersService.getCompositePurchaseOrderById(order.getId()))
-      .map(order -> order.compositePoLines(poLineFilteredOrder(order, ediConfig)))
-      .filter(order -> !order.getCompositePoLines().isEmpty())
-      .collect(Collectors.toList());
-
-    log.debug("composite purchase orders: {}", compOrders);
-
-    if (compOrders.isEmpty()) {
-      throw new OrderNotFoundException("Orders for export not found", false);
-    }
-    return compOrders;
-  }
-
   private String buildPurchaseOrderQuery(VendorEdiOrdersExportConfig ediConfig) {
     var workflowStatusFilter = "workflowStatus==Open";
     var vendorFilter = String.format(" and vendor==%s", ediConfig.getVendorId());
     var automaticExportFilter = " and poLine.automaticExport==true";
     var notManualFilter = " and cql.allRecords=1 NOT manualPo==true";
-    var resultQuery = "(" + workflowStatusFilter + vendorFilter + automaticExportFilter + notManualFilter + ")";
+    var resultQuery = "(" + workflowStatusFilter + vendorFilter + automaticExportFilter + notManualFilter + ") sortby id";
     log.info("GET purchase orders query: {}", resultQuery);
     return resultQuery;
   }
 
-  private void persistPoLineIds(ChunkContext chunkContext, List<CompositePurchaseOrder> compOrders) throws JsonProcessingException {
-    var polineIds = compOrders.stream()
-      .flatMap(ord -> ord.getCompositePoLines().stream())
-      .map(CompositePoLine::getId)
-      .collect(Collectors.toList());
-    ExecutionContextUtils.addToJobExecutionContext(chunkContext.getStepContext().getStepExecution(),"polineIds", ediObjectMapper.writeValueAsString(polineIds),"");
-  }
-
   private List<CompositePoLine> poLineFilteredOrder(CompositePurchaseOrder order, VendorEdiOrdersExportConfig ediConfig) {
     return order.getCompositePoLines().stream()
       .filter(CompositePoLine::getAutomaticExport)
@@ -125,5 +137,4 @@ public class MapToEdifactTasklet implements Tasklet {
       .collect(Collectors.toList());
   }
 
-
 }
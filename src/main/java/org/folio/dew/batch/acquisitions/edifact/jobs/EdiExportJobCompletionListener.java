@@ -2,6 +2,7 @@ package org.folio.dew.batch.acquisitions.edifact.jobs;
 
 import static org.folio.dew.domain.dto.JobParameterNames.EDIFACT_FILE_NAME;
 import static org.folio.dew.domain.dto.JobParameterNames.OUTPUT_FILES_IN_STORAGE;
+import static org.folio.dew.domain.dto.JobParameterNames.PO_LINE_IDS_FILE_PATH;
 import static org.folio.dew.utils.BulkEditProcessorHelper.convertToDate;
 
 import java.util.Arrays;
@@ -17,6 +18,7 @@ import org.folio.de.entity.Job;
 import org.folio.dew.batch.ExecutionContextUtils;
 import org.folio.dew.config.kafka.KafkaService;
 import org.folio.dew.domain.dto.JobParameterNames;
+import org.folio.dew.repository.LocalFilesStorage;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.listener.JobExecutionListenerSupport;
 import org.springframework.stereotype.Component;
@@ -29,6 +31,7 @@ public class EdiExportJobCompletionListener extends JobExecutionListenerSupport
   private static final String PATHS_DELIMITER = ";";
 
   private final KafkaService kafka;
+  private final LocalFilesStorage localFilesStorage;
 
   @Override
   public void beforeJob(JobExecution jobExecution) {
@@ -37,9 +40,26 @@ public class EdiExportJobCompletionListener extends JobExecutionListenerSupport
 
   @Override
   public void afterJob(JobExecution jobExecution) {
+    deletePoLineIdsFile(jobExecution);
     processJobUpdate(jobExecution, true);
   }
 
+  /**
+   * The po line ids file is written by {@link EdifactOrdersWriter} for the export history, it's deleted whichever step
+   * the job finished with.
+   */
+  private void deletePoLineIdsFile(JobExecution jobExecution) {
+    var poLineIdsFilePath = ExecutionContextUtils.getFromJobExecutionContext(jobExecution, PO_LINE_IDS_FILE_PATH);
+    if (StringUtils.isBlank(poLineIdsFilePath)) {
+      return;
+    }
+    try {
+      localFilesStorage.delete(poLineIdsFilePath);
+    } catch (Exception e) {
+      log.error("Failed to delete po line ids file {}", poLineIdsFilePath, e);
+    }
+  }
+
   @SneakyThrows
   private void processJobUpdate(JobExecution jobExecution, boolean after) {
     var jobParameters = jobExecution.getJobParameters();
@@ -2,6 +2,8 @@ package org.folio.dew.batch.acquisitions.edifact.jobs;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.dew.batch.StepMetricsListener;
+import org.folio.dew.domain.dto.CompositePurchaseOrder;
 import org.folio.dew.domain.dto.ExportType;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -36,10 +38,14 @@ public class EdifactExportJobConfig {
   }
 
   @Bean
-  public Step mapToEdifactStep(MapToEdifactTasklet mapToEdifactTasklet, JobRepository jobRepository,
-                               PlatformTransactionManager transactionManager) {
+  public Step mapToEdifactStep(CompositePurchaseOrderReader compositePurchaseOrderReader,
+                               EdifactOrdersWriter edifactOrdersWriter, StepMetricsListener stepMetricsListener,
+                               JobRepository jobRepository, PlatformTransactionManager transactionManager) {
     return new StepBuilder("mapToEdifactStep", jobRepository)
-      .tasklet(mapToEdifactTasklet, transactionManager)
+      .<CompositePurchaseOrder, CompositePurchaseOrder>chunk(CompositePurchaseOrderReader.PAGE_SIZE, transactionManager)
+      .reader(compositePurchaseOrderReader)
+      .writer(edifactOrdersWriter)
+      .listener(stepMetricsListener)
       .build();
   }
 
@@ -0,0 +1,182 @@
+package org.folio.dew.batch.acquisitions.edifact.jobs;
+
+import static org.folio.dew.domain.dto.JobParameterNames.EDIFACT_FILE_NAME;
+import static org.folio.dew.domain.dto.JobParameterNames.EDIFACT_ORDERS_COUNT;
+import static org.folio.dew.domain.dto.JobParameterNames.EDIFACT_ORDERS_EXPORT;
+import static org.folio.dew.domain.dto.JobParameterNames.EDIFACT_PO_LINES_COUNT;
+import static org.folio.dew.domain.dto.JobParameterNames.PO_LINE_IDS_FILE_PATH;
+import static org.folio.dew.domain.dto.JobParameterNames.UPLOADED_FILE_PATH;
+import static org.folio.dew.utils.Constants.EDIFACT_EXPORT_DIR_NAME;
+import static org.folio.dew.utils.Constants.getWorkingDirectory;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import org.apache.commons.io.FilenameUtils;
+import org.folio.dew.batch.ExecutionContextUtils;
+import org.folio.dew.batch.acquisitions.edifact.PurchaseOrdersToEdifactMapper;
+import org.folio.dew.batch.acquisitions.edifact.services.OrganizationsService;
+import org.folio.dew.domain.dto.CompositePoLine;
+import org.folio.dew.domain.dto.CompositePurchaseOrder;
+import org.folio.dew.domain.dto.JobParameterNames;
+import org.folio.dew.domain.dto.VendorEdiOrdersExportConfig;
+import org.folio.dew.repository.LocalFilesStorage;
+import org.folio.dew.repository.RemoteFilesStorage;
+import org.folio.dew.repository.StorageOutputStream;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Maps purchase orders to edifact messages as chunks are written. Segments are streamed straight into the edifact file
+ * on remote storage and exported po line ids into a temporary file, so neither of them is held in memory. Only the
+ * paths of the files and the counts of exported orders and po lines are stored in the job execution context.
+ * <p>
+ * Both uploads are aborted if the step fails, so no partial file is published. The po line ids file is deleted by
+ * {@link EdiExportJobCompletionListener} once the job is finished.
+ */
+@RequiredArgsConstructor
+@Component
+@StepScope
+@Log4j2
+public class EdifactOrdersWriter implements ItemWriter<CompositePurchaseOrder> {
+  private final ObjectMapper ediObjectMapper;
+  private final PurchaseOrdersToEdifactMapper purchaseOrdersToEdifactMapper;
+  private final RemoteFilesStorage remoteFilesStorage;
+  private final LocalFilesStorage localFilesStorage;
+  private final OrganizationsService organizationsService;
+  private final FolioExecutionContext folioExecutionContext;
+  private final DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd_HH:mm:ss");
+
+  @Value("${spring.application.name}")
+  protected String springApplicationName;
+
+  private StepExecution stepExecution;
+  private String fullFilePath;
+  private String poLineIdsFilePath;
+  private StorageOutputStream edifactStream;
+  private StorageOutputStream poLineIdsStream;
+  private BufferedWriter poLineIdsWriter;
+  private PurchaseOrdersToEdifactMapper.OrdersWriter ordersWriter;
+  private long poLinesCount;
+
+  @BeforeStep
+  public void initStep(StepExecution stepExecution) {
+    this.stepExecution = stepExecution;
+  }
+
+  @Override
+  public void write(Chunk<? extends CompositePurchaseOrder> chunk) throws Exception {
+    if (ordersWriter == null) {
+      open();
+    }
+    for (CompositePurchaseOrder order : chunk) {
+      ordersWriter.write(order);
+      for (CompositePoLine poLine : order.getCompositePoLines()) {
+        poLineIdsWriter.write(poLine.getId());
+        poLineIdsWriter.newLine();
+        poLinesCount++;
+      }
+    }
+  }
+
+  private void open() throws Exception {
+    var jobParameters = stepExecution.getJobParameters();
+    var ediExportConfig = ediObjectMapper.readValue(jobParameters.getString(EDIFACT_ORDERS_EXPORT), VendorEdiOrdersExportConfig.class);
+    fullFilePath = buildFullFilePath(ediExportConfig);
+    poLineIdsFilePath = FilenameUtils.removeExtension(fullFilePath) + "_polines.txt";
+    edifactStream = remoteFilesStorage.newOutputStream(fullFilePath);
+    try {
+      poLineIdsStream = localFilesStorage.newOutputStream(poLineIdsFilePath);
+      poLineIdsWriter = new BufferedWriter(new OutputStreamWriter(poLineIdsStream));
+      ordersWriter = purchaseOrdersToEdifactMapper.openOrdersWriter(edifactStream, ediExportConfig, jobParameters.getString(JobParameterNames.JOB_NAME));
+    } catch (Exception e) {
+      discard();
+      throw e;
+    }
+    // known to the job from the start, so the file is cleaned up even if it's published and a later step fails
+    stepExecution.getJobExecution().getExecutionContext().putString(PO_LINE_IDS_FILE_PATH, poLineIdsFilePath);
+  }
+
+  @AfterStep
+  public ExitStatus afterStep(StepExecution stepExecution) {
+    if (ordersWriter == null) {
+      return stepExecution.getExitStatus();
+    }
+    if (stepExecution.getStatus() != BatchStatus.COMPLETED) {
+      discard();
+      return stepExecution.getExitStatus();
+    }
+    try {
+      // the ids file goes first: the edifact file is published by closing it, so it's left for the last step
+      poLineIdsWriter.close();
+      ordersWriter.close();
+      edifactStream.close();
+      ExecutionContextUtils.addToJobExecutionContext(stepExecution, UPLOADED_FILE_PATH, fullFilePath, "");
+      ExecutionContextUtils.addToJobExecutionContext(stepExecution, EDIFACT_FILE_NAME, FilenameUtils.getName(fullFilePath), "");
+      stepExecution.getJobExecution().getExecutionContext().putInt(EDIFACT_ORDERS_COUNT, ordersWriter.getMessageCount());
+      stepExecution.getJobExecution().getExecutionContext().putLong(EDIFACT_PO_LINES_COUNT, poLinesCount);
+      log.info("Mapped {} purchase orders with {} po lines to edifact file {}.", ordersWriter.getMessageCount(), poLinesCount, fullFilePath);
+      return stepExecution.getExitStatus();
+    } catch (Exception e) {
+      log.error("Failed to complete edifact file", e);
+      discard();
+      stepExecution.addFailureException(e);
+      stepExecution.setStatus(BatchStatus.FAILED);
+      return ExitStatus.FAILED.addExitDescription(e);
+    }
+  }
+
+  private void discard() {
+    abortQuietly(edifactStream, fullFilePath);
+    abortQuietly(poLineIdsStream, poLineIdsFilePath);
+    edifactStream = null;
+    poLineIdsStream = null;
+    poLineIdsWriter = null;
+    ordersWriter = null;
+  }
+
+  private void abortQuietly(StorageOutputStream stream, String path) {
+    if (stream == null) {
+      return;
+    }
+    try {
+      stream.abort();
+    } catch (Exception e) {
+      log.warn("Failed to abort upload of incomplete file {}: {}", path, e.getMessage());
+    }
+  }
+
+  private String generateFileName(VendorEdiOrdersExportConfig ediExportConfig) {
+    var vendorId = ediExportConfig.getVendorId().toString();
+    var vendor = organizationsService.getOrganizationById(vendorId);
+    var vendorName = vendor.get("code").asText();
+    var fileDate = dateFormat.format(new Date());
+    // exclude restricted symbols after implementing naming convention feature
+    return vendorName + "_" + ediExportConfig.getConfigName() + "_" + fileDate + ".edi";
+  }
+
+  private String buildFullFilePath(VendorEdiOrdersExportConfig ediExportConfig) {
+    var workDir = getWorkingDirectory(springApplicationName, EDIFACT_EXPORT_DIR_NAME);
+    var tenantName = folioExecutionContext.getTenantId();
+    var filename = generateFileName(ediExportConfig);
+
+    return String.format("%s%s/%s", workDir, tenantName, filename);
+  }
+}
@@ -2,13 +2,14 @@ package org.folio.dew.batch.acquisitions.edifact.jobs;
 
 import static org.folio.dew.domain.dto.JobParameterNames.EDIFACT_FILE_NAME;
 import static org.folio.dew.domain.dto.JobParameterNames.EDIFACT_ORDERS_EXPORT;
+import static org.folio.dew.domain.dto.JobParameterNames.PO_LINE_IDS_FILE_PATH;
 
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.SneakyThrows;
 import org.folio.dew.batch.ExecutionContextUtils;
@@ -17,6 +18,7 @@ import org.folio.dew.config.kafka.KafkaService;
 import org.folio.dew.domain.dto.ExportHistory;
 import org.folio.dew.domain.dto.JobParameterNames;
 import org.folio.dew.domain.dto.VendorEdiOrdersExportConfig;
+import org.folio.dew.repository.LocalFilesStorage;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -38,6 +40,7 @@ public class ExportHistoryTasklet implements Tasklet {
   private final KafkaService kafkaService;
   private final ObjectMapper ediObjectMapper;
   private final OrganizationsService organizationsService;
+  private final LocalFilesStorage localFilesStorage;
 
   @Value("#{jobParameters['jobId']}")
   private String jobId;
@@ -46,6 +49,7 @@ public class ExportHistoryTasklet implements Tasklet {
     var exportHistory = buildExportHistory(chunkContext);
 
     kafkaService.send(KafkaService.Topic.EXPORT_HISTORY_CREATE, null, exportHistory);
+    deletePoLineIdsFile(chunkContext.getStepContext().getStepExecution());
 
     return RepeatStatus.FINISHED;
   }
@@ -59,7 +63,7 @@ public class ExportHistoryTasklet implements Tasklet {
     var vendor = organizationsService.getOrganizationById(vendorId);
     var vendorName = vendor.get("code").asText();
     var stepExecutionContext = chunkContext.getStepContext().getStepExecution();
-    var poLineIds = getPoLineIdsFromExecutionContext(stepExecutionContext);
+    var poLineIds = getExportedPoLineIds(stepExecutionContext);
     var fileName = ExecutionContextUtils.getExecutionVariable(stepExecutionContext, EDIFACT_FILE_NAME).toString();
     var jobName = jobParameters.get(JobParameterNames.JOB_NAME).toString();
 
@@ -76,11 +80,23 @@ public class ExportHistoryTasklet implements Tasklet {
       .jobName(jobName);
   }
 
-  List<String> getPoLineIdsFromExecutionContext(StepExecution stepExecutionContext) {
-    try {
-      return ediObjectMapper.readValue((String) ExecutionContextUtils.getExecutionVariable(stepExecutionContext, "polineIds"), new TypeReference<>() {});
+  List<String> getExportedPoLineIds(StepExecution stepExecutionContext) {
+    var poLineIdsFilePath = (String) ExecutionContextUtils.getExecutionVariable(stepExecutionContext, PO_LINE_IDS_FILE_PATH);
+    if (poLineIdsFilePath == null) {
+      return Collections.emptyList();
+    }
+    try (var lines = localFilesStorage.lines(poLineIdsFilePath)) {
+      return lines.collect(Collectors.toList());
     } catch (Exception e) {
+      log.error("Failed to read exported po line ids from {}", poLineIdsFilePath, e);
       return Collections.emptyList();
     }
   }
+
+  private void deletePoLineIdsFile(StepExecution stepExecution) {
+    var poLineIdsFilePath = (String) ExecutionContextUtils.getExecutionVariable(stepExecution, PO_LINE_IDS_FILE_PATH);
+    if (poLineIdsFilePath != null) {
+      localFilesStorage.delete(poLineIdsFilePath);
+    }
+  }
 }
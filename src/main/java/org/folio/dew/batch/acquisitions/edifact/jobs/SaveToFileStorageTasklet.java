@@ -50,8 +50,9 @@ public class SaveToFileStorageTasklet implements Tasklet {
     if (StringUtils.isEmpty(host)) {
       return RepeatStatus.FINISHED;
     }
-    byte[] fileContent = remoteFilesStorage.readAllBytes(uploadedFilePath);
-    ftpStorageService.uploadToFtp(ediExportConfig, fileContent, FilenameUtils.getName(uploadedFilePath));
+    try (var fileContent = remoteFilesStorage.newInputStream(uploadedFilePath)) {
+      ftpStorageService.uploadToFtp(ediExportConfig, fileContent, FilenameUtils.getName(uploadedFilePath));
+    }
 
     return RepeatStatus.FINISHED;
   }
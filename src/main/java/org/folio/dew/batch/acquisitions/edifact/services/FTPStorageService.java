@@ -1,5 +1,7 @@
 package org.folio.dew.batch.acquisitions.edifact.services;
 
+import java.io.InputStream;
+
 import org.folio.dew.domain.dto.EdiFtp;
 import org.folio.dew.domain.dto.VendorEdiOrdersExportConfig;
 import org.folio.dew.repository.FTPObjectStorageRepository;
@@ -17,7 +19,7 @@ public class FTPStorageService {
   private final FTPObjectStorageRepository ftpObjectStorageRepository;
   private static final String SFTP_PROTOCOL = "sftp://";
 
-  public void uploadToFtp(VendorEdiOrdersExportConfig ediExportConfig, byte[] fileByteContent, String filename) throws Exception {
+  public void uploadToFtp(VendorEdiOrdersExportConfig ediExportConfig, InputStream fileContent, String filename) throws Exception {
     String username = ediExportConfig.getEdiFtp().getUsername();
     String folder = ediExportConfig.getEdiFtp().getOrderDirectory();
     String password = ediExportConfig.getEdiFtp().getPassword();
@@ -25,10 +27,10 @@ public class FTPStorageService {
     int port = ediExportConfig.getEdiFtp().getFtpPort();
 
     if (EdiFtp.FtpFormatEnum.SFTP.equals(ediExportConfig.getEdiFtp().getFtpFormat())) {
-      sftpObjectStorageRepository.upload(username, password, host, port, folder, filename, fileByteContent);
+      sftpObjectStorageRepository.upload(username, password, host, port, folder, filename, fileContent);
     }
     else {
-      ftpObjectStorageRepository.upload(host, username, password, filename, fileByteContent);
+      ftpObjectStorageRepository.upload(host, username, password, filename, fileContent);
     }
   }
 }
@@ -1,29 +1,113 @@
 package org.folio.dew.batch.acquisitions.edifact.services;
 
+import static java.util.stream.Collectors.joining;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.folio.dew.client.HoldingClient;
+import org.folio.dew.service.ParallelBatchFetcher;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 
 @Service
 @RequiredArgsConstructor
+@Log4j2
 public class HoldingService {
+  public static final String HOLDING_LOCATIONS_CACHE = "edifactHoldingLocations";
+  private static final int BATCH_SIZE = 50;
+
   private final HoldingClient holdingClient;
+  private final CacheManager cacheManager;
+  private final FolioExecutionContext folioExecutionContext;
+  private final ParallelBatchFetcher batchFetcher;
 
   public JsonNode getHoldingById(String id) {
     return holdingClient.getHoldingById(id);
   }
 
   public String getPermanentLocationByHoldingId(String id) {
+    var cache = cacheManager.getCache(HOLDING_LOCATIONS_CACHE);
+    var cached = cache == null ? null : cache.get(cacheKey(id), String.class);
+    if (cached != null) {
+      return cached;
+    }
+
     JsonNode jsonObject = getHoldingById(id);
     String locationId = "";
 
     if (jsonObject != null && !jsonObject.isEmpty()) {
       locationId = jsonObject.get("permanentLocationId").asText();
+      put(cache, id, locationId);
     }
 
     return locationId;
   }
+
+  /**
+   * Resolves permanent locations of the holdings which are not cached yet with batch {@code id==(...)} queries and
+   * keeps them in the tenant scoped cache, so conversion of po lines doesn't fetch holdings one by one. The cache
+   * expires within minutes, so a holding moved to another location is seen by the next export.
+   * Holdings which cannot be resolved by batch queries are left to {@link #getPermanentLocationByHoldingId(String)}.
+   *
+   * @param holdingIds - distinct holding ids
+   * @return permanent location ids by holding id
+   */
+  public Map<String, String> resolvePermanentLocations(Collection<String> holdingIds) {
+    var cache = cacheManager.getCache(HOLDING_LOCATIONS_CACHE);
+    var locationIds = new HashMap<String, String>();
+    var missing = new ArrayList<String>();
+    for (var holdingId : holdingIds) {
+      var cached = cache == null ? null : cache.get(cacheKey(holdingId), String.class);
+      if (cached != null) {
+        locationIds.put(holdingId, cached);
+      } else {
+        missing.add(holdingId);
+      }
+    }
+    if (missing.isEmpty()) {
+      return locationIds;
+    }
+
+    try {
+      for (var holding : batchFetcher.fetch(missing, BATCH_SIZE, this::fetchHoldings)) {
+        if (holding.hasNonNull("id") && holding.hasNonNull("permanentLocationId")) {
+          var locationId = holding.get("permanentLocationId").asText();
+          locationIds.put(holding.get("id").asText(), locationId);
+          put(cache, holding.get("id").asText(), locationId);
+        }
+      }
+    } catch (Exception e) {
+      log.warn("Failed to resolve permanent locations of {} holdings by batch queries: {}", missing.size(), e.getMessage());
+    }
+    return locationIds;
+  }
+
+  private List<JsonNode> fetchHoldings(List<String> ids) {
+    var query = ids.stream().collect(joining(" or ", "id==(", ")"));
+    var holdings = new ArrayList<JsonNode>();
+    holdingClient.getHoldingsJsonByQuery(query, ids.size()).path("holdingsRecords").forEach(holdings::add);
+    return holdings;
+  }
+
+  private void put(Cache cache, String id, String locationId) {
+    if (cache != null) {
+      cache.put(cacheKey(id), locationId);
+    }
+  }
+
+  private SimpleKey cacheKey(String id) {
+    return new SimpleKey(folioExecutionContext.getTenantId(), id);
+  }
 }
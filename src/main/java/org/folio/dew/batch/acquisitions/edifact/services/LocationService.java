@@ -1,29 +1,106 @@
 package org.folio.dew.batch.acquisitions.edifact.services;
 
+import static java.util.stream.Collectors.joining;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.folio.dew.client.LocationClient;
+import org.folio.dew.service.ParallelBatchFetcher;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 
 @Service
 @RequiredArgsConstructor
+@Log4j2
 public class LocationService {
+  public static final String LOCATION_CODES_CACHE = "edifactLocationCodes";
+  private static final int BATCH_SIZE = 50;
+
   private final LocationClient locationClient;
+  private final CacheManager cacheManager;
+  private final FolioExecutionContext folioExecutionContext;
+  private final ParallelBatchFetcher batchFetcher;
 
   private JsonNode getLocation(String id) {
     return locationClient.getLocation(id);
   }
 
   public String getLocationCodeById(String id) {
+    var cache = cacheManager.getCache(LOCATION_CODES_CACHE);
+    var cached = cache == null ? null : cache.get(cacheKey(id), String.class);
+    if (cached != null) {
+      return cached;
+    }
+
     JsonNode jsonObject = getLocation(id);
     String locationCode = "";
 
     if (jsonObject != null && !jsonObject.isEmpty()) {
       locationCode = jsonObject.get("code").asText();
+      put(cache, id, locationCode);
     }
 
     return locationCode;
   }
+
+  /**
+   * Resolves codes of the locations which are not cached yet with batch {@code id==(...)} queries and keeps them in
+   * the tenant scoped cache, so conversion of po lines doesn't fetch locations one by one. The cache expires within
+   * minutes, so a recoded location is seen by the next export.
+   * Locations which cannot be resolved by batch queries are left to {@link #getLocationCodeById(String)}.
+   *
+   * @param locationIds - distinct location ids
+   */
+  public void resolveLocationCodes(Collection<String> locationIds) {
+    var cache = cacheManager.getCache(LOCATION_CODES_CACHE);
+    if (cache == null) {
+      return;
+    }
+    var missing = new ArrayList<String>();
+    for (var locationId : locationIds) {
+      if (cache.get(cacheKey(locationId)) == null) {
+        missing.add(locationId);
+      }
+    }
+    if (missing.isEmpty()) {
+      return;
+    }
+
+    try {
+      for (var location : batchFetcher.fetch(missing, BATCH_SIZE, this::fetchLocations)) {
+        if (location.hasNonNull("id") && location.hasNonNull("code")) {
+          put(cache, location.get("id").asText(), location.get("code").asText());
+        }
+      }
+    } catch (Exception e) {
+      log.warn("Failed to resolve codes of {} locations by batch queries: {}", missing.size(), e.getMessage());
+    }
+  }
+
+  private List<JsonNode> fetchLocations(List<String> ids) {
+    var query = ids.stream().collect(joining(" or ", "id==(", ")"));
+    var locations = new ArrayList<JsonNode>();
+    locationClient.getLocationsJsonByQuery(query, ids.size()).path("locations").forEach(locations::add);
+    return locations;
+  }
+
+  private void put(Cache cache, String id, String locationCode) {
+    if (cache != null) {
+      cache.put(cacheKey(id), locationCode);
+    }
+  }
+
+  private SimpleKey cacheKey(String id) {
+    return new SimpleKey(folioExecutionContext.getTenantId(), id);
+  }
 }
@@ -24,4 +24,8 @@ public class OrdersService {
     return ordersStorageClient.getCompositePurchaseOrderByQuery(query, limit);
   }
 
+  public PurchaseOrderCollection getCompositePurchaseOrderByQuery(String query, int offset, int limit) {
+    return ordersStorageClient.getCompositePurchaseOrderByQuery(query, offset, limit);
+  }
+
 }
@@ -0,0 +1,55 @@
+package org.folio.dew.batch.acquisitions.edifact.services;
+
+import static java.util.stream.Collectors.toCollection;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+
+import org.folio.dew.domain.dto.CompositePoLine;
+import org.folio.dew.domain.dto.CompositePurchaseOrder;
+import org.folio.dew.domain.dto.Location;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Resolves holdings and locations of all po lines of a batch of purchase orders before the orders are converted.
+ * Distinct ids are fetched with a few batch queries and cached per tenant for a few minutes by {@link HoldingService}
+ * and {@link LocationService}, so the line converter finds them in cache instead of fetching each of them per line.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class PoLineLocationsResolver {
+  private final HoldingService holdingService;
+  private final LocationService locationService;
+
+  public void resolve(Collection<CompositePurchaseOrder> orders) {
+    var locations = orders.stream()
+      .map(CompositePurchaseOrder::getCompositePoLines)
+      .filter(Objects::nonNull)
+      .flatMap(Collection::stream)
+      .map(CompositePoLine::getLocations)
+      .filter(Objects::nonNull)
+      .flatMap(Collection::stream)
+      .toList();
+
+    var holdingIds = locations.stream()
+      .filter(location -> location.getLocationId() == null && location.getHoldingId() != null)
+      .map(location -> location.getHoldingId().toString())
+      .collect(toCollection(LinkedHashSet::new));
+    var locationIds = locations.stream()
+      .map(Location::getLocationId)
+      .filter(Objects::nonNull)
+      .collect(toCollection(LinkedHashSet::new));
+    if (!holdingIds.isEmpty()) {
+      locationIds.addAll(holdingService.resolvePermanentLocations(holdingIds).values());
+    }
+    if (!locationIds.isEmpty()) {
+      locationService.resolveLocationCodes(locationIds);
+    }
+    log.debug("Resolved {} holdings and {} locations of {} purchase orders", holdingIds.size(), locationIds.size(), orders.size());
+  }
+}
@@ -60,8 +60,9 @@ public class ResendService {
       String tenantName = folioExecutionContext.getTenantId();
       String path = String.format("%s%s/%s", workDir, tenantName, fileName);
 
-      byte[] exportFile = remoteFilesStorage.readAllBytes(path);
-      ftpStorageService.uploadToFtp(ediConfig, exportFile, fileName);
+      try (var exportFile = remoteFilesStorage.newInputStream(path)) {
+        ftpStorageService.uploadToFtp(ediConfig, exportFile, fileName);
+      }
 
       ExportTypeSpecificParameters parameters = new ExportTypeSpecificParameters();
       parameters.setVendorEdiOrdersExportConfig(ediConfig);
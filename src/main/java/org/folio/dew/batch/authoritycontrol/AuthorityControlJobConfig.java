@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.dew.batch.JobCompletionNotificationListener;
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.batch.authoritycontrol.readers.AuthUpdateHeadingsItemReader;
 import org.folio.dew.batch.authoritycontrol.readers.LinkedBibUpdateItemReader;
 import org.folio.dew.config.properties.AuthorityControlJobProperties;
@@ -64,6 +65,7 @@ public class AuthorityControlJobConfig {
                                  @Qualifier("authUpdateHeadingWriter") AuthorityControlCsvFileWriter writer,
                                  AuthorityControlStepListener authorityControlStepListener,
                                  ItemProcessor<AuthorityDataStatDto, AuthUpdateHeadingExportFormat> authUpdateHeadingProcessor,
+                                 StepMetricsListener stepMetricsListener,
                                  JobRepository jobRepository,
                                  PlatformTransactionManager transactionManager) {
     return new StepBuilder("getAuthHeadingStep", jobRepository)
@@ -71,6 +73,7 @@ public class AuthorityControlJobConfig {
       .reader(authUpdateHeadingsItemReader)
       .processor(authUpdateHeadingProcessor)
       .writer(writer)
+      .listener(stepMetricsListener)
       .listener(authorityControlStepListener)
       .build();
   }
@@ -80,6 +83,7 @@ public class AuthorityControlJobConfig {
                                      @Qualifier("failedLinkedBibWriter") AuthorityControlCsvFileWriter writer,
                                      AuthorityControlStepListener authorityControlStepListener,
                                      ItemProcessor<InstanceDataStatDto, FailedLinkedBibExportFormat> failedLinkedBibProcessor,
+                                     StepMetricsListener stepMetricsListener,
                                      JobRepository jobRepository,
                                      PlatformTransactionManager transactionManager) {
     return new StepBuilder("getFailedLinkedBibStep", jobRepository)
@@ -87,6 +91,7 @@ public class AuthorityControlJobConfig {
       .reader(linkedBibUpdateItemReader)
       .processor(failedLinkedBibProcessor)
       .writer(writer)
+      .listener(stepMetricsListener)
       .listener(authorityControlStepListener)
       .build();
   }
@@ -9,8 +9,10 @@ import static org.folio.dew.utils.Constants.NO_MATCH_FOUND_MESSAGE;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.FilenameUtils;
+import org.folio.dew.batch.bulkedit.jobs.processidentifiers.AbstractChunkIdentifiersFetcher;
 import org.folio.dew.client.HoldingClient;
 import org.folio.dew.domain.dto.HoldingsFormat;
+import org.folio.dew.domain.dto.HoldingsRecord;
 import org.folio.dew.domain.dto.HoldingsRecordCollection;
 import org.folio.dew.domain.dto.IdentifierType;
 import org.folio.dew.domain.dto.ItemIdentifier;
@@ -25,13 +27,14 @@ import org.springframework.stereotype.Component;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
 @StepScope
 @RequiredArgsConstructor
 @Log4j2
-public class BulkEditHoldingsProcessor implements ItemProcessor<ItemIdentifier, List<HoldingsFormat>> {
+public class BulkEditHoldingsProcessor extends AbstractChunkIdentifiersFetcher<HoldingsRecord> implements ItemProcessor<ItemIdentifier, List<HoldingsFormat>> {
   private final HoldingClient holdingClient;
   private final HoldingsMapper holdingsMapper;
   private final HoldingsReferenceService holdingsReferenceService;
@@ -69,6 +72,10 @@ public class BulkEditHoldingsProcessor implements ItemProcessor<ItemIdentifier,
   }
 
   private HoldingsRecordCollection getHoldingsRecords(ItemIdentifier itemIdentifier) {
+    var resolved = getResolved(itemIdentifier.getItemId());
+    if (resolved.isPresent()) {
+      return new HoldingsRecordCollection().holdingsRecords(resolved.get()).totalRecords(resolved.get().size());
+    }
     switch (IdentifierType.fromValue(identifierType)) {
       case ID:
       case HRID:
@@ -81,4 +88,26 @@ public class BulkEditHoldingsProcessor implements ItemProcessor<ItemIdentifier,
         throw new BulkEditException(String.format("Identifier type \"%s\" is not supported", identifierType));
     }
   }
+
+  @Override
+  protected String getIdentifierType() {
+    return identifierType;
+  }
+
+  @Override
+  protected Function<HoldingsRecord, String> getIdentifierExtractor(IdentifierType identifierType) {
+    switch (identifierType) {
+      case ID:
+        return HoldingsRecord::getId;
+      case HRID:
+        return HoldingsRecord::getHrid;
+      default:
+        return null;
+    }
+  }
+
+  @Override
+  protected List<HoldingsRecord> fetchByQuery(String query, long limit) {
+    return holdingClient.getHoldingsByQuery(query, limit).getHoldingsRecords();
+  }
 }
@@ -0,0 +1,140 @@
+package org.folio.dew.batch.bulkedit.jobs.processidentifiers;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.StringUtils.containsAny;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+import static org.folio.dew.utils.BulkEditProcessorHelper.resolveIdentifier;
+
+import lombok.extern.log4j.Log4j2;
+import org.folio.dew.domain.dto.IdentifierType;
+import org.folio.dew.domain.dto.ItemIdentifier;
+import org.springframework.batch.core.ItemReadListener;
+
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Resolves identifiers of the chunk with a few batch queries like {@code barcode==("a" or "b" or ...)} instead of
+ * a query per identifier. Identifiers are collected while the chunk is being read and resolved on the first fetch of
+ * the chunk, the length of each batch query is bounded by {@link #MAX_QUERY_LENGTH}.
+ * Identifiers which cannot be resolved by batch queries (not supported type, no match, failed query) are left to
+ * the single identifier fetch, so "not found" and "duplicate" errors are reported exactly as before.
+ *
+ * @param <T> type of fetched record
+ */
+@Log4j2
+public abstract class AbstractChunkIdentifiersFetcher<T> implements ItemReadListener<ItemIdentifier> {
+  static final int MAX_QUERY_LENGTH = 4000;
+  static final int MAX_RECORDS_PER_IDENTIFIER = 10;
+
+  private static final String CQL_MASKING_CHARS = "*?^";
+  private static final String OR = " or ";
+
+  private final Set<String> pending = new LinkedHashSet<>();
+  private Map<String, List<T>> resolved = new HashMap<>();
+
+  /**
+   * @return identifier type of the job
+   */
+  protected abstract String getIdentifierType();
+
+  /**
+   * @param identifierType - identifier type of the job
+   * @return extractor of the identifier value from the record or null if identifiers of the type can not be resolved
+   * with batch queries
+   */
+  protected abstract Function<T, String> getIdentifierExtractor(IdentifierType identifierType);
+
+  /**
+   * Fetches records by the batch query.
+   *
+   * @param query - CQL query
+   * @param limit - max number of records to fetch
+   * @return fetched records
+   */
+  protected abstract List<T> fetchByQuery(String query, long limit);
+
+  @Override
+  public void afterRead(ItemIdentifier itemIdentifier) {
+    var identifier = itemIdentifier.getItemId();
+    if (!isEmpty(identifier) && !containsAny(identifier, CQL_MASKING_CHARS) && isBatchable()) {
+      pending.add(identifier);
+    }
+  }
+
+  /**
+   * Returns records resolved by batch queries for the identifier.
+   *
+   * @param identifier - identifier value
+   * @return resolved records or empty if the identifier should be fetched separately
+   */
+  protected Optional<List<T>> getResolved(String identifier) {
+    if (!pending.isEmpty()) {
+      resolvePending();
+    }
+    return Optional.ofNullable(resolved.remove(identifier));
+  }
+
+  private boolean isBatchable() {
+    var identifierType = getIdentifierType();
+    return !isNull(identifierType) && !isNull(getIdentifierExtractor(IdentifierType.fromValue(identifierType)));
+  }
+
+  private void resolvePending() {
+    resolved = new HashMap<>();
+    var identifierType = IdentifierType.fromValue(getIdentifierType());
+    var extractor = getIdentifierExtractor(identifierType);
+    var field = resolveIdentifier(getIdentifierType());
+    var batch = new ArrayList<String>();
+    var length = 0;
+    for (var identifier : pending) {
+      var value = quote(identifier);
+      var valueLength = URLEncoder.encode(value + OR, UTF_8).length();
+      if (!batch.isEmpty() && length + valueLength > MAX_QUERY_LENGTH) {
+        resolveBatch(field, batch, extractor);
+        batch = new ArrayList<>();
+        length = 0;
+      }
+      batch.add(identifier);
+      length += valueLength;
+    }
+    if (!batch.isEmpty()) {
+      resolveBatch(field, batch, extractor);
+    }
+    pending.clear();
+  }
+
+  private void resolveBatch(String field, List<String> identifiers, Function<T, String> extractor) {
+    var query = field + "==(" + String.join(OR, identifiers.stream().map(this::quote).toList()) + ")";
+    var limit = (long) identifiers.size() * MAX_RECORDS_PER_IDENTIFIER;
+    try {
+      var records = fetchByQuery(query, limit);
+      if (isNull(records) || records.size() >= limit) {
+        log.warn("Batch query for {} identifiers returned no or too many records, identifiers will be fetched one by one.", identifiers.size());
+        return;
+      }
+      var requested = Set.copyOf(identifiers);
+      records.forEach(rec -> {
+        var key = extractor.apply(rec);
+        if (requested.contains(key)) {
+          resolved.computeIfAbsent(key, k -> new ArrayList<>()).add(rec);
+        }
+      });
+      log.debug("Resolved {} of {} identifiers with batch query.", resolved.size(), identifiers.size());
+    } catch (Exception e) {
+      log.warn("Batch query for {} identifiers failed, identifiers will be fetched one by one, reason: {}", identifiers.size(), e.getMessage());
+    }
+  }
+
+  private String quote(String identifier) {
+    return "\"" + identifier.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.folio.dew.batch.AbstractStorageStreamWriter;
 import org.folio.dew.batch.CsvAndJsonListWriter;
 import org.folio.dew.batch.JobCompletionNotificationListener;
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.batch.bulkedit.jobs.BulkEditHoldingsProcessor;
 import org.folio.dew.domain.dto.ExportType;
 import org.folio.dew.domain.dto.HoldingsFormat;
@@ -59,11 +60,13 @@ public class BulkEditHoldingsIdentifiersJobConfig {
   @Bean
   public Step bulkEditHoldingsStep(FlatFileItemReader<ItemIdentifier> csvItemIdentifierReader,
     AbstractStorageStreamWriter<List<HoldingsFormat>, LocalFilesStorage> csvHoldingsListWriter,
-    ListIdentifiersWriteListener<HoldingsFormat> listIdentifiersWriteListener, JobRepository jobRepository,
+    ListIdentifiersWriteListener<HoldingsFormat> listIdentifiersWriteListener,
+    StepMetricsListener stepMetricsListener, JobRepository jobRepository,
     PlatformTransactionManager transactionManager) {
     return new StepBuilder("bulkEditHoldingsStep", jobRepository)
       .<ItemIdentifier, List<HoldingsFormat>> chunk(CHUNKS, transactionManager)
       .reader(csvItemIdentifierReader)
+      .listener(bulkEditHoldingsProcessor) // Collects identifiers of the chunk to resolve them with batch queries.
       .processor(bulkEditHoldingsProcessor)
       .faultTolerant()
       .skipLimit(1_000_000)
@@ -71,6 +74,7 @@ public class BulkEditHoldingsIdentifiersJobConfig {
       .skip(BulkEditException.class)
       .listener(bulkEditSkipListener)
       .writer(csvHoldingsListWriter)
+      .listener(stepMetricsListener)
       .listener(listIdentifiersWriteListener)
       .build();
   }
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.folio.dew.batch.AbstractStorageStreamWriter;
 import org.folio.dew.batch.CsvAndJsonListWriter;
 import org.folio.dew.batch.JobCompletionNotificationListener;
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.batch.bulkedit.jobs.BulkEditItemListProcessor;
 import org.folio.dew.domain.dto.ExportType;
 import org.folio.dew.domain.dto.ItemFormat;
@@ -61,11 +62,13 @@ public class BulkEditItemIdentifiersJobConfig {
   @Bean
   public Step bulkEditItemStep(FlatFileItemReader<ItemIdentifier> csvItemIdentifierReader,
     AbstractStorageStreamWriter<List<ItemFormat>, LocalFilesStorage> csvListWriter,
-    ListIdentifiersWriteListener<ItemFormat> listIdentifiersWriteListener, JobRepository jobRepository,
+    ListIdentifiersWriteListener<ItemFormat> listIdentifiersWriteListener,
+    StepMetricsListener stepMetricsListener, JobRepository jobRepository,
     PlatformTransactionManager transactionManager) {
     return new StepBuilder("bulkEditItemStep", jobRepository)
       .<ItemIdentifier, List<ItemFormat>> chunk(CHUNKS, transactionManager)
       .reader(csvItemIdentifierReader)
+      .listener(itemFetcher) // Collects identifiers of the chunk to resolve them with batch queries.
       .processor(identifierItemProcessor())
       .faultTolerant()
       .skipLimit(1_000_000)
@@ -73,6 +76,7 @@ public class BulkEditItemIdentifiersJobConfig {
       .skip(BulkEditException.class)
       .listener(bulkEditSkipListener)
       .writer(csvListWriter)
+      .listener(stepMetricsListener)
       .listener(listIdentifiersWriteListener)
       .build();
   }
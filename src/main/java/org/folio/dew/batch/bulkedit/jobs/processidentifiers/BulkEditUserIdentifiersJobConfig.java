@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.folio.dew.batch.AbstractStorageStreamAndJsonWriter;
 import org.folio.dew.batch.CsvAndJsonWriter;
 import org.folio.dew.batch.JobCompletionNotificationListener;
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.batch.bulkedit.jobs.BulkEditUserProcessor;
 import org.folio.dew.domain.dto.ExportType;
 import org.folio.dew.domain.dto.ItemIdentifier;
@@ -63,11 +64,13 @@ public class BulkEditUserIdentifiersJobConfig {
   @Bean
   public Step bulkEditUserStep(FlatFileItemReader<ItemIdentifier> csvItemIdentifierReader,
       AbstractStorageStreamAndJsonWriter<User, UserFormat, LocalFilesStorage> csvUserWriter,
-      IdentifiersWriteListener<UserFormat> identifiersWriteListener, JobRepository jobRepository,
+      IdentifiersWriteListener<UserFormat> identifiersWriteListener,
+      StepMetricsListener stepMetricsListener, JobRepository jobRepository,
       PlatformTransactionManager transactionManager) {
     return new StepBuilder("bulkEditUserStep", jobRepository)
       .<ItemIdentifier, UserFormat> chunk(CHUNKS, transactionManager)
       .reader(csvItemIdentifierReader)
+      .listener(userFetcher) // Collects identifiers of the chunk to resolve them with batch queries.
       .processor(identifierUserProcessor())
       .faultTolerant()
       .skipLimit(1_000_000)
@@ -75,6 +78,7 @@ public class BulkEditUserIdentifiersJobConfig {
       .skip(BulkEditException.class)
       .listener(bulkEditSkipListener)
       .writer(csvUserWriter)
+      .listener(stepMetricsListener)
       .listener(identifiersWriteListener)
       .build();
   }
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.dew.client.InventoryClient;
 import org.folio.dew.domain.dto.IdentifierType;
+import org.folio.dew.domain.dto.Item;
 import org.folio.dew.domain.dto.ItemCollection;
 import org.folio.dew.domain.dto.ItemIdentifier;
 import org.folio.dew.error.BulkEditException;
@@ -19,13 +20,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 @Component
 @StepScope
 @RequiredArgsConstructor
 @Log4j2
-public class ItemFetcher implements ItemProcessor<ItemIdentifier, ItemCollection> {
+public class ItemFetcher extends AbstractChunkIdentifiersFetcher<Item> implements ItemProcessor<ItemIdentifier, ItemCollection> {
   private final InventoryClient inventoryClient;
 
   @Value("#{jobParameters['identifierType']}")
@@ -39,6 +42,10 @@ public class ItemFetcher implements ItemProcessor<ItemIdentifier, ItemCollection
       throw new BulkEditException("Duplicate entry");
     }
     identifiersToCheckDuplication.add(itemIdentifier);
+    var resolved = getResolved(itemIdentifier.getItemId());
+    if (resolved.isPresent()) {
+      return new ItemCollection().items(List.of(resolved.get().get(0))).totalRecords(resolved.get().size());
+    }
     var limit = HOLDINGS_RECORD_ID == IdentifierType.fromValue(identifierType) ? Integer.MAX_VALUE : 1;
     var idType = resolveIdentifier(identifierType);
     var identifier = "barcode".equals(idType) ? String.format("\"%s\"", itemIdentifier.getItemId()) : itemIdentifier.getItemId();
@@ -48,4 +55,30 @@ public class ItemFetcher implements ItemProcessor<ItemIdentifier, ItemCollection
       throw new BulkEditException(ExceptionHelper.fetchMessage(e));
     }
   }
+
+  @Override
+  protected String getIdentifierType() {
+    return identifierType;
+  }
+
+  @Override
+  protected Function<Item, String> getIdentifierExtractor(IdentifierType identifierType) {
+    switch (identifierType) {
+      case ID:
+        return Item::getId;
+      case BARCODE:
+        return Item::getBarcode;
+      case HRID:
+        return Item::getHrid;
+      case ACCESSION_NUMBER:
+        return Item::getAccessionNumber;
+      default:
+        return null;
+    }
+  }
+
+  @Override
+  protected List<Item> fetchByQuery(String query, long limit) {
+    return inventoryClient.getItemByQuery(query, limit).getItems();
+  }
 }
@@ -7,6 +7,7 @@ import feign.codec.DecodeException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.dew.client.UserClient;
+import org.folio.dew.domain.dto.IdentifierType;
 import org.folio.dew.domain.dto.ItemIdentifier;
 import org.folio.dew.domain.dto.User;
 import org.folio.dew.error.BulkEditException;
@@ -17,13 +18,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 @Component
 @StepScope
 @RequiredArgsConstructor
 @Log4j2
-public class UserFetcher implements ItemProcessor<ItemIdentifier, User> {
+public class UserFetcher extends AbstractChunkIdentifiersFetcher<User> implements ItemProcessor<ItemIdentifier, User> {
   private final UserClient userClient;
 
   @Value("#{jobParameters['identifierType']}")
@@ -36,6 +39,10 @@ public class UserFetcher implements ItemProcessor<ItemIdentifier, User> {
       throw new BulkEditException("Duplicate entry");
     }
     identifiersToCheckDuplication.add(itemIdentifier);
+    var resolved = getResolved(itemIdentifier.getItemId());
+    if (resolved.isPresent()) {
+      return resolved.get().get(0);
+    }
     try {
       var userCollection = userClient.getUserByQuery(String.format("%s==\"%s\"", resolveIdentifier(identifierType), itemIdentifier.getItemId()), 1);
       if (userCollection.getUsers().isEmpty()) {
@@ -46,4 +53,30 @@ public class UserFetcher implements ItemProcessor<ItemIdentifier, User> {
       throw new BulkEditException(ExceptionHelper.fetchMessage(e));
     }
   }
+
+  @Override
+  protected String getIdentifierType() {
+    return identifierType;
+  }
+
+  @Override
+  protected Function<User, String> getIdentifierExtractor(IdentifierType identifierType) {
+    switch (identifierType) {
+      case ID:
+        return User::getId;
+      case BARCODE:
+        return User::getBarcode;
+      case USER_NAME:
+        return User::getUsername;
+      case EXTERNAL_SYSTEM_ID:
+        return User::getExternalSystemId;
+      default:
+        return null;
+    }
+  }
+
+  @Override
+  protected List<User> fetchByQuery(String query, long limit) {
+    return userClient.getUserByQuery(query, limit).getUsers();
+  }
 }
@@ -1,6 +1,7 @@
 package org.folio.dew.batch.bulkedit.jobs.processquery.items;
 
 import org.folio.dew.batch.CsvPartitioner;
+import org.folio.dew.batch.PartitionPlanner;
 import org.folio.dew.client.InventoryClient;
 
 public class BulkEditCqlItemPartitioner extends CsvPartitioner {
@@ -8,8 +9,8 @@ public class BulkEditCqlItemPartitioner extends CsvPartitioner {
   private final InventoryClient inventoryClient;
   private final String query;
 
-  public BulkEditCqlItemPartitioner(Long offset, Long limit, String tempOutputFilePath, InventoryClient inventoryClient, String query) {
-    super(offset, limit, tempOutputFilePath);
+  public BulkEditCqlItemPartitioner(Long offset, Long limit, String tempOutputFilePath, InventoryClient inventoryClient, String query, PartitionPlanner partitionPlanner) {
+    super(offset, limit, tempOutputFilePath, partitionPlanner);
 
     this.inventoryClient = inventoryClient;
     this.query = query;
@@ -7,6 +7,8 @@ import org.folio.dew.batch.CsvAndJsonWriter;
 import org.folio.dew.batch.CsvFileAssembler;
 import org.folio.dew.batch.CsvPartStepExecutionListener;
 import org.folio.dew.batch.JobCompletionNotificationListener;
+import org.folio.dew.batch.PartitionPlanner;
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.batch.bulkedit.jobs.BulkEditItemProcessor;
 import org.folio.dew.client.InventoryClient;
 import org.folio.dew.domain.dto.EntityType;
@@ -14,6 +16,8 @@ import org.folio.dew.domain.dto.ExportType;
 import org.folio.dew.domain.dto.Item;
 import org.folio.dew.domain.dto.ItemFormat;
 import org.folio.dew.repository.RemoteFilesStorage;
+import org.folio.dew.repository.S3CompatibleStorage;
+import org.folio.dew.repository.StagingFilesStorage;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -38,6 +42,8 @@ public class BulkEditItemCqlJobConfig {
 
   private final InventoryClient inventoryClient;
   private final RemoteFilesStorage remoteFilesStorage;
+  private final StagingFilesStorage stagingFilesStorage;
+  private final PartitionPlanner partitionPlanner;
 
   @Bean
   public Job bulkEditItemCqlJob(
@@ -63,6 +69,7 @@ public class BulkEditItemCqlJobConfig {
         .partitioner("bulkEditItemCqlPartitionStep", partitioner)
         .taskExecutor(asyncTaskExecutor)
         .step(bulkEditItemCqlPartitionStep)
+        .gridSize(POOL_SIZE)
         .aggregator(csvFileAssembler)
         .build();
   }
@@ -70,9 +77,10 @@ public class BulkEditItemCqlJobConfig {
   @Bean
   public Step bulkEditItemCqlPartitionStep(
     BulkEditCqlItemReader bulkEditCqlItemReader,
-    AbstractStorageStreamAndJsonWriter<Item, ItemFormat, RemoteFilesStorage> itemWriter,
+    AbstractStorageStreamAndJsonWriter<Item, ItemFormat, S3CompatibleStorage> itemWriter,
     BulkEditItemProcessor processor,
     CsvPartStepExecutionListener csvPartStepExecutionListener,
+    StepMetricsListener stepMetricsListener,
     JobRepository jobRepository,
     PlatformTransactionManager transactionManager
   ) {
@@ -81,6 +89,7 @@ public class BulkEditItemCqlJobConfig {
       .reader(bulkEditCqlItemReader)
       .processor(processor)
       .writer(itemWriter)
+      .listener(stepMetricsListener)
       .faultTolerant()
       .allowStartIfComplete(false)
       .throttleLimit(POOL_SIZE)
@@ -95,7 +104,7 @@ public class BulkEditItemCqlJobConfig {
     @Value("#{jobParameters['limit']}") Long limit,
     @Value("#{jobParameters['tempOutputFilePath']}") String tempOutputFilePath,
     @Value("#{jobParameters['query']}") String query) {
-    return new BulkEditCqlItemPartitioner(offset, limit, tempOutputFilePath, inventoryClient, query);
+    return new BulkEditCqlItemPartitioner(offset, limit, tempOutputFilePath, inventoryClient, query, partitionPlanner);
   }
 
   @Bean
@@ -109,8 +118,10 @@ public class BulkEditItemCqlJobConfig {
 
   @Bean
   @StepScope
-  public AbstractStorageStreamAndJsonWriter<Item, ItemFormat, RemoteFilesStorage> itemWriter(
-    @Value("#{stepExecutionContext['tempOutputFilePath']}") String tempOutputFilePath) {
-    return new CsvAndJsonWriter<>(tempOutputFilePath, getItemColumnHeaders(), getItemFieldsArray(), (field, i) -> field, remoteFilesStorage);
+  public AbstractStorageStreamAndJsonWriter<Item, ItemFormat, S3CompatibleStorage> itemWriter(
+    @Value("#{stepExecutionContext['tempOutputFilePath']}") String tempOutputFilePath,
+    @Value("#{stepExecutionContext['partition']}") Long partition) {
+    // Parts are composed in partition order, so only the first one starts with the header
+    return new CsvAndJsonWriter<>(tempOutputFilePath, partition == 0 ? getItemColumnHeaders() : null, getItemFieldsArray(), (field, i) -> field, stagingFilesStorage.orElse(remoteFilesStorage));
   }
 }
@@ -7,6 +7,8 @@ import org.folio.dew.batch.CsvAndJsonWriter;
 import org.folio.dew.batch.CsvFileAssembler;
 import org.folio.dew.batch.CsvPartStepExecutionListener;
 import org.folio.dew.batch.JobCompletionNotificationListener;
+import org.folio.dew.batch.PartitionPlanner;
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.batch.bulkedit.jobs.BulkEditUserProcessor;
 import org.folio.dew.client.UserClient;
 import org.folio.dew.domain.dto.EntityType;
@@ -14,6 +16,8 @@ import org.folio.dew.domain.dto.ExportType;
 import org.folio.dew.domain.dto.User;
 import org.folio.dew.domain.dto.UserFormat;
 import org.folio.dew.repository.RemoteFilesStorage;
+import org.folio.dew.repository.S3CompatibleStorage;
+import org.folio.dew.repository.StagingFilesStorage;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -38,6 +42,8 @@ public class BulkEditUserCqlJobConfig {
 
   private final UserClient userClient;
   private final RemoteFilesStorage remoteFilesStorage;
+  private final StagingFilesStorage stagingFilesStorage;
+  private final PartitionPlanner partitionPlanner;
   @Bean
   public Job bulkEditUserCqlJob(
       JobCompletionNotificationListener jobCompletionNotificationListener,
@@ -62,6 +68,7 @@ public class BulkEditUserCqlJobConfig {
         .partitioner("bulkEditUserCqlPartitionStep", partitioner)
         .taskExecutor(asyncTaskExecutor)
         .step(bulkEditUserCqlPartitionStep)
+        .gridSize(POOL_SIZE)
         .aggregator(csvFileAssembler)
         .build();
   }
@@ -69,9 +76,10 @@ public class BulkEditUserCqlJobConfig {
   @Bean
   public Step bulkEditUserCqlPartitionStep(
     BulkEditCqlUserReader bulkEditCqlUserReader,
-    AbstractStorageStreamAndJsonWriter<User, UserFormat, RemoteFilesStorage> userWriter,
+    AbstractStorageStreamAndJsonWriter<User, UserFormat, S3CompatibleStorage> userWriter,
     BulkEditUserProcessor processor,
     CsvPartStepExecutionListener csvPartStepExecutionListener,
+    StepMetricsListener stepMetricsListener,
     JobRepository jobRepository,
     PlatformTransactionManager transactionManager
   ) {
@@ -80,6 +88,7 @@ public class BulkEditUserCqlJobConfig {
       .reader(bulkEditCqlUserReader)
       .processor(processor)
       .writer(userWriter)
+      .listener(stepMetricsListener)
       .faultTolerant()
       .allowStartIfComplete(false)
       .throttleLimit(POOL_SIZE)
@@ -94,7 +103,7 @@ public class BulkEditUserCqlJobConfig {
     @Value("#{jobParameters['limit']}") Long limit,
     @Value("#{jobParameters['tempOutputFilePath']}") String tempOutputFilePath,
     @Value("#{jobParameters['query']}") String query) {
-    return new BulkEditUserCqlPartitioner(offset, limit, tempOutputFilePath, userClient, query);
+    return new BulkEditUserCqlPartitioner(offset, limit, tempOutputFilePath, userClient, query, partitionPlanner);
   }
 
   @Bean
@@ -108,8 +117,10 @@ public class BulkEditUserCqlJobConfig {
 
   @Bean
   @StepScope
-  public AbstractStorageStreamAndJsonWriter<User, UserFormat, RemoteFilesStorage> userWriter(
-    @Value("#{stepExecutionContext['tempOutputFilePath']}") String tempOutputFilePath) {
-    return new CsvAndJsonWriter<>(tempOutputFilePath, getUserColumnHeaders(), getUserFieldsArray(), (field, i) -> field, remoteFilesStorage);
+  public AbstractStorageStreamAndJsonWriter<User, UserFormat, S3CompatibleStorage> userWriter(
+    @Value("#{stepExecutionContext['tempOutputFilePath']}") String tempOutputFilePath,
+    @Value("#{stepExecutionContext['partition']}") Long partition) {
+    // Parts are composed in partition order, so only the first one starts with the header
+    return new CsvAndJsonWriter<>(tempOutputFilePath, partition == 0 ? getUserColumnHeaders() : null, getUserFieldsArray(), (field, i) -> field, stagingFilesStorage.orElse(remoteFilesStorage));
   }
 }
@@ -1,6 +1,7 @@
 package org.folio.dew.batch.bulkedit.jobs.processquery.users;
 
 import org.folio.dew.batch.CsvPartitioner;
+import org.folio.dew.batch.PartitionPlanner;
 import org.folio.dew.client.UserClient;
 
 public class BulkEditUserCqlPartitioner extends CsvPartitioner {
@@ -8,8 +9,8 @@ public class BulkEditUserCqlPartitioner extends CsvPartitioner {
   private final UserClient userClient;
   private final String query;
 
-  public BulkEditUserCqlPartitioner(Long offset, Long limit, String tempOutputFilePath, UserClient userClient, String query) {
-    super(offset, limit, tempOutputFilePath);
+  public BulkEditUserCqlPartitioner(Long offset, Long limit, String tempOutputFilePath, UserClient userClient, String query, PartitionPlanner partitionPlanner) {
+    super(offset, limit, tempOutputFilePath, partitionPlanner);
 
     this.userClient = userClient;
     this.query = query;
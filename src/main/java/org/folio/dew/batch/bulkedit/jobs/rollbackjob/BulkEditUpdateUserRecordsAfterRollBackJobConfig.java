@@ -1,5 +1,6 @@
 package org.folio.dew.batch.bulkedit.jobs.rollbackjob;
 
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.batch.bulkedit.jobs.JobConfigReaderHelper;
 import org.folio.dew.domain.dto.User;
 import org.folio.dew.domain.dto.UserFormat;
@@ -47,6 +48,7 @@ public class BulkEditUpdateUserRecordsAfterRollBackJobConfig {
     ItemProcessor<UserFormat, User> processor,
     @Qualifier("bulkEditUpdateUserRecordsForRollBackWriter")
     ItemWriter<User> writer,
+    StepMetricsListener stepMetricsListener,
     JobRepository jobRepository,
     PlatformTransactionManager transactionManager) {
     return new StepBuilder("bulkEditRollBackRecordsStep", jobRepository)
@@ -54,6 +56,7 @@ public class BulkEditUpdateUserRecordsAfterRollBackJobConfig {
       .reader(reader)
       .processor(processor)
       .writer(writer)
+      .listener(stepMetricsListener)
       .build();
   }
 
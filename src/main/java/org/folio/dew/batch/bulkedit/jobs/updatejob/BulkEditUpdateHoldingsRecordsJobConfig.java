@@ -1,6 +1,7 @@
 package org.folio.dew.batch.bulkedit.jobs.updatejob;
 
 import org.folio.dew.batch.JobCompletionNotificationListener;
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.batch.bulkedit.jobs.JobConfigReaderHelper;
 import org.folio.dew.domain.dto.HoldingsFormat;
 import org.folio.dew.domain.dto.HoldingsRecord;
@@ -48,12 +49,14 @@ import static org.folio.dew.utils.Constants.JOB_NAME_POSTFIX_SEPARATOR;
     @Qualifier("bulkEditUpdateHoldingsRecordsProcessor") ItemProcessor<HoldingsFormat, HoldingsRecord> processor,
     @Qualifier("updateHoldingsRecordsWriter") ItemWriter<HoldingsRecord> writer,
     @Qualifier("updateRecordWriteListener") ItemWriteListener<HoldingsRecord> updateRecordWriteListener,
+    StepMetricsListener stepMetricsListener,
     JobRepository jobRepository, PlatformTransactionManager transactionManager) {
     return new StepBuilder("bulkEditUpdateHoldingsRecordsStep", jobRepository)
       .<HoldingsFormat, HoldingsRecord>chunk(10, transactionManager)
       .reader(csvHoldingsRecordsReader)
       .processor(processor)
       .writer(writer)
+      .listener(stepMetricsListener)
       .listener(updateRecordWriteListener)
       .build();
   }
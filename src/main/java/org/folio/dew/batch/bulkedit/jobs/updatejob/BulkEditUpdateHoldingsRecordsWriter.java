@@ -33,18 +33,19 @@ public class BulkEditUpdateHoldingsRecordsWriter implements ItemWriter<HoldingsR
   private final HoldingClient holdingClient;
   private final BulkEditProcessingErrorsService bulkEditProcessingErrorsService;
   private final BulkEditStatisticService bulkEditStatisticService;
+  private final RecordsUpdateExecutor recordsUpdateExecutor;
 
   @Override
   public void write(Chunk<? extends HoldingsRecord> holdingsRecords) throws Exception {
-    holdingsRecords.forEach(holdingsRecord -> {
-      try {
-        holdingClient.updateHoldingsRecord(holdingsRecord, holdingsRecord.getId());
-        bulkEditStatisticService.incrementSuccess();
-        log.info("Update holdings record with id - {} by job id {}", holdingsRecord.getId(), jobId);
-      } catch (Exception e) {
-        log.info("Cannot update holdings record with id {}. Reason: {}",  holdingsRecord.getId(), e.getMessage());
-        bulkEditProcessingErrorsService.saveErrorInCSV(jobId, holdingsRecord.getId(), new BulkEditException(e.getMessage()), FilenameUtils.getName(jobExecution.getJobParameters().getString(FILE_NAME)));
-      }
+    recordsUpdateExecutor.<HoldingsRecord>updateAll(holdingsRecords, holdingsRecord -> {
+      holdingClient.updateHoldingsRecord(holdingsRecord, holdingsRecord.getId());
+      return true;
+    }, (holdingsRecord, updated) -> {
+      bulkEditStatisticService.incrementSuccess();
+      log.info("Update holdings record with id - {} by job id {}", holdingsRecord.getId(), jobId);
+    }, (holdingsRecord, e) -> {
+      log.info("Cannot update holdings record with id {}. Reason: {}",  holdingsRecord.getId(), e.getMessage());
+      bulkEditProcessingErrorsService.saveErrorInCSV(jobId, holdingsRecord.getId(), new BulkEditException(e.getMessage()), FilenameUtils.getName(jobExecution.getJobParameters().getString(FILE_NAME)));
     });
   }
 }
@@ -1,6 +1,7 @@
 package org.folio.dew.batch.bulkedit.jobs.updatejob;
 
 import org.folio.dew.batch.JobCompletionNotificationListener;
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.batch.bulkedit.jobs.JobConfigReaderHelper;
 import org.folio.dew.domain.dto.Item;
 import org.folio.dew.domain.dto.ItemFormat;
@@ -49,6 +50,7 @@ import static org.folio.dew.utils.Constants.JOB_NAME_POSTFIX_SEPARATOR;
     @Qualifier("bulkEditUpdateItemRecordsProcessor") ItemProcessor<ItemFormat, Item> processor,
     @Qualifier("updateItemRecordsWriter") ItemWriter<Item> writer,
     @Qualifier("updateRecordWriteListener") ItemWriteListener<Item> updateRecordWriteListener,
+    StepMetricsListener stepMetricsListener,
                                                   JobRepository jobRepository,
                                                   PlatformTransactionManager transactionManager) {
     return new StepBuilder("bulkEditUpdateRecordsStep", jobRepository)
@@ -56,6 +58,7 @@ import static org.folio.dew.utils.Constants.JOB_NAME_POSTFIX_SEPARATOR;
       .reader(csvItemRecordsReader)
       .processor(processor)
       .writer(writer)
+      .listener(stepMetricsListener)
       .listener(updateRecordWriteListener)
       .build();
   }
@@ -33,18 +33,19 @@ public class BulkEditUpdateItemRecordsWriter implements ItemWriter<Item> {
   private final InventoryClient inventoryClient;
   private final BulkEditProcessingErrorsService bulkEditProcessingErrorsService;
   private final BulkEditStatisticService bulkEditStatisticService;
+  private final RecordsUpdateExecutor recordsUpdateExecutor;
 
   @Override
   public void write(Chunk<? extends Item> items) throws Exception {
-    items.forEach(item -> {
-      try {
-        inventoryClient.updateItem(item, item.getId());
-        bulkEditStatisticService.incrementSuccess();
-        log.info("Update item with id - {} by job id {}", item.getId(), jobId);
-      } catch (Exception e) {
-        log.info("Cannot update item with id {}. Reason: {}",  item.getId(), e.getMessage());
-        bulkEditProcessingErrorsService.saveErrorInCSV(jobId, item.getId(), new BulkEditException(e.getMessage()), FilenameUtils.getName(jobExecution.getJobParameters().getString(FILE_NAME)));
-      }
+    recordsUpdateExecutor.<Item>updateAll(items, item -> {
+      inventoryClient.updateItem(item, item.getId());
+      return true;
+    }, (item, updated) -> {
+      bulkEditStatisticService.incrementSuccess();
+      log.info("Update item with id - {} by job id {}", item.getId(), jobId);
+    }, (item, e) -> {
+      log.info("Cannot update item with id {}. Reason: {}",  item.getId(), e.getMessage());
+      bulkEditProcessingErrorsService.saveErrorInCSV(jobId, item.getId(), new BulkEditException(e.getMessage()), FilenameUtils.getName(jobExecution.getJobParameters().getString(FILE_NAME)));
     });
   }
 }
@@ -1,6 +1,7 @@
 package org.folio.dew.batch.bulkedit.jobs.updatejob;
 
 import org.folio.dew.batch.JobCompletionNotificationListener;
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.batch.bulkedit.jobs.JobConfigReaderHelper;
 import org.folio.dew.batch.bulkedit.jobs.updatejob.listeners.BulkEditUpdateUserRecordsListener;
 import org.folio.dew.domain.dto.User;
@@ -62,12 +63,14 @@ public class BulkEditUpdateUserRecordsJobConfig {
     ItemProcessor<UserFormat, User> processor,
     @Qualifier("updateUserRecordsWriter") ItemWriter<User> writer,
     @Qualifier("updateRecordWriteListener") ItemWriteListener<User> updateRecordWriteListener,
+    StepMetricsListener stepMetricsListener,
     JobRepository jobRepository, PlatformTransactionManager transactionManager) {
     return new StepBuilder("bulkEditUpdateRecordsStep", jobRepository)
       .<UserFormat, User>chunk(10, transactionManager)
       .reader(csvUserRecordsReader)
       .processor(processor)
       .writer(writer)
+      .listener(stepMetricsListener)
       .listener(updateRecordWriteListener)
       .build();
   }
@@ -3,7 +3,6 @@ package org.folio.dew.batch.bulkedit.jobs.updatejob;
 import static org.folio.dew.utils.Constants.FILE_NAME;
 import static org.folio.dew.utils.Constants.NO_CHANGE_MESSAGE;
 
-import java.util.List;
 import java.util.UUID;
 
 import lombok.RequiredArgsConstructor;
@@ -41,28 +40,32 @@ public class BulkEditUpdateUserRecordsWriter implements ItemWriter<User> {
   private final BulkEditProcessingErrorsService bulkEditProcessingErrorsService;
   private final BulkEditStatisticService bulkEditStatisticService;
   private final BulkEditChangedRecordsService changedRecordsService;
+  private final RecordsUpdateExecutor recordsUpdateExecutor;
 
   @Override
   public void write(Chunk<? extends User> users) throws Exception {
-    users.forEach(user -> {
-      try {
-        var initialUser = userClient.getUserById(user.getId());
-        initialUser.setMetadata(null);
-        if (initialUser.equals(user)) {
-          log.info("User with barcode={}: {}", user.getBarcode(), NO_CHANGE_MESSAGE);
-          bulkEditProcessingErrorsService.saveErrorInCSV(jobId, initialUser.getBarcode(), new BulkEditException(NO_CHANGE_MESSAGE), FilenameUtils.getName(jobExecution.getJobParameters().getString(FILE_NAME)));
-          changedRecordsService.removeUserId(user.getId(), jobId);
-        } else {
-          userClient.updateUser(user, user.getId());
-          log.info("Update user with barcode={} by job id {}", user.getBarcode(), jobId);
-          bulkEditStatisticService.incrementSuccess();
-          bulkEditRollBackService.putUserIdForJob(user.getId(), UUID.fromString(jobId));
-        }
-      } catch (Exception e) {
-        log.error("Cannot update user with barcode={}. Reason: {}",  user.getBarcode(), e.getMessage());
-        bulkEditProcessingErrorsService.saveErrorInCSV(jobId, user.getBarcode(), new BulkEditException(e.getMessage()), FilenameUtils.getName(jobExecution.getJobParameters().getString(FILE_NAME)));
+    recordsUpdateExecutor.<User>updateAll(users, user -> {
+      var initialUser = userClient.getUserById(user.getId());
+      initialUser.setMetadata(null);
+      if (initialUser.equals(user)) {
+        return false;
+      }
+      userClient.updateUser(user, user.getId());
+      return true;
+    }, (user, updated) -> {
+      if (Boolean.TRUE.equals(updated)) {
+        log.info("Update user with barcode={} by job id {}", user.getBarcode(), jobId);
+        bulkEditStatisticService.incrementSuccess();
+        bulkEditRollBackService.putUserIdForJob(user.getId(), UUID.fromString(jobId));
+      } else {
+        log.info("User with barcode={}: {}", user.getBarcode(), NO_CHANGE_MESSAGE);
+        bulkEditProcessingErrorsService.saveErrorInCSV(jobId, user.getBarcode(), new BulkEditException(NO_CHANGE_MESSAGE), FilenameUtils.getName(jobExecution.getJobParameters().getString(FILE_NAME)));
         changedRecordsService.removeUserId(user.getId(), jobId);
       }
+    }, (user, e) -> {
+      log.error("Cannot update user with barcode={}. Reason: {}",  user.getBarcode(), e.getMessage());
+      bulkEditProcessingErrorsService.saveErrorInCSV(jobId, user.getBarcode(), new BulkEditException(e.getMessage()), FilenameUtils.getName(jobExecution.getJobParameters().getString(FILE_NAME)));
+      changedRecordsService.removeUserId(user.getId(), jobId);
     });
   }
 }
@@ -0,0 +1,55 @@
+package org.folio.dew.batch.bulkedit.jobs.updatejob;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Updates records of the chunk concurrently. Only remote calls are executed by the bounded pool shared by all update
+ * jobs (with the folio context of the caller), outcomes are handled by the calling thread in the order of the chunk,
+ * so job scoped statistics, error files and rollback registration are never touched concurrently.
+ */
+@Component
+public class RecordsUpdateExecutor {
+
+  private final ThreadPoolTaskExecutor taskExecutor;
+
+  public RecordsUpdateExecutor(@Qualifier("bulkEditUpdateTaskExecutor") ThreadPoolTaskExecutor taskExecutor) {
+    this.taskExecutor = taskExecutor;
+  }
+
+  /**
+   * Updates records of the chunk.
+   *
+   * @param records - records to update
+   * @param update - remote update of the record, returns false if the record was not changed
+   * @param onSuccess - handler of the updated (true) or not changed (false) record
+   * @param onError - handler of the failed update
+   * @param <T> - type of record
+   */
+  public <T> void updateAll(Chunk<? extends T> records, Predicate<T> update, BiConsumer<T, Boolean> onSuccess,
+      BiConsumer<T, Exception> onError) {
+    var futures = new ArrayList<CompletableFuture<Boolean>>(records.size());
+    for (T rec : records) {
+      futures.add(CompletableFuture.supplyAsync(() -> update.test(rec), taskExecutor));
+    }
+    var iterator = futures.iterator();
+    for (T rec : records) {
+      var future = iterator.next();
+      try {
+        onSuccess.accept(rec, future.join());
+      } catch (CompletionException e) {
+        onError.accept(rec, e.getCause() instanceof Exception cause ? cause : e);
+      } catch (Exception e) {
+        onError.accept(rec, e);
+      }
+    }
+  }
+}
@@ -1,15 +1,11 @@
 package org.folio.dew.batch.bursarfeesfines;
 
-import java.util.Collections;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.folio.dew.domain.dto.BursarFeeFinesTypeMapping;
 import org.folio.dew.batch.bursarfeesfines.service.BursarExportService;
 import org.folio.dew.batch.bursarfeesfines.service.BursarFeesFinesUtils;
 import org.folio.dew.domain.dto.Account;
 import org.folio.dew.domain.dto.bursarfeesfines.BursarFormat;
-import org.springframework.batch.core.StepExecution;
-import org.springframework.batch.core.annotation.BeforeStep;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,8 +17,7 @@ import org.springframework.stereotype.Component;
 public class AccountItemProcessor implements ItemProcessor<Account, BursarFormat> {
 
   private final BursarExportService exportService;
-
-  private Map<String, String> userIdMap;
+  private final BursarChunkLookup lookup;
 
   @Value("#{jobParameters['jobId']}")
   private String jobId;
@@ -30,7 +25,7 @@ public class AccountItemProcessor implements ItemProcessor<Account, BursarFormat
   @Override
   public BursarFormat process(Account item) {
     var format = new BursarFormat();
-    format.setEmployeeId(BursarFeesFinesUtils.getEmployeeId(item.getUserId(), userIdMap));
+    format.setEmployeeId(lookup.getEmployeeId(item.getUserId()));
     format.setAmount(BursarFeesFinesUtils.normalizeAmount(item.getAmount()));
     format.setTransactionDate(BursarFeesFinesUtils.getTransactionDate(item.getMetadata().getCreatedDate()));
     format.setSfs("SFS");
@@ -44,10 +39,4 @@ public class AccountItemProcessor implements ItemProcessor<Account, BursarFormat
     return format;
   }
 
-  @BeforeStep
-  public void initStep(StepExecution stepExecution) {
-    Map<String, String> externalIdMap = (Map<String, String>) stepExecution.getExecutionContext().get("userIdMap");
-    userIdMap = externalIdMap == null ? Collections.emptyMap() : externalIdMap;
-  }
-
 }
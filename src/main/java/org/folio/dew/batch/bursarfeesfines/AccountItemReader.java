@@ -2,78 +2,137 @@ package org.folio.dew.batch.bursarfeesfines;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.dew.batch.bursarfeesfines.service.BursarExportService;
+import org.folio.dew.batch.bursarfeesfines.service.BursarFeesFinesUtils;
 import org.folio.dew.domain.dto.Account;
-import org.folio.dew.domain.dto.User;
 import org.folio.dew.domain.dto.bursarfeesfines.BursarJobPrameterDto;
+import org.folio.dew.repository.LocalFilesStorage;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterChunk;
+import org.springframework.batch.core.annotation.AfterStep;
 import org.springframework.batch.core.annotation.BeforeStep;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Pages active users of the requested patron groups and, for each page of users, their outstanding accounts, both by
+ * keyset on the id. The current users are kept in {@link BursarChunkLookup}; ids of the read accounts are appended to
+ * the accounts file read by the refund and transfer steps, so no account lists are stored in the execution context.
+ */
 @Component
 @StepScope
 @Log4j2
 @RequiredArgsConstructor
 public class AccountItemReader implements ItemReader<Account> {
 
+  static final int PAGE_SIZE = 1000;
+  static final int USERS_PAGE_SIZE = 50;
+
   private final BursarExportService exportService;
+  private final BursarChunkLookup lookup;
+  private final LocalFilesStorage localFilesStorage;
   private final ObjectMapper objectMapper;
 
   @Value("#{jobParameters['bursarFeeFines']}")
   private String bursarFeeFinesStr;
+  @Value("#{jobParameters['tempOutputFilePath']}")
+  private String tempOutputFilePath;
 
-  private StepExecution stepExecution;
-  private List<Account> accounts = new ArrayList<>();
-  private Map<String, String> userIdMap = new HashMap<>();
-  private int nextIndex = 0;
+  private BursarJobPrameterDto bursarFeeFines;
+  private String accountsFilename;
+  private final Deque<Account> accounts = new ArrayDeque<>();
+  private final List<String> userIds = new ArrayList<>();
+  private String lastUserId;
+  private String lastAccountId;
+  private boolean usersExhausted;
 
   @Override
-  public Account read() {
-    var stepContext = stepExecution.getExecutionContext();
-    stepContext.put("accounts", accounts);
-    stepContext.put("userIdMap", userIdMap);
-
-    Account next = null;
-    if (nextIndex < accounts.size()) {
-      next = accounts.get(nextIndex);
-      nextIndex++;
+  public Account read() throws IOException {
+    while (accounts.isEmpty() && !(userIds.isEmpty() && usersExhausted)) {
+      if (userIds.isEmpty()) {
+        readUsers();
+      } else {
+        readAccounts();
+      }
+    }
+    return accounts.poll();
+  }
+
+  private void readUsers() {
+    var users = exportService.findUsers(bursarFeeFines.getPatronGroups(), lastUserId, USERS_PAGE_SIZE);
+    usersExhausted = users.size() < USERS_PAGE_SIZE;
+    if (!users.isEmpty()) {
+      lastUserId = users.get(users.size() - 1).getId();
+      lastAccountId = null;
+      users.forEach(user -> userIds.add(user.getId()));
+      lookup.putUsers(users);
+    }
+  }
+
+  private void readAccounts() throws IOException {
+    List<Account> page = exportService.findAccounts(bursarFeeFines.getDaysOutstanding().longValue(), userIds,
+      lastAccountId, PAGE_SIZE);
+    if (page.size() < PAGE_SIZE) {
+      userIds.clear();
     } else {
-      nextIndex = 0;
+      lastAccountId = page.get(page.size() - 1).getId();
     }
-    return next;
+
+    var selected = page.stream()
+      .filter(account -> lookup.hasUser(account.getUserId()))
+      .collect(Collectors.toList());
+    if (!selected.isEmpty()) {
+      var lines = selected.stream()
+        .map(BursarFeesFinesUtils::toAccountLine)
+        .collect(Collectors.joining("\n", StringUtils.EMPTY, "\n"));
+      localFilesStorage.append(accountsFilename, lines.getBytes(StandardCharsets.UTF_8));
+    }
+    accounts.addAll(selected);
+    log.debug("Read {} accounts after user {}, {} selected.", page.size(), lastUserId, selected.size());
   }
 
   @BeforeStep
-  public void initStep(StepExecution stepExecution) throws JsonProcessingException {
-    this.stepExecution = stepExecution;
-
-    var bursarFeeFines = objectMapper.readValue(bursarFeeFinesStr, BursarJobPrameterDto.class);
+  public void initStep(StepExecution stepExecution) throws JsonProcessingException, IOException {
+    bursarFeeFines = objectMapper.readValue(bursarFeeFinesStr, BursarJobPrameterDto.class);
     stepExecution.getJobExecution().getExecutionContext().put("bursarFeeFines", bursarFeeFines);
 
-    List<User> users = exportService.findUsers(bursarFeeFines.getPatronGroups());
-    if (CollectionUtils.isEmpty(users)) {
+    if (!exportService.hasUsers(bursarFeeFines.getPatronGroups())) {
       throw new IllegalArgumentException(
           String.format("Users not found for patron group(s) %s", StringUtils.join(bursarFeeFines.getPatronGroups(), ",")));
     }
 
-    userIdMap = users.stream()
-        .collect(Collectors.toMap(User::getId, user -> Optional.ofNullable(user.getExternalSystemId()).orElse("")));
-    accounts = exportService.findAccounts(bursarFeeFines.getDaysOutstanding().longValue(), users);
+    accountsFilename = BursarFeesFinesUtils.getAccountsFilename(tempOutputFilePath);
+    localFilesStorage.write(accountsFilename, new byte[0]);
+  }
 
-    stepExecution.getExecutionContext().put("userIdMap", userIdMap);
+  @AfterChunk
+  public void afterChunk(ChunkContext context) {
+    var pendingUserIds = accounts.stream().map(Account::getUserId).collect(Collectors.toSet());
+    pendingUserIds.addAll(userIds);
+    lookup.retain(pendingUserIds, Collections.emptySet());
+  }
+
+  @AfterStep
+  public ExitStatus afterStep(StepExecution stepExecution) throws IOException {
+    if (accountsFilename != null) {
+      localFilesStorage.completeAppend(accountsFilename);
+    }
+    return stepExecution.getExitStatus();
   }
 
 }
@@ -0,0 +1,74 @@
+package org.folio.dew.batch.bursarfeesfines;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.folio.dew.batch.bursarfeesfines.service.BursarExportService;
+import org.folio.dew.batch.bursarfeesfines.service.BursarFeesFinesUtils;
+import org.folio.dew.domain.dto.Account;
+import org.folio.dew.domain.dto.User;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.stereotype.Component;
+
+/**
+ * Users and accounts referenced by the items of the current chunk. Readers resolve them in batches while reading a page
+ * and release them once the chunk is written, so only the entries of pending items are kept between chunks.
+ */
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class BursarChunkLookup {
+
+  private final BursarExportService exportService;
+
+  private final Map<String, String> externalIds = new HashMap<>();
+  private final Map<String, Account> accounts = new HashMap<>();
+
+  /**
+   * Fetches active users of the patron groups among the given ids which are not resolved yet.
+   */
+  public void resolveUsers(List<String> patronGroups, Collection<String> userIds) {
+    var missing = userIds.stream()
+      .filter(id -> !externalIds.containsKey(id))
+      .distinct()
+      .collect(Collectors.toList());
+    if (missing.isEmpty()) {
+      return;
+    }
+    putUsers(exportService.findUsers(patronGroups, missing));
+  }
+
+  public void putUsers(Collection<User> users) {
+    users.forEach(user -> externalIds.put(user.getId(), Optional.ofNullable(user.getExternalSystemId()).orElse("")));
+  }
+
+  public boolean hasUser(String userId) {
+    return externalIds.containsKey(userId);
+  }
+
+  public String getEmployeeId(String userId) {
+    return BursarFeesFinesUtils.getEmployeeId(userId, externalIds);
+  }
+
+  public void putAccount(Account account) {
+    accounts.put(account.getId(), account);
+  }
+
+  public Account getAccount(String accountId) {
+    return accounts.get(accountId);
+  }
+
+  /**
+   * Drops entries which are not referenced by the items still pending in the reader.
+   */
+  public void retain(Set<String> userIds, Set<String> accountIds) {
+    externalIds.keySet().retainAll(userIds);
+    accounts.keySet().retainAll(accountIds);
+  }
+
+}
@@ -1,6 +1,7 @@
 package org.folio.dew.batch.bursarfeesfines;
 
 import lombok.extern.log4j.Log4j2;
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.batch.bursarfeesfines.service.BursarFeesFinesUtils;
 import org.folio.dew.batch.bursarfeesfines.service.BursarWriter;
 import org.folio.dew.batch.bursarfeesfines.service.BursarWriterBuilder;
@@ -16,7 +17,6 @@ import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
-import org.springframework.batch.core.listener.ExecutionContextPromotionListener;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
@@ -56,6 +56,7 @@ public class BursarExportJobConfig {
       ItemProcessor<Account, BursarFormat> processor,
       @Qualifier("bursarFeesFines") ItemWriter<BursarFormat> writer,
       BursarExportStepListener listener,
+      StepMetricsListener stepMetricsListener,
       JobRepository jobRepository,
       PlatformTransactionManager transactionManager) {
     return new StepBuilder(BursarFeesFinesUtils.CHARGE_FEESFINES_EXPORT_STEP, jobRepository)
@@ -63,7 +64,7 @@ public class BursarExportJobConfig {
         .reader(reader)
         .processor(processor)
         .writer(writer)
-        .listener(promotionListener())
+        .listener(stepMetricsListener)
         .listener(listener)
         .build();
   }
@@ -74,6 +75,7 @@ public class BursarExportJobConfig {
       ItemProcessor<Feefineaction, BursarFormat> processor,
       @Qualifier("bursarFeesFines") ItemWriter<BursarFormat> writer,
       BursarExportStepListener listener,
+      StepMetricsListener stepMetricsListener,
       JobRepository jobRepository,
       PlatformTransactionManager transactionManager) {
     return new StepBuilder(BursarFeesFinesUtils.REFUND_FEESFINES_EXPORT_STEP, jobRepository)
@@ -81,6 +83,7 @@ public class BursarExportJobConfig {
         .reader(reader)
         .processor(processor)
         .writer(writer)
+        .listener(stepMetricsListener)
         .listener(listener)
         .build();
   }
@@ -90,13 +93,6 @@ public class BursarExportJobConfig {
     return new StepBuilder("transferFeefinesStep", jobRepository).tasklet(tasklet, transactionManager).build();
   }
 
-  @Bean
-  public ExecutionContextPromotionListener promotionListener() {
-    var listener = new ExecutionContextPromotionListener();
-    listener.setKeys(new String[] {"accounts", "userIdMap"});
-    return listener;
-  }
-
   @Bean("bursarFeesFines")
   @StepScope
   public BursarWriter<BursarFormat> writer(
@@ -106,11 +102,6 @@ public class BursarExportJobConfig {
     String fileName = tempOutputFilePath + '_' + BursarFeesFinesUtils.getFilename(stepName);
     WritableResource exportFileResource = new S3CompatibleResource<>(fileName, localFilesStorage);
 
-    var fieldNames =
-        new String[] {
-          "employeeId", "amount", "itemType", "transactionDate", "sfs", "termValue", "description"
-        };
-    var lineFormat = "%11.11s%9.9s%12.12s%6.6s%3.3s%4.4s%30.30s";
     var header = "LIB02";
     log.info("Creating file {}.", fileName);
 
@@ -118,8 +109,8 @@ public class BursarExportJobConfig {
         .name("bursarExportWriter")
         .header(header)
         .formatted()
-        .format(lineFormat)
-        .names(fieldNames)
+        .format(BursarFeesFinesUtils.BURSAR_LINE_FORMAT)
+        .names(BursarFeesFinesUtils.BURSAR_FIELD_NAMES.toArray(String[]::new))
         .resource(exportFileResource)
         .localFilesStorage(localFilesStorage)
         .build();
@@ -3,49 +3,99 @@ package org.folio.dew.batch.bursarfeesfines;
 import lombok.RequiredArgsConstructor;
 import org.folio.dew.batch.ExecutionContextUtils;
 import org.folio.dew.batch.bursarfeesfines.service.BursarExportService;
+import org.folio.dew.batch.bursarfeesfines.service.BursarFeesFinesUtils;
 import org.folio.dew.domain.dto.Account;
 import org.folio.dew.domain.dto.Feefineaction;
+import org.folio.dew.domain.dto.bursarfeesfines.BursarJobPrameterDto;
+import org.folio.dew.repository.LocalFilesStorage;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterChunk;
 import org.springframework.batch.core.annotation.BeforeStep;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Reads refunds of the accounts selected by the charge step. Accounts are read from the accounts file page by page,
+ * accounts and users of the refunds are kept in {@link BursarChunkLookup} until the refunds are written.
+ */
 @Component
 @StepScope
 @RequiredArgsConstructor
 public class FeefineactionItemReader implements ItemReader<Feefineaction> {
 
   private final BursarExportService exportService;
+  private final BursarChunkLookup lookup;
+  private final LocalFilesStorage localFilesStorage;
 
-  private List<Feefineaction> feefineactions;
-  private int nextIndex = 0;
+  @Value("#{jobParameters['tempOutputFilePath']}")
+  private String tempOutputFilePath;
+
+  private List<String> patronGroups = Collections.emptyList();
+  private String accountsFilename;
+  private final Deque<Feefineaction> feefineactions = new ArrayDeque<>();
+  private long offset;
+  private boolean exhausted;
 
   @Override
-  public Feefineaction read() {
-    Feefineaction next = null;
-    if (nextIndex < feefineactions.size()) {
-      next = feefineactions.get(nextIndex);
-      nextIndex++;
-    } else {
-      nextIndex = 0;
+  public Feefineaction read() throws IOException {
+    while (feefineactions.isEmpty() && !exhausted) {
+      readPage();
+    }
+    return feefineactions.poll();
+  }
+
+  private void readPage() throws IOException {
+    List<String> page;
+    try (var lines = localFilesStorage.lines(accountsFilename, offset, AccountItemReader.PAGE_SIZE)) {
+      page = lines.collect(Collectors.toList());
+    }
+    offset += page.size();
+    exhausted = page.size() < AccountItemReader.PAGE_SIZE;
+    if (page.isEmpty()) {
+      return;
     }
-    return next;
+
+    Map<String, Account> accounts = page.stream()
+      .map(BursarFeesFinesUtils::fromAccountLine)
+      .collect(Collectors.toMap(Account::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+
+    var refunds = exportService.findRefundedFeefineActions(List.copyOf(accounts.keySet()));
+    refunds.stream()
+      .map(refund -> accounts.get(refund.getAccountId()))
+      .filter(Objects::nonNull)
+      .forEach(lookup::putAccount);
+    lookup.resolveUsers(patronGroups, refunds.stream().map(Feefineaction::getUserId).collect(Collectors.toList()));
+    feefineactions.addAll(refunds);
   }
 
   @BeforeStep
   public void initStep(StepExecution stepExecution) {
-    List<Account> accounts = (List<Account>) ExecutionContextUtils.getExecutionVariable(stepExecution, "accounts");
-    if (accounts == null || accounts.isEmpty()) {
-      feefineactions = Collections.emptyList();
-      return;
+    var bursarFeeFines = (BursarJobPrameterDto) ExecutionContextUtils.getExecutionVariable(stepExecution, "bursarFeeFines");
+    if (bursarFeeFines != null && bursarFeeFines.getPatronGroups() != null) {
+      patronGroups = bursarFeeFines.getPatronGroups();
     }
+    accountsFilename = BursarFeesFinesUtils.getAccountsFilename(tempOutputFilePath);
+    exhausted = localFilesStorage.notExists(accountsFilename);
+  }
 
-    feefineactions = exportService.findRefundedFeefineActions(accounts.stream().map(Account::getId).collect(Collectors.toList()));
+  @AfterChunk
+  public void afterChunk(ChunkContext context) {
+    lookup.retain(feefineactions.stream().map(Feefineaction::getUserId).collect(Collectors.toSet()),
+      feefineactions.stream().map(Feefineaction::getAccountId).collect(Collectors.toSet()));
   }
 
 }
@@ -1,17 +1,20 @@
 package org.folio.dew.batch.bursarfeesfines;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.Iterator;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.collections4.CollectionUtils;
 import org.folio.dew.batch.ExecutionContextUtils;
 import org.folio.dew.batch.bursarfeesfines.service.BursarExportService;
+import org.folio.dew.batch.bursarfeesfines.service.BursarFeesFinesUtils;
 import org.folio.dew.domain.dto.Account;
 import org.folio.dew.domain.dto.bursarfeesfines.BursarJobPrameterDto;
+import org.folio.dew.repository.LocalFilesStorage;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -20,14 +23,26 @@ import org.springframework.stereotype.Component;
 public class TransferFeesFinesTasklet implements Tasklet {
 
   private final BursarExportService exportService;
+  private final LocalFilesStorage localFilesStorage;
+
+  @Value("#{jobParameters['tempOutputFilePath']}")
+  private String tempOutputFilePath;
 
   @Override
-  public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
-    List<Account> accounts = (List<Account>) ExecutionContextUtils.getExecutionVariable(contribution.getStepExecution(),
-        "accounts");
-    if (CollectionUtils.isNotEmpty(accounts)) {
-      exportService.transferAccounts(accounts,
-        (BursarJobPrameterDto) ExecutionContextUtils.getExecutionVariable(contribution.getStepExecution(), "bursarFeeFines"));
+  public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws IOException {
+    var accountsFilename = BursarFeesFinesUtils.getAccountsFilename(tempOutputFilePath);
+    if (localFilesStorage.notExists(accountsFilename)) {
+      return RepeatStatus.FINISHED;
+    }
+
+    try (var lines = localFilesStorage.lines(accountsFilename)) {
+      Iterator<Account> accounts = lines.map(BursarFeesFinesUtils::fromAccountLine).iterator();
+      if (accounts.hasNext()) {
+        exportService.transferAccounts(() -> accounts,
+          (BursarJobPrameterDto) ExecutionContextUtils.getExecutionVariable(contribution.getStepExecution(), "bursarFeeFines"));
+      }
+    } finally {
+      localFilesStorage.delete(accountsFilename);
     }
     return RepeatStatus.FINISHED;
   }
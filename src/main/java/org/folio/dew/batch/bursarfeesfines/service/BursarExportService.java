@@ -14,11 +14,23 @@ public interface BursarExportService {
 
   BursarFeeFinesTypeMapping getMapping(String jobId, Account account);
 
-  void transferAccounts(List<Account> accounts, BursarJobPrameterDto bursarFeeFines);
+  void transferAccounts(Iterable<Account> accounts, BursarJobPrameterDto bursarFeeFines);
 
-  List<User> findUsers(List<String> patronGroups);
+  boolean hasUsers(List<String> patronGroups);
 
-  List<Account> findAccounts(Long outStandingDays, List<User> users);
+  List<User> findUsers(List<String> patronGroups, List<String> userIds);
+
+  /**
+   * Page of active users of the patron groups sorted by id, starting after {@code lastUserId} (from the first user when
+   * {@code null}).
+   */
+  List<User> findUsers(List<String> patronGroups, String lastUserId, long limit);
+
+  /**
+   * Page of outstanding accounts of the given users sorted by id, starting after {@code lastAccountId} (from the first
+   * account when {@code null}).
+   */
+  List<Account> findAccounts(Long outStandingDays, List<String> userIds, String lastAccountId, long limit);
 
   List<Feefineaction> findRefundedFeefineActions(List<String> accountIds);
 
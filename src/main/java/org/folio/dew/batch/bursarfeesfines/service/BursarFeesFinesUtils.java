@@ -20,6 +20,12 @@ public class BursarFeesFinesUtils {
 
   public static final String CHARGE_FEESFINES_EXPORT_STEP = "CHARGE_FEESFINES_EXPORT_STEP";
   public static final String REFUND_FEESFINES_EXPORT_STEP = "REFUND_FEESFINES_EXPORT_STEP";
+  public static final List<String> BURSAR_FIELD_NAMES = List.of(
+    "employeeId", "amount", "itemType", "transactionDate", "sfs", "termValue", "description");
+  public static final String BURSAR_LINE_FORMAT = "%11.11s%9.9s%12.12s%6.6s%3.3s%4.4s%30.30s";
+
+  private static final String ACCOUNTS_FILE_SUFFIX = "_accounts.csv";
+  private static final String ACCOUNT_FIELDS_SEPARATOR = ",";
 
   private static final Map<String, String> FILE_PATTERNS = new HashMap<>();
 
@@ -99,4 +105,31 @@ public class BursarFeesFinesUtils {
         .findFirst()
         .orElse(null);
   }
+
+  public static String getAccountsFilename(String tempOutputFilePath) {
+    return tempOutputFilePath + ACCOUNTS_FILE_SUFFIX;
+  }
+
+  /**
+   * Accounts selected by the charge step are kept as lines of the accounts file, each line holds only the fields needed
+   * by the refund and transfer steps: id, user id, owner id, fee/fine type id and remaining amount.
+   */
+  public static String toAccountLine(Account account) {
+    return String.join(ACCOUNT_FIELDS_SEPARATOR,
+      account.getId(),
+      StringUtils.defaultString(account.getUserId()),
+      StringUtils.defaultString(account.getOwnerId()),
+      StringUtils.defaultString(account.getFeeFineId()),
+      account.getRemaining() == null ? StringUtils.EMPTY : account.getRemaining().toPlainString());
+  }
+
+  public static Account fromAccountLine(String line) {
+    var fields = line.split(ACCOUNT_FIELDS_SEPARATOR, -1);
+    return new Account()
+      .id(fields[0])
+      .userId(StringUtils.defaultIfEmpty(fields[1], null))
+      .ownerId(StringUtils.defaultIfEmpty(fields[2], null))
+      .feeFineId(StringUtils.defaultIfEmpty(fields[3], null))
+      .remaining(StringUtils.isEmpty(fields[4]) ? BigDecimal.ZERO : new BigDecimal(fields[4]));
+  }
 }
@@ -9,13 +9,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiFunction;
 import java.util.stream.Collector;
 import joptsimple.internal.Strings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.dew.domain.dto.BursarFeeFinesTypeMapping;
 import org.folio.dew.batch.bursarfeesfines.service.BursarExportService;
@@ -32,6 +30,7 @@ import org.folio.dew.domain.dto.TransferdataCollection;
 import org.folio.dew.domain.dto.User;
 import org.folio.dew.domain.dto.bursarfeesfines.BursarJobPrameterDto;
 import org.folio.dew.domain.dto.bursarfeesfines.TransferRequest;
+import org.folio.dew.service.ParallelBatchFetcher;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -43,8 +42,11 @@ public class BursarExportServiceImpl implements BursarExportService {
   private static final String SERVICE_POINT_CODE = "system";
   private static final String DEFAULT_PAYMENT_METHOD = "Bursar";
   private static final String USER_NAME = "System";
-  private static final String ACCOUNT_QUERY = "userId==%s and remaining > 0.0 and metadata.createdDate<=%s";
+  private static final String ACCOUNT_QUERY = "userId==%s and remaining > 0.0 and metadata.createdDate<=%s%s sortby id";
   private static final String USER_QUERY = "(active==\"true\" and patronGroup==%s)";
+  private static final String USER_PAGE_QUERY = USER_QUERY + "%s sortby id";
+  private static final String AFTER_ID_CONDITION = " and id>\"%s\"";
+  private static final String USER_IDS_QUERY = "(active==\"true\" and patronGroup==%s and id==%s)";
   private static final String FEEFINE_QUERY = "(accountId==(%s) and (typeAction==(\"Refunded partially\" or \"Refunded fully\")))";
   private static final long DEFAULT_LIMIT = 10000L;
   private final Collector<CharSequence, ?, String> toQueryParameters = joining(" or ", "(", ")");
@@ -58,6 +60,7 @@ public class BursarExportServiceImpl implements BursarExportService {
   private final FeefineactionsClient feefineClient;
   private final TransferClient transferClient;
   private final ServicePointClient servicePointClient;
+  private final ParallelBatchFetcher batchFetcher;
   private final Map<String, Map<String, List<BursarFeeFinesTypeMapping>>> mapping = new ConcurrentHashMap<>();
 
 
@@ -89,68 +92,77 @@ public class BursarExportServiceImpl implements BursarExportService {
   }
 
   @Override
-  public void transferAccounts(List<Account> accounts, BursarJobPrameterDto bursarFeeFines) {
+  public void transferAccounts(Iterable<Account> accounts, BursarJobPrameterDto bursarFeeFines) {
     var transferRequest = toTransferRequest(accounts, bursarFeeFines);
     log.info("Creating {}.", transferRequest);
     bulkClient.transferAccount(transferRequest);
   }
 
   @Override
-  public List<User> findUsers(List<String> patronGroups) {
+  public boolean hasUsers(List<String> patronGroups) {
     if (patronGroups == null) {
       log.error("Can not create query for batch job, cause config parameters are null.");
-      return Collections.emptyList();
+      return false;
+    }
+    final String groupIds = patronGroups.stream().collect(toQueryParameters);
+    var userResponse = userClient.getUserByQuery(String.format(USER_QUERY, groupIds), 1);
+    if (userResponse == null || userResponse.getTotalRecords() == 0) {
+      log.error("There are no active users for patrons group(s) {}.", groupIds);
+      return false;
     }
-    return fetchDataInBatch(patronGroups, null, (nill, listParams) -> fetchUsers(listParams));
+    return true;
   }
 
   @Override
-  public List<Account> findAccounts(Long outStandingDays, List<User> users) {
-    if (outStandingDays == null) {
-      log.error("Can not create query for batch job, cause outStandingDays are null.");
+  public List<User> findUsers(List<String> patronGroups, List<String> userIds) {
+    if (patronGroups == null || userIds.isEmpty()) {
       return Collections.emptyList();
     }
-    return fetchDataInBatch(users, outStandingDays, (u, d) -> fetchAccounts(d, (Long) u));
+    final String groupIds = patronGroups.stream().collect(toQueryParameters);
+    return batchFetcher.fetch(userIds, bucketSize, ids -> fetchUsers(groupIds, ids));
   }
 
   @Override
-  public List<Feefineaction> findRefundedFeefineActions(List<String> accountIds) {
-    if (accountIds.isEmpty()) {
+  public List<User> findUsers(List<String> patronGroups, String lastUserId, long limit) {
+    if (patronGroups == null) {
       return Collections.emptyList();
     }
-    return fetchDataInBatch(accountIds, null, (nill, paramList) -> fetchFeefineActions(paramList));
+    final String groupIds = patronGroups.stream().collect(toQueryParameters);
+    var userResponse = userClient.getUserByQuery(String.format(USER_PAGE_QUERY, groupIds, afterId(lastUserId)), limit);
+    return userResponse == null || userResponse.getUsers() == null ? Collections.emptyList() : userResponse.getUsers();
   }
 
-  private <T, P> List<T> fetchDataInBatch(
-      List<P> parameters, Object additionalParam, BiFunction<Object, List<P>, List<T>> client) {
-
-    if (parameters.size() <= bucketSize) {
-      log.debug("Fetch data by one call");
-      return client.apply(additionalParam, parameters);
+  @Override
+  public List<Account> findAccounts(Long outStandingDays, List<String> userIds, String lastAccountId, long limit) {
+    if (outStandingDays == null) {
+      log.error("Can not create query for batch job, cause outStandingDays are null.");
+      return Collections.emptyList();
     }
-
-    final List<List<P>> partition = ListUtils.partition(parameters, bucketSize);
-    log.debug("Fetch data in several calls, bucket count {}", partition::size);
-    return partition.stream()
-        .map(paramBucket -> client.apply(additionalParam, paramBucket))
-        .collect(ArrayList::new, List::addAll, List::addAll);
+    if (userIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+    var localDate = LocalDate.now().minusDays(outStandingDays);
+    var query = String.format(ACCOUNT_QUERY, userIds.stream().collect(toQueryParameters), localDate, afterId(lastAccountId));
+    var accounts = accountClient.getAccounts(query, limit);
+    return accounts == null || accounts.getAccounts() == null ? Collections.emptyList() : accounts.getAccounts();
   }
 
-  private List<User> fetchUsers(List<String> patronGroups) {
-    final String groupIds = patronGroups.stream().collect(toQueryParameters);
-    var userResponse = userClient.getUserByQuery(String.format(USER_QUERY, groupIds), DEFAULT_LIMIT);
-    if (userResponse == null || userResponse.getTotalRecords() == 0) {
-      log.error("There are no active users for patrons group(s) {}.", groupIds);
+  @Override
+  public List<Feefineaction> findRefundedFeefineActions(List<String> accountIds) {
+    if (accountIds.isEmpty()) {
       return Collections.emptyList();
     }
-    return userResponse.getUsers();
+    return batchFetcher.fetch(accountIds, bucketSize, this::fetchFeefineActions);
   }
 
-  private List<Account> fetchAccounts(List<User> users, Long outStandingDays) {
-    var localDate = LocalDate.now().minusDays(outStandingDays);
-    final String userIdsAsParameter = users.stream().map(User::getId).collect(toQueryParameters);
-    var accountQuery = String.format(ACCOUNT_QUERY, userIdsAsParameter, localDate);
-    return accountClient.getAccounts(accountQuery, DEFAULT_LIMIT).getAccounts();
+  private static String afterId(String lastId) {
+    return lastId == null ? StringUtils.EMPTY : String.format(AFTER_ID_CONDITION, lastId);
+  }
+
+  private List<User> fetchUsers(String groupIds, List<String> userIds) {
+    final String ids = userIds.stream().collect(toQueryParameters);
+    var userResponse = userClient.getUserByQuery(String.format(USER_IDS_QUERY, groupIds, ids), userIds.size());
+    return userResponse == null || userResponse.getUsers() == null ? Collections.emptyList() : userResponse.getUsers();
   }
 
   private List<Feefineaction> fetchFeefineActions(List<String> accountIds) {
@@ -159,11 +171,7 @@ public class BursarExportServiceImpl implements BursarExportService {
     return feefineClient.getFeefineactions(query, DEFAULT_LIMIT).getFeefineactions();
   }
 
-  private TransferRequest toTransferRequest(List<Account> accounts, BursarJobPrameterDto bursarFeeFines) {
-    if (CollectionUtils.isEmpty(accounts)) {
-      throw new IllegalArgumentException("No accounts found to make transfer request for");
-    }
-
+  private TransferRequest toTransferRequest(Iterable<Account> accounts, BursarJobPrameterDto bursarFeeFines) {
     BigDecimal remainingAmount = BigDecimal.ZERO;
     List<String> accountIds = new ArrayList<>();
     for (Account account : accounts) {
@@ -171,11 +179,15 @@ public class BursarExportServiceImpl implements BursarExportService {
       accountIds.add(account.getId());
     }
 
+    if (accountIds.isEmpty()) {
+      throw new IllegalArgumentException("No accounts found to make transfer request for");
+    }
+
     if (remainingAmount.doubleValue() <= 0) {
       throw new IllegalArgumentException(
           String.format(
               "Transfer amount should be positive for account(s) %s",
-              StringUtils.join(accounts, ",")));
+              StringUtils.join(accountIds, ",")));
     }
 
     String paymentMethod;
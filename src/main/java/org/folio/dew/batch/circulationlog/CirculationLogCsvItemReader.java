@@ -1,28 +1,90 @@
 package org.folio.dew.batch.circulationlog;
 
-import org.folio.dew.batch.CsvItemReader;
+import static java.util.Objects.isNull;
+
 import org.folio.dew.client.AuditClient;
 import org.folio.dew.domain.dto.LogRecord;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
-public class CirculationLogCsvItemReader extends CsvItemReader<LogRecord> {
+/**
+ * Reads circulation log records of a date range partition page by page. Each page continues after the (date, id) of
+ * the last read record, so requests are always made with zero offset and their cost doesn't grow with the position.
+ * Records of a query sorted by other fields than date are read in a single partition and paged by offset.
+ */
+public class CirculationLogCsvItemReader extends AbstractItemCountingItemStreamItemReader<LogRecord> {
 
   private static final int QUANTITY_TO_RETRIEVE_PER_HTTP_REQUEST = 100;
 
   private final AuditClient auditClient;
-  private final String query;
+  private final CirculationLogQuery query;
+  private final String fromDate;
+  private final String toDate;
 
-  public CirculationLogCsvItemReader(AuditClient auditClient, String query, Long offset, Long limit) {
-    super(offset, limit, QUANTITY_TO_RETRIEVE_PER_HTTP_REQUEST);
+  private List<LogRecord> currentChunk = Collections.emptyList();
+  private int currentChunkOffset;
+  private boolean lastChunk;
+  private LogRecord lastRecord;
+  private int offset;
 
+  public CirculationLogCsvItemReader(AuditClient auditClient, String query, String fromDate, String toDate) {
     this.auditClient = auditClient;
-    this.query = query;
+    this.query = CirculationLogQuery.of(query);
+    this.fromDate = fromDate;
+    this.toDate = toDate;
+
+    setCurrentItemCount(0);
+    setSaveState(false);
+    setExecutionContextName(getClass().getSimpleName() + '_' + UUID.randomUUID());
   }
 
   @Override
-  protected List<LogRecord> getItems(int offset, int limit) {
-    return auditClient.getCirculationAuditLogs(query, offset, limit, null).getLogRecords();
+  protected LogRecord doRead() {
+    if (currentChunkOffset >= currentChunk.size()) {
+      if (lastChunk) {
+        return null;
+      }
+      currentChunk = getItems();
+      currentChunkOffset = 0;
+      lastChunk = currentChunk.size() < QUANTITY_TO_RETRIEVE_PER_HTTP_REQUEST;
+      if (currentChunk.isEmpty()) {
+        return null;
+      }
+    }
+
+    lastRecord = currentChunk.get(currentChunkOffset);
+    currentChunkOffset++;
+
+    return lastRecord;
   }
 
+  @Override
+  protected void doOpen() {
+    // Nothing to do
+  }
+
+  @Override
+  protected void doClose() {
+    // Nothing to do
+  }
+
+  private List<LogRecord> getItems() {
+    if (!query.isKeysetPaged()) {
+      var records = auditClient.getCirculationAuditLogs(query.whole(), offset, QUANTITY_TO_RETRIEVE_PER_HTTP_REQUEST, null)
+        .getLogRecords();
+      if (isNull(records)) {
+        return Collections.emptyList();
+      }
+      offset += records.size();
+      return records;
+    }
+    var pageQuery = isNull(lastRecord) ?
+      query.page(fromDate, toDate, null, null) :
+      query.page(fromDate, toDate, CirculationLogQuery.format(lastRecord.getDate()), lastRecord.getId());
+    var records = auditClient.getCirculationAuditLogs(pageQuery, 0, QUANTITY_TO_RETRIEVE_PER_HTTP_REQUEST, null).getLogRecords();
+    return isNull(records) ? Collections.emptyList() : records;
+  }
 }
@@ -1,23 +1,109 @@
 package org.folio.dew.batch.circulationlog;
 
-import org.folio.dew.batch.CsvPartitioner;
+import static java.util.Objects.isNull;
+
+import lombok.extern.log4j.Log4j2;
 import org.folio.dew.client.AuditClient;
+import org.folio.dew.domain.dto.JobParameterNames;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits circulation log records of the query into disjoint date ranges of about {@link #RECORDS_PER_PARTITION}
+ * records. The range between the first and the last record dates is divided into equal slices by the total count,
+ * slices holding more than twice the partition size are split further by their own count, empty slices are skipped.
+ * Partitions are numbered in the sort direction of the query, so composed parts keep the order of records. A query
+ * sorted by other fields than date is exported by a single partition.
+ */
+@Log4j2
+public class CirculationLogCsvPartitioner implements Partitioner {
+  public static final String PARTITION = "partition";
+  public static final String FROM_DATE = "fromDate";
+  public static final String TO_DATE = "toDate";
 
-public class CirculationLogCsvPartitioner extends CsvPartitioner {
+  static final int RECORDS_PER_PARTITION = 50000;
 
   private final AuditClient auditClient;
   private final String query;
+  private final CirculationLogQuery circulationLogQuery;
+  private final String outputFilePathTemplate;
 
-  public CirculationLogCsvPartitioner(Long offset, Long limit, String tempOutputFilePath, AuditClient auditClient, String query) {
-    super(offset, limit, tempOutputFilePath);
-
+  public CirculationLogCsvPartitioner(String tempOutputFilePath, AuditClient auditClient, String query) {
     this.auditClient = auditClient;
     this.query = query;
+    this.circulationLogQuery = CirculationLogQuery.of(query);
+    this.outputFilePathTemplate = tempOutputFilePath + "_%d.tmp";
   }
 
   @Override
-  protected Long getLimit() {
-    return Long.valueOf(auditClient.getCirculationAuditLogs(query, 0, 1, null).getTotalRecords());
+  public Map<String, ExecutionContext> partition(int gridSize) {
+    List<long[]> ranges = new ArrayList<>();
+    var total = circulationLogQuery.isKeysetPaged() ?
+      auditClient.getCirculationAuditLogs(query, 0, 1, null).getTotalRecords() : null;
+    if (!isNull(total) && total > RECORDS_PER_PARTITION) {
+      var first = getFirstDate(true);
+      var last = getFirstDate(false);
+      if (!isNull(first) && !isNull(last)) {
+        split(first.getTime(), last.getTime() + 1, total, ranges);
+      }
+    }
+    if (circulationLogQuery.isDescending()) {
+      Collections.reverse(ranges);
+    }
+
+    Map<String, ExecutionContext> result = new LinkedHashMap<>();
+    if (ranges.isEmpty()) {
+      result.put("Partition_0", createExecutionContext(0, null, null));
+    }
+    for (var i = 0; i < ranges.size(); i++) {
+      var range = ranges.get(i);
+      result.put("Partition_" + i, createExecutionContext(i, new Date(range[0]), new Date(range[1])));
+    }
+    return result;
+  }
+
+  private void split(long from, long to, long count, List<long[]> ranges) {
+    var slices = Math.max(1, (count + RECORDS_PER_PARTITION - 1) / RECORDS_PER_PARTITION);
+    var step = Math.max(1, (to - from + slices - 1) / slices);
+    for (var sliceFrom = from; sliceFrom < to; sliceFrom += step) {
+      var sliceTo = Math.min(to, sliceFrom + step);
+      var sliceCount = count(sliceFrom, sliceTo);
+      if (sliceCount > 2L * RECORDS_PER_PARTITION && sliceTo - sliceFrom > 1 && sliceCount < count) {
+        split(sliceFrom, sliceTo, sliceCount, ranges);
+      } else if (sliceCount > 0) {
+        ranges.add(new long[] { sliceFrom, sliceTo });
+      }
+    }
+  }
+
+  private long count(long from, long to) {
+    var range = circulationLogQuery.range(CirculationLogQuery.format(new Date(from)), CirculationLogQuery.format(new Date(to)));
+    var totalRecords = auditClient.getCirculationAuditLogs(range, 0, 1, null).getTotalRecords();
+    return isNull(totalRecords) ? 0 : totalRecords;
   }
 
+  private Date getFirstDate(boolean ascending) {
+    var records = auditClient.getCirculationAuditLogs(circulationLogQuery.first(ascending), 0, 1, null).getLogRecords();
+    return isNull(records) || records.isEmpty() ? null : records.get(0).getDate();
+  }
+
+  private ExecutionContext createExecutionContext(int partition, Date fromDate, Date toDate) {
+    var tempOutputFilePath = String.format(outputFilePathTemplate, partition);
+    var executionContext = new ExecutionContext();
+    executionContext.putLong(PARTITION, partition);
+    executionContext.putString(JobParameterNames.TEMP_OUTPUT_FILE_PATH, tempOutputFilePath);
+    if (!isNull(fromDate)) {
+      executionContext.putString(FROM_DATE, CirculationLogQuery.format(fromDate));
+      executionContext.putString(TO_DATE, CirculationLogQuery.format(toDate));
+    }
+    log.info("Partition {}: dates [{}, {}), tempOutputFilePath {}.", partition, fromDate, toDate, tempOutputFilePath);
+    return executionContext;
+  }
 }
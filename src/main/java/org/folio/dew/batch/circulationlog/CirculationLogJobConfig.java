@@ -7,11 +7,14 @@ import org.folio.dew.batch.CsvFileAssembler;
 import org.folio.dew.batch.CsvPartStepExecutionListener;
 import org.folio.dew.batch.CsvWriter;
 import org.folio.dew.batch.JobCompletionNotificationListener;
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.client.AuditClient;
 import org.folio.dew.domain.dto.CirculationLogExportFormat;
 import org.folio.dew.domain.dto.ExportType;
 import org.folio.dew.domain.dto.LogRecord;
 import org.folio.dew.repository.RemoteFilesStorage;
+import org.folio.dew.repository.S3CompatibleStorage;
+import org.folio.dew.repository.StagingFilesStorage;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -35,6 +38,7 @@ public class CirculationLogJobConfig {
 
   private final AuditClient auditClient;
   private final RemoteFilesStorage remoteFilesStorage;
+  private final StagingFilesStorage stagingFilesStorage;
 
   @Bean
   public Job getCirculationLogJob(
@@ -59,7 +63,7 @@ public class CirculationLogJobConfig {
       JobRepository jobRepository) {
     return new StepBuilder("getCirculationLogChunkStep", jobRepository)
         .partitioner("getCirculationLogPartStep", partitioner)
-//        .taskExecutor(taskExecutor) // At the moment, async mode does not work correctly.
+        .taskExecutor(taskExecutor)
         .step(getCirculationLogPartStep)
         .aggregator(csvFileAssembler)
         .build();
@@ -68,19 +72,18 @@ public class CirculationLogJobConfig {
   @Bean
   @StepScope
   public CirculationLogCsvPartitioner getCirculationLogPartitioner(
-      @Value("#{jobParameters['offset']}") Long offset,
-      @Value("#{jobParameters['limit']}") Long limit,
       @Value("#{jobParameters['tempOutputFilePath']}") String tempOutputFilePath,
       @Value("#{jobParameters['query']}") String query) {
-    return new CirculationLogCsvPartitioner(offset, limit, tempOutputFilePath, auditClient, query);
+    return new CirculationLogCsvPartitioner(tempOutputFilePath, auditClient, query);
   }
 
   @Bean("getCirculationLogPartStep")
   public Step getCirculationLogPartStep(
       CirculationLogCsvItemReader circulationLogCsvItemReader,
-      @Qualifier("circulationLog") AbstractStorageStreamWriter<CirculationLogExportFormat, RemoteFilesStorage> flatFileItemWriter,
+      @Qualifier("circulationLog") AbstractStorageStreamWriter<CirculationLogExportFormat, S3CompatibleStorage> flatFileItemWriter,
       CirculationLogItemProcessor circulationLogItemProcessor,
       CsvPartStepExecutionListener csvPartStepExecutionListener,
+      StepMetricsListener stepMetricsListener,
       JobRepository jobRepository,
       PlatformTransactionManager transactionManager) {
     return new StepBuilder("getCirculationLogPartStep", jobRepository)
@@ -88,6 +91,7 @@ public class CirculationLogJobConfig {
         .reader(circulationLogCsvItemReader)
         .processor(circulationLogItemProcessor)
         .writer(flatFileItemWriter)
+        .listener(stepMetricsListener)
         .faultTolerant()
         .allowStartIfComplete(false)
         .throttleLimit(NUMBER_OF_CONCURRENT_TASK_EXECUTIONS)
@@ -99,19 +103,21 @@ public class CirculationLogJobConfig {
   @StepScope
   public CirculationLogCsvItemReader reader(
       @Value("#{jobParameters['query']}") String query,
-      @Value("#{stepExecutionContext['offset']}") Long offset,
-      @Value("#{stepExecutionContext['limit']}") Long limit) {
-    return new CirculationLogCsvItemReader(auditClient, query, offset, limit);
+      @Value("#{stepExecutionContext['fromDate']}") String fromDate,
+      @Value("#{stepExecutionContext['toDate']}") String toDate) {
+    return new CirculationLogCsvItemReader(auditClient, query, fromDate, toDate);
   }
 
   @Bean("circulationLog")
   @StepScope
-  public AbstractStorageStreamWriter<CirculationLogExportFormat, RemoteFilesStorage> writer(
-      @Value("#{stepExecutionContext['tempOutputFilePath']}") String tempOutputFilePath) {
+  public AbstractStorageStreamWriter<CirculationLogExportFormat, S3CompatibleStorage> writer(
+      @Value("#{stepExecutionContext['tempOutputFilePath']}") String tempOutputFilePath,
+      @Value("#{stepExecutionContext['partition']}") Long partition) {
+    // Parts are composed in partition order, so only the first one starts with the header
     return new CsvWriter<>(tempOutputFilePath,
-      "User barcode,Item barcode,Object,Circ action,Date,Service point,Source,Description",
+      partition == 0 ? "User barcode,Item barcode,Object,Circ action,Date,Service point,Source,Description" : null,
       new String[]{"userBarcode", "items", "objectField", "action", "date", "servicePointId", "source", "description"},
-      (field, i) -> field, remoteFilesStorage);
+      (field, i) -> field, stagingFilesStorage.orElse(remoteFilesStorage));
   }
 
 }
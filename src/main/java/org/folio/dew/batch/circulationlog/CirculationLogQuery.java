@@ -0,0 +1,125 @@
+package org.folio.dew.batch.circulationlog;
+
+import static java.util.Objects.isNull;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.regex.Pattern;
+
+/**
+ * Builds CQL queries of the circulation log export: the query of the job without sorting is restricted to the date
+ * range of the partition and paged by the (date, id) key in the sort direction of the job query (date ascending by
+ * default), so pages never overlap and each page is fetched with zero offset. A job query sorted by anything other
+ * than date can't be paged by the key, it is kept whole and paged by offset.
+ */
+final class CirculationLogQuery {
+  private static final String ALL_RECORDS = "cql.allRecords=1";
+  private static final Pattern SORT_BY = Pattern.compile("(?i)\\s+sortby\\s+.*$|^\\s*sortby\\s+.*$");
+  private static final Pattern DATE_SORT = Pattern.compile("(?i)sortby\\s+date(\\s*/\\s*sort\\.(ascending|descending))?");
+  private static final Pattern DATE_DESCENDING = Pattern.compile("(?i)sortby\\s+date\\s*/\\s*sort\\.descending");
+  private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSxxx")
+    .withZone(ZoneOffset.UTC);
+
+  private final String criteria;
+  private final String sortBy;
+  private final boolean descending;
+
+  private CirculationLogQuery(String criteria, String sortBy, boolean descending) {
+    this.criteria = criteria;
+    this.sortBy = sortBy;
+    this.descending = descending;
+  }
+
+  static CirculationLogQuery of(String query) {
+    var matcher = SORT_BY.matcher(StringUtils.defaultString(query));
+    if (!matcher.find()) {
+      return new CirculationLogQuery(StringUtils.trimToEmpty(query), null, false);
+    }
+    var criteria = StringUtils.trimToEmpty(query.substring(0, matcher.start()));
+    var sortBy = matcher.group().trim();
+    if (DATE_SORT.matcher(sortBy).matches()) {
+      return new CirculationLogQuery(criteria, null, DATE_DESCENDING.matcher(sortBy).find());
+    }
+    return new CirculationLogQuery(criteria, sortBy, false);
+  }
+
+  boolean isDescending() {
+    return descending;
+  }
+
+  /**
+   * @return true if records of the query are sorted by date only, so they can be split by date ranges and paged by the
+   * (date, id) key
+   */
+  boolean isKeysetPaged() {
+    return isNull(sortBy);
+  }
+
+  /**
+   * @return query of all records in the sort order of the job query, used if the query is not keyset paged
+   */
+  String whole() {
+    var conditions = build(null, null, null, null, false);
+    return isNull(sortBy) ? conditions : conditions + " " + sortBy;
+  }
+
+  static String format(Date date) {
+    return DATE_FORMAT.format(date.toInstant());
+  }
+
+  /**
+   * @param fromDate - inclusive lower bound of dates or null
+   * @param toDate - exclusive upper bound of dates or null
+   * @return query of records within the date range, without sorting
+   */
+  String range(String fromDate, String toDate) {
+    return build(fromDate, toDate, null, null, false);
+  }
+
+  /**
+   * @param ascending - direction of sorting by date
+   * @return query of the first record by date in the direction
+   */
+  String first(boolean ascending) {
+    return build(null, null, null, null, false) + " sortby date/sort." + (ascending ? "ascending" : "descending");
+  }
+
+  /**
+   * @param fromDate - inclusive lower bound of dates or null
+   * @param toDate - exclusive upper bound of dates or null
+   * @param lastDate - date of the last read record or null for the first page
+   * @param lastId - id of the last read record or null for the first page
+   * @return query of the page following the last read record, sorted by date and id
+   */
+  String page(String fromDate, String toDate, String lastDate, String lastId) {
+    var direction = descending ? "sort.descending" : "sort.ascending";
+    return build(fromDate, toDate, lastDate, lastId, true) + " sortby date/" + direction + " id/" + direction;
+  }
+
+  private String build(String fromDate, String toDate, String lastDate, String lastId, boolean keyset) {
+    var conditions = new ArrayList<String>();
+    if (StringUtils.isNotBlank(criteria)) {
+      conditions.add("(" + criteria + ")");
+    }
+    if (!isNull(fromDate)) {
+      conditions.add("date>=" + quote(fromDate));
+    }
+    if (!isNull(toDate)) {
+      conditions.add("date<" + quote(toDate));
+    }
+    if (keyset && !isNull(lastDate)) {
+      var operator = descending ? "<" : ">";
+      conditions.add("(date" + operator + quote(lastDate) + " or (date==" + quote(lastDate) + " and id" + operator
+        + quote(lastId) + "))");
+    }
+    return conditions.isEmpty() ? ALL_RECORDS : String.join(" and ", conditions);
+  }
+
+  private static String quote(String value) {
+    return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+}
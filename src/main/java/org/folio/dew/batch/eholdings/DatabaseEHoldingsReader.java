@@ -6,6 +6,7 @@ import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.de.entity.EHoldingsResource;
 import org.folio.dew.config.properties.EHoldingsJobProperties;
+import org.folio.dew.domain.dto.EHoldingsExportConfig;
 import org.folio.dew.domain.dto.eholdings.EHoldingsResourceDTO;
 import org.folio.dew.repository.EHoldingsResourceRepository;
 import org.springframework.batch.core.StepExecution;
@@ -18,13 +19,16 @@ import org.springframework.stereotype.Component;
 public class DatabaseEHoldingsReader extends AbstractEHoldingsReader<EHoldingsResourceDTO> {
   private Long jobExecutionId;
   private final EHoldingsResourceRepository resourceRepository;
+  private final EHoldingsResourceProjection projection;
 
   private int totalResources;
 
   protected DatabaseEHoldingsReader(EHoldingsResourceRepository resourceRepository,
-                                    EHoldingsJobProperties jobProperties) {
+                                    EHoldingsJobProperties jobProperties,
+                                    EHoldingsExportConfig exportConfig) {
     super(null, 1L, jobProperties.getJobChunkSize());
     this.resourceRepository = resourceRepository;
+    this.projection = new EHoldingsResourceProjection(exportConfig.getTitleFields());
   }
 
   @BeforeStep
@@ -46,7 +50,8 @@ public class DatabaseEHoldingsReader extends AbstractEHoldingsReader<EHoldingsRe
       resourceId = resourceAttributes.getPackageId() + '-' + resourceAttributes.getTitleId();
     }
 
-    eHoldingsResources = resourceRepository.seek(resourceName, resourceId, jobExecutionId, limit);
+    eHoldingsResources = resourceRepository.seek(resourceName, resourceId, jobExecutionId, limit,
+      projection.getAttributes(), projection.isWithIncluded(), projection.isWithNotes(), projection.isWithAgreements());
     return EHoldingsResourceMapper.convertToDTO(eHoldingsResources);
   }
 
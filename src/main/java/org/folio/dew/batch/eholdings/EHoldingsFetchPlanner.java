@@ -0,0 +1,98 @@
+package org.folio.dew.batch.eholdings;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.folio.dew.client.KbEbscoClient;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits titles of a package into slices which can be fetched independently from kb-ebsco. kb-ebsco can't page past
+ * {@link EHoldingsItemReader#MAX_RETRIEVABLE_RESULTS} titles of a search, so a search with more titles is narrowed by
+ * the publication type facet and then by the selection status facet (facets already used by the search are skipped).
+ * Facet values are disjoint, so slices never contain the same title. Slices which still exceed the cap are fetched
+ * partially and reported in the log.
+ */
+@Log4j2
+@Component
+public class EHoldingsFetchPlanner {
+  static final String TYPE_FILTER = "filter[type]";
+  static final String SELECTED_FILTER = "filter[selected]";
+
+  private static final Map<String, List<String>> FACETS = new LinkedHashMap<>();
+
+  static {
+    FACETS.put(TYPE_FILTER, List.of("audiobook", "book", "bookseries", "database", "journal", "newsletter", "newspaper",
+      "proceedings", "report", "streamingaudio", "streamingvideo", "thesisdissertation", "website", "unspecified"));
+    FACETS.put(SELECTED_FILTER, List.of("true", "false"));
+  }
+
+  private final KbEbscoClient kbEbscoClient;
+
+  public EHoldingsFetchPlanner(KbEbscoClient kbEbscoClient) {
+    this.kbEbscoClient = kbEbscoClient;
+  }
+
+  /**
+   * @param packageId - id of the package
+   * @param filters - search filters of titles
+   * @param maxSliceSize - max number of titles which can be fetched by one search
+   * @return non-empty slices with their search filters and number of titles
+   */
+  public List<Slice> plan(String packageId, String filters, int maxSliceSize) {
+    var slices = new ArrayList<Slice>();
+    var facets = FACETS.keySet().stream()
+      .filter(facet -> !filters.contains(facet + "="))
+      .toList();
+    split(packageId, filters, count(packageId, filters), facets, maxSliceSize, slices);
+    return slices;
+  }
+
+  private void split(String packageId, String filters, int total, List<String> facets, int maxSliceSize,
+                     List<Slice> slices) {
+    if (total <= maxSliceSize) {
+      if (total > 0) {
+        slices.add(new Slice(filters, total));
+      }
+      return;
+    }
+    if (facets.isEmpty()) {
+      log.warn("Titles search {} of package {} can't be split further, only {} of {} titles will be exported",
+        filters, packageId, maxSliceSize, total);
+      slices.add(new Slice(filters, maxSliceSize));
+      return;
+    }
+
+    var facet = facets.get(0);
+    var remainingFacets = facets.subList(1, facets.size());
+    var matched = 0;
+    for (var value : FACETS.get(facet)) {
+      var sliceFilters = filters + "&" + facet + "=" + value;
+      var sliceTotal = count(packageId, sliceFilters);
+      matched += sliceTotal;
+      split(packageId, sliceFilters, sliceTotal, remainingFacets, maxSliceSize, slices);
+    }
+    if (matched < total) {
+      log.warn("{} of {} titles of search {} of package {} don't match any value of {}", total - matched, total,
+        filters, packageId, facet);
+    }
+  }
+
+  private int count(String packageId, String filters) {
+    var parameters = kbEbscoClient.constructParams(1, 1, filters);
+    var totalResults = kbEbscoClient.getResourcesByPackageId(packageId, parameters).getMeta().getTotalResults();
+    return totalResults == null ? 0 : totalResults;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Slice {
+    private final String filters;
+    private final int total;
+  }
+}
@@ -5,7 +5,6 @@ import static org.folio.dew.client.KbEbscoClient.ACCESS_TYPE;
 import static org.folio.dew.domain.dto.EHoldingsExportConfig.RecordTypeEnum.PACKAGE;
 import static org.folio.dew.domain.dto.EHoldingsExportConfig.RecordTypeEnum.RESOURCE;
 
-import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -19,6 +18,7 @@ import org.folio.dew.domain.dto.eholdings.EHoldingsResourceDTO;
 import org.folio.dew.domain.dto.eholdings.ResourcesData;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -27,7 +27,7 @@ public class EHoldingsItemReader extends AbstractItemCountingItemStreamItemReade
 
   static final int MAX_RETRIEVABLE_RESULTS = 9_999;
 
-  private int limit;
+  private final int limit;
   private int page;
 
   private List<EHoldingsResourceDTO> currentChunk;
@@ -37,10 +37,13 @@ public class EHoldingsItemReader extends AbstractItemCountingItemStreamItemReade
   private final RecordTypeEnum recordType;
   private final List<String> titleFields;
   private final String titleSearchFilters;
+  private final Integer sliceTotalResults;
   private final String recordId;
 
   protected EHoldingsItemReader(KbEbscoClient kbEbscoClient, EHoldingsExportConfig exportConfig,
-                                EHoldingsJobProperties jobProperties) {
+                                EHoldingsJobProperties jobProperties,
+                                @Value("#{stepExecutionContext['sliceTitleSearchFilters']}") String sliceTitleSearchFilters,
+                                @Value("#{stepExecutionContext['sliceTotalResults']}") Integer sliceTotalResults) {
     this.page = 1;
     this.limit = jobProperties.getKbEbscoChunkSize();
 
@@ -52,14 +55,26 @@ public class EHoldingsItemReader extends AbstractItemCountingItemStreamItemReade
     this.recordId = exportConfig.getRecordId();
     this.recordType = exportConfig.getRecordType();
     this.titleFields = exportConfig.getTitleFields();
-    this.titleSearchFilters = exportConfig.getTitleSearchFilters() + "&sort=name";
+    this.titleSearchFilters = sliceTitleSearchFilters == null ? getTitleSearchFilters(exportConfig) : sliceTitleSearchFilters;
+    this.sliceTotalResults = sliceTotalResults;
+  }
+
+  static String getTitleSearchFilters(EHoldingsExportConfig exportConfig) {
+    return exportConfig.getTitleSearchFilters() + "&sort=name";
+  }
+
+  /**
+   * @param limit - number of titles requested per page
+   * @return max number of titles which can be fetched by one search with pages of the limit
+   */
+  static int getMaxRetrievableResults(int limit) {
+    return MAX_RETRIEVABLE_RESULTS / limit * limit;
   }
 
   @Override
   protected EHoldingsResourceDTO doRead() {
     if (currentChunk == null || currentChunkOffset >= currentChunk.size()) {
-      currentChunk = getItems(page, limit);
-      updatePaging();
+      currentChunk = getItems(page++, limit);
       currentChunkOffset = 0;
     }
 
@@ -108,6 +123,9 @@ public class EHoldingsItemReader extends AbstractItemCountingItemStreamItemReade
       if (CollectionUtils.isEmpty(titleFields)) {
         return 1;
       }
+      if (sliceTotalResults != null) {
+        return Math.min(sliceTotalResults, getMaxRetrievableResults(limit));
+      }
       var parameters = kbEbscoClient.constructParams(1, 1, titleSearchFilters);
       var resources = kbEbscoClient.getResourcesByPackageId(recordId, parameters);
       var totalResults = resources.getMeta().getTotalResults();
@@ -123,26 +141,12 @@ public class EHoldingsItemReader extends AbstractItemCountingItemStreamItemReade
     if (totalResults <= 0) {
       return 1;
     }
-    if (totalResults > MAX_RETRIEVABLE_RESULTS) {
-      return MAX_RETRIEVABLE_RESULTS;
+    if (totalResults > getMaxRetrievableResults(limit)) {
+      return getMaxRetrievableResults(limit);
     }
     return totalResults;
   }
 
-  /**
-   * In case page * limit exceeds maximum retrievable results from kb - updates page, limit to retrieve up to retrievable
-   * */
-  private void updatePaging() {
-    var plannedResults = ++page * limit;
-    if (plannedResults <= MAX_RETRIEVABLE_RESULTS) {
-      return;
-    }
-
-    var alreadyRetrieved = (page - 1) * limit;
-    limit = BigInteger.valueOf(MAX_RETRIEVABLE_RESULTS).gcd(BigInteger.valueOf(alreadyRetrieved)).intValue();
-    page = alreadyRetrieved / limit + 1;
-  }
-
   private List<EHoldingsResourceDTO> getEHoldingsResources(List<ResourcesData> resourcesData) {
     return resourcesData.stream()
       .map(data -> EHoldingsResourceDTO.builder()
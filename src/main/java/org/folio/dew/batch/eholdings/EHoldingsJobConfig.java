@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.dew.batch.JobCompletionNotificationListener;
+import org.folio.dew.batch.PartitionJobScopeListener;
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.config.properties.EHoldingsJobProperties;
 import org.folio.dew.domain.dto.EHoldingsExportConfig;
 import org.folio.dew.domain.dto.ExportType;
@@ -20,17 +22,14 @@ import org.springframework.batch.core.listener.ExecutionContextPromotionListener
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.support.CompositeItemProcessor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.List;
-
 import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.CONTEXT_MAX_PACKAGE_NOTES_COUNT;
-import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.CONTEXT_MAX_TITLE_NOTES_COUNT;
 
 @Log4j2
 @Configuration
@@ -72,30 +71,46 @@ public class EHoldingsJobConfig {
   }
 
   @Bean("getEHoldingsStep")
-  public Step getEHoldingsStep(@Qualifier("eHoldingsItemProcessor")
-                               ItemProcessor<EHoldingsResourceDTO, EHoldingsResourceDTO> processor,
-                               @Qualifier("getEHoldingsPromotionListener")
-                               ExecutionContextPromotionListener getEHoldingsPromotionListener,
-                               EHoldingsItemReader eHoldingsItemReader,
-                               GetEHoldingsWriter getEHoldingsWriter,
-                               EHoldingsNoteItemProcessor eHoldingsNoteItemProcessor,
-                               JobRepository jobRepository,
-                               PlatformTransactionManager transactionManager) {
+  public Step getEHoldingsStep(@Qualifier("getEHoldingsPartStep") Step getEHoldingsPartStep,
+                               EHoldingsPartitioner partitioner,
+                               @Qualifier("asyncTaskExecutor") TaskExecutor taskExecutor,
+                               JobRepository jobRepository) {
     return new StepBuilder("getEHoldingsStep", jobRepository)
+      .partitioner("getEHoldingsPartStep", partitioner)
+      .taskExecutor(taskExecutor)
+      .step(getEHoldingsPartStep)
+      .build();
+  }
+
+  @Bean("getEHoldingsPartStep")
+  public Step getEHoldingsPartStep(EHoldingsItemReader eHoldingsItemReader,
+                                   GetEHoldingsWriter getEHoldingsWriter,
+                                   PartitionJobScopeListener partitionJobScopeListener,
+                                   StepMetricsListener stepMetricsListener,
+                                   JobRepository jobRepository,
+                                   PlatformTransactionManager transactionManager) {
+    return new StepBuilder("getEHoldingsPartStep", jobRepository)
       .<EHoldingsResourceDTO, EHoldingsResourceDTO>chunk(jobProperties.getJobChunkSize(), transactionManager)
       .reader(eHoldingsItemReader)
-      .processor(processor)
       .writer(getEHoldingsWriter)
-      .listener(eHoldingsNoteItemProcessor)
-      .listener(getEHoldingsPromotionListener)
+      .listener(stepMetricsListener)
+      .listener(partitionJobScopeListener)
       .build();
   }
 
+  @Bean
+  @StepScope
+  public EHoldingsPartitioner eHoldingsPartitioner(EHoldingsFetchPlanner fetchPlanner, EHoldingsExportConfig exportConfig) {
+    return new EHoldingsPartitioner(fetchPlanner, exportConfig,
+      EHoldingsItemReader.getMaxRetrievableResults(jobProperties.getKbEbscoChunkSize()));
+  }
+
   @Bean("saveEHoldingsStep")
   public Step saveEHoldingsStep(DatabaseEHoldingsReader databaseEHoldingsReader,
                                 EHoldingsCsvFileWriter flatFileItemWriter,
                                 EHoldingsStepListener eHoldingsStepListener,
                                 ItemProcessor<EHoldingsResourceDTO, EHoldingsResourceExportFormat> resourceProcessor,
+                                StepMetricsListener stepMetricsListener,
                                 JobRepository jobRepository,
                                 PlatformTransactionManager transactionManager) {
     return new StepBuilder("saveEHoldingsStep", jobRepository)
@@ -103,6 +118,7 @@ public class EHoldingsJobConfig {
       .reader(databaseEHoldingsReader)
       .processor(resourceProcessor)
       .writer(flatFileItemWriter)
+      .listener(stepMetricsListener)
       .listener(eHoldingsStepListener)
       .build();
   }
@@ -123,14 +139,6 @@ public class EHoldingsJobConfig {
     return listener;
   }
 
-  @StepScope
-  @Bean("getEHoldingsPromotionListener")
-  public ExecutionContextPromotionListener getEHoldingsPromotionListener() {
-    var listener = new ExecutionContextPromotionListener();
-    listener.setKeys(new String[] {CONTEXT_MAX_TITLE_NOTES_COUNT});
-    return listener;
-  }
-
   @JobScope
   @Bean("eHoldingsExportConfig")
   public EHoldingsExportConfig exportConfig(
@@ -138,16 +146,6 @@ public class EHoldingsJobConfig {
     return objectMapper.readValue(exportConfigStr, EHoldingsExportConfig.class);
   }
 
-  @StepScope
-  @Bean("eHoldingsItemProcessor")
-  public ItemProcessor<EHoldingsResourceDTO, EHoldingsResourceDTO> itemProcessor(
-    EHoldingsAgreementItemProcessor eHoldingsAgreementItemProcessor,
-    EHoldingsNoteItemProcessor eHoldingsNoteItemProcessor) {
-    var itemProcessor = new CompositeItemProcessor<EHoldingsResourceDTO, EHoldingsResourceDTO>();
-    itemProcessor.setDelegates(List.of(eHoldingsNoteItemProcessor, eHoldingsAgreementItemProcessor));
-    return itemProcessor;
-  }
-
   @Bean("eHoldingsResourceProcessor")
   public ItemProcessor<EHoldingsResourceDTO, EHoldingsResourceExportFormat> resourceProcessor(
     EHoldingsToExportFormatMapper mapper) {
@@ -16,4 +16,6 @@ public final class EHoldingsJobConstants {
   public static final String CONTEXT_MAX_TITLE_NOTES_COUNT = "titleMaxNotesCount";
   public static final String CONTEXT_TOTAL_PACKAGES = "totalPackages";
   public static final String CONTEXT_TOTAL_RESOURCES = "totalResources";
+  public static final String CONTEXT_SLICE_TITLE_SEARCH_FILTERS = "sliceTitleSearchFilters";
+  public static final String CONTEXT_SLICE_TOTAL_RESULTS = "sliceTotalResults";
 }
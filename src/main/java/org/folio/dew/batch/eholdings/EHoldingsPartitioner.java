@@ -0,0 +1,57 @@
+package org.folio.dew.batch.eholdings;
+
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.CONTEXT_SLICE_TITLE_SEARCH_FILTERS;
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.CONTEXT_SLICE_TOTAL_RESULTS;
+import static org.folio.dew.domain.dto.EHoldingsExportConfig.RecordTypeEnum.PACKAGE;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections.CollectionUtils;
+import org.folio.dew.domain.dto.EHoldingsExportConfig;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates a partition per slice of package titles planned by {@link EHoldingsFetchPlanner}. Exports of a single
+ * resource or of a package without titles are executed by one partition, which fetches as before.
+ */
+@Log4j2
+public class EHoldingsPartitioner implements Partitioner {
+
+  private final EHoldingsFetchPlanner fetchPlanner;
+  private final EHoldingsExportConfig exportConfig;
+  private final int maxSliceSize;
+
+  public EHoldingsPartitioner(EHoldingsFetchPlanner fetchPlanner, EHoldingsExportConfig exportConfig, int maxSliceSize) {
+    this.fetchPlanner = fetchPlanner;
+    this.exportConfig = exportConfig;
+    this.maxSliceSize = maxSliceSize;
+  }
+
+  @Override
+  public Map<String, ExecutionContext> partition(int gridSize) {
+    Map<String, ExecutionContext> result = new HashMap<>();
+    if (exportConfig.getRecordType() != PACKAGE || CollectionUtils.isEmpty(exportConfig.getTitleFields())) {
+      result.put("Partition_0", new ExecutionContext());
+      return result;
+    }
+
+    var filters = EHoldingsItemReader.getTitleSearchFilters(exportConfig);
+    var slices = fetchPlanner.plan(exportConfig.getRecordId(), filters, maxSliceSize);
+    if (slices.isEmpty()) {
+      slices = List.of(new EHoldingsFetchPlanner.Slice(filters, 0));
+    }
+    for (var i = 0; i < slices.size(); i++) {
+      var slice = slices.get(i);
+      var executionContext = new ExecutionContext();
+      executionContext.putString(CONTEXT_SLICE_TITLE_SEARCH_FILTERS, slice.getFilters());
+      executionContext.putInt(CONTEXT_SLICE_TOTAL_RESULTS, slice.getTotal());
+      result.put("Partition_" + i, executionContext);
+      log.info("Partition {}: filters {}, titles {}.", i, slice.getFilters(), slice.getTotal());
+    }
+    return result;
+  }
+}
@@ -0,0 +1,113 @@
+package org.folio.dew.batch.eholdings;
+
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.LOAD_FIELD_TITLE_AGREEMENTS;
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.LOAD_FIELD_TITLE_NOTES;
+import static org.folio.dew.client.AgreementClient.getFiltersParam;
+import static org.folio.dew.client.NotesClient.NoteLinkDomain.EHOLDINGS;
+import static org.folio.dew.client.NotesClient.NoteLinkType.RESOURCE;
+
+import lombok.extern.log4j.Log4j2;
+import org.folio.dew.client.AgreementClient;
+import org.folio.dew.client.NotesClient;
+import org.folio.dew.domain.dto.EHoldingsExportConfig;
+import org.folio.dew.domain.dto.eholdings.EHoldingsResourceDTO;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads notes and agreements of the resources of a chunk. Requests of the whole chunk are executed concurrently by the
+ * bounded pool shared by all eHoldings exports and are rate limited per tenant; a throttled request is handed to the
+ * pool only when its time slot comes, so it doesn't hold a pool thread other tenants could use. The calling thread
+ * waits until all of them are completed. A failed request is logged and leaves the notes or agreements of its resource
+ * empty, so other resources of the chunk are still exported.
+ */
+@Log4j2
+@Component
+@StepScope
+public class EHoldingsResourceEnricher {
+
+  private final NotesClient notesClient;
+  private final AgreementClient agreementClient;
+  private final ThreadPoolTaskExecutor taskExecutor;
+  private final TenantRateLimiter rateLimiter;
+  private final FolioExecutionContext folioExecutionContext;
+  private final boolean loadResourceNotes;
+  private final boolean loadResourceAgreements;
+
+  public EHoldingsResourceEnricher(NotesClient notesClient,
+                                   AgreementClient agreementClient,
+                                   @Qualifier("eHoldingsEnrichmentTaskExecutor") ThreadPoolTaskExecutor taskExecutor,
+                                   TenantRateLimiter rateLimiter,
+                                   FolioExecutionContext folioExecutionContext,
+                                   EHoldingsExportConfig exportConfig) {
+    this.notesClient = notesClient;
+    this.agreementClient = agreementClient;
+    this.taskExecutor = taskExecutor;
+    this.rateLimiter = rateLimiter;
+    this.folioExecutionContext = folioExecutionContext;
+    var titleFields = exportConfig.getTitleFields();
+    this.loadResourceNotes = titleFields != null && titleFields.contains(LOAD_FIELD_TITLE_NOTES);
+    this.loadResourceAgreements = titleFields != null && titleFields.contains(LOAD_FIELD_TITLE_AGREEMENTS);
+  }
+
+  public void enrich(List<? extends EHoldingsResourceDTO> resources) {
+    if (!loadResourceNotes && !loadResourceAgreements) {
+      return;
+    }
+    var tenant = folioExecutionContext.getTenantId();
+    var futures = new ArrayList<CompletableFuture<Void>>();
+    for (var resource : resources) {
+      var resourceId = getResourceId(resource);
+      if (loadResourceNotes) {
+        futures.add(runAsync(tenant, resourceId, "notes", () -> loadNotes(resource, resourceId)));
+      }
+      if (loadResourceAgreements) {
+        futures.add(runAsync(tenant, resourceId, "agreements", () -> loadAgreements(resource, resourceId)));
+      }
+    }
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+  }
+
+  private CompletableFuture<Void> runAsync(String tenant, String resourceId, String name, Runnable request) {
+    var delay = rateLimiter.reserve(tenant);
+    Executor executor = delay > 0
+      ? CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, taskExecutor)
+      : taskExecutor;
+    // the delayed request reaches the pool from the timer thread, so the folio context is captured here
+    var task = FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext(request);
+    return CompletableFuture.runAsync(task, executor)
+      .exceptionally(e -> {
+        log.warn("Failed to load {} of resource {}: {}", name, resourceId, e.getMessage());
+        return null;
+      });
+  }
+
+  private void loadNotes(EHoldingsResourceDTO resource, String resourceId) {
+    var noteCollection = notesClient.getAssignedNotes(EHOLDINGS, RESOURCE, resourceId);
+    if (noteCollection.getTotalRecords() > 0) {
+      resource.setNotes(noteCollection.getNotes());
+    }
+  }
+
+  private void loadAgreements(EHoldingsResourceDTO resource, String resourceId) {
+    var agreements = agreementClient.getAssignedAgreements(getFiltersParam(resourceId));
+    if (!agreements.isEmpty()) {
+      resource.setAgreements(agreements);
+    }
+  }
+
+  private String getResourceId(EHoldingsResourceDTO resource) {
+    var resourceDataAttributes = resource.getResourcesData().getAttributes();
+    return resourceDataAttributes.getPackageId() + "-" + resourceDataAttributes.getTitleId();
+  }
+}
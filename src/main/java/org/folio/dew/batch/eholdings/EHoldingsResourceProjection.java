@@ -0,0 +1,65 @@
+package org.folio.dew.batch.eholdings;
+
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.LOAD_FIELD_TITLE_AGREEMENTS;
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.LOAD_FIELD_TITLE_NOTES;
+
+import lombok.Getter;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parts of staged resources needed for the selected title fields of the export. Attributes used to page through
+ * resources and required by the export format mapping are always selected.
+ */
+@Getter
+public class EHoldingsResourceProjection {
+  private static final List<String> REQUIRED_ATTRIBUTES = List.of("titleId", "name", "packageId", "isSelected",
+    "publicationType", "isTitleCustom");
+  private static final String ACCESS_STATUS_TYPE_FIELD = "titleAccessStatusType";
+  private static final Map<String, List<String>> FIELD_ATTRIBUTES = Map.ofEntries(
+    Map.entry("alternateTitles", List.of("alternateTitles")),
+    Map.entry("contributors", List.of("contributors")),
+    Map.entry("edition", List.of("edition")),
+    Map.entry("publisher", List.of("publisherName")),
+    Map.entry("peerReviewed", List.of("isPeerReviewed")),
+    Map.entry("description", List.of("description")),
+    Map.entry("managedCoverage", List.of("managedCoverages")),
+    Map.entry("customCoverage", List.of("customCoverages")),
+    Map.entry("coverageStatement", List.of("coverageStatement")),
+    Map.entry("managedEmbargo", List.of("managedEmbargoPeriod")),
+    Map.entry("customEmbargo", List.of("customEmbargoPeriod")),
+    Map.entry("titleShowToPatrons", List.of("visibilityData")),
+    Map.entry("titleProxy", List.of("proxy")),
+    Map.entry("url", List.of("url")),
+    Map.entry("subjects", List.of("subjects")),
+    Map.entry("customValue1", List.of("userDefinedField1")),
+    Map.entry("customValue2", List.of("userDefinedField2")),
+    Map.entry("customValue3", List.of("userDefinedField3")),
+    Map.entry("customValue4", List.of("userDefinedField4")),
+    Map.entry("customValue5", List.of("userDefinedField5")),
+    Map.entry("titleTags", List.of("tags")),
+    Map.entry("ISBNPrint", List.of("identifiers")),
+    Map.entry("ISBNOnline", List.of("identifiers")),
+    Map.entry("ISSNPrint", List.of("identifiers")),
+    Map.entry("ISSNOnline", List.of("identifiers")));
+
+  /**
+   * Comma separated names of selected resource attributes.
+   */
+  private final String attributes;
+  private final boolean withIncluded;
+  private final boolean withNotes;
+  private final boolean withAgreements;
+
+  public EHoldingsResourceProjection(List<String> titleFields) {
+    var selected = new LinkedHashSet<>(REQUIRED_ATTRIBUTES);
+    var fields = titleFields == null ? List.<String>of() : titleFields;
+    fields.forEach(field -> selected.addAll(FIELD_ATTRIBUTES.getOrDefault(field, List.of())));
+    this.attributes = String.join(",", selected);
+    this.withIncluded = fields.contains(ACCESS_STATUS_TYPE_FIELD);
+    this.withNotes = fields.contains(LOAD_FIELD_TITLE_NOTES);
+    this.withAgreements = fields.contains(LOAD_FIELD_TITLE_AGREEMENTS);
+  }
+}
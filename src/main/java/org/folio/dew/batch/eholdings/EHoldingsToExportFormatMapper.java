@@ -225,11 +225,13 @@ public class EHoldingsToExportFormatMapper {
   }
 
   private String mapEmbargo(EmbargoPeriod embargo) {
+    if (isNull(embargo)) { return ""; }
     if (embargo.getEmbargoValue() <= 0) { return ""; }
     return embargo.getEmbargoValue() + " " + embargo.getEmbargoUnit();
   }
 
   private String mapProxy(Proxy proxy) {
+    if (isNull(proxy)) { return ""; }
     if (proxy.getId().equals("<n>")) {
       return "None";
     }
@@ -250,30 +252,35 @@ public class EHoldingsToExportFormatMapper {
   }
 
   private String mapContributors(List<Contributor> contributors) {
+    if (isNull(contributors)) { return ""; }
     return contributors.stream()
       .map(contributor -> contributor.getContributor() + " (" + contributor.getType() + ')')
       .collect(Collectors.joining(PIPE_DELIMITER));
   }
 
   private String mapSubjects(List<Subject> subjects) {
+    if (isNull(subjects)) { return ""; }
     return subjects.stream()
       .map(Subject::getSubject)
       .collect(Collectors.joining(PIPE_DELIMITER));
   }
 
   private String mapCoverage(List<Coverage> coverages) {
+    if (isNull(coverages)) { return ""; }
     return coverages.stream()
       .map(this::mapCoverage)
       .collect(Collectors.joining(PIPE_DELIMITER));
   }
 
   private String mapAlternateTitles(List<AlternateTitle> alternateTitles) {
+    if (isNull(alternateTitles)) { return ""; }
     return alternateTitles.stream()
       .map(title -> title.getTitleType() + " - " + title.getAlternateTitle())
       .collect(Collectors.joining(PIPE_DELIMITER));
   }
 
   private String mapIdentifierId(List<Identifier> identifiers, TypeEnum type, SubtypeEnum subtype) {
+    if (isNull(identifiers)) { return ""; }
     return identifiers.stream()
       .filter(identifier -> identifier.getType().equals(type))
       .filter(identifier -> identifier.getSubtype().equals(subtype))
@@ -282,6 +289,7 @@ public class EHoldingsToExportFormatMapper {
   }
 
   private String mapShowToPatrons(VisibilityData visibility) {
+    if (isNull(visibility)) { return ""; }
     var result = Boolean.TRUE.equals(visibility.getIsHidden()) ? "No" : "Yes";
     var reason = visibility.getReason();
 
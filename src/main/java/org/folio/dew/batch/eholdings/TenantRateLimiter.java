@@ -0,0 +1,50 @@
+package org.folio.dew.batch.eholdings;
+
+import org.folio.dew.config.properties.EHoldingsJobProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spaces out enrichment requests of each tenant evenly, so concurrent exports of a tenant together don't exceed
+ * {@link EHoldingsJobProperties#getEnrichmentRequestsPerSecond()}. The limiter doesn't block, it reserves the next free
+ * time slot of the tenant and the caller delays the request until then, so requests of different tenants don't wait
+ * for each other; zero rate disables limiting.
+ */
+@Component
+public class TenantRateLimiter {
+
+  private final EHoldingsJobProperties jobProperties;
+  private final Map<String, AtomicLong> nextPermits = new ConcurrentHashMap<>();
+
+  public TenantRateLimiter(EHoldingsJobProperties jobProperties) {
+    this.jobProperties = jobProperties;
+  }
+
+  /**
+   * Reserves the next request of the tenant.
+   *
+   * @param tenant - tenant making the request
+   * @return nanoseconds the request has to be delayed by
+   */
+  public long reserve(String tenant) {
+    var rate = jobProperties.getEnrichmentRequestsPerSecond();
+    if (rate <= 0) {
+      return 0;
+    }
+    var interval = TimeUnit.SECONDS.toNanos(1) / rate;
+    var nextPermit = nextPermits.computeIfAbsent(tenant, t -> new AtomicLong(System.nanoTime()));
+    long now;
+    long current;
+    long permit;
+    do {
+      now = System.nanoTime();
+      current = nextPermit.get();
+      permit = Math.max(now, current);
+    } while (!nextPermit.compareAndSet(current, permit + interval));
+    return permit - now;
+  }
+}
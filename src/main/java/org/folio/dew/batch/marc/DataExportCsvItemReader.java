@@ -25,10 +25,8 @@ public class DataExportCsvItemReader extends CsvItemReader<ItemIdentifier> {
   @Override
   protected List<ItemIdentifier> getItems(int offset, int limit) {
     try {
-      try (var lines = localFilesStorage.lines(fileName)) {
+      try (var lines = localFilesStorage.lines(fileName, offset, limit)) {
         return lines
-          .skip(offset)
-          .limit(limit)
           .map(ItemIdentifier::new)
           .collect(Collectors.toList());
       }
@@ -2,6 +2,7 @@ package org.folio.dew.batch.marc;
 
 import lombok.extern.log4j.Log4j2;
 import org.folio.dew.batch.CsvPartitioner;
+import org.folio.dew.batch.PartitionPlanner;
 import org.folio.dew.repository.LocalFilesStorage;
 
 @Log4j2
@@ -10,8 +11,8 @@ public class DataExportCsvPartitioner extends CsvPartitioner {
   private final String fileName;
   private final LocalFilesStorage localFilesStorage;
 
-  public DataExportCsvPartitioner(Long offset, Long limit, String tempOutputFilePath, String fileName, LocalFilesStorage localFilesStorage) {
-    super(offset, limit, tempOutputFilePath);
+  public DataExportCsvPartitioner(Long offset, Long limit, String tempOutputFilePath, String fileName, LocalFilesStorage localFilesStorage, PartitionPlanner partitionPlanner) {
+    super(offset, limit, tempOutputFilePath, partitionPlanner);
 
     this.fileName = fileName;
     this.localFilesStorage = localFilesStorage;
@@ -19,8 +20,8 @@ public class DataExportCsvPartitioner extends CsvPartitioner {
 
   @Override
   protected Long getLimit() {
-    try (var lines = localFilesStorage.lines(fileName)) {
-      return lines.count();
+    try {
+      return localFilesStorage.countLines(fileName);
     } catch (Exception e) {
       log.error("Error reading file {}, reason: {}", fileName, e.getMessage());
       return 0L;
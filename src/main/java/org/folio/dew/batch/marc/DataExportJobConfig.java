@@ -6,6 +6,8 @@ import org.folio.dew.batch.AbstractStorageStreamWriter;
 import org.folio.dew.batch.CsvFileAssembler;
 import org.folio.dew.batch.CsvPartStepExecutionListener;
 import org.folio.dew.batch.JobCompletionNotificationListener;
+import org.folio.dew.batch.PartitionPlanner;
+import org.folio.dew.batch.StepMetricsListener;
 import org.folio.dew.domain.dto.ItemIdentifier;
 import org.folio.dew.error.NonSupportedEntityException;
 import org.folio.dew.repository.LocalFilesStorage;
@@ -30,6 +32,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 public class DataExportJobConfig {
   private static final int POOL_SIZE = 10;
   private final LocalFilesStorage localFilesStorage;
+  private final PartitionPlanner partitionPlanner;
 
   @Bean
   public Job dataExportJob(
@@ -56,6 +59,7 @@ public class DataExportJobConfig {
         .partitioner("dataExportPartitionStep", partitioner)
         .taskExecutor(asyncTaskExecutor)
         .step(dataExportPartitionStep)
+        .gridSize(POOL_SIZE)
         .aggregator(csvFileAssembler)
         .build();
   }
@@ -66,6 +70,7 @@ public class DataExportJobConfig {
     AbstractStorageStreamWriter<Record, LocalFilesStorage> recordWriter,
     ItemProcessor<ItemIdentifier, Record> processor,
     CsvPartStepExecutionListener csvPartStepExecutionListener,
+    StepMetricsListener stepMetricsListener,
     JobRepository jobRepository,
     PlatformTransactionManager transactionManager
   ) {
@@ -74,6 +79,7 @@ public class DataExportJobConfig {
       .reader(dataExportCsvItemReader)
       .processor(processor)
       .writer(recordWriter)
+      .listener(stepMetricsListener)
       .faultTolerant()
       .allowStartIfComplete(false)
       .throttleLimit(POOL_SIZE)
@@ -88,7 +94,7 @@ public class DataExportJobConfig {
     @Value("#{jobParameters['offset']}") Long offset,
     @Value("#{jobParameters['limit']}") Long limit,
     @Value("#{jobParameters['tempOutputFilePath']}") String tempOutputFilePath) {
-    return new DataExportCsvPartitioner(offset, limit, tempOutputFilePath, fileName, localFilesStorage);
+    return new DataExportCsvPartitioner(offset, limit, tempOutputFilePath, fileName, localFilesStorage, partitionPlanner);
   }
 
   @Bean
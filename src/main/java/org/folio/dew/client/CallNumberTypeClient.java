@@ -16,4 +16,7 @@ public interface CallNumberTypeClient {
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   CallNumberTypeCollection getByQuery(@RequestParam String query);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  CallNumberTypeCollection getByQuery(@RequestParam String query, @RequestParam long limit);
 }
@@ -17,4 +17,7 @@ public interface DepartmentClient {
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   DepartmentCollection getDepartmentByQuery(@RequestParam String query);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  DepartmentCollection getDepartmentByQuery(@RequestParam String query, @RequestParam long limit);
 }
@@ -17,4 +17,7 @@ public interface GroupClient {
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   UserGroupCollection getGroupByQuery(@RequestParam String query);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  UserGroupCollection getGroupByQuery(@RequestParam String query, @RequestParam long limit);
 }
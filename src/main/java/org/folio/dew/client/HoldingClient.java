@@ -29,6 +29,9 @@ public interface HoldingClient {
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   HoldingsRecordCollection getHoldingsByQuery(@RequestParam String query, @RequestParam long limit);
 
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  JsonNode getHoldingsJsonByQuery(@RequestParam String query, @RequestParam long limit);
+
   @PutMapping(value = "/{holdingsId}", consumes = MediaType.APPLICATION_JSON_VALUE)
   void updateHoldingsRecord(@RequestBody HoldingsRecord holdingsRecord, @PathVariable String holdingsId);
 }
@@ -10,4 +10,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 public interface LoanTypeClient {
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   LoanTypeCollection getByQuery(@RequestParam String query);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  LoanTypeCollection getByQuery(@RequestParam String query, @RequestParam long limit);
 }
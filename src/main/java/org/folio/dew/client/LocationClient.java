@@ -22,4 +22,10 @@ public interface LocationClient {
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   ItemLocationCollection getLocationByQuery(@RequestParam String query);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  ItemLocationCollection getLocationByQuery(@RequestParam String query, @RequestParam long limit);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  JsonNode getLocationsJsonByQuery(@RequestParam String query, @RequestParam long limit);
 }
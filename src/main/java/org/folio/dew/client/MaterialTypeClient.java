@@ -16,4 +16,7 @@ public interface MaterialTypeClient {
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   MaterialTypeCollection getByQuery(@RequestParam String query);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  MaterialTypeCollection getByQuery(@RequestParam String query, @RequestParam long limit);
 }
@@ -15,4 +15,11 @@ public interface OrdersStorageClient {
     @RequestParam("limit") int limit
   );
 
+  @GetMapping(value = "/purchase-orders" ,produces = MediaType.APPLICATION_JSON_VALUE)
+  PurchaseOrderCollection getCompositePurchaseOrderByQuery(
+    @RequestParam("query") String query,
+    @RequestParam("offset") int offset,
+    @RequestParam("limit") int limit
+  );
+
 }
@@ -1,9 +1,15 @@
 package org.folio.dew.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.folio.dew.config.properties.BatchFetchProperties;
+import org.folio.dew.config.properties.BulkEditUpdateProperties;
+import org.folio.dew.config.properties.EHoldingsJobProperties;
 import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +23,8 @@ public class AsyncConfig {
 
   private static final int TASK_EXECUTOR_CORE_POOL_SIZE = 10;
   private static final int TASK_EXECUTOR_MAX_POOL_SIZE = 10;
+  private static final int STORAGE_CLEANUP_POOL_SIZE = 2;
+  private static final String EXECUTOR_TAG = "executor";
 
   @Bean(name = "asyncJobLauncher")
   public JobLauncher getAsyncJobLauncher(
@@ -28,13 +36,88 @@ public class AsyncConfig {
   }
 
   @Bean(name = "asyncTaskExecutor")
-  public TaskExecutor getAsyncTaskExecutor() {
+  public TaskExecutor getAsyncTaskExecutor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
     var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
     threadPoolTaskExecutor.setCorePoolSize(TASK_EXECUTOR_CORE_POOL_SIZE);
     threadPoolTaskExecutor.setMaxPoolSize(TASK_EXECUTOR_MAX_POOL_SIZE);
     threadPoolTaskExecutor.setTaskDecorator(
       FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    meterRegistryProvider.ifAvailable(registry -> monitor(threadPoolTaskExecutor, "asyncTaskExecutor", registry));
     return threadPoolTaskExecutor;
   }
 
+  @Bean(name = "bulkEditUpdateTaskExecutor")
+  public ThreadPoolTaskExecutor getBulkEditUpdateTaskExecutor(BulkEditUpdateProperties properties,
+      ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(properties.getConcurrency());
+    threadPoolTaskExecutor.setMaxPoolSize(properties.getConcurrency());
+    threadPoolTaskExecutor.setThreadNamePrefix("bulk-edit-update-");
+    threadPoolTaskExecutor.setTaskDecorator(
+      FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    meterRegistryProvider.ifAvailable(registry -> monitor(threadPoolTaskExecutor, "bulkEditUpdateTaskExecutor", registry));
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "eHoldingsEnrichmentTaskExecutor")
+  public ThreadPoolTaskExecutor getEHoldingsEnrichmentTaskExecutor(EHoldingsJobProperties properties,
+      ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(properties.getEnrichmentConcurrency());
+    threadPoolTaskExecutor.setMaxPoolSize(properties.getEnrichmentConcurrency());
+    threadPoolTaskExecutor.setThreadNamePrefix("e-holdings-enrichment-");
+    threadPoolTaskExecutor.setTaskDecorator(
+      FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    meterRegistryProvider.ifAvailable(registry -> monitor(threadPoolTaskExecutor, "eHoldingsEnrichmentTaskExecutor", registry));
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "batchFetchTaskExecutor")
+  public ThreadPoolTaskExecutor getBatchFetchTaskExecutor(BatchFetchProperties properties,
+      ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(properties.getConcurrency());
+    threadPoolTaskExecutor.setMaxPoolSize(properties.getConcurrency());
+    threadPoolTaskExecutor.setThreadNamePrefix("batch-fetch-");
+    threadPoolTaskExecutor.setTaskDecorator(
+      FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    meterRegistryProvider.ifAvailable(registry -> monitor(threadPoolTaskExecutor, "batchFetchTaskExecutor", registry));
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "jobSchedulerTaskExecutor")
+  public ThreadPoolTaskExecutor getJobSchedulerTaskExecutor() {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(1);
+    threadPoolTaskExecutor.setMaxPoolSize(1);
+    threadPoolTaskExecutor.setThreadNamePrefix("export-job-scheduler-");
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "storageCleanupTaskExecutor")
+  public ThreadPoolTaskExecutor getStorageCleanupTaskExecutor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(STORAGE_CLEANUP_POOL_SIZE);
+    threadPoolTaskExecutor.setMaxPoolSize(STORAGE_CLEANUP_POOL_SIZE);
+    threadPoolTaskExecutor.setThreadNamePrefix("storage-cleanup-");
+    threadPoolTaskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+    meterRegistryProvider.ifAvailable(registry -> monitor(threadPoolTaskExecutor, "storageCleanupTaskExecutor", registry));
+    return threadPoolTaskExecutor;
+  }
+
+  /**
+   * Registers queue depth and active threads gauges of the pool, the pool is shared by tenants, so gauges are tagged
+   * with the executor name only.
+   */
+  private void monitor(ThreadPoolTaskExecutor executor, String name, MeterRegistry registry) {
+    Gauge.builder("dew.executor.queued", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+      .tag(EXECUTOR_TAG, name)
+      .description("Number of tasks waiting in the queue of the executor")
+      .register(registry);
+    Gauge.builder("dew.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+      .tag(EXECUTOR_TAG, name)
+      .description("Number of threads actively executing tasks")
+      .register(registry);
+  }
+
 }
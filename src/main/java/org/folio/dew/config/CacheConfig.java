@@ -1,26 +1,45 @@
 package org.folio.dew.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.folio.dew.config.properties.ReferenceDataCacheProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
-
 @Configuration
 @EnableCaching
-public class CacheConfig {
-  @Bean
-  public Caffeine caffeineConfig() { //NOSONAR
-    return Caffeine.newBuilder().expireAfterWrite(60, TimeUnit.MINUTES);
+@RequiredArgsConstructor
+public class CacheConfig implements CachingConfigurer {
+
+  private final ObjectProvider<FolioExecutionContext> folioExecutionContextProvider;
+
+  @Override
+  public KeyGenerator keyGenerator() {
+    return new TenantAwareKeyGenerator(folioExecutionContextProvider);
   }
 
   @Bean
-  public CacheManager cacheManager(Caffeine caffeine) { //NOSONAR
-    CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
-    caffeineCacheManager.setCaffeine(caffeine);
+  public CacheManager cacheManager(ReferenceDataCacheProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) { //NOSONAR
+    CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager() {
+      @Override
+      protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        meterRegistryProvider.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, name));
+        return super.adaptCaffeineCache(name, cache);
+      }
+    };
+    caffeineCacheManager.setCaffeineSpec(CaffeineSpec.parse(properties.getDefaultSpec()));
+    properties.getSpecs().forEach((name, spec) -> caffeineCacheManager.registerCustomCache(name, Caffeine.from(spec).build()));
     return caffeineCacheManager;
   }
 }
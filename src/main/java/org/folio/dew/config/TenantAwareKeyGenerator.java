@@ -0,0 +1,37 @@
+package org.folio.dew.config;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import org.folio.dew.domain.dto.ErrorServiceArgs;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+
+/**
+ * Builds cache keys of tenant, cached method and its arguments.
+ * {@link ErrorServiceArgs} are excluded from the key since they only describe the record being processed.
+ */
+@RequiredArgsConstructor
+public class TenantAwareKeyGenerator implements KeyGenerator {
+
+  private final ObjectProvider<FolioExecutionContext> folioExecutionContextProvider;
+
+  @Override
+  public Object generate(Object target, Method method, Object... params) {
+    var elements = new ArrayList<>(params.length + 2);
+    elements.add(getTenantId());
+    elements.add(method.getName());
+    Arrays.stream(params)
+      .filter(param -> !(param instanceof ErrorServiceArgs))
+      .forEach(elements::add);
+    return new SimpleKey(elements.toArray());
+  }
+
+  private String getTenantId() {
+    var context = folioExecutionContextProvider.getIfAvailable();
+    return context == null ? null : context.getTenantId();
+  }
+}
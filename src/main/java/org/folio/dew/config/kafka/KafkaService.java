@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.folio.dew.config.metrics.ExportMetrics;
 import org.folio.spring.FolioExecutionContext;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,12 +30,16 @@ public class KafkaService {
 
   public static final String EVENT_LISTENER_ID = "mod-data-export-events-listener";
 
+  private static final String SEND_METRIC = "dew.kafka.send";
+  private static final String TOPIC_TAG = "topic";
+
   private final KafkaAdmin kafkaAdmin;
   private final KafkaTemplate<String, Object> kafkaTemplate;
   private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
   private final BeanFactory beanFactory;
   private final Environment springEnvironment;
   private final FolioExecutionContext folioExecutionContext;
+  private final ExportMetrics exportMetrics;
 
   @Value("${env:folio}")
   private String environment;
@@ -111,7 +116,11 @@ public class KafkaService {
     if (StringUtils.isBlank(tenant)) {
       throw new IllegalStateException("Can't send to Kafka because tenant is blank");
     }
-    kafkaTemplate.send(getTenantTopicName(topic, tenant), key, data);
+    var tags = exportMetrics.tags(TOPIC_TAG, topic.getTopicName());
+    var start = System.nanoTime();
+    kafkaTemplate.send(getTenantTopicName(topic, tenant), key, data)
+      .whenComplete((result, e) -> exportMetrics.recordTime(SEND_METRIC, System.nanoTime() - start,
+        tags.and(ExportMetrics.OUTCOME_TAG, e == null ? ExportMetrics.SUCCESS : ExportMetrics.ERROR)));
     log.info("Sent {}.", data);
   }
 }
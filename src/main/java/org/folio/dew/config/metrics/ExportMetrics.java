@@ -0,0 +1,80 @@
+package org.folio.dew.config.metrics;
+
+import static java.util.Objects.isNull;
+import static org.folio.dew.utils.Constants.JOB_NAME_POSTFIX_SEPARATOR;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records metrics of export jobs. Each meter is tagged with the tenant of the current folio execution context and with
+ * the export type of the job executed by the current thread (taken from the job name), so metrics of the shared
+ * infrastructure (storage, Feign clients, Kafka) can be attributed to exports.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ExportMetrics {
+  public static final String TENANT_TAG = "tenant";
+  public static final String EXPORT_TYPE_TAG = "export_type";
+  public static final String OUTCOME_TAG = "outcome";
+  public static final String SUCCESS = "success";
+  public static final String ERROR = "error";
+
+  private static final String NONE = "none";
+
+  private final MeterRegistry meterRegistry;
+  private final FolioExecutionContext folioExecutionContext;
+
+  public MeterRegistry getMeterRegistry() {
+    return meterRegistry;
+  }
+
+  /**
+   * @param keyValues - additional tags as key/value pairs
+   * @return tenant and export type tags of the current thread along with additional tags
+   */
+  public Tags tags(String... keyValues) {
+    return Tags.of(TENANT_TAG, getTenant(), EXPORT_TYPE_TAG, getExportType()).and(keyValues);
+  }
+
+  public void recordTime(String name, long nanos, Tags tags) {
+    Timer.builder(name)
+      .tags(tags)
+      .register(meterRegistry)
+      .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void count(String name, double amount, Tags tags) {
+    Counter.builder(name)
+      .tags(tags)
+      .register(meterRegistry)
+      .increment(amount);
+  }
+
+  private String getTenant() {
+    try {
+      return StringUtils.defaultIfBlank(folioExecutionContext.getTenantId(), NONE);
+    } catch (Exception e) {
+      log.debug("Tenant is not available for metrics: {}", e.getMessage());
+      return NONE;
+    }
+  }
+
+  private String getExportType() {
+    var context = StepSynchronizationManager.getContext();
+    if (isNull(context)) {
+      return NONE;
+    }
+    return StringUtils.defaultIfBlank(StringUtils.substringBefore(context.getJobName(), JOB_NAME_POSTFIX_SEPARATOR), NONE);
+  }
+}
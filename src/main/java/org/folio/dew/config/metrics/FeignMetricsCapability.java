@@ -0,0 +1,63 @@
+package org.folio.dew.config.metrics;
+
+import static java.util.Objects.isNull;
+import static org.folio.dew.config.metrics.ExportMetrics.ERROR;
+import static org.folio.dew.config.metrics.ExportMetrics.OUTCOME_TAG;
+import static org.folio.dew.config.metrics.ExportMetrics.SUCCESS;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records latency and errors of the requests of each Feign client. Responses with 4xx/5xx statuses and I/O failures
+ * are counted as errors.
+ */
+@RequiredArgsConstructor
+public class FeignMetricsCapability implements Capability {
+  static final String REQUESTS_METRIC = "dew.feign.requests";
+  static final String ERRORS_METRIC = "dew.feign.errors";
+
+  private static final String CLIENT_TAG = "client";
+  private static final String METHOD_TAG = "method";
+  private static final String STATUS_TAG = "status";
+  private static final String UNKNOWN = "unknown";
+
+  private final ExportMetrics metrics;
+
+  @Override
+  public Client enrich(Client client) {
+    return (request, options) -> {
+      var start = System.nanoTime();
+      var status = "IO_ERROR";
+      try {
+        Response response = client.execute(request, options);
+        status = String.valueOf(response.status());
+        return response;
+      } finally {
+        record(request, status, System.nanoTime() - start);
+      }
+    };
+  }
+
+  private void record(Request request, String status, long nanos) {
+    var outcome = status.length() == 3 && status.charAt(0) < '4' ? SUCCESS : ERROR;
+    var tags = metrics.tags(CLIENT_TAG, getClientName(request), METHOD_TAG, getMethod(request));
+    metrics.recordTime(REQUESTS_METRIC, nanos, tags.and(STATUS_TAG, status, OUTCOME_TAG, outcome));
+    if (ERROR.equals(outcome)) {
+      metrics.count(ERRORS_METRIC, 1, tags.and(STATUS_TAG, status));
+    }
+  }
+
+  private String getClientName(Request request) {
+    var template = request.requestTemplate();
+    return isNull(template) || isNull(template.feignTarget()) ? UNKNOWN : template.feignTarget().name();
+  }
+
+  private String getMethod(Request request) {
+    var template = request.requestTemplate();
+    return isNull(template) || isNull(template.methodMetadata()) ? UNKNOWN : template.methodMetadata().configKey();
+  }
+}
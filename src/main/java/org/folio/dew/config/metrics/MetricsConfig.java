@@ -0,0 +1,14 @@
+package org.folio.dew.config.metrics;
+
+import feign.Capability;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  public Capability feignMetricsCapability(ExportMetrics exportMetrics) {
+    return new FeignMetricsCapability(exportMetrics);
+  }
+}
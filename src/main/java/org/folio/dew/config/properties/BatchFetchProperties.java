@@ -0,0 +1,28 @@
+package org.folio.dew.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Application properties for parallel fetching of records by buckets of ids
+ */
+@Data
+@Validated
+@Component
+@ConfigurationProperties("application.batch-fetch")
+public class BatchFetchProperties {
+
+  /**
+   * Max number of bucket requests executed concurrently by all jobs.
+   */
+  @Min(1)
+  private int concurrency = 10;
+  /**
+   * Max number of bucket requests of a single fetch dispatched at once.
+   */
+  @Min(1)
+  private int maxInFlight = 4;
+}
@@ -0,0 +1,23 @@
+package org.folio.dew.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Application properties for bulk edit update jobs configuration
+ */
+@Data
+@Validated
+@Component
+@ConfigurationProperties("application.bulk-edit-update")
+public class BulkEditUpdateProperties {
+
+  /**
+   * Max number of records updated concurrently by all bulk edit update jobs.
+   */
+  @Min(1)
+  private int concurrency = 5;
+}
@@ -27,4 +27,14 @@ public class EHoldingsJobProperties {
   @Min(1)
   @Max(100)
   private int kbEbscoChunkSize;
+  /**
+   * Max number of notes and agreements requests executed concurrently by all eHoldings export jobs.
+   */
+  @Min(1)
+  private int enrichmentConcurrency = 5;
+  /**
+   * Max number of notes and agreements requests per second of a tenant, 0 means unlimited.
+   */
+  @Min(0)
+  private int enrichmentRequestsPerSecond;
 }
@@ -0,0 +1,33 @@
+package org.folio.dew.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Application properties for pooled FTP and SFTP connections.
+ */
+@Data
+@Validated
+@Component
+@ConfigurationProperties("application.file-transfer-pool")
+public class FileTransferPoolProperties {
+
+  /**
+   * Max number of concurrent sessions to the same server and user.
+   */
+  @Min(1)
+  private int maxSessionsPerServer = 2;
+  /**
+   * Time in milliseconds after which an idle connection is closed.
+   */
+  @Min(0)
+  private long idleTimeout = 300000;
+  /**
+   * Max time in milliseconds to wait for a free session to the server.
+   */
+  @Min(0)
+  private long maxWaitTime = 600000;
+}
@@ -0,0 +1,40 @@
+package org.folio.dew.config.properties;
+
+import jakarta.validation.constraints.Min;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Application properties for scheduling of export jobs received from Kafka.
+ */
+@Data
+@Validated
+@Component
+@ConfigurationProperties("application.job-scheduling")
+public class JobSchedulingProperties {
+
+  /**
+   * Max number of jobs running at once, the rest of the shared executor is left for partitions of the jobs.
+   */
+  @Min(1)
+  private int maxConcurrentJobs = 5;
+  /**
+   * Max number of jobs of the same tenant running at once.
+   */
+  @Min(1)
+  private int maxConcurrentJobsPerTenant = 2;
+  /**
+   * Number of queued jobs at which consumption of job commands is paused, it is resumed once half of them are started.
+   */
+  @Min(1)
+  private int queueCapacity = 100;
+  /**
+   * Weights of export types (by name) in dispatching jobs of a tenant, 1 if not set. An export type with weight 2 gets
+   * twice as many jobs started as an export type with weight 1 while both have jobs queued.
+   */
+  private Map<String, Integer> weights = new HashMap<>();
+}
@@ -0,0 +1,34 @@
+package org.folio.dew.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Application properties for sizing partitions of csv exports.
+ */
+@Data
+@Validated
+@Component
+@ConfigurationProperties("application.partitioning")
+public class PartitioningProperties {
+
+  /**
+   * Target size in bytes of a partition part file, the size of the largest partitions.
+   */
+  @Min(5_242_880)
+  private long targetPartSize = 134_217_728;
+  /**
+   * Min size in bytes of a partition part file, parts are composed on storage and all but the last one must be at
+   * least 5 MiB.
+   */
+  @Min(5_242_880)
+  private long minPartSize = 16_777_216;
+  /**
+   * Estimated size in bytes of an exported record, used to convert part sizes into numbers of records.
+   */
+  @Min(1)
+  private int estimatedRecordSize = 1024;
+}
@@ -0,0 +1,36 @@
+package org.folio.dew.config.properties;
+
+import jakarta.validation.constraints.Min;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Application properties for reference data caches.
+ */
+@Data
+@Validated
+@Component
+@ConfigurationProperties("application.reference-data-cache")
+public class ReferenceDataCacheProperties {
+
+  /**
+   * Caffeine spec applied to caches without own spec.
+   */
+  private String defaultSpec = "maximumSize=10000,expireAfterWrite=60m,recordStats";
+
+  /**
+   * Caffeine specs by cache name.
+   */
+  private Map<String, String> specs = new HashMap<>();
+
+  /**
+   * Max number of records of reference table to be preloaded with single request.
+   * Larger tables are not preloaded, their records are fetched one by one.
+   */
+  @Min(1)
+  private int tableLimit = 1000;
+}
@@ -0,0 +1,38 @@
+package org.folio.dew.config.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Application properties for node-local staging of partition part files.
+ */
+@Data
+@Validated
+@Component
+@ConfigurationProperties("application.staging-files")
+public class StagingFilesStorageProperties {
+
+  /**
+   * Whether partition part files are staged on local disk and uploaded once the partition step ends.
+   */
+  private boolean enabled;
+  /**
+   * Directory for staged files, it is owned by the module instance and cleaned on startup.
+   */
+  @NotBlank
+  private String directory = System.getProperty("java.io.tmpdir") + "/mod-data-export-worker-staging";
+  /**
+   * Max number of bytes of all staged files at once.
+   */
+  @Min(1)
+  private long maxDiskUsage = 10_737_418_240L;
+  /**
+   * Size in bytes of the write buffer of a staged file.
+   */
+  @Min(1)
+  private int bufferSize = 262_144;
+}
@@ -143,7 +143,7 @@ public class BulkEditController implements JobIdApi {
   @Override
   public ResponseEntity<ItemCollection> postItemContentUpdates(@ApiParam(value = "UUID of the JobCommand",required=true) @PathVariable("jobId") UUID jobId,@ApiParam(value = "" ,required=true )  @Valid @RequestBody ItemContentUpdateCollection contentUpdateCollection,@ApiParam(value = "The numbers of records to return") @Valid @RequestParam(value = "limit", required = false) Integer limit) {
     var jobCommand = prepareForContentUpdates(jobId);
-    var updatesResult = itemContentUpdateService.processContentUpdates(jobCommand, contentUpdateCollection);
+    var updatesResult = itemContentUpdateService.processContentUpdates(jobCommand, contentUpdateCollection, limit);
     jobCommandsReceiverService.updateJobCommand(jobCommand);
     return new ResponseEntity<>(prepareItemContentUpdateResponse(updatesResult, limit), HttpStatus.OK);
   }
@@ -151,8 +151,8 @@ public class BulkEditController implements JobIdApi {
   @Override
   public ResponseEntity<UserCollection> postUserContentUpdates(@ApiParam(value = "UUID of the JobCommand",required=true) @PathVariable("jobId") UUID jobId, @ApiParam(value = "" ,required=true )  @Valid @RequestBody UserContentUpdateCollection contentUpdateCollection, @ApiParam(value = "The numbers of records to return") @Valid @RequestParam(value = "limit", required = false) Integer limit) {
     var jobCommand = prepareForContentUpdates(jobId);
-    var updatesResult = userContentUpdateService.process(jobCommand, contentUpdateCollection);
-    log.info("postUserContentUpdate: {} users", updatesResult.getEntitiesForPreview().size());
+    var updatesResult = userContentUpdateService.process(jobCommand, contentUpdateCollection, limit);
+    log.info("postUserContentUpdate: {} users", updatesResult.getTotal());
     jobCommandsReceiverService.updateJobCommand(jobCommand);
     return new ResponseEntity<>(prepareUserContentUpdateResponse(updatesResult, limit), HttpStatus.OK);
   }
@@ -160,7 +160,7 @@ public class BulkEditController implements JobIdApi {
   @Override
   public ResponseEntity<HoldingsRecordCollection> postHoldingsContentUpdates(@ApiParam(value = "UUID of the JobCommand",required=true) @PathVariable("jobId") UUID jobId, @ApiParam(value = "" ,required=true )  @Valid @RequestBody HoldingsContentUpdateCollection contentUpdateCollection, @ApiParam(value = "The numbers of records to return") @Valid @RequestParam(value = "limit", required = false) Integer limit) {
     var jobCommand = prepareForContentUpdates(jobId);
-    var updatesResult = holdingsContentUpdateService.process(jobCommand, contentUpdateCollection);
+    var updatesResult = holdingsContentUpdateService.process(jobCommand, contentUpdateCollection, limit);
     jobCommandsReceiverService.updateJobCommand(jobCommand);
     return new ResponseEntity<>(prepareHoldingsContentUpdateResponse(updatesResult, limit), HttpStatus.OK);
   }
@@ -16,6 +16,9 @@ public class JobParameterNames {
   public static final String PREVIEW_FILE_NAME = "previewFileName";
   public static final String UPLOADED_FILE_PATH = "uploadedFilePath";
   public static final String EDIFACT_FILE_NAME = "edifactFileName";
+  public static final String EDIFACT_ORDERS_COUNT = "edifactOrdersCount";
+  public static final String EDIFACT_PO_LINES_COUNT = "edifactPoLinesCount";
+  public static final String PO_LINE_IDS_FILE_PATH = "poLineIdsFilePath";
   public static final String E_HOLDINGS_FILE_NAME = "eHoldingsFileName";
   public static final String CIRCULATION_LOG_FILE_NAME = "circulationLogFileName";
   public static final String AUTHORITY_CONTROL_FILE_NAME = "authorityControlFileName";
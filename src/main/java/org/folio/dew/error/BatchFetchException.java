@@ -0,0 +1,20 @@
+package org.folio.dew.error;
+
+import java.util.List;
+
+public class BatchFetchException extends RuntimeException {
+
+  private final transient List<Integer> failedBuckets;
+
+  public BatchFetchException(String message, List<Integer> failedBuckets, Throwable cause) {
+    super(message, cause);
+    this.failedBuckets = List.copyOf(failedBuckets);
+  }
+
+  /**
+   * @return zero-based indexes of the buckets which were not fetched
+   */
+  public List<Integer> getFailedBuckets() {
+    return failedBuckets;
+  }
+}
@@ -0,0 +1,225 @@
+package org.folio.dew.repository;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.minio.ObjectWriteArgs.MIN_MULTIPART_SIZE;
+
+/**
+ * Append session of the object on S3-compatible storage.
+ * Appended bytes are buffered locally and uploaded as multipart upload parts once the buffer reaches the part size,
+ * the object is completed when the session is closed. So the buffer never exceeds the part size.
+ * In append mode already stored content is taken over only once, when the session is opened: small objects are read
+ * into the buffer, large ones become the first part via server-side copy. In overwrite mode the object is created
+ * from scratch.
+ */
+@Log4j2
+public class AppendableObject implements Closeable {
+
+  private static final int INITIAL_BUFFER_SIZE = 8192;
+
+  private final BaseFilesStorage storage;
+  private final String path;
+  private final Map<String, String> headers;
+  private final int partSize;
+  private final List<String> etags = new ArrayList<>();
+
+  private byte[] buffer = new byte[0];
+  private int count;
+  private String uploadId;
+  private boolean opened;
+  private boolean closed;
+
+  AppendableObject(BaseFilesStorage storage, String path, int partSize) {
+    this(storage, path, new HashMap<>(), partSize, false);
+  }
+
+  AppendableObject(BaseFilesStorage storage, String path, Map<String, String> headers, int partSize, boolean overwrite) {
+    if (partSize < MIN_MULTIPART_SIZE) {
+      throw new IllegalArgumentException("Part size should be at least " + MIN_MULTIPART_SIZE);
+    }
+    this.storage = storage;
+    this.path = path;
+    this.headers = headers;
+    this.partSize = partSize;
+    this.opened = overwrite;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Appends bytes to the object.
+   *
+   * @param bytes - the byte array with the bytes to append
+   * @return false if the session has been already closed and bytes were not appended, otherwise - true
+   * @throws IOException if an I/O error occurs
+   */
+  public synchronized boolean append(byte[] bytes) throws IOException {
+    if (closed) {
+      return false;
+    }
+    if (!opened) {
+      open();
+    }
+    doWrite(bytes, 0, bytes.length);
+    return true;
+  }
+
+  /**
+   * Writes bytes to the object.
+   *
+   * @param bytes - the data
+   * @param offset - the start offset in the data
+   * @param length - the number of bytes to write
+   * @throws IOException if the session is closed or an I/O error occurs
+   */
+  public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+    ensureNotClosed();
+    if (!opened) {
+      open();
+    }
+    try {
+      doWrite(bytes, offset, length);
+    } catch (IOException e) {
+      abort();
+      throw e;
+    }
+  }
+
+  /**
+   * Writes the byte to the object.
+   *
+   * @param b - the byte
+   * @throws IOException if the session is closed or an I/O error occurs
+   */
+  public synchronized void write(int b) throws IOException {
+    ensureNotClosed();
+    if (!opened || count == buffer.length) {
+      write(new byte[] { (byte) b }, 0, 1);
+      return;
+    }
+    buffer[count++] = (byte) b;
+    if (count == partSize) {
+      try {
+        flushPart();
+      } catch (IOException e) {
+        abort();
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Uploads buffered bytes as the last part and completes the object.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (!opened) {
+      return;
+    }
+    try {
+      if (uploadId == null) {
+        storage.putObject(path, Arrays.copyOf(buffer, count), headers);
+      } else {
+        if (count > 0) {
+          flushPart();
+        }
+        storage.completeMultipartUpload(path, uploadId, etags);
+        log.debug("Completed {} with {} parts.", path, etags.size());
+      }
+    } catch (IOException e) {
+      abortUpload();
+      throw e;
+    } finally {
+      buffer = null;
+    }
+  }
+
+  /**
+   * Discards all appended bytes which are not completed yet.
+   */
+  public synchronized void abort() {
+    closed = true;
+    buffer = null;
+    abortUpload();
+  }
+
+  private void open() throws IOException {
+    opened = true;
+    var size = storage.sizeOf(path);
+    if (size >= MIN_MULTIPART_SIZE) {
+      startUpload();
+      etags.add(storage.uploadPartCopy(path, uploadId, 1, path));
+    } else if (size > 0) {
+      var existing = storage.readObject(path);
+      doWrite(existing, 0, existing.length);
+    }
+  }
+
+  private void doWrite(byte[] bytes, int offset, int length) throws IOException {
+    while (length > 0) {
+      ensureCapacity(Math.min(count + length, partSize));
+      var n = Math.min(length, partSize - count);
+      System.arraycopy(bytes, offset, buffer, count, n);
+      count += n;
+      offset += n;
+      length -= n;
+      if (count == partSize) {
+        flushPart();
+      }
+    }
+  }
+
+  private void ensureNotClosed() throws IOException {
+    if (closed) {
+      throw new IOException("Session is closed for path: " + path);
+    }
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (buffer.length < capacity) {
+      var newLength = Math.max(capacity, Math.min(partSize, Math.max(INITIAL_BUFFER_SIZE, buffer.length * 2)));
+      buffer = Arrays.copyOf(buffer, newLength);
+    }
+  }
+
+  private void flushPart() throws IOException {
+    if (uploadId == null) {
+      startUpload();
+    }
+    var part = count == buffer.length ? buffer : Arrays.copyOf(buffer, count);
+    etags.add(storage.uploadPart(path, uploadId, etags.size() + 1, part));
+    count = 0;
+  }
+
+  private void startUpload() throws IOException {
+    uploadId = storage.createMultipartUpload(path, headers);
+    log.debug("Started multipart upload {} for {}.", uploadId, path);
+  }
+
+  private void abortUpload() {
+    if (uploadId != null) {
+      try {
+        storage.abortMultipartUpload(path, uploadId);
+      } catch (IOException e) {
+        log.error("Cannot abort multipart upload for path: " + path, e);
+      }
+      uploadId = null;
+    }
+  }
+}
@@ -1,26 +1,36 @@
 package org.folio.dew.repository;
 
 import io.minio.BucketExistsArgs;
-import io.minio.ComposeObjectArgs;
-import io.minio.ComposeSource;
 import io.minio.GetObjectArgs;
 import io.minio.ListObjectsArgs;
 import io.minio.MakeBucketArgs;
+import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
-import io.minio.RemoveObjectArgs;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
 import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
 import io.minio.UploadObjectArgs;
 import io.minio.credentials.IamAwsProvider;
 import io.minio.credentials.Provider;
 import io.minio.credentials.StaticProvider;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Part;
+import jakarta.annotation.PreDestroy;
 import java.util.ArrayList;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.NotImplementedException;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.dew.config.metrics.ExportMetrics;
 import org.folio.dew.config.properties.MinioClientProperties;
 import org.folio.dew.error.FileOperationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpHeaders;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
@@ -28,6 +38,7 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
@@ -42,30 +53,54 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static io.minio.ObjectWriteArgs.MIN_MULTIPART_SIZE;
-import static java.lang.String.format;
 
 @Log4j2
 public class BaseFilesStorage implements S3CompatibleStorage {
 
+  private static final String NO_SUCH_KEY = "NoSuchKey";
+  private static final String OPERATIONS_METRIC = "dew.storage.operations";
+  private static final String BYTES_METRIC = "dew.storage.bytes";
+  private static final String STORAGE_TAG = "storage";
+  private static final String OPERATION_TAG = "operation";
+  private static final String APPEND = "append";
+  private static final String UPLOAD = "upload";
+  static final String COMPOSE = "compose";
+  private static final String DELETE = "delete";
+  private static final int MAX_OBJECTS_PER_DELETE = 1000;
+
   private final MinioClient client;
+  private final MultipartMinioClient multipartClient;
   private S3Client s3Client;
+  private final String endpoint;
+  private final String accessKey;
   private final String bucket;
   private final String region;
 
   private final boolean isComposeWithAwsSdk;
 
+  private final Map<String, AppendableObject> appendSessions = new ConcurrentHashMap<>();
+
+  private ExportMetrics metrics;
+  private TaskExecutor cleanupExecutor;
+
   public BaseFilesStorage(MinioClientProperties properties) {
     final String accessKey = properties.getAccessKey();
     final String endpoint = properties.getEndpoint();
@@ -77,8 +112,10 @@ public class BaseFilesStorage implements S3CompatibleStorage {
       StringUtils.isNotBlank(accessKey) ? "<set>" : "<not set>", StringUtils.isNotBlank(secretKey) ? "<set>" : "<not set>", isComposeWithAwsSdk);
 
     var builder = MinioClient.builder().endpoint(endpoint);
+    var asyncBuilder = MinioAsyncClient.builder().endpoint(endpoint);
     if (StringUtils.isNotBlank(regionName)) {
       builder.region(regionName);
+      asyncBuilder.region(regionName);
     }
 
     Provider provider;
@@ -89,9 +126,13 @@ public class BaseFilesStorage implements S3CompatibleStorage {
     }
     log.info("{} MinIO credentials provider created.", provider.getClass().getSimpleName());
     builder.credentialsProvider(provider);
+    asyncBuilder.credentialsProvider(provider);
 
     client = builder.build();
+    multipartClient = new MultipartMinioClient(asyncBuilder.build());
 
+    this.endpoint = endpoint;
+    this.accessKey = accessKey;
     this.bucket = bucketName;
     this.region = regionName;
 
@@ -116,10 +157,33 @@ public class BaseFilesStorage implements S3CompatibleStorage {
 
   }
 
+  @Autowired(required = false)
+  public void setMetrics(ExportMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Autowired(required = false)
+  public void setCleanupExecutor(@Qualifier("storageCleanupTaskExecutor") TaskExecutor cleanupExecutor) {
+    this.cleanupExecutor = cleanupExecutor;
+  }
+
   public MinioClient getMinioClient() {
     return client;
   }
 
+  String getBucket() {
+    return bucket;
+  }
+
+  /**
+   * Verifies if objects of both storages are reachable with the same client, so they can be copied server-side.
+   */
+  boolean isSameEndpoint(BaseFilesStorage other) {
+    return StringUtils.equals(StringUtils.removeEnd(endpoint, "/"), StringUtils.removeEnd(other.endpoint, "/"))
+      && StringUtils.equals(region, other.region)
+      && StringUtils.equals(accessKey, other.accessKey);
+  }
+
   public void createBucketIfNotExists() {
     try {
       if (StringUtils.isNotBlank(bucket) && !client.bucketExists(BucketExistsArgs.builder().bucket(bucket).region(region).build())) {
@@ -145,15 +209,20 @@ public class BaseFilesStorage implements S3CompatibleStorage {
    * @throws IOException - if an I/O error occurs
    */
   public String upload(String path, String filename) throws IOException {
+    discardAppend(path);
+    var start = System.nanoTime();
     try {
-      return client.uploadObject(UploadObjectArgs.builder()
+      var object = client.uploadObject(UploadObjectArgs.builder()
           .bucket(bucket)
           .region(region)
           .object(path)
           .filename(filename)
           .build())
         .object();
+      recordOperation(UPLOAD, Files.size(Path.of(filename)), start, true);
+      return object;
     } catch (Exception e) {
+      recordOperation(UPLOAD, 0, start, false);
       throw new IOException("Cannot upload file: " + path, e);
     }
   }
@@ -168,6 +237,103 @@ public class BaseFilesStorage implements S3CompatibleStorage {
    * @throws IOException - if an I/O error occurs
    */
   public String write(String path, byte[] bytes, Map<String, String> headers) throws IOException {
+    discardAppend(path);
+    return putObject(path, bytes, headers);
+  }
+
+  public String write(String path, byte[] bytes) throws IOException {
+    return write(path, bytes, new HashMap<>());
+  }
+
+
+  /**
+   * Appends byte[] to existing on the storage file.
+   * Bytes are appended within the append session of the file (see {@link AppendableObject}), which is completed
+   * before the file is read.
+   *
+   * @param path - the path to the file on S3-compatible storage
+   * @param bytes - the byte array with the bytes to write
+   * @throws IOException if an I/O error occurs
+   */
+  public void append(String path, byte[] bytes) throws IOException {
+    var start = System.nanoTime();
+    AppendableObject session;
+    do {
+      session = appendSessions.computeIfAbsent(path, p -> new AppendableObject(this, p, MIN_MULTIPART_SIZE));
+      try {
+        if (session.append(bytes)) {
+          // appended bytes are counted once they are uploaded as a part or a whole object
+          recordOperation(APPEND, 0, start, true);
+          return;
+        }
+        // the session was completed concurrently, the next one takes over the completed object
+        appendSessions.remove(path, session);
+      } catch (Exception e) {
+        appendSessions.remove(path, session);
+        session.abort();
+        recordOperation(APPEND, 0, start, false);
+        throw new IOException("Cannot append data for path: " + path, e);
+      }
+    } while (true);
+  }
+
+  /**
+   * Completes the append session of the file, so all appended bytes become available on the storage.
+   *
+   * @param path - the path to the file on S3-compatible storage
+   * @throws IOException if an I/O error occurs
+   */
+  public void completeAppend(String path) throws IOException {
+    var session = appendSessions.get(path);
+    if (session != null) {
+      try {
+        // the session stays visible until the object is completed, so concurrent readers wait for it
+        session.close();
+      } finally {
+        appendSessions.remove(path, session);
+      }
+    }
+  }
+
+  private void discardAppend(String path) {
+    var session = appendSessions.remove(path);
+    if (session != null) {
+      session.abort();
+    }
+  }
+
+  private void discardAppends(String prefix) {
+    appendSessions.keySet().stream()
+      .filter(p -> p.startsWith(prefix))
+      .forEach(this::discardAppend);
+  }
+
+  @PreDestroy
+  public void discardPendingAppends() {
+    discardAppends(StringUtils.EMPTY);
+  }
+
+  private boolean hasPendingAppends(String prefix) {
+    return appendSessions.keySet().stream().anyMatch(p -> p.startsWith(prefix));
+  }
+
+  String putObject(String path, byte[] bytes) throws IOException {
+    return putObject(path, bytes, new HashMap<>());
+  }
+
+  String putObject(String path, byte[] bytes, Map<String, String> headers) throws IOException {
+    var start = System.nanoTime();
+    var success = false;
+    try {
+      var object = doPutObject(path, bytes, headers);
+      success = true;
+      return object;
+    } finally {
+      recordOperation(UPLOAD, success ? bytes.length : 0, start, success);
+    }
+  }
+
+  private String doPutObject(String path, byte[] bytes, Map<String, String> headers) throws IOException {
 
     if (isComposeWithAwsSdk) {
       log.info("Writing with using AWS SDK client");
@@ -193,139 +359,220 @@ public class BaseFilesStorage implements S3CompatibleStorage {
     }
   }
 
-  public String write(String path, byte[] bytes) throws IOException {
-    return write(path, bytes, new HashMap<>());
+  /**
+   * Returns size of the stored object.
+   *
+   * @param path - the path to the file on S3-compatible storage
+   * @return size of the object or -1 if object doesn't exist
+   * @throws IOException if an I/O error occurs
+   */
+  long sizeOf(String path) throws IOException {
+    var stat = statObject(path);
+    return stat == null ? -1 : stat.size();
   }
 
-
   /**
-   * Appends byte[] to existing on the storage file.
+   * Returns ETag of the stored object, it changes whenever the object is rewritten.
    *
    * @param path - the path to the file on S3-compatible storage
-   * @param bytes - the byte array with the bytes to write
+   * @return ETag of the object or null if object doesn't exist
    * @throws IOException if an I/O error occurs
    */
-  public void append(String path, byte[] bytes) throws IOException {
+  String etagOf(String path) throws IOException {
+    var stat = statObject(path);
+    return stat == null ? null : stat.etag();
+  }
+
+  private StatObjectResponse statObject(String path) throws IOException {
     try {
-      if (notExists(path)) {
-        log.info("Appending non-existing file");
-        write(path, bytes);
-      } else {
-        var size = client.statObject(StatObjectArgs.builder()
-          .bucket(bucket)
-          .region(region)
-          .object(path).build()).size();
-
-        log.info("Appending to {} with size {}", path, size);
-        if (size > MIN_MULTIPART_SIZE) {
-
-          if (isComposeWithAwsSdk) {
-
-            var createMultipartUploadRequest = CreateMultipartUploadRequest.builder()
-              .bucket(bucket)
-              .key(path)
-              .build();
-
-            var uploadId = s3Client.createMultipartUpload(createMultipartUploadRequest).uploadId();
-
-            var uploadPartRequest1 = UploadPartCopyRequest.builder()
-              .sourceBucket(bucket)
-              .sourceKey(path)
-              .uploadId(uploadId)
-              .destinationBucket(bucket)
-              .destinationKey(path)
-              .partNumber(1).build();
-
-            var uploadPartRequest2 = UploadPartRequest.builder()
-              .bucket(bucket)
-              .key(path)
-              .uploadId(uploadId)
-              .partNumber(2).build();
-
-            var originalEtag  = s3Client.uploadPartCopy(uploadPartRequest1).copyPartResult().eTag();
-            var appendedEtag = s3Client.uploadPart(uploadPartRequest2, RequestBody.fromBytes(bytes)).eTag();
-
-            var original = CompletedPart.builder()
-              .partNumber(1)
-              .eTag(originalEtag).build();
-            var appended = CompletedPart.builder()
-              .partNumber(2)
-              .eTag(appendedEtag).build();
-
-            var completedMultipartUpload = CompletedMultipartUpload.builder()
-              .parts(original, appended)
-              .build();
-
-            var completeMultipartUploadRequest =
-              CompleteMultipartUploadRequest.builder()
-                .bucket(bucket)
-                .key(path)
-                .uploadId(uploadId)
-                .multipartUpload(completedMultipartUpload)
-                .build();
-
-            s3Client.completeMultipartUpload(completeMultipartUploadRequest);
-
-          } else {
-
-            var temporaryFileName = path + "_temp";
-            write(temporaryFileName, bytes);
-
-            client.composeObject(ComposeObjectArgs.builder()
-              .bucket(bucket)
-              .region(region)
-              .object(path)
-              .sources(List.of(ComposeSource.builder()
-                  .bucket(bucket)
-                  .region(region)
-                  .object(path)
-                  .build(),
-                ComposeSource.builder()
-                  .bucket(bucket)
-                  .region(region)
-                  .object(temporaryFileName)
-                  .build()))
-              .build());
-
-            delete(temporaryFileName);
-
-          }
-
-        } else {
-          write(path, ArrayUtils.addAll(readAllBytes(path), bytes));
-        }
+      return client.statObject(StatObjectArgs.builder()
+        .bucket(bucket)
+        .region(region)
+        .object(path).build());
+    } catch (ErrorResponseException e) {
+      if (NO_SUCH_KEY.equals(e.errorResponse().code())) {
+        return null;
       }
+      throw new IOException("Cannot get metadata of file: " + path, e);
     } catch (Exception e) {
-      throw new IOException("Cannot append data for path: " + path, e);
+      throw new IOException("Cannot get metadata of file: " + path, e);
+    }
+  }
+
+  byte[] readObject(String path) throws IOException {
+    try (var is = getObject(path)) {
+      return is.readAllBytes();
+    }
+  }
+
+  String createMultipartUpload(String path, Map<String, String> headers) throws IOException {
+    if (isComposeWithAwsSdk) {
+      return s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(path)
+        .contentType(headers.get(HttpHeaders.CONTENT_TYPE))
+        .contentDisposition(headers.get(HttpHeaders.CONTENT_DISPOSITION))
+        .build()).uploadId();
+    }
+    return multipartClient.createMultipartUpload(bucket, region, path, headers);
+  }
+
+  String uploadPart(String path, String uploadId, int partNumber, byte[] bytes) throws IOException {
+    var start = System.nanoTime();
+    var success = false;
+    try {
+      var etag = doUploadPart(path, uploadId, partNumber, bytes);
+      success = true;
+      return etag;
+    } finally {
+      recordOperation(UPLOAD, success ? bytes.length : 0, start, success);
+    }
+  }
+
+  private String doUploadPart(String path, String uploadId, int partNumber, byte[] bytes) throws IOException {
+    if (isComposeWithAwsSdk) {
+      return s3Client.uploadPart(UploadPartRequest.builder()
+        .bucket(bucket)
+        .key(path)
+        .uploadId(uploadId)
+        .partNumber(partNumber).build(), RequestBody.fromBytes(bytes)).eTag();
+    }
+    return multipartClient.uploadPart(bucket, region, path, uploadId, partNumber, bytes).etag();
+  }
+
+  String uploadPartCopy(String path, String uploadId, int partNumber, String sourcePath) throws IOException {
+    var start = System.nanoTime();
+    var success = false;
+    try {
+      var etag = doUploadPartCopy(path, uploadId, partNumber, sourcePath);
+      success = true;
+      return etag;
+    } finally {
+      recordOperation(COMPOSE, 0, start, success);
+    }
+  }
+
+  private String doUploadPartCopy(String path, String uploadId, int partNumber, String sourcePath) throws IOException {
+    if (isComposeWithAwsSdk) {
+      return s3Client.uploadPartCopy(UploadPartCopyRequest.builder()
+        .sourceBucket(bucket)
+        .sourceKey(sourcePath)
+        .uploadId(uploadId)
+        .destinationBucket(bucket)
+        .destinationKey(path)
+        .partNumber(partNumber).build()).copyPartResult().eTag();
+    }
+    return multipartClient.uploadPartCopy(bucket, region, path, uploadId, partNumber, sourcePath).etag();
+  }
+
+  void completeMultipartUpload(String path, String uploadId, List<String> etags) throws IOException {
+    if (isComposeWithAwsSdk) {
+      var parts = IntStream.range(0, etags.size())
+        .mapToObj(i -> CompletedPart.builder()
+          .partNumber(i + 1)
+          .eTag(etags.get(i)).build())
+        .collect(Collectors.toList());
+      s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(path)
+        .uploadId(uploadId)
+        .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+        .build());
+    } else {
+      var parts = IntStream.range(0, etags.size())
+        .mapToObj(i -> new Part(i + 1, etags.get(i)))
+        .collect(Collectors.toList());
+      multipartClient.completeMultipartUpload(bucket, region, path, uploadId, parts);
+    }
+  }
+
+  void abortMultipartUpload(String path, String uploadId) throws IOException {
+    if (isComposeWithAwsSdk) {
+      s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(path)
+        .uploadId(uploadId)
+        .build());
+    } else {
+      multipartClient.abortMultipartUpload(bucket, region, path, uploadId);
     }
   }
 
   /**
-   * Deletes a file
+   * Deletes a file along with its lines index
    *
    * @param path - the path to the file to delete
    * @throws FileOperationException if an I/O error occurs
    */
   public void delete(String path) {
+    discardAppends(path);
     try {
-      var paths = walk(path).collect(Collectors.toList());
+      deleteObjects(Stream.concat(walk(path), walk(LinesIndex.INDEX_PREFIX + path)).collect(Collectors.toList()));
+    } catch (Exception e) {
+      throw new FileOperationException("Cannot delete file: " + path, e);
+    }
+  }
 
-      paths.forEach(p -> {
+  /**
+   * Deletes files with multi-object delete requests of up to 1000 files each, together with their lines indexes.
+   * Files which cannot be deleted are logged and skipped.
+   *
+   * @param paths - the paths of the files to delete
+   */
+  public void deleteObjects(Collection<String> paths) {
+    paths.forEach(this::discardAppend);
+    var objects = new LinkedHashSet<>(paths);
+    paths.stream()
+      .filter(path -> !path.startsWith(LinesIndex.INDEX_PREFIX))
+      .map(LinesIndex::pathOf)
+      .forEach(objects::add);
+    for (var batch : ListUtils.partition(List.copyOf(objects), MAX_OBJECTS_PER_DELETE)) {
+      var start = System.nanoTime();
+      var failed = 0;
+      var results = client.removeObjects(RemoveObjectsArgs.builder()
+        .bucket(bucket)
+        .region(region)
+        .objects(batch.stream().map(DeleteObject::new).collect(Collectors.toList()))
+        .build());
+      // errors are returned lazily, objects are deleted while results are iterated
+      for (Result<DeleteError> result : results) {
+        failed++;
         try {
-          client.removeObject(RemoveObjectArgs.builder()
-            .bucket(bucket)
-            .region(region)
-            .object(p)
-            .build());
+          var error = result.get();
+          log.error("Cannot delete file: {}, {}", error.objectName(), error.message());
         } catch (Exception e) {
-          log.error(format("Cannot delete file: %s", p), e.getMessage());
+          log.error("Cannot delete files", e);
         }
-      });
-    } catch (Exception e) {
-      throw new FileOperationException("Cannot delete file: " + path, e);
+      }
+      recordOperation(DELETE, 0, start, failed == 0);
+      log.debug("Deleted {} of {} files", batch.size() - failed, batch.size());
     }
   }
 
+  /**
+   * Deletes files in background, so the caller is not blocked by the cleanup. Pending appends of the files are
+   * discarded immediately. Files are deleted in the caller thread if no cleanup executor is configured.
+   *
+   * @param paths - the paths of the files to delete
+   * @return future completed once the files are deleted
+   */
+  public CompletableFuture<Void> deleteObjectsAsync(Collection<String> paths) {
+    if (paths.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    var copy = List.copyOf(paths);
+    copy.forEach(this::discardAppend);
+    if (cleanupExecutor == null) {
+      deleteObjects(copy);
+      return CompletableFuture.completedFuture(null);
+    }
+    return CompletableFuture.runAsync(() -> deleteObjects(copy), cleanupExecutor)
+      .exceptionally(e -> {
+        log.error("Cannot delete {} files", copy.size(), e);
+        return null;
+      });
+  }
+
   /**
    * Return a {@code Stream} that is lazily populated with {@code
    * Path} by walking the file tree rooted at a given starting file.
@@ -335,7 +582,12 @@ public class BaseFilesStorage implements S3CompatibleStorage {
    * @throws FileOperationException if an I/O error occurs
    */
   public Stream<String> walk(String path) {
-    return getInternalStructure(path, true);
+    var structure = getInternalStructure(path, true);
+    if (structure == null || !hasPendingAppends(path)) {
+      return structure;
+    }
+    var pending = appendSessions.keySet().stream().filter(p -> p.startsWith(path));
+    return Stream.concat(structure, pending).distinct().sorted();
   }
 
   /**
@@ -345,6 +597,9 @@ public class BaseFilesStorage implements S3CompatibleStorage {
    * @return true if file exists, otherwise - false
    */
   public boolean exists(String path)  {
+    if (hasPendingAppends(path)) {
+      return true;
+    }
     var iterator = client.listObjects(ListObjectsArgs.builder()
         .bucket(bucket)
         .region(region)
@@ -377,11 +632,34 @@ public class BaseFilesStorage implements S3CompatibleStorage {
    * @throws IOException - if an I/O error occurs reading from the file
    */
   public InputStream newInputStream(String path) throws IOException {
+    completeAppend(path);
+    return getObject(path);
+  }
+
+  /**
+   * Opens a file at the given position, returning an input stream to read from the file with ranged request
+   *
+   * @param path - the path to the file on S3-compatible storage
+   * @param offset - the position in bytes to start reading from
+   * @return a new input stream
+   * @throws IOException - if an I/O error occurs reading from the file
+   */
+  public InputStream newInputStream(String path, long offset) throws IOException {
+    completeAppend(path);
+    return getObject(path, offset);
+  }
+
+  private InputStream getObject(String path) throws IOException {
+    return getObject(path, 0);
+  }
+
+  private InputStream getObject(String path, long offset) throws IOException {
     try {
       return client.getObject(GetObjectArgs.builder()
         .bucket(bucket)
         .region(region)
         .object(path)
+        .offset(offset > 0 ? offset : null)
         .build());
     } catch (Exception e) {
       throw new IOException("Error creating input stream for path: " + path, e);
@@ -414,6 +692,67 @@ public class BaseFilesStorage implements S3CompatibleStorage {
     return new BufferedReader(new InputStreamReader(newInputStream(path))).lines();
   }
 
+  /**
+   * Read lines from a file starting at the given line as a {@code Stream}. The file is read from the nearest indexed
+   * line with ranged request, so preceding lines are not transferred.
+   *
+   * @param path - the path to the file on S3-compatible storage
+   * @param offset - the number of the first line to read (zero-based)
+   * @param limit - the max number of lines to read
+   * @return the lines from the file as a {@code Stream}, the file is closed along with the stream
+   * @throws IOException - if an I/O error occurs reading from the file
+   */
+  public Stream<String> lines(String path, long offset, long limit) throws IOException {
+    var index = getLinesIndex(path);
+    if (offset >= index.getLines()) {
+      return Stream.empty();
+    }
+    var reader = new BufferedReader(new InputStreamReader(newInputStream(path, index.offsetOf(offset))));
+    return reader.lines()
+      .skip(index.linesToSkip(offset))
+      .limit(limit)
+      .onClose(() -> {
+        try {
+          reader.close();
+        } catch (IOException e) {
+          log.error("Cannot close file: " + path, e);
+        }
+      });
+  }
+
+  /**
+   * Counts lines of a file. The file is scanned once, the result is kept in the lines index of the file.
+   *
+   * @param path - the path to the file on S3-compatible storage
+   * @return the number of lines
+   * @throws IOException - if an I/O error occurs reading from the file
+   */
+  public long countLines(String path) throws IOException {
+    return getLinesIndex(path).getLines();
+  }
+
+  private LinesIndex getLinesIndex(String path) throws IOException {
+    completeAppend(path);
+    var etag = etagOf(path);
+    if (etag == null) {
+      throw new IOException("File not found: " + path);
+    }
+    var indexPath = LinesIndex.pathOf(path);
+    if (sizeOf(indexPath) >= 0) {
+      var index = LinesIndex.parse(readObject(indexPath));
+      if (etag.equals(index.getEtag())) {
+        return index;
+      }
+    }
+    LinesIndex index;
+    try (var is = getObject(path)) {
+      index = LinesIndex.build(etag, is);
+    }
+    putObject(indexPath, index.toBytes());
+    log.info("Indexed {} lines of {}.", index.getLines(), path);
+    return index;
+  }
+
   /**
    * Read number lines from a file as a {@code Stream}
    *
@@ -451,40 +790,43 @@ public class BaseFilesStorage implements S3CompatibleStorage {
     }
   }
 
-  public OutputStream newOutputStream(String path) {
-
-
-    return new OutputStream() {
-
-      byte[] buffer = new byte[0];
-
-      @Override
-      public void write(int b) {
-        buffer = ArrayUtils.add(buffer, (byte) b);
-      }
-
-      @Override
-      public void flush() {
-//        throw new NotImplementedException("Method isn't implemented yet");
-      }
+  /**
+   * Opens a stream to write the file on S3-compatible storage.
+   * Written bytes are uploaded with multipart upload parts of fixed size, so the memory held by the stream is bounded
+   * by the part size. The file is completed when the stream is closed.
+   *
+   * @param path - the path to the file on S3-compatible storage
+   * @return a new output stream
+   */
+  public StorageOutputStream newOutputStream(String path) {
+    return newOutputStream(path, new HashMap<>());
+  }
 
-      @Override
-      public void close() {
-        try {
-          BaseFilesStorage.this.write(path, buffer);
-        } catch (IOException e) {
-          throw new FileOperationException("Error closing stream and writes bytes to path: " + path, e);
-        } finally {
-          buffer = new byte[0];
-        }
-      }
-    };
+  public StorageOutputStream newOutputStream(String path, Map<String, String> headers) {
+    discardAppend(path);
+    return new StorageOutputStream(new AppendableObject(this, path, headers, MIN_MULTIPART_SIZE, true));
   }
 
   public BufferedWriter writer(String path) {
     return new BufferedWriter(new OutputStreamWriter(newOutputStream(path)));
   }
 
+  /**
+   * Records duration and transferred bytes of the storage operation, if metrics are available.
+   */
+  void recordOperation(String operation, long bytes, long start, boolean success) {
+    if (metrics == null) {
+      return;
+    }
+    var storage = StringUtils.uncapitalize(StringUtils.removeEnd(getClass().getSimpleName(), "FilesStorage"));
+    var tags = metrics.tags(STORAGE_TAG, storage, OPERATION_TAG, operation);
+    metrics.recordTime(OPERATIONS_METRIC, System.nanoTime() - start,
+      tags.and(ExportMetrics.OUTCOME_TAG, success ? ExportMetrics.SUCCESS : ExportMetrics.ERROR));
+    if (bytes > 0) {
+      metrics.count(BYTES_METRIC, bytes, tags);
+    }
+  }
+
   private Stream<String> getInternalStructure(String path, boolean isRecursive)  {
     try {
       return StreamSupport.stream(client.listObjects(ListObjectsArgs.builder()
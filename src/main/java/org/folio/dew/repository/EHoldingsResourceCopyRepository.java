@@ -0,0 +1,130 @@
+package org.folio.dew.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.de.entity.EHoldingsResource;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Writes eHoldings resources into the staging table with Postgres {@code COPY ... FROM STDIN}, rows are streamed as
+ * CSV without entity management. Rows are copied into a temporary table first and then moved into
+ * {@code e_holdings_resource}, so a resource written again by the same job replaces the previous row as with
+ * {@link EHoldingsResourceRepository#saveAll(Iterable)}. Resources repeated within the list are written once, the
+ * last one wins. The temporary table is created for each call and dropped after the move, so it never outlives a
+ * schema change of {@code e_holdings_resource} on a pooled connection. The connection of the current transaction is
+ * used when there is one.
+ */
+@Log4j2
+@Repository
+@RequiredArgsConstructor
+public class EHoldingsResourceCopyRepository {
+  private static final String COPY_TABLE = "e_holdings_resource_copy";
+  private static final String COLUMNS = "id, job_execution_id, name, resources_data, agreements, notes";
+  private static final String CREATE_COPY_TABLE_SQL = "CREATE TEMP TABLE " + COPY_TABLE
+    + " (LIKE e_holdings_resource INCLUDING DEFAULTS)";
+  private static final String DROP_COPY_TABLE_SQL = "DROP TABLE IF EXISTS " + COPY_TABLE;
+  private static final String COPY_SQL = "COPY " + COPY_TABLE + " (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+  private static final String MOVE_SQL = "INSERT INTO e_holdings_resource (" + COLUMNS + ") SELECT " + COLUMNS
+    + " FROM " + COPY_TABLE + " ON CONFLICT (job_execution_id, id) DO UPDATE SET name = EXCLUDED.name,"
+    + " resources_data = EXCLUDED.resources_data, agreements = EXCLUDED.agreements, notes = EXCLUDED.notes";
+
+  private final DataSource dataSource;
+
+  /**
+   * @param resources - resources of the job, each resource should have its job execution id set
+   * @return number of written rows
+   */
+  public long copyAll(List<EHoldingsResource> resources) throws SQLException {
+    if (resources.isEmpty()) {
+      return 0;
+    }
+    var connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      // a table left by a call which failed outside of a transaction
+      execute(connection, DROP_COPY_TABLE_SQL);
+      execute(connection, CREATE_COPY_TABLE_SQL);
+      var copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+      try {
+        var row = new StringBuilder();
+        for (var resource : unique(resources)) {
+          row.setLength(0);
+          appendRow(row, resource);
+          var bytes = row.toString().getBytes(StandardCharsets.UTF_8);
+          copyIn.writeToCopy(bytes, 0, bytes.length);
+        }
+        copyIn.endCopy();
+      } finally {
+        if (copyIn.isActive()) {
+          copyIn.cancelCopy();
+        }
+      }
+      long written;
+      try (var statement = connection.createStatement()) {
+        written = statement.executeUpdate(MOVE_SQL);
+      }
+      execute(connection, DROP_COPY_TABLE_SQL);
+      log.debug("Copied {} eHoldings resources", written);
+      return written;
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  /**
+   * A single {@code INSERT ... ON CONFLICT} cannot update the same row twice, so only the last of the resources with
+   * the same id is kept.
+   */
+  private static Collection<EHoldingsResource> unique(List<EHoldingsResource> resources) {
+    var unique = new LinkedHashMap<EHoldingsResource.ResourceId, EHoldingsResource>();
+    for (var resource : resources) {
+      var id = new EHoldingsResource.ResourceId();
+      id.setId(resource.getId());
+      id.setJobExecutionId(resource.getJobExecutionId());
+      unique.put(id, resource);
+    }
+    return unique.values();
+  }
+
+  private void execute(Connection connection, String sql) throws SQLException {
+    try (var statement = connection.createStatement()) {
+      statement.execute(sql);
+    }
+  }
+
+  static void appendRow(StringBuilder row, EHoldingsResource resource) {
+    appendValue(row, resource.getId()).append(',');
+    appendValue(row, resource.getJobExecutionId() == null ? null : resource.getJobExecutionId().toString()).append(',');
+    appendValue(row, resource.getName()).append(',');
+    appendValue(row, resource.getResourcesData()).append(',');
+    appendValue(row, resource.getAgreements()).append(',');
+    appendValue(row, resource.getNotes()).append('\n');
+  }
+
+  /**
+   * Appends CSV value: null is written as an unquoted empty value (NULL for COPY), other values are quoted.
+   */
+  private static StringBuilder appendValue(StringBuilder row, String value) {
+    if (value == null) {
+      return row;
+    }
+    row.append('"');
+    for (var i = 0; i < value.length(); i++) {
+      var c = value.charAt(i);
+      if (c == '"') {
+        row.append('"');
+      }
+      row.append(c);
+    }
+    return row.append('"');
+  }
+}
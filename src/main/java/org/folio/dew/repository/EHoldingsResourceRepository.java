@@ -8,12 +8,26 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface EHoldingsResourceRepository extends CrudRepository<EHoldingsResource, EHoldingsResource.ResourceId> {
-    @Query(value = "SELECT * FROM e_holdings_resource " +
+  /**
+   * Seeks the page of resources of the job following the previous one. Only selected attributes of resources data
+   * are returned, included objects, notes and agreements are returned only when requested (empty otherwise).
+   */
+  @Query(value = "SELECT id, job_execution_id, name, " +
+      "jsonb_build_object(" +
+      "'id', resources_data->'id', " +
+      "'type', resources_data->'type', " +
+      "'attributes', (SELECT coalesce(jsonb_object_agg(a.key, a.value), '{}'::jsonb) " +
+      "FROM jsonb_each(resources_data->'attributes') a WHERE a.key = ANY(string_to_array(:attributes, ','))), " +
+      "'included', CASE WHEN :withIncluded THEN resources_data->'included' END)::text AS resources_data, " +
+      "CASE WHEN :withAgreements THEN agreements::text ELSE '[]' END AS agreements, " +
+      "CASE WHEN :withNotes THEN notes::text ELSE '[]' END AS notes " +
+      "FROM e_holdings_resource " +
       "WHERE job_execution_id = :jobExecutionId " +
       "AND (lower(name), id) > (:previousName, :previousId) " +
       "ORDER BY lower(name) ASC, id ASC " +
       "LIMIT :limit", nativeQuery = true)
-  List<EHoldingsResource> seek(String previousName, String previousId, Long jobExecutionId, Integer limit);
+  List<EHoldingsResource> seek(String previousName, String previousId, Long jobExecutionId, Integer limit,
+                               String attributes, boolean withIncluded, boolean withNotes, boolean withAgreements);
 
   void deleteAllByJobExecutionId(Long jobExecutionId);
 }
@@ -1,6 +1,5 @@
 package org.folio.dew.repository;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -11,10 +10,12 @@ import org.apache.commons.net.ftp.FTP;
 import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPReply;
 import org.folio.dew.config.properties.FTPProperties;
+import org.folio.dew.config.properties.FileTransferPoolProperties;
 import org.folio.dew.exceptions.FtpException;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.stereotype.Repository;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -23,30 +24,69 @@ public class FTPObjectStorageRepository {
 
   private final ObjectFactory<FTPClient> ftpClientFactory;
   private final FTPProperties ftpProperties;
+  private final FileTransferConnectionPool<FtpConnection> connectionPool;
   private static final String FILE_UPLOAD_FAILED = "File upload failed. ";
 
-  public FTPObjectStorageRepository(ObjectFactory<FTPClient> ftpClientFactory, FTPProperties ftpProperties) {
+  /**
+   * Pooled FTP client along with the directory the user is placed in after login, relative working directory is
+   * resolved against it, so a reused client doesn't nest into the directory it was left in.
+   */
+  private record FtpConnection(FTPClient client, String homeDirectory) {
+  }
+
+  public FTPObjectStorageRepository(ObjectFactory<FTPClient> ftpClientFactory, FTPProperties ftpProperties,
+      FileTransferPoolProperties poolProperties) {
     this.ftpProperties = ftpProperties;
     this.ftpClientFactory = ftpClientFactory;
+    this.connectionPool = new FileTransferConnectionPool<>(new FileTransferConnectionPool.ConnectionFactory<>() {
+      @Override
+      public FtpConnection connect(FileTransferServer server) throws IOException {
+        var ftpClient = login(server);
+        try {
+          return new FtpConnection(ftpClient, StringUtils.defaultIfEmpty(ftpClient.printWorkingDirectory(), "/"));
+        } catch (IOException e) {
+          logout(ftpClient);
+          throw e;
+        }
+      }
+
+      @Override
+      public boolean isValid(FtpConnection connection) {
+        try {
+          return connection.client().isConnected() && connection.client().sendNoOp();
+        } catch (IOException e) {
+          return false;
+        }
+      }
+
+      @Override
+      public void disconnect(FtpConnection connection) {
+        logout(connection.client());
+      }
+    }, poolProperties);
   }
 
-  private FTPClient login(String ftpUrl, String username, String password) throws URISyntaxException, IOException {
-    FTPClient ftpClient = ftpClientFactory.getObject();
+  private FileTransferServer getServer(String ftpUrl, String username, String password) throws URISyntaxException {
     if (!isUriValid(ftpUrl)) {
       throw new URISyntaxException(ftpUrl, "URI should be valid ftp path");
     }
 
     URI url = new URI(ftpUrl);
-    String server = url.getHost();
     int port = url.getPort() > 0 ? url.getPort() : ftpProperties.getDefaultPort();
-    ftpClient.connect(server, port);
-    log.info("Connected to {}:{}", server, port);
+    return new FileTransferServer(url.getHost(), port, username, password);
+  }
+
+  private FTPClient login(FileTransferServer server) throws IOException {
+    FTPClient ftpClient = ftpClientFactory.getObject();
+    ftpClient.connect(server.host(), server.port());
+    log.info("Connected to {}:{}", server.host(), server.port());
     int reply = ftpClient.getReplyCode();
     if (!FTPReply.isPositiveCompletion(reply)) {
+      disconnect(ftpClient);
       throw new FtpException(ftpClient.getReplyCode(), ftpClient.getReplyString().trim());
     }
 
-    if (ftpClient.login(username, password)) {
+    if (ftpClient.login(server.username(), server.password())) {
       log.info("Success login to FTP");
     } else {
       log.error("Failed login to FTP");
@@ -75,32 +115,49 @@ public class FTPObjectStorageRepository {
     }
   }
 
-  public void upload(String ftpUrl, String username, String password, String filename, byte[] fileByteContent) throws Exception {
-    FTPClient ftpClient = login(ftpUrl, username, password);
-    try (InputStream is = new ByteArrayInputStream(fileByteContent)) {
-      ftpClient.setFileType(FTP.BINARY_FILE_TYPE);
-      ftpClient.enterLocalPassiveMode();
-      changeWorkingDirectory(ftpClient);
-      if (ftpClient.storeFile(filename, is)) {
-        log.debug("File uploaded on FTP");
-      } else {
-        log.debug("File NOT uploaded on FTP");
-        throw new FtpException(ftpClient.getReplyCode(), getReplyMessage(ftpClient.getReplyCode(), ftpClient.getReplyString()));
+  /**
+   * Uploads the file with a pooled connection to the server, the content is streamed from the input stream.
+   */
+  public void upload(String ftpUrl, String username, String password, String filename, InputStream is) throws Exception {
+    connectionPool.execute(getServer(ftpUrl, username, password), connection -> {
+      var ftpClient = connection.client();
+      try {
+        ftpClient.setFileType(FTP.BINARY_FILE_TYPE);
+        ftpClient.enterLocalPassiveMode();
+        changeWorkingDirectory(ftpClient, getAbsoluteWorkingDir(connection));
+        if (ftpClient.storeFile(filename, is)) {
+          log.debug("File uploaded on FTP");
+        } else {
+          log.debug("File NOT uploaded on FTP");
+          throw new FtpException(ftpClient.getReplyCode(), getReplyMessage(ftpClient.getReplyCode(), ftpClient.getReplyString()));
+        }
+      } catch (IOException ioException) {
+        log.error("Error uploading file", ioException);
+        throw ioException;
       }
-    } catch (IOException ioException) {
-      log.error("Error uploading file", ioException);
-      throw ioException;
-    } finally {
-      logout(ftpClient);
+      return null;
+    });
+  }
+
+  @PreDestroy
+  public void closeConnections() {
+    connectionPool.close();
+  }
+
+  private void changeWorkingDirectory(FTPClient ftpClient, String workingDir) throws IOException {
+    if (isDirectoryAbsent(ftpClient, workingDir)) {
+      log.info("A directory has been created: " + workingDir);
+      ftpClient.makeDirectory(workingDir);
     }
+    ftpClient.changeWorkingDirectory(workingDir);
   }
 
-  private void changeWorkingDirectory(FTPClient ftpClient) throws IOException {
-    if (isDirectoryAbsent(ftpClient, ftpProperties.getWorkingDir())) {
-      log.info("A directory has been created: " + ftpProperties.getWorkingDir());
-      ftpClient.makeDirectory(ftpProperties.getWorkingDir());
+  private String getAbsoluteWorkingDir(FtpConnection connection) {
+    var workingDir = StringUtils.defaultString(ftpProperties.getWorkingDir());
+    if (workingDir.startsWith("/")) {
+      return workingDir;
     }
-    ftpClient.changeWorkingDirectory(ftpProperties.getWorkingDir());
+    return StringUtils.appendIfMissing(connection.homeDirectory(), "/") + workingDir;
   }
 
   private boolean isDirectoryAbsent(FTPClient ftpClient, String dirPath) throws IOException {
@@ -0,0 +1,173 @@
+package org.folio.dew.repository;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.dew.config.properties.FileTransferPoolProperties;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Keeps authenticated FTP/SFTP connections for reuse, so uploads to the same server don't pay for handshake and
+ * authentication each time. Connections are pooled by {@link FileTransferServer}, at most
+ * {@link FileTransferPoolProperties#getMaxSessionsPerServer()} of them are in use for the same server at once.
+ * Idle connections are checked before reuse and closed once they stay idle longer than
+ * {@link FileTransferPoolProperties#getIdleTimeout()}; servers left without connections and callers are dropped from
+ * the pool along with them.
+ *
+ * @param <C> type of connection
+ */
+@Log4j2
+public class FileTransferConnectionPool<C> {
+
+  /**
+   * Opens, checks and closes connections of the pool.
+   *
+   * @param <C> type of connection
+   */
+  public interface ConnectionFactory<C> {
+    C connect(FileTransferServer server) throws Exception;
+
+    boolean isValid(C connection);
+
+    void disconnect(C connection);
+  }
+
+  @FunctionalInterface
+  public interface ConnectionCallback<C, R> {
+    R doWith(C connection) throws Exception;
+  }
+
+  private record IdleConnection<C>(C connection, long idleSince) {
+  }
+
+  private final class Slot {
+    private final Semaphore sessions = new Semaphore(maxSessionsPerServer, true);
+    private final Deque<IdleConnection<C>> idle = new ConcurrentLinkedDeque<>();
+    // callers holding or waiting for a session, changed only within compute of the slot's map entry
+    private int users;
+  }
+
+  private final ConnectionFactory<C> factory;
+  private final int maxSessionsPerServer;
+  private final long idleTimeout;
+  private final long maxWaitTime;
+  private final Map<FileTransferServer, Slot> slots = new ConcurrentHashMap<>();
+
+  public FileTransferConnectionPool(ConnectionFactory<C> factory, FileTransferPoolProperties properties) {
+    this.factory = factory;
+    this.maxSessionsPerServer = properties.getMaxSessionsPerServer();
+    this.idleTimeout = properties.getIdleTimeout();
+    this.maxWaitTime = properties.getMaxWaitTime();
+  }
+
+  /**
+   * Executes the callback with a pooled connection to the server. The connection is returned to the pool if the
+   * callback succeeded, otherwise it is closed since its state is unknown.
+   *
+   * @param server - server and credentials
+   * @param callback - action with the connection
+   * @param <R> - type of result
+   * @return result of the callback
+   * @throws IOException if no session to the server is released within the max wait time
+   * @throws Exception if the connection cannot be opened or the callback failed
+   */
+  public <R> R execute(FileTransferServer server, ConnectionCallback<C, R> callback) throws Exception {
+    evictIdle();
+    var slot = slots.compute(server, (s, existing) -> {
+      var result = existing == null ? new Slot() : existing;
+      result.users++;
+      return result;
+    });
+    try {
+      return execute(server, slot, callback);
+    } finally {
+      slots.computeIfPresent(server, (s, existing) -> {
+        existing.users--;
+        return existing;
+      });
+    }
+  }
+
+  private <R> R execute(FileTransferServer server, Slot slot, ConnectionCallback<C, R> callback) throws Exception {
+    if (!slot.sessions.tryAcquire(maxWaitTime, TimeUnit.MILLISECONDS)) {
+      throw new IOException(String.format("Timed out waiting for a free session to %s", server));
+    }
+    C connection = null;
+    var reusable = false;
+    try {
+      connection = borrow(server, slot);
+      var result = callback.doWith(connection);
+      reusable = true;
+      return result;
+    } finally {
+      if (connection != null) {
+        if (reusable) {
+          slot.idle.push(new IdleConnection<>(connection, System.currentTimeMillis()));
+        } else {
+          factory.disconnect(connection);
+        }
+      }
+      slot.sessions.release();
+    }
+  }
+
+  private C borrow(FileTransferServer server, Slot slot) throws Exception {
+    IdleConnection<C> idle;
+    while ((idle = slot.idle.poll()) != null) {
+      if (!isExpired(idle) && factory.isValid(idle.connection())) {
+        log.debug("Reuse connection to {}", server);
+        return idle.connection();
+      }
+      factory.disconnect(idle.connection());
+    }
+    log.debug("Open connection to {}", server);
+    return factory.connect(server);
+  }
+
+  /**
+   * Closes connections which stayed idle longer than the idle timeout and drops servers which have neither
+   * connections nor callers.
+   */
+  public void evictIdle() {
+    for (var entry : slots.entrySet()) {
+      var slot = entry.getValue();
+      for (var idle : slot.idle) {
+        // the connection may be borrowed concurrently, so it is closed only if removed by this thread
+        if (isExpired(idle) && slot.idle.removeFirstOccurrence(idle)) {
+          factory.disconnect(idle.connection());
+        }
+      }
+      slots.computeIfPresent(entry.getKey(), (s, existing) ->
+        existing.users == 0 && existing.idle.isEmpty() ? null : existing);
+    }
+  }
+
+  /**
+   * @return number of servers kept by the pool
+   */
+  int getServers() {
+    return slots.size();
+  }
+
+  /**
+   * Closes all idle connections.
+   */
+  public void close() {
+    slots.values().forEach(slot -> {
+      IdleConnection<C> idle;
+      while ((idle = slot.idle.poll()) != null) {
+        factory.disconnect(idle.connection());
+      }
+    });
+  }
+
+  private boolean isExpired(IdleConnection<C> idle) {
+    return System.currentTimeMillis() - idle.idleSince() > idleTimeout;
+  }
+}
@@ -0,0 +1,12 @@
+package org.folio.dew.repository;
+
+/**
+ * Server and credentials of FTP/SFTP connections, pooled connections are shared by equal servers only.
+ */
+public record FileTransferServer(String host, int port, String username, String password) {
+
+  @Override
+  public String toString() {
+    return username + "@" + host + ":" + port;
+  }
+}
@@ -0,0 +1,132 @@
+package org.folio.dew.repository;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Sparse index of the line offsets of the stored file: keeps the number of lines and the byte offset of every
+ * {@link #STEP}th line, so reading from any line requires a ranged read and skipping less than {@link #STEP} lines.
+ * Lines are separated by '\n', '\r' or "\r\n", the same way as {@link java.io.BufferedReader#lines()} splits them.
+ * <p>
+ * The index is bound to the ETag of the file, so it's rebuilt once the file is rewritten. Indexes are stored under
+ * {@link #INDEX_PREFIX}, away from the indexed files, so they don't show up in listings of the files' folders.
+ */
+class LinesIndex {
+  static final String INDEX_PREFIX = ".lines-index/";
+  static final String INDEX_SUFFIX = ".lines.idx";
+  static final int STEP = 1000;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final String SEPARATOR = ",";
+
+  private final String etag;
+  private final long lines;
+  private final long[] offsets;
+
+  private LinesIndex(String etag, long lines, long[] offsets) {
+    this.etag = etag;
+    this.lines = lines;
+    this.offsets = offsets;
+  }
+
+  /**
+   * @param path - the path to the indexed file
+   * @return the path of the index of the file
+   */
+  static String pathOf(String path) {
+    return INDEX_PREFIX + path + INDEX_SUFFIX;
+  }
+
+  /**
+   * Builds the index with a single scan of the content.
+   *
+   * @param etag - ETag of the file
+   * @param is - the content of the file
+   * @return the index
+   * @throws IOException if an I/O error occurs
+   */
+  static LinesIndex build(String etag, InputStream is) throws IOException {
+    var offsets = new long[16];
+    var count = 0;
+    var lines = 0L;
+    var position = 0L;
+    var lineStart = true;
+    var afterCr = false;
+    var buffer = new byte[BUFFER_SIZE];
+    try (var in = new BufferedInputStream(is, BUFFER_SIZE)) {
+      int n;
+      while ((n = in.read(buffer)) != -1) {
+        for (int i = 0; i < n; i++, position++) {
+          var b = buffer[i];
+          if (b == '\n' && afterCr) {
+            // the second byte of "\r\n" terminator
+            afterCr = false;
+            continue;
+          }
+          if (lineStart) {
+            if (lines % STEP == 0) {
+              if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+              }
+              offsets[count++] = position;
+            }
+            lines++;
+            lineStart = false;
+          }
+          lineStart = b == '\n' || b == '\r';
+          afterCr = b == '\r';
+        }
+      }
+    }
+    return new LinesIndex(etag, lines, Arrays.copyOf(offsets, count));
+  }
+
+  static LinesIndex parse(byte[] bytes) {
+    var values = new String(bytes, StandardCharsets.UTF_8).split(SEPARATOR);
+    var numbers = Arrays.stream(values, 1, values.length)
+      .mapToLong(Long::parseLong)
+      .toArray();
+    return new LinesIndex(values[0], numbers[0], Arrays.copyOfRange(numbers, 1, numbers.length));
+  }
+
+  byte[] toBytes() {
+    var sb = new StringBuilder().append(etag).append(SEPARATOR).append(lines);
+    for (long offset : offsets) {
+      sb.append(SEPARATOR).append(offset);
+    }
+    return sb.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @return ETag of the indexed file
+   */
+  String getEtag() {
+    return etag;
+  }
+
+  /**
+   * @return number of lines of the indexed file
+   */
+  long getLines() {
+    return lines;
+  }
+
+  /**
+   * @param line - the line number (zero-based)
+   * @return byte offset of the nearest indexed line not after the line
+   */
+  long offsetOf(long line) {
+    return offsets[(int) (line / STEP)];
+  }
+
+  /**
+   * @param line - the line number (zero-based)
+   * @return number of lines to skip after {@link #offsetOf(long)} to reach the line
+   */
+  long linesToSkip(long line) {
+    return line % STEP;
+  }
+}
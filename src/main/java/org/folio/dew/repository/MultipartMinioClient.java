@@ -0,0 +1,82 @@
+package org.folio.dew.repository;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
+import io.minio.MinioAsyncClient;
+import io.minio.S3Escaper;
+import io.minio.messages.Part;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Exposes the low-level S3 multipart operations of {@link MinioAsyncClient} as blocking calls.
+ */
+public class MultipartMinioClient extends MinioAsyncClient {
+
+  private static final String COPY_SOURCE_HEADER = "x-amz-copy-source";
+
+  public MultipartMinioClient(MinioAsyncClient client) {
+    super(client);
+  }
+
+  public String createMultipartUpload(String bucket, String region, String object, Map<String, String> headers) throws IOException {
+    try {
+      return createMultipartUploadAsync(bucket, region, object, Multimaps.forMap(headers), emptyMultimap())
+        .get().result().uploadId();
+    } catch (Exception e) {
+      throw toIOException("Cannot create multipart upload for object: " + object, e);
+    }
+  }
+
+  public Part uploadPart(String bucket, String region, String object, String uploadId, int partNumber, byte[] bytes) throws IOException {
+    try {
+      return uploadPartAsync(bucket, region, object, bytes, bytes.length, uploadId, partNumber, emptyMultimap(), emptyMultimap())
+        .get().part();
+    } catch (Exception e) {
+      throw toIOException(String.format("Cannot upload part %d of object: %s", partNumber, object), e);
+    }
+  }
+
+  public Part uploadPartCopy(String bucket, String region, String object, String uploadId, int partNumber, String sourceObject) throws IOException {
+    try {
+      Multimap<String, String> headers = HashMultimap.create();
+      headers.put(COPY_SOURCE_HEADER, S3Escaper.encodePath("/" + bucket + "/" + sourceObject));
+      return uploadPartCopyAsync(bucket, region, object, uploadId, partNumber, headers, emptyMultimap())
+        .get().part();
+    } catch (Exception e) {
+      throw toIOException(String.format("Cannot copy %s as part %d of object: %s", sourceObject, partNumber, object), e);
+    }
+  }
+
+  public void completeMultipartUpload(String bucket, String region, String object, String uploadId, List<Part> parts) throws IOException {
+    try {
+      completeMultipartUploadAsync(bucket, region, object, uploadId, parts.toArray(new Part[0]), emptyMultimap(), emptyMultimap())
+        .get();
+    } catch (Exception e) {
+      throw toIOException("Cannot complete multipart upload for object: " + object, e);
+    }
+  }
+
+  public void abortMultipartUpload(String bucket, String region, String object, String uploadId) throws IOException {
+    try {
+      abortMultipartUploadAsync(bucket, region, object, uploadId, emptyMultimap(), emptyMultimap()).get();
+    } catch (Exception e) {
+      throw toIOException("Cannot abort multipart upload for object: " + object, e);
+    }
+  }
+
+  private static Multimap<String, String> emptyMultimap() {
+    return HashMultimap.create();
+  }
+
+  private static IOException toIOException(String message, Exception e) {
+    if (e instanceof InterruptedException) {
+      Thread.currentThread().interrupt();
+    }
+    return new IOException(message, e instanceof ExecutionException ? e.getCause() : e);
+  }
+}
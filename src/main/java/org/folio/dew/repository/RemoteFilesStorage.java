@@ -2,12 +2,14 @@ package org.folio.dew.repository;
 
 import io.minio.ComposeObjectArgs;
 import io.minio.ComposeSource;
+import io.minio.CopyObjectArgs;
+import io.minio.CopySource;
+import io.minio.Directive;
 import io.minio.GetObjectArgs;
 import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.ListObjectsArgs;
 import io.minio.MinioClient;
 import io.minio.ObjectWriteArgs;
-import io.minio.RemoveObjectsArgs;
 import io.minio.Result;
 import io.minio.errors.ErrorResponseException;
 import io.minio.errors.InsufficientDataException;
@@ -16,13 +18,14 @@ import io.minio.errors.InvalidResponseException;
 import io.minio.errors.ServerException;
 import io.minio.errors.XmlParserException;
 import io.minio.http.Method;
-import io.minio.messages.DeleteError;
-import io.minio.messages.DeleteObject;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -65,7 +68,17 @@ public class RemoteFilesStorage extends BaseFilesStorage {
     log.info("Uploading object {},filename {},downloadFilename {},contentType {}.", object, filename, downloadFilename,
         contentType);
 
-    var result = write(object, localFilesStorage.readAllBytes(filename), prepareHeaders(downloadFilename, contentType));
+    localFilesStorage.completeAppend(filename);
+    var headers = prepareHeaders(downloadFilename, contentType);
+    String result;
+    if (isSameEndpoint(localFilesStorage) && localFilesStorage.sizeOf(filename) <= ObjectWriteArgs.MAX_PART_SIZE) {
+      result = copyObject(object, filename, headers);
+    } else {
+      try (var is = localFilesStorage.newInputStream(filename)) {
+        transfer(is, newOutputStream(object, headers));
+      }
+      result = object;
+    }
 
     if (isSourceShouldBeDeleted) {
       localFilesStorage.delete(filename);
@@ -78,7 +91,47 @@ public class RemoteFilesStorage extends BaseFilesStorage {
   public void downloadObject(String objectToGet, String fileToSave) throws IOException, InvalidKeyException,
     InvalidResponseException, InsufficientDataException, NoSuchAlgorithmException, ServerException,
     InternalException, XmlParserException, ErrorResponseException {
-    localFilesStorage.write(fileToSave, client.getObject(GetObjectArgs.builder().bucket(bucket).object(objectToGet).build()).readAllBytes());
+    try (var is = client.getObject(GetObjectArgs.builder().bucket(bucket).object(objectToGet).build())) {
+      transfer(is, localFilesStorage.newOutputStream(fileToSave));
+    } catch (IOException | RuntimeException e) {
+      // no partial or outdated copy of the object is left under the local name
+      localFilesStorage.deleteObjects(List.of(fileToSave));
+      throw e;
+    }
+  }
+
+  /**
+   * Copies the stream into the object, the object is completed only if all bytes are transferred. Otherwise the upload
+   * is aborted, so no truncated object is published.
+   */
+  private static void transfer(InputStream is, StorageOutputStream os) throws IOException {
+    try {
+      is.transferTo(os);
+    } catch (IOException | RuntimeException e) {
+      os.abort();
+      throw e;
+    }
+    os.close();
+  }
+
+  private String copyObject(String object, String filename, Map<String, String> headers) throws IOException {
+    log.info("Copying {} to {} on the storage side.", filename, object);
+    try {
+      return client.copyObject(CopyObjectArgs.builder()
+          .bucket(bucket)
+          .region(region)
+          .object(object)
+          .headers(headers)
+          .metadataDirective(Directive.REPLACE)
+          .source(CopySource.builder()
+            .bucket(localFilesStorage.getBucket())
+            .object(filename)
+            .build())
+          .build())
+        .object();
+    } catch (Exception e) {
+      throw new IOException("Cannot copy file: " + filename, e);
+    }
   }
 
   public boolean containsFile(String fileName)
@@ -96,31 +149,95 @@ public class RemoteFilesStorage extends BaseFilesStorage {
       String contentType)
       throws IOException, InvalidKeyException, InvalidResponseException, InsufficientDataException, NoSuchAlgorithmException,
       ServerException, InternalException, XmlParserException, ErrorResponseException {
-    List<ComposeSource> sources = sourceObjects.stream()
-        .map(so -> ComposeSource.builder().bucket(bucket).object(so).build())
-        .collect(Collectors.toList());
-    log.info("Composing object {},sources [{}],downloadFilename {},contentType {}.", destObject,
-        sources.stream().map(s -> String.format("bucket %s,object %s", s.bucket(), s.object())).collect(Collectors.joining(",")),
-        downloadFilename, contentType);
-    var result = client.composeObject(
-        createArgs(ComposeObjectArgs.builder().sources(sources), destObject, downloadFilename, contentType)).object();
+    var start = System.nanoTime();
+    var success = false;
+    var composedObjects = new ArrayList<String>();
+    String result;
+    try {
+      for (var sourceObject : sourceObjects) {
+        completeAppend(sourceObject);
+      }
+      concatenateSmallSources(destObject, sourceObjects, composedObjects);
+      List<ComposeSource> sources = composedObjects.stream()
+          .map(so -> ComposeSource.builder().bucket(bucket).object(so).build())
+          .collect(Collectors.toList());
+      log.info("Composing object {},sources [{}],downloadFilename {},contentType {}.", destObject,
+          sources.stream().map(s -> String.format("bucket %s,object %s", s.bucket(), s.object())).collect(Collectors.joining(",")),
+          downloadFilename, contentType);
+      result = client.composeObject(
+          createArgs(ComposeObjectArgs.builder().sources(sources), destObject, downloadFilename, contentType)).object();
+      success = true;
+    } finally {
+      // bytes of concatenated sources are counted by their uploads, compose itself copies on the storage side
+      recordOperation(COMPOSE, 0, start, success);
+      if (!success) {
+        // sources are kept for a retry, only the temporary concatenations are dropped
+        var temporaryObjects = new ArrayList<>(composedObjects);
+        temporaryObjects.removeAll(sourceObjects);
+        deleteObjectsAsync(temporaryObjects);
+      }
+    }
 
-    removeObjects(sourceObjects);
+    var deletedObjects = new LinkedHashSet<>(sourceObjects);
+    deletedObjects.addAll(composedObjects);
+    deleteObjectsAsync(deletedObjects);
 
     return result;
   }
 
-  public Iterable<Result<DeleteError>> removeObjects(List<String> objects) {
-    log.info("Deleting objects [{}].", StringUtils.join(objects, ","));
-    return client.removeObjects(RemoveObjectsArgs.builder()
-        .bucket(bucket)
-        .objects(objects.stream().map(DeleteObject::new).collect(Collectors.toList()))
-        .build());
+  /**
+   * Every source of a compose except the last one must be at least {@link ObjectWriteArgs#MIN_MULTIPART_SIZE} bytes.
+   * Runs of smaller sources are concatenated into temporary objects until they reach the minimum, larger sources are
+   * composed as they are. Objects to compose are added to {@code composedObjects} as soon as they exist, so temporary
+   * ones can be deleted if a later step fails.
+   */
+  private void concatenateSmallSources(String destObject, List<String> sourceObjects, List<String> composedObjects)
+      throws IOException {
+    var run = new ArrayList<String>();
+    long runSize = 0;
+    for (var sourceObject : sourceObjects) {
+      var size = sizeOf(sourceObject);
+      if (run.isEmpty() && size >= ObjectWriteArgs.MIN_MULTIPART_SIZE) {
+        composedObjects.add(sourceObject);
+        continue;
+      }
+      run.add(sourceObject);
+      runSize += size;
+      if (runSize >= ObjectWriteArgs.MIN_MULTIPART_SIZE) {
+        composedObjects.add(concatenate(destObject + ".run_" + composedObjects.size(), run));
+        run.clear();
+        runSize = 0;
+      }
+    }
+    if (run.size() == 1) {
+      composedObjects.add(run.get(0));
+    } else if (!run.isEmpty()) {
+      composedObjects.add(concatenate(destObject + ".run_" + composedObjects.size(), run));
+    }
+  }
+
+  private String concatenate(String object, List<String> sourceObjects) throws IOException {
+    log.info("Concatenating {} sources smaller than {} bytes into {}.", sourceObjects.size(),
+      ObjectWriteArgs.MIN_MULTIPART_SIZE, object);
+    var os = newOutputStream(object);
+    try {
+      for (var sourceObject : sourceObjects) {
+        try (var is = newInputStream(sourceObject)) {
+          is.transferTo(os);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      os.abort();
+      throw e;
+    }
+    os.close();
+    return object;
   }
 
   public String objectToPresignedObjectUrl(String object)
     throws IOException, InvalidKeyException, InvalidResponseException, InsufficientDataException, NoSuchAlgorithmException,
     ServerException, InternalException, XmlParserException, ErrorResponseException {
+    completeAppend(object);
     String result = client.getPresignedObjectUrl(GetPresignedObjectUrlArgs.builder()
       .method(Method.GET)
       .bucket(bucket)
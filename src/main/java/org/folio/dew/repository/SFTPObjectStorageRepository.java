@@ -1,6 +1,5 @@
 package org.folio.dew.repository;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -14,21 +13,50 @@ import org.apache.sshd.sftp.client.SftpClient;
 import org.apache.sshd.sftp.client.SftpClientFactory;
 import org.apache.sshd.sftp.spring.integration.ApacheSshdSftpSessionFactory;
 import org.folio.dew.batch.acquisitions.edifact.exceptions.EdifactException;
+import org.folio.dew.config.properties.FileTransferPoolProperties;
 import org.springframework.integration.file.remote.session.Session;
-import org.springframework.integration.file.remote.session.SessionFactory;
 import org.springframework.stereotype.Repository;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 @Repository
-@RequiredArgsConstructor
 public class SFTPObjectStorageRepository {
 
   private SshSimpleClient sshClient;
   private static final int LOGIN_TIMEOUT_SECONDS = 30;
 
+  private SshClient sharedSshClient;
+  private final FileTransferConnectionPool<Session<SftpClient.DirEntry>> sessionPool;
+
+  public SFTPObjectStorageRepository(FileTransferPoolProperties poolProperties) {
+    this.sessionPool = new FileTransferConnectionPool<>(new FileTransferConnectionPool.ConnectionFactory<>() {
+      @Override
+      public Session<SftpClient.DirEntry> connect(FileTransferServer server) {
+        try {
+          return getSshdSessionFactory(server.username(), server.password(), server.host(), server.port()).getSession();
+        } catch (Exception e) {
+          throw new EdifactException(String.format("Unable to connect to %s:%d", server.host(), server.port()));
+        }
+      }
+
+      @Override
+      public boolean isValid(Session<SftpClient.DirEntry> session) {
+        return session.isOpen() && session.test();
+      }
+
+      @Override
+      public void disconnect(Session<SftpClient.DirEntry> session) {
+        try {
+          session.close();
+        } catch (Exception e) {
+          log.warn("Error closing SFTP session: {}", e.getMessage());
+        }
+      }
+    }, poolProperties);
+  }
+
   public SftpClient getSftpClient(String username, String password, String host, int port) throws IOException {
     sshClient = new SshSimpleClient(username, password, host, port);
     sshClient.startClient();
@@ -50,9 +78,11 @@ public class SFTPObjectStorageRepository {
     return SftpClientFactory.instance().createSftpClient(session);
   }
 
+  /**
+   * Builds the session factory of the server, all factories share single started {@link SshClient}.
+   */
   protected ApacheSshdSftpSessionFactory getSshdSessionFactory(String username, String password, String host, int port) throws Exception {
-    var ssh = SshClient.setUpDefaultClient();
-    ssh.start();
+    var ssh = getSharedSshClient();
 
     ApacheSshdSftpSessionFactory factory = new ApacheSshdSftpSessionFactory(false);
     factory.setHost(host);
@@ -66,28 +96,35 @@ public class SFTPObjectStorageRepository {
     return factory;
   }
 
-  public boolean upload(String username, String password, String host, int port, String folder, String filename, byte[] content)
+  private synchronized SshClient getSharedSshClient() {
+    if (sharedSshClient == null || !sharedSshClient.isStarted()) {
+      sharedSshClient = SshClient.setUpDefaultClient();
+      sharedSshClient.start();
+    }
+    return sharedSshClient;
+  }
+
+  /**
+   * Uploads the file with a pooled session to the server, the content is streamed from the input stream.
+   */
+  public boolean upload(String username, String password, String host, int port, String folder, String filename, InputStream inputStream)
       throws Exception {
     String folderPath = StringUtils.isEmpty(folder) ? "" : (folder + File.separator);
     String remoteAbsPath = folderPath + filename;
 
-    SessionFactory<SftpClient.DirEntry> sshdFactory;
-    try {
-      sshdFactory = getSshdSessionFactory(username, password, host, port);
-    } catch (Exception e) {
-      throw new EdifactException(String.format("Unable to connect to %s:%d", host, port));
-    }
-    try (InputStream inputStream = new ByteArrayInputStream(content); var session = sshdFactory.getSession()) {
-      log.info("Start uploading file to SFTP path: {}", remoteAbsPath);
+    return sessionPool.execute(new FileTransferServer(host, port, username, password), session -> {
+      try {
+        log.info("Start uploading file to SFTP path: {}", remoteAbsPath);
 
-      createRemoteDirectoryIfAbsent(session, folder);
-      session.write(inputStream, remoteAbsPath);
+        createRemoteDirectoryIfAbsent(session, folder);
+        session.write(inputStream, remoteAbsPath);
 
-      return true;
-    } catch (Exception e) {
-      log.info("Error uploading the file", e);
-      throw new EdifactException(String.format("Unable to upload to %s:%d%s. %s", host, port, folder, e.getMessage()));
-    }
+        return true;
+      } catch (Exception e) {
+        log.info("Error uploading the file", e);
+        throw new EdifactException(String.format("Unable to upload to %s:%d%s. %s", host, port, folder, e.getMessage()));
+      }
+    });
   }
 
   public byte[] download(SftpClient sftpClient, String path) {
@@ -125,4 +162,12 @@ public class SFTPObjectStorageRepository {
     }
   }
 
+  @PreDestroy
+  public synchronized void closeSessions() {
+    sessionPool.close();
+    if (sharedSshClient != null && sharedSshClient.isStarted()) {
+      sharedSshClient.stop();
+    }
+  }
+
 }
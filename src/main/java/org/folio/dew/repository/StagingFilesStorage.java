@@ -0,0 +1,264 @@
+package org.folio.dew.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.dew.config.properties.StagingFilesStorageProperties;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Node-local disk staging of partition part files. Appended chunks are written to local files through buffered file
+ * channels instead of object storage, and a staged file is uploaded once with {@link #uploadTo(BaseFilesStorage, String)}
+ * when its partition step ends. Staged files together never take more than
+ * {@link StagingFilesStorageProperties#getMaxDiskUsage()} bytes, a write exceeding the quota fails. The staging
+ * directory is owned by the module instance, files left by a crashed instance are deleted on startup.
+ */
+@Repository
+@Log4j2
+public class StagingFilesStorage implements S3CompatibleStorage {
+
+  private final StagingFilesStorageProperties properties;
+  private final Path root;
+  private final Map<Path, OutputStream> openFiles = new ConcurrentHashMap<>();
+  private final AtomicLong usedBytes = new AtomicLong();
+  // bytes reserved by each staged file, including appended bytes still buffered, so quota is released exactly
+  private final Map<Path, Long> reservedBytes = new ConcurrentHashMap<>();
+
+  public StagingFilesStorage(StagingFilesStorageProperties properties) {
+    this.properties = properties;
+    this.root = Path.of(properties.getDirectory()).toAbsolutePath().normalize();
+  }
+
+  @PostConstruct
+  public void init() throws IOException {
+    if (!isEnabled()) {
+      return;
+    }
+    if (Files.exists(root)) {
+      log.info("Cleaning staging directory {} left by previous run.", root);
+      FileUtils.cleanDirectory(root.toFile());
+    }
+    Files.createDirectories(root);
+  }
+
+  /**
+   * @return true if partition part files should be staged on local disk
+   */
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  /**
+   * Chooses the storage partition part files are written to.
+   *
+   * @param storage - the storage used if staging is disabled
+   * @return this storage if staging is enabled, otherwise the given one
+   */
+  public S3CompatibleStorage orElse(S3CompatibleStorage storage) {
+    return isEnabled() ? this : storage;
+  }
+
+  /**
+   * @return number of bytes taken by staged files
+   */
+  public long getUsedBytes() {
+    return usedBytes.get();
+  }
+
+  @Override
+  public String upload(String path, String filename) throws IOException {
+    var file = resolve(path);
+    close(file);
+    var size = Files.size(Path.of(filename));
+    reserve(file, size - reservedBytes.getOrDefault(file, 0L));
+    Files.createDirectories(file.getParent());
+    Files.copy(Path.of(filename), file, StandardCopyOption.REPLACE_EXISTING);
+    return path;
+  }
+
+  @Override
+  public void append(String path, byte[] bytes) throws IOException {
+    var file = resolve(path);
+    reserve(file, bytes.length);
+    try {
+      var out = openFiles.computeIfAbsent(file, this::open);
+      synchronized (out) {
+        out.write(bytes);
+      }
+    } catch (IOException | RuntimeException e) {
+      release(file, bytes.length);
+      throw e;
+    }
+  }
+
+  @Override
+  public String write(String path, byte[] bytes) throws IOException {
+    var file = resolve(path);
+    close(file);
+    reserve(file, bytes.length - reservedBytes.getOrDefault(file, 0L));
+    Files.createDirectories(file.getParent());
+    Files.write(file, bytes);
+    return path;
+  }
+
+  @Override
+  public String write(String path, byte[] bytes, Map<String, String> headers) throws IOException {
+    return write(path, bytes);
+  }
+
+  @Override
+  public boolean exists(String path) {
+    try {
+      var file = resolve(path);
+      return openFiles.containsKey(file) || Files.exists(file);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public InputStream newInputStream(String path) throws IOException {
+    var file = resolve(path);
+    flush(file);
+    return Files.newInputStream(file);
+  }
+
+  @Override
+  public byte[] readAllBytes(String path) throws IOException {
+    var file = resolve(path);
+    flush(file);
+    return Files.readAllBytes(file);
+  }
+
+  /**
+   * Uploads the staged file to the storage under the same path. Files larger than a single part are uploaded with
+   * multipart upload.
+   *
+   * @param storage - the target storage
+   * @param path - the path of the staged file
+   * @return the path of the uploaded object
+   * @throws IOException if the file cannot be read or uploaded
+   */
+  public String uploadTo(BaseFilesStorage storage, String path) throws IOException {
+    var file = resolve(path);
+    close(file);
+    log.info("Uploading staged file {} of {} bytes.", path, Files.size(file));
+    return storage.upload(path, file.toString());
+  }
+
+  /**
+   * Deletes the staged file and releases the quota reserved by it, even if its buffered bytes never reached the disk.
+   *
+   * @param path - the path of the staged file
+   */
+  public void delete(String path) {
+    try {
+      var file = resolve(path);
+      var out = openFiles.remove(file);
+      if (out != null) {
+        closeQuietly(file, out);
+      }
+      var reserved = reservedBytes.remove(file);
+      if (reserved != null) {
+        usedBytes.addAndGet(-reserved);
+      }
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.error("Cannot delete staged file {}: {}", path, e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void destroy() {
+    openFiles.forEach(this::closeQuietly);
+    openFiles.clear();
+    if (isEnabled() && Files.exists(root)) {
+      try {
+        FileUtils.cleanDirectory(root.toFile());
+      } catch (IOException e) {
+        log.warn("Cannot clean staging directory {}: {}", root, e.getMessage());
+      }
+    }
+    reservedBytes.clear();
+    usedBytes.set(0);
+  }
+
+  private Path resolve(String path) throws IOException {
+    var file = root.resolve(StringUtils.removeStart(path, "/")).normalize();
+    if (!file.startsWith(root) || file.equals(root)) {
+      throw new IOException(format("Path %s is outside of staging directory", path));
+    }
+    return file;
+  }
+
+  private void reserve(Path file, long bytes) throws IOException {
+    var used = usedBytes.addAndGet(bytes);
+    if (bytes > 0 && used > properties.getMaxDiskUsage()) {
+      usedBytes.addAndGet(-bytes);
+      throw new IOException(format("Staging disk quota of %d bytes exceeded, %d bytes are in use",
+        properties.getMaxDiskUsage(), used - bytes));
+    }
+    reservedBytes.merge(file, bytes, Long::sum);
+  }
+
+  private void release(Path file, long bytes) {
+    usedBytes.addAndGet(-bytes);
+    reservedBytes.merge(file, -bytes, Long::sum);
+  }
+
+  private OutputStream open(Path file) {
+    try {
+      Files.createDirectories(file.getParent());
+      var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+      return new BufferedOutputStream(Channels.newOutputStream(channel), properties.getBufferSize());
+    } catch (IOException e) {
+      throw new IllegalStateException(format("Cannot open staged file %s", file), e);
+    }
+  }
+
+  private void flush(Path file) throws IOException {
+    var out = openFiles.get(file);
+    if (out != null) {
+      synchronized (out) {
+        out.flush();
+      }
+    }
+  }
+
+  private void close(Path file) throws IOException {
+    var out = openFiles.remove(file);
+    if (out != null) {
+      synchronized (out) {
+        out.close();
+      }
+    }
+  }
+
+  private void closeQuietly(Path file, OutputStream out) {
+    try {
+      synchronized (out) {
+        out.close();
+      }
+    } catch (IOException e) {
+      log.warn("Cannot close staged file {}: {}", file, e.getMessage());
+    }
+  }
+}
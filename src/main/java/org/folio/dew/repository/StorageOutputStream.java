@@ -0,0 +1,49 @@
+package org.folio.dew.repository;
+
+import org.folio.dew.error.FileOperationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Stream writing the object on S3-compatible storage with multipart upload. The object is completed when the stream is
+ * closed; {@link #abort()} discards written bytes instead, so a writer which failed halfway doesn't publish a partial
+ * object.
+ */
+public class StorageOutputStream extends OutputStream {
+
+  private final AppendableObject object;
+
+  StorageOutputStream(AppendableObject object) {
+    this.object = object;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    object.write(b);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    object.write(b, off, len);
+  }
+
+  /**
+   * Aborts the upload, the object is left as it was before the stream was opened. Closing the stream afterwards does
+   * nothing.
+   */
+  public void abort() {
+    object.abort();
+  }
+
+  @Override
+  public void close() {
+    try {
+      object.close();
+    } catch (IOException e) {
+      throw new FileOperationException("Error closing stream and writes bytes to path: " + object.getPath(), e);
+    }
+  }
+}
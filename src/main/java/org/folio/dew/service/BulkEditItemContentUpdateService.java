@@ -18,6 +18,7 @@ import static org.folio.dew.domain.dto.JobParameterNames.UPDATED_FILE_NAME;
 import static org.folio.dew.utils.BulkEditProcessorHelper.dateToString;
 import static org.folio.dew.utils.Constants.ARRAY_DELIMITER;
 import static org.folio.dew.utils.Constants.COMMA;
+import static org.folio.dew.utils.Constants.ERRORS_BUFFER_SIZE;
 import static org.folio.dew.utils.Constants.BULKEDIT_DIR_NAME;
 import static org.folio.dew.utils.Constants.CSV_EXTENSION;
 import static org.folio.dew.utils.Constants.FILE_NAME;
@@ -33,6 +34,7 @@ import static org.folio.dew.utils.Constants.getWorkingDirectory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.folio.de.entity.JobCommand;
 import org.folio.dew.domain.dto.ItemContentUpdate;
 import org.folio.dew.domain.dto.ItemContentUpdateCollection;
@@ -47,8 +49,8 @@ import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
 import java.util.Objects;
 
 @Component
@@ -71,83 +73,107 @@ public class BulkEditItemContentUpdateService {
   }
 
   public UpdatesResult<ItemFormat> processContentUpdates(JobCommand jobCommand, ItemContentUpdateCollection contentUpdates) {
-    var outputFileName = workdir + jobCommand.getId() + PATH_SEPARATOR + UPDATED_PREFIX + FilenameUtils.getName(jobCommand.getJobParameters().getString(TEMP_OUTPUT_FILE_PATH)) + CSV_EXTENSION;
-    try {
-      log.info("Processing content updates for job id {}", jobCommand.getId());
-      localFilesStorage.delete(outputFileName);
-      remoteFilesStorage.downloadObject(jobCommand.getId() + PATH_SEPARATOR + FilenameUtils.getName(jobCommand.getJobParameters().getString(TEMP_OUTPUT_FILE_PATH)) + CSV_EXTENSION, outputFileName);
-      var updateResult = new UpdatesResult<ItemFormat>();
-      var records = CsvHelper.readRecordsFromStorage(localFilesStorage, outputFileName, ItemFormat.class, true);
-      log.info("Reading of file {} complete, number of itemFormats: {}", outputFileName, records.size());
-      updateResult.setTotal(records.size());
-      var contentUpdated = applyContentUpdates(records, contentUpdates, jobCommand);
-      log.info("Finished processing content updates: {} records, {} preview", contentUpdated.getUpdated().size(), contentUpdated.getPreview().size());
-      updateResult.setEntitiesForPreview(contentUpdated.getPreview());
-      var previewOutputFileName = workdir + jobCommand.getId() + PATH_SEPARATOR + PREVIEW_PREFIX + FilenameUtils.getName(jobCommand.getJobParameters().getString(TEMP_OUTPUT_FILE_PATH)) + CSV_EXTENSION;
-      saveResultToFile(contentUpdated.getPreview(), jobCommand, previewOutputFileName, PREVIEW_FILE_NAME);
-      saveResultToFile(contentUpdated.getUpdated(), jobCommand, outputFileName, UPDATED_FILE_NAME);
-      jobCommand.setExportType(BULK_EDIT_UPDATE);
-      return updateResult;
-    } catch (Exception e) {
-      var msg = String.format("Failed to read %s item records file for job id %s, reason: %s", outputFileName, jobCommand.getId(), e.getMessage());
-      log.error(msg);
-      throw new FileOperationException(msg);
-    }
+    return processContentUpdates(jobCommand, contentUpdates, null);
   }
 
-  private void saveResultToFile(List<ItemFormat> itemFormats, JobCommand jobCommand, String outputFileName, String propertyValue) {
-    try {
-      CsvHelper.saveRecordsToStorage(localFilesStorage, itemFormats, ItemFormat.class, outputFileName);
-      log.info("Saved {}", outputFileName);
-      jobCommand.setJobParameters(new JobParametersBuilder(jobCommand.getJobParameters())
-        .addString(propertyValue, outputFileName)
-        .toJobParameters());
+  /**
+   * Applies content updates record by record while streaming the source file to the updated and preview files.
+   *
+   * @param jobCommand - job command
+   * @param contentUpdates - content updates to apply
+   * @param limit - max number of records kept for preview, all if null
+   * @return total number of records and records for preview
+   */
+  public UpdatesResult<ItemFormat> processContentUpdates(JobCommand jobCommand, ItemContentUpdateCollection contentUpdates, Integer limit) {
+    var fileName = FilenameUtils.getName(jobCommand.getJobParameters().getString(TEMP_OUTPUT_FILE_PATH)) + CSV_EXTENSION;
+    var outputFileName = workdir + jobCommand.getId() + PATH_SEPARATOR + UPDATED_PREFIX + fileName;
+    var previewOutputFileName = workdir + jobCommand.getId() + PATH_SEPARATOR + PREVIEW_PREFIX + fileName;
+    var updateResult = new UpdatesResult<ItemFormat>().withEntitiesForPreview(new ArrayList<>());
+    var errorStringBuilder = new StringBuilder();
+    log.info("Processing content updates for job id {}", jobCommand.getId());
+    try (var records = CsvHelper.streamRecordsFromStorage(remoteFilesStorage, jobCommand.getId() + PATH_SEPARATOR + fileName, ItemFormat.class, true);
+         var updatedWriter = CsvHelper.recordsWriter(localFilesStorage, outputFileName, ItemFormat.class);
+         var previewWriter = CsvHelper.recordsWriter(localFilesStorage, previewOutputFileName, ItemFormat.class)) {
+      try {
+        var iterator = records.iterator();
+        while (iterator.hasNext()) {
+          var itemFormat = iterator.next();
+          var updatedItemFormat = applyContentUpdates(itemFormat, contentUpdates, jobCommand, errorStringBuilder);
+          if (nonNull(updatedItemFormat.getLeft())) {
+            updatedWriter.write(updatedItemFormat.getLeft());
+          }
+          previewWriter.write(updatedItemFormat.getRight());
+          if (isNull(limit) || updateResult.getEntitiesForPreview().size() < limit) {
+            updateResult.getEntitiesForPreview().add(updatedItemFormat.getRight());
+          }
+          updateResult.setTotal(updateResult.getTotal() + 1);
+          if (errorStringBuilder.length() >= ERRORS_BUFFER_SIZE) {
+            saveErrors(jobCommand, errorStringBuilder);
+          }
+        }
+        log.info("Finished processing content updates: {} records, {} updated", updateResult.getTotal(), updatedWriter.getCount());
+      } catch (Exception e) {
+        // records written so far are not published as the updated and preview files
+        updatedWriter.abort();
+        previewWriter.abort();
+        throw e;
+      }
     } catch (Exception e) {
-      var msg = String.format("Failed to write %s item records file for job id %s, reason: %s", outputFileName, jobCommand.getId(), e.getMessage());
+      var msg = String.format("Failed to process %s item records file for job id %s, reason: %s", outputFileName, jobCommand.getId(), e.getMessage());
       log.error(msg);
       throw new FileOperationException(msg);
+    } finally {
+      saveErrors(jobCommand, errorStringBuilder);
     }
+    jobCommand.setJobParameters(new JobParametersBuilder(jobCommand.getJobParameters())
+      .addString(PREVIEW_FILE_NAME, previewOutputFileName)
+      .addString(UPDATED_FILE_NAME, outputFileName)
+      .toJobParameters());
+    jobCommand.setExportType(BULK_EDIT_UPDATE);
+    return updateResult;
   }
 
-  private ContentUpdateRecords<ItemFormat> applyContentUpdates(List<ItemFormat> itemFormats, ItemContentUpdateCollection contentUpdates, JobCommand jobCommand) {
-    var result = new ContentUpdateRecords<ItemFormat>();
-    var errorStringBuilder = new StringBuilder();
-    for (ItemFormat itemFormat: itemFormats) {
-      var updatedItemFormat = itemFormat;
-      var errorMessage = new ErrorMessage();
+  /**
+   * @return pair of updated record (null if there are no changes) and record for preview
+   */
+  private Pair<ItemFormat, ItemFormat> applyContentUpdates(ItemFormat itemFormat, ItemContentUpdateCollection contentUpdates, JobCommand jobCommand, StringBuilder errorStringBuilder) {
+    var updatedItemFormat = itemFormat;
+    var errorMessage = new ErrorMessage();
+    Pair<ItemFormat, ItemFormat> result;
 
-      for (ItemContentUpdate contentUpdate: contentUpdates.getItemContentUpdates()) {
-        updatedItemFormat = applyContentUpdate(updatedItemFormat, contentUpdate, errorMessage);
-      }
+    for (ItemContentUpdate contentUpdate: contentUpdates.getItemContentUpdates()) {
+      updatedItemFormat = applyContentUpdate(updatedItemFormat, contentUpdate, errorMessage);
+    }
 
-      if (!Objects.equals(itemFormat, updatedItemFormat)) {
-        if (isLocationChange(contentUpdates)) {
-          updateEffectiveLocation(updatedItemFormat);
-        }
-        result.addToUpdated(updatedItemFormat);
-        result.addToPreview(applyUpdatesForPreview(contentUpdates, updatedItemFormat));
-      } else {
-        var previewItemFormat = applyUpdatesForPreview(contentUpdates, itemFormat);
-        result.addToPreview(previewItemFormat);
-        if (Objects.equals(itemFormat, previewItemFormat)) {
-          errorMessage.setValue(NO_CHANGE_MESSAGE);
-        }
+    if (!Objects.equals(itemFormat, updatedItemFormat)) {
+      if (isLocationChange(contentUpdates)) {
+        updateEffectiveLocation(updatedItemFormat);
       }
-
-      if (errorMessage.getValue() != null) {
-        errorStringBuilder
-          .append(itemFormat.getIdentifier(jobCommand.getJobParameters().getString(IDENTIFIER_TYPE)))
-          .append(COMMA)
-          .append(errorMessage.getValue())
-          .append(System.lineSeparator());
+      result = Pair.of(updatedItemFormat, applyUpdatesForPreview(contentUpdates, updatedItemFormat));
+    } else {
+      var previewItemFormat = applyUpdatesForPreview(contentUpdates, itemFormat);
+      result = Pair.of(null, previewItemFormat);
+      if (Objects.equals(itemFormat, previewItemFormat)) {
+        errorMessage.setValue(NO_CHANGE_MESSAGE);
       }
     }
-    if (!errorStringBuilder.toString().isEmpty()) {
-      errorsService.saveErrorInCSV(jobCommand.getId().toString(), errorStringBuilder.toString(), FilenameUtils.getName(jobCommand.getJobParameters().getString(FILE_NAME)));
+
+    if (errorMessage.getValue() != null) {
+      errorStringBuilder
+        .append(itemFormat.getIdentifier(jobCommand.getJobParameters().getString(IDENTIFIER_TYPE)))
+        .append(COMMA)
+        .append(errorMessage.getValue())
+        .append(System.lineSeparator());
     }
     return result;
   }
 
+  private void saveErrors(JobCommand jobCommand, StringBuilder errorStringBuilder) {
+    if (!errorStringBuilder.isEmpty()) {
+      errorsService.saveErrorInCSV(jobCommand.getId().toString(), errorStringBuilder.toString(), FilenameUtils.getName(jobCommand.getJobParameters().getString(FILE_NAME)));
+      errorStringBuilder.setLength(0);
+    }
+  }
 
   private ItemFormat applyContentUpdate(ItemFormat itemFormat, ItemContentUpdate contentUpdate, ErrorMessage errorMessage) {
     if (REPLACE_WITH == contentUpdate.getAction()) {
@@ -39,6 +39,7 @@ public class HoldingsReferenceService {
   private final HoldingsSourceClient sourceClient;
   private final StatisticalCodeClient statisticalCodeClient;
   private final BulkEditProcessingErrorsService errorsService;
+  private final ReferenceDataService referenceDataService;
 
   public String getInstanceIdByHrid(String instanceHrid) {
     var briefInstances = instanceClient.getByQuery(String.format(QUERY_PATTERN_HRID, instanceHrid));
@@ -67,7 +68,7 @@ public class HoldingsReferenceService {
     return items.getItems().get(0).getHoldingsRecordId();
   }
 
-  @Cacheable(cacheNames = "holdingsTypesNames")
+  @Cacheable(cacheNames = "holdingsTypesNames", unless = "#result == #p0")
   public String getHoldingsTypeNameById(String id, ErrorServiceArgs args) {
     if (isEmpty(id)) {
       return EMPTY;
@@ -98,7 +99,8 @@ public class HoldingsReferenceService {
   @Cacheable(cacheNames = "holdingsLocationsNames")
   public String getLocationNameById(String id) {
     try {
-      return isEmpty(id) ? EMPTY : locationClient.getLocationById(id).getName();
+      return isEmpty(id) ? EMPTY : referenceDataService.findLocationById(id)
+        .orElseGet(() -> locationClient.getLocationById(id)).getName();
     } catch (NotFoundException e) {
       var msg = "Location not found by id=" + id;
       log.error(msg);
@@ -108,6 +110,10 @@ public class HoldingsReferenceService {
 
   @Cacheable(cacheNames = "holdingsLocations")
   public ItemLocation getLocationByName(String name) {
+    var location = referenceDataService.findLocationByName(name);
+    if (location.isPresent()) {
+      return location.get();
+    }
     var locations = locationClient.getLocationByQuery(String.format(QUERY_PATTERN_NAME, name));
     if (locations.getLocations().isEmpty()) {
       var msg = "Location not found by name=" + name;
@@ -117,10 +123,11 @@ public class HoldingsReferenceService {
     return locations.getLocations().get(0);
   }
 
-  @Cacheable(cacheNames = "holdingsCallNumberTypesNames")
+  @Cacheable(cacheNames = "holdingsCallNumberTypesNames", unless = "#result == #p0")
   public String getCallNumberTypeNameById(String id, ErrorServiceArgs args) {
     try {
-      return isEmpty(id) ? EMPTY : callNumberTypeClient.getById(id).getName();
+      return isEmpty(id) ? EMPTY : referenceDataService.findCallNumberTypeById(id)
+        .orElseGet(() -> callNumberTypeClient.getById(id)).getName();
     } catch (NotFoundException e) {
       var msg = "Call number type not found by id=" + id;
       log.error(msg);
@@ -131,6 +138,10 @@ public class HoldingsReferenceService {
 
   @Cacheable(cacheNames = "holdingsCallNumberTypes")
   public String getCallNumberTypeIdByName(String name) {
+    var callNumberType = referenceDataService.findCallNumberTypeByName(name);
+    if (callNumberType.isPresent()) {
+      return callNumberType.get().getId();
+    }
     var callNumberTypes = callNumberTypeClient.getByQuery(String.format(QUERY_PATTERN_NAME, name));
     if (callNumberTypes.getCallNumberTypes().isEmpty()) {
       log.error("Call number type not found by name={}", name);
@@ -139,7 +150,7 @@ public class HoldingsReferenceService {
     return callNumberTypes.getCallNumberTypes().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "holdingsNoteTypesNames")
+  @Cacheable(cacheNames = "holdingsNoteTypesNames", unless = "#result == #p0")
   public String getNoteTypeNameById(String id, ErrorServiceArgs args) {
     try {
       return isEmpty(id) ? EMPTY : holdingsNoteTypeClient.getById(id).getName();
@@ -161,7 +172,7 @@ public class HoldingsReferenceService {
     return noteTypes.getHoldingsNoteTypes().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "illPolicyNames")
+  @Cacheable(cacheNames = "illPolicyNames", unless = "#result == #p0")
   public String getIllPolicyNameById(String id, ErrorServiceArgs args) {
     try {
       return isEmpty(id) ? EMPTY : illPolicyClient.getById(id).getName();
@@ -186,7 +197,7 @@ public class HoldingsReferenceService {
     return illPolicies.getIllPolicies().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "holdingsSourceNames")
+  @Cacheable(cacheNames = "holdingsSourceNames", unless = "#result == #p0")
   public String getSourceNameById(String id, ErrorServiceArgs args) {
     try {
       return isEmpty(id) ? EMPTY : sourceClient.getById(id).getName();
@@ -208,7 +219,7 @@ public class HoldingsReferenceService {
     return sources.getHoldingsRecordsSources().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "holdingsStatisticalCodeNames")
+  @Cacheable(cacheNames = "holdingsStatisticalCodeNames", unless = "#result == #p0")
   public String getStatisticalCodeNameById(String id, ErrorServiceArgs args) {
     try {
       return isEmpty(id) ? EMPTY : statisticalCodeClient.getById(id).getName();
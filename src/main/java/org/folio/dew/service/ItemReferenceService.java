@@ -62,11 +62,13 @@ public class ItemReferenceService {
   private final ConfigurationClient configurationClient;
   private final ObjectMapper objectMapper;
   private final BulkEditProcessingErrorsService errorsService;
+  private final ReferenceDataService referenceDataService;
 
-  @Cacheable(cacheNames = "callNumberTypeNames")
+  @Cacheable(cacheNames = "callNumberTypeNames", unless = "#result == #p0")
   public String getCallNumberTypeNameById(String callNumberTypeId, ErrorServiceArgs args) {
     try {
-      return isEmpty(callNumberTypeId) ? EMPTY : callNumberTypeClient.getById(callNumberTypeId).getName();
+      return isEmpty(callNumberTypeId) ? EMPTY : referenceDataService.findCallNumberTypeById(callNumberTypeId)
+        .orElseGet(() -> callNumberTypeClient.getById(callNumberTypeId)).getName();
     } catch (NotFoundException e) {
       errorsService.saveErrorInCSV(args.getJobId(), args.getIdentifier(), new BulkEditException(String.format("Call number type was not found by id: [%s]", callNumberTypeId)), args.getFileName());
       return callNumberTypeId;
@@ -78,6 +80,10 @@ public class ItemReferenceService {
     if (isEmpty(name)) {
       return null;
     }
+    var callNumberType = referenceDataService.findCallNumberTypeByName(name);
+    if (callNumberType.isPresent()) {
+      return callNumberType.get().getId();
+    }
     var response = callNumberTypeClient.getByQuery(String.format(QUERY_PATTERN_NAME, name));
     if (response.getCallNumberTypes().isEmpty()) {
       return name;
@@ -85,7 +91,7 @@ public class ItemReferenceService {
     return response.getCallNumberTypes().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "damagedStatusNames")
+  @Cacheable(cacheNames = "damagedStatusNames", unless = "#result == #p0")
   public String getDamagedStatusNameById(String damagedStatusId, ErrorServiceArgs args) {
     try {
       return isEmpty(damagedStatusId) ? EMPTY : damagedStatusClient.getById(damagedStatusId).getName();
@@ -107,7 +113,7 @@ public class ItemReferenceService {
     return response.getItemDamageStatuses().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "noteTypeNames")
+  @Cacheable(cacheNames = "noteTypeNames", unless = "#result == #p0")
   public String getNoteTypeNameById(String noteTypeId, ErrorServiceArgs args) {
     try {
       return isEmpty(noteTypeId) ? EMPTY : itemNoteTypeClient.getById(noteTypeId).getName();
@@ -129,7 +135,7 @@ public class ItemReferenceService {
     return response.getItemNoteTypes().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "servicePointNames")
+  @Cacheable(cacheNames = "servicePointNames", unless = "#result == #p0")
   public String getServicePointNameById(String servicePointId, ErrorServiceArgs args) {
     try {
       return isEmpty(servicePointId) ? EMPTY : servicePointClient.getById(servicePointId).getName();
@@ -151,7 +157,7 @@ public class ItemReferenceService {
     return response.getServicepoints().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "statisticalCodeNames")
+  @Cacheable(cacheNames = "statisticalCodeNames", unless = "#result == #p0")
   public String getStatisticalCodeById(String statisticalCodeId, ErrorServiceArgs args) {
     try {
       return isEmpty(statisticalCodeId) ? EMPTY : statisticalCodeClient.getById(statisticalCodeId).getCode();
@@ -173,7 +179,7 @@ public class ItemReferenceService {
     return response.getStatisticalCodes().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "userNames")
+  @Cacheable(cacheNames = "userNames", unless = "#result == #p0")
   public String getUserNameById(String userId, ErrorServiceArgs args) {
     try {
       return isEmpty(userId) ? EMPTY : userClient.getUserById(userId).getUsername();
@@ -201,6 +207,10 @@ public class ItemReferenceService {
   }
 
   public ItemLocation getLocationByName(String name) {
+    var location = referenceDataService.findLocationByName(name);
+    if (location.isPresent()) {
+      return location.get();
+    }
     var locations = getItemLocationsByName(name);
     if (locations.getLocations().isEmpty()) {
       throw new BulkEditException("Location not found: " + name);
@@ -214,6 +224,10 @@ public class ItemReferenceService {
   }
 
   public MaterialType getMaterialTypeByName(String name) {
+    var materialType = referenceDataService.findMaterialTypeByName(name);
+    if (materialType.isPresent()) {
+      return materialType.get();
+    }
     var types = getMaterialTypesByName(name);
     if (types.getMtypes().isEmpty()) {
       throw new BulkEditException("Material type not found: " + name);
@@ -227,6 +241,10 @@ public class ItemReferenceService {
   }
 
   public LoanType getLoanTypeByName(String name) {
+    var loanType = referenceDataService.findLoanTypeByName(name);
+    if (loanType.isPresent()) {
+      return loanType.get();
+    }
     var loanTypes = getLoanTypesByName(name);
     if (loanTypes.getLoantypes().isEmpty()) {
       throw new BulkEditException("Loan type not found: " + name);
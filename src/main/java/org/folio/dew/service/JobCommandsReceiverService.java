@@ -31,7 +31,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.folio.de.entity.JobCommand;
 import org.folio.de.entity.JobCommandType;
 import org.folio.dew.batch.ExportJobManager;
-import org.folio.dew.batch.ExportJobManagerSync;
+import org.folio.dew.batch.ExportJobScheduler;
 import org.folio.dew.batch.acquisitions.edifact.services.ResendService;
 import org.folio.dew.batch.bursarfeesfines.service.BursarExportService;
 import org.folio.dew.client.SearchClient;
@@ -66,7 +66,7 @@ public class JobCommandsReceiverService {
 
   private final ObjectMapper objectMapper;
   private final ExportJobManager exportJobManager;
-  private final ExportJobManagerSync exportJobManagerSync;
+  private final ExportJobScheduler exportJobScheduler;
   private final BursarExportService bursarExportService;
   private final RemoteFilesStorage remoteFilesStorage;
   private final LocalFilesStorage localFilesStorage;
@@ -128,7 +128,8 @@ public class JobCommandsReceiverService {
             jobMap.get(resolveJobKey(jobCommand)),
             jobCommand.getJobParameters());
 
-        exportJobManagerSync.launchJob(jobLaunchRequest);
+        exportJobScheduler.submit(defaultFolioExecutionContext.getTenantId(), jobCommand.getExportType(), jobLaunchRequest,
+          defaultFolioExecutionContext);
 
       } catch (Exception e) {
         log.error(e.toString(), e);
@@ -244,7 +245,7 @@ public class JobCommandsReceiverService {
       }
     }).filter(StringUtils::isNotBlank).distinct().collect(Collectors.toList());
     if (!objects.isEmpty()) {
-      remoteFilesStorage.removeObjects(objects);
+      remoteFilesStorage.deleteObjectsAsync(objects);
     }
     jobCommandRepository.delete(jobCommand);
     bulkEditProcessingErrorsService.removeTemporaryErrorStorage();
@@ -0,0 +1,99 @@
+package org.folio.dew.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
+import org.folio.dew.config.properties.BatchFetchProperties;
+import org.folio.dew.error.BatchFetchException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fetches records by buckets of parameters (ids, patron groups, etc.) concurrently. Buckets are executed by the pool
+ * shared by all jobs with the folio context of the caller, a single fetch keeps at most
+ * {@link BatchFetchProperties#getMaxInFlight()} buckets dispatched at once, so large fetches don't hold the whole pool.
+ * Results are returned in the order of the buckets; buckets which failed are reported together with
+ * {@link BatchFetchException} once all buckets are completed.
+ */
+@Component
+@Log4j2
+public class ParallelBatchFetcher {
+
+  private final ThreadPoolTaskExecutor taskExecutor;
+  private final int maxInFlight;
+
+  public ParallelBatchFetcher(@Qualifier("batchFetchTaskExecutor") ThreadPoolTaskExecutor taskExecutor,
+      BatchFetchProperties properties) {
+    this.taskExecutor = taskExecutor;
+    this.maxInFlight = properties.getMaxInFlight();
+  }
+
+  /**
+   * Fetches records for all parameters.
+   *
+   * @param parameters - parameters to split into buckets
+   * @param bucketSize - max number of parameters of a bucket
+   * @param fetcher - remote call fetching records of a bucket
+   * @param <P> - type of parameter
+   * @param <T> - type of record
+   * @return records of all buckets in the order of the buckets
+   * @throws BatchFetchException if any bucket failed
+   */
+  public <P, T> List<T> fetch(List<P> parameters, int bucketSize, Function<List<P>, List<T>> fetcher) {
+    if (parameters.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if (parameters.size() <= bucketSize) {
+      log.debug("Fetch data by one call");
+      return fetcher.apply(parameters);
+    }
+
+    var buckets = ListUtils.partition(parameters, bucketSize);
+    log.debug("Fetch data in several calls, bucket count {}", buckets.size());
+    var window = new Semaphore(maxInFlight);
+    var futures = new ArrayList<CompletableFuture<List<T>>>(buckets.size());
+    for (var bucket : buckets) {
+      window.acquireUninterruptibly();
+      try {
+        futures.add(CompletableFuture.supplyAsync(() -> fetcher.apply(bucket), taskExecutor)
+          .whenComplete((result, e) -> window.release()));
+      } catch (RuntimeException e) {
+        window.release();
+        futures.add(CompletableFuture.failedFuture(e));
+      }
+    }
+
+    var records = new ArrayList<T>();
+    var failedBuckets = new ArrayList<Integer>();
+    Throwable failure = null;
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        var result = futures.get(i).join();
+        if (result != null) {
+          records.addAll(result);
+        }
+      } catch (CompletionException e) {
+        var cause = e.getCause() == null ? e : e.getCause();
+        log.error("Cannot fetch bucket {} of {}: {}", i, buckets.size(), cause.getMessage());
+        failedBuckets.add(i);
+        if (failure == null) {
+          failure = cause;
+        } else if (failure != cause) {
+          failure.addSuppressed(cause);
+        }
+      }
+    }
+    if (!failedBuckets.isEmpty()) {
+      throw new BatchFetchException(String.format("Failed to fetch %d of %d buckets", failedBuckets.size(), buckets.size()),
+        failedBuckets, failure);
+    }
+    return records;
+  }
+}
@@ -0,0 +1,189 @@
+package org.folio.dew.service;
+
+import static java.util.Objects.isNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.folio.dew.client.CallNumberTypeClient;
+import org.folio.dew.client.DepartmentClient;
+import org.folio.dew.client.GroupClient;
+import org.folio.dew.client.LoanTypeClient;
+import org.folio.dew.client.LocationClient;
+import org.folio.dew.client.MaterialTypeClient;
+import org.folio.dew.config.properties.ReferenceDataCacheProperties;
+import org.folio.dew.domain.dto.CallNumberType;
+import org.folio.dew.domain.dto.Department;
+import org.folio.dew.domain.dto.ItemLocation;
+import org.folio.dew.domain.dto.LoanType;
+import org.folio.dew.domain.dto.MaterialType;
+import org.folio.dew.domain.dto.UserGroup;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps whole small reference tables of the tenant in cache. Each table is loaded with a single request and then
+ * serves lookups by id and by name. Tables which do not fit into the configured limit are kept as incomplete, so their
+ * lookups return nothing and callers fall back to fetching records one by one. Tables which cannot be loaded are
+ * treated as incomplete too, but are not cached and are loaded again by the next lookup.
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class ReferenceDataService {
+  public static final String REFERENCE_TABLES_CACHE = "referenceTables";
+
+  private static final String ALL_RECORDS_QUERY = "cql.allRecords=1";
+  private static final String LOAN_TYPES = "loanTypes";
+  private static final String MATERIAL_TYPES = "materialTypes";
+  private static final String LOCATIONS = "locations";
+  private static final String CALL_NUMBER_TYPES = "callNumberTypes";
+  private static final String PATRON_GROUPS = "patronGroups";
+  private static final String DEPARTMENTS = "departments";
+
+  private final LoanTypeClient loanTypeClient;
+  private final MaterialTypeClient materialTypeClient;
+  private final LocationClient locationClient;
+  private final CallNumberTypeClient callNumberTypeClient;
+  private final GroupClient groupClient;
+  private final DepartmentClient departmentClient;
+  private final CacheManager cacheManager;
+  private final FolioExecutionContext folioExecutionContext;
+  private final ReferenceDataCacheProperties properties;
+
+  public Optional<LoanType> findLoanTypeByName(String name) {
+    return getTable(LOAN_TYPES, () -> loanTypeClient.getByQuery(ALL_RECORDS_QUERY, properties.getTableLimit()).getLoantypes(),
+      LoanType::getId, LoanType::getName).findByName(name);
+  }
+
+  public Optional<MaterialType> findMaterialTypeByName(String name) {
+    return getTable(MATERIAL_TYPES, () -> materialTypeClient.getByQuery(ALL_RECORDS_QUERY, properties.getTableLimit()).getMtypes(),
+      MaterialType::getId, MaterialType::getName).findByName(name);
+  }
+
+  public Optional<ItemLocation> findLocationById(String id) {
+    return getLocations().findById(id);
+  }
+
+  public Optional<ItemLocation> findLocationByName(String name) {
+    return getLocations().findByName(name);
+  }
+
+  public Optional<CallNumberType> findCallNumberTypeById(String id) {
+    return getCallNumberTypes().findById(id);
+  }
+
+  public Optional<CallNumberType> findCallNumberTypeByName(String name) {
+    return getCallNumberTypes().findByName(name);
+  }
+
+  public Optional<UserGroup> findPatronGroupById(String id) {
+    return getPatronGroups().findById(id);
+  }
+
+  public Optional<UserGroup> findPatronGroupByName(String name) {
+    return getPatronGroups().findByName(name);
+  }
+
+  public Optional<Department> findDepartmentById(String id) {
+    return getDepartments().findById(id);
+  }
+
+  public Optional<Department> findDepartmentByName(String name) {
+    return getDepartments().findByName(name);
+  }
+
+  private ReferenceTable<ItemLocation> getLocations() {
+    return getTable(LOCATIONS, () -> locationClient.getLocationByQuery(ALL_RECORDS_QUERY, properties.getTableLimit()).getLocations(),
+      ItemLocation::getId, ItemLocation::getName);
+  }
+
+  private ReferenceTable<CallNumberType> getCallNumberTypes() {
+    return getTable(CALL_NUMBER_TYPES, () -> callNumberTypeClient.getByQuery(ALL_RECORDS_QUERY, properties.getTableLimit()).getCallNumberTypes(),
+      CallNumberType::getId, CallNumberType::getName);
+  }
+
+  private ReferenceTable<UserGroup> getPatronGroups() {
+    return getTable(PATRON_GROUPS, () -> groupClient.getGroupByQuery(ALL_RECORDS_QUERY, properties.getTableLimit()).getUsergroups(),
+      UserGroup::getId, UserGroup::getGroup);
+  }
+
+  private ReferenceTable<Department> getDepartments() {
+    return getTable(DEPARTMENTS, () -> departmentClient.getDepartmentByQuery(ALL_RECORDS_QUERY, properties.getTableLimit()).getDepartments(),
+      Department::getId, Department::getName);
+  }
+
+  private <T> ReferenceTable<T> getTable(String type, Supplier<List<T>> loader, Function<T, String> idExtractor,
+      Function<T, String> nameExtractor) {
+    var cache = cacheManager.getCache(REFERENCE_TABLES_CACHE);
+    if (isNull(cache)) {
+      return ReferenceTable.incomplete();
+    }
+    var key = new SimpleKey(folioExecutionContext.getTenantId(), type);
+    try {
+      return cache.get(key, () -> loadTable(type, loader, idExtractor, nameExtractor));
+    } catch (Cache.ValueRetrievalException e) {
+      // a failed load is not cached, so the table is loaded again by the next lookup
+      log.warn("Reference table {} cannot be preloaded, reason: {}", type, ExceptionUtils.getRootCauseMessage(e));
+      return ReferenceTable.incomplete();
+    }
+  }
+
+  private <T> ReferenceTable<T> loadTable(String type, Supplier<List<T>> loader, Function<T, String> idExtractor,
+      Function<T, String> nameExtractor) {
+    var records = loader.get();
+    if (records.size() >= properties.getTableLimit()) {
+      log.info("Reference table {} has {} or more records and is not preloaded.", type, properties.getTableLimit());
+      return ReferenceTable.incomplete();
+    }
+    log.info("Preloaded {} records of reference table {}.", records.size(), type);
+    return ReferenceTable.of(records, idExtractor, nameExtractor);
+  }
+
+  static class ReferenceTable<T> {
+    private final Map<String, T> byId;
+    private final Map<String, T> byName;
+
+    private ReferenceTable(Map<String, T> byId, Map<String, T> byName) {
+      this.byId = byId;
+      this.byName = byName;
+    }
+
+    static <T> ReferenceTable<T> incomplete() {
+      return new ReferenceTable<>(Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    static <T> ReferenceTable<T> of(Collection<T> records, Function<T, String> idExtractor, Function<T, String> nameExtractor) {
+      return new ReferenceTable<>(
+        index(records, idExtractor, Function.identity()),
+        index(records, nameExtractor, StringUtils::lowerCase));
+    }
+
+    private static <T> Map<String, T> index(Collection<T> records, Function<T, String> extractor, Function<String, String> normalizer) {
+      return records.stream()
+        .filter(r -> Objects.nonNull(extractor.apply(r)))
+        .collect(Collectors.toMap(r -> normalizer.apply(extractor.apply(r)), Function.identity(), (first, second) -> first));
+    }
+
+    Optional<T> findById(String id) {
+      return isNull(id) ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+
+    Optional<T> findByName(String name) {
+      return isNull(name) ? Optional.empty() : Optional.ofNullable(byName.get(StringUtils.lowerCase(name)));
+    }
+  }
+}
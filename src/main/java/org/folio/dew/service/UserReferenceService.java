@@ -37,8 +37,9 @@ public class UserReferenceService {
   private final FolioExecutionContext folioExecutionContext;
   private final OkapiClient okapiClient;
   private final BulkEditProcessingErrorsService errorsService;
+  private final ReferenceDataService referenceDataService;
 
-  @Cacheable(cacheNames = "addressTypeNames")
+  @Cacheable(cacheNames = "addressTypeNames", unless = "#result == #p0")
   public String getAddressTypeDescById(String id, ErrorServiceArgs args) {
     try {
       return isNull(id) ? EMPTY : addressTypeClient.getAddressTypeById(id).getDesc();
@@ -61,10 +62,11 @@ public class UserReferenceService {
     }
   }
 
-  @Cacheable(cacheNames = "departmentNames")
+  @Cacheable(cacheNames = "departmentNames", unless = "#result == #p0")
   public String getDepartmentNameById(String id, ErrorServiceArgs args) {
     try {
-      return isNull(id) ? EMPTY : departmentClient.getDepartmentById(id).getName();
+      return isNull(id) ? EMPTY : referenceDataService.findDepartmentById(id)
+        .orElseGet(() -> departmentClient.getDepartmentById(id)).getName();
     } catch (NotFoundException e) {
       errorsService.saveErrorInCSV(args.getJobId(), args.getIdentifier(), new BulkEditException(String.format("Department was not found by id: [%s]", id)), args.getFileName());
       return id;
@@ -76,6 +78,10 @@ public class UserReferenceService {
     if (isEmpty(name)) {
       return null;
     } else {
+      var department = referenceDataService.findDepartmentByName(name);
+      if (department.isPresent()) {
+        return department.get().getId();
+      }
       var response = departmentClient.getDepartmentByQuery(String.format("name==\"%s\"", name));
       if (response.getDepartments().isEmpty()) {
         return name;
@@ -84,10 +90,11 @@ public class UserReferenceService {
     }
   }
 
-  @Cacheable(cacheNames = "patronGroupNames")
+  @Cacheable(cacheNames = "patronGroupNames", unless = "#result == #p0")
   public String getPatronGroupNameById(String id, ErrorServiceArgs args) {
     try {
-      return isNull(id) ? EMPTY : groupClient.getGroupById(id).getGroup();
+      return isNull(id) ? EMPTY : referenceDataService.findPatronGroupById(id)
+        .orElseGet(() -> groupClient.getGroupById(id)).getGroup();
     } catch (NotFoundException e) {
       errorsService.saveErrorInCSV(args.getJobId(), args.getIdentifier(), new BulkEditException(String.format("Patron group was not found by id: [%s]", id)), args.getFileName());
       return id;
@@ -99,6 +106,10 @@ public class UserReferenceService {
     if (isEmpty(name)) {
       throw new BulkEditException("Patron group can not be empty");
     }
+    var patronGroup = referenceDataService.findPatronGroupByName(name);
+    if (patronGroup.isPresent()) {
+      return patronGroup.get().getId();
+    }
     var response = groupClient.getGroupByQuery(String.format("group==\"%s\"", name));
     if (response.getUsergroups().isEmpty()) {
       var msg = "Invalid patron group value: " + name;
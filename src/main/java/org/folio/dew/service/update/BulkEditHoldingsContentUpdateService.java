@@ -1,10 +1,12 @@
 package org.folio.dew.service.update;
 
+import static java.util.Objects.isNull;
 import static org.folio.dew.domain.dto.ExportType.BULK_EDIT_UPDATE;
 import static org.folio.dew.domain.dto.JobParameterNames.PREVIEW_FILE_NAME;
 import static org.folio.dew.domain.dto.JobParameterNames.TEMP_OUTPUT_FILE_PATH;
 import static org.folio.dew.domain.dto.JobParameterNames.UPDATED_FILE_NAME;
 import static org.folio.dew.utils.Constants.COMMA;
+import static org.folio.dew.utils.Constants.ERRORS_BUFFER_SIZE;
 import static org.folio.dew.utils.Constants.CSV_EXTENSION;
 import static org.folio.dew.utils.Constants.FILE_NAME;
 import static org.folio.dew.utils.Constants.IDENTIFIER_TYPE;
@@ -24,14 +26,13 @@ import org.folio.dew.error.BulkEditException;
 import org.folio.dew.error.FileOperationException;
 import org.folio.dew.repository.RemoteFilesStorage;
 import org.folio.dew.service.BulkEditProcessingErrorsService;
-import org.folio.dew.service.ContentUpdateRecords;
 import org.folio.dew.service.UpdatesResult;
 import org.folio.dew.service.validation.HoldingsContentUpdateValidatorService;
 import org.folio.dew.utils.CsvHelper;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.ArrayList;
 import java.util.Objects;
 
 @Component
@@ -44,59 +45,93 @@ public class BulkEditHoldingsContentUpdateService {
   private final HoldingsContentUpdateValidatorService validatorService;
 
   public UpdatesResult<HoldingsFormat> process(JobCommand jobCommand, HoldingsContentUpdateCollection contentUpdates) {
+    return process(jobCommand, contentUpdates, null);
+  }
+
+  /**
+   * Applies content updates record by record while streaming the source file to the updated and preview files.
+   *
+   * @param jobCommand - job command
+   * @param contentUpdates - content updates to apply
+   * @param limit - max number of records kept for preview, all if null
+   * @return total number of records and records for preview
+   */
+  public UpdatesResult<HoldingsFormat> process(JobCommand jobCommand, HoldingsContentUpdateCollection contentUpdates, Integer limit) {
     validatorService.validateContentUpdateCollection(contentUpdates);
-    try {
-      var fileName = FilenameUtils.getName(jobCommand.getJobParameters().getString(TEMP_OUTPUT_FILE_PATH)) + CSV_EXTENSION;
-      var updatedFileName = jobCommand.getId() + PATH_SEPARATOR + UPDATED_PREFIX + fileName;
-      var previewFileName = jobCommand.getId() + PATH_SEPARATOR + PREVIEW_PREFIX + fileName;
-      var holdingsFormats = CsvHelper.readRecordsFromStorage(remoteFilesStorage, jobCommand.getId() + PATH_SEPARATOR + fileName, HoldingsFormat.class, true);
-      var updatedHoldings = applyContentUpdates(holdingsFormats, contentUpdates, jobCommand);
-      CsvHelper.saveRecordsToStorage(remoteFilesStorage, updatedHoldings.getUpdated(), HoldingsFormat.class, updatedFileName);
-      CsvHelper.saveRecordsToStorage(remoteFilesStorage, updatedHoldings.getPreview(), HoldingsFormat.class, previewFileName);
-      jobCommand.setJobParameters(new JobParametersBuilder(jobCommand.getJobParameters())
-        .addString(UPDATED_FILE_NAME, updatedFileName)
-        .addString(PREVIEW_FILE_NAME, previewFileName)
-        .toJobParameters());
-      jobCommand.setExportType(BULK_EDIT_UPDATE);
-      return new UpdatesResult<HoldingsFormat>().withTotal(holdingsFormats.size()).withEntitiesForPreview(updatedHoldings.getPreview());
+    var fileName = FilenameUtils.getName(jobCommand.getJobParameters().getString(TEMP_OUTPUT_FILE_PATH)) + CSV_EXTENSION;
+    var updatedFileName = jobCommand.getId() + PATH_SEPARATOR + UPDATED_PREFIX + fileName;
+    var previewFileName = jobCommand.getId() + PATH_SEPARATOR + PREVIEW_PREFIX + fileName;
+    var result = new UpdatesResult<HoldingsFormat>().withEntitiesForPreview(new ArrayList<>());
+    var errorStringBuilder = new StringBuilder();
+    try (var holdingsFormats = CsvHelper.streamRecordsFromStorage(remoteFilesStorage, jobCommand.getId() + PATH_SEPARATOR + fileName, HoldingsFormat.class, true);
+         var updatedWriter = CsvHelper.recordsWriter(remoteFilesStorage, updatedFileName, HoldingsFormat.class);
+         var previewWriter = CsvHelper.recordsWriter(remoteFilesStorage, previewFileName, HoldingsFormat.class)) {
+      try {
+        var iterator = holdingsFormats.iterator();
+        while (iterator.hasNext()) {
+          var holdingsFormat = iterator.next();
+          var updatedHoldingsRecord = applyContentUpdates(holdingsFormat, contentUpdates, jobCommand, errorStringBuilder);
+          if (!Objects.equals(updatedHoldingsRecord, holdingsFormat)) {
+            updatedWriter.write(updatedHoldingsRecord);
+          }
+          previewWriter.write(updatedHoldingsRecord);
+          if (isNull(limit) || result.getEntitiesForPreview().size() < limit) {
+            result.getEntitiesForPreview().add(updatedHoldingsRecord);
+          }
+          result.setTotal(result.getTotal() + 1);
+          if (errorStringBuilder.length() >= ERRORS_BUFFER_SIZE) {
+            saveErrors(jobCommand, errorStringBuilder);
+          }
+        }
+      } catch (Exception e) {
+        // records written so far are not published as the updated and preview files
+        updatedWriter.abort();
+        previewWriter.abort();
+        throw e;
+      }
     } catch (Exception e) {
       var msg = String.format("I/O exception for job id %s, reason: %s", jobCommand.getId(), e.getMessage());
       log.error(msg);
       throw new FileOperationException(msg);
+    } finally {
+      saveErrors(jobCommand, errorStringBuilder);
     }
+    jobCommand.setJobParameters(new JobParametersBuilder(jobCommand.getJobParameters())
+      .addString(UPDATED_FILE_NAME, updatedFileName)
+      .addString(PREVIEW_FILE_NAME, previewFileName)
+      .toJobParameters());
+    jobCommand.setExportType(BULK_EDIT_UPDATE);
+    return result;
   }
 
-  private ContentUpdateRecords<HoldingsFormat> applyContentUpdates(List<HoldingsFormat> holdingsFormats, HoldingsContentUpdateCollection contentUpdateCollection, JobCommand jobCommand) {
-    var updateResult = new ContentUpdateRecords<HoldingsFormat>();
-    var errorStringBuilder = new StringBuilder();
-    holdingsFormats.forEach(holdingsFormat -> {
-      var updatedHoldingsRecord = holdingsFormat;
-      if ("MARC".equals(holdingsFormat.getSource())) {
+  private HoldingsFormat applyContentUpdates(HoldingsFormat holdingsFormat, HoldingsContentUpdateCollection contentUpdateCollection, JobCommand jobCommand, StringBuilder errorStringBuilder) {
+    var updatedHoldingsRecord = holdingsFormat;
+    if ("MARC".equals(holdingsFormat.getSource())) {
+      errorStringBuilder
+        .append(holdingsFormat.getIdentifier(jobCommand.getJobParameters().getString(IDENTIFIER_TYPE)))
+        .append(COMMA)
+        .append("Holdings records that have source \"MARC\" cannot be changed")
+        .append(System.lineSeparator());
+    } else {
+      for (HoldingsContentUpdate contentUpdate: contentUpdateCollection.getHoldingsContentUpdates()) {
+        updatedHoldingsRecord = resolveUpdateStrategy(contentUpdate).applyUpdate(updatedHoldingsRecord, contentUpdate);
+      }
+      if (Objects.equals(updatedHoldingsRecord, holdingsFormat)) {
         errorStringBuilder
           .append(holdingsFormat.getIdentifier(jobCommand.getJobParameters().getString(IDENTIFIER_TYPE)))
           .append(COMMA)
-          .append("Holdings records that have source \"MARC\" cannot be changed")
+          .append(NO_CHANGE_MESSAGE)
           .append(System.lineSeparator());
-      } else {
-        for (HoldingsContentUpdate contentUpdate: contentUpdateCollection.getHoldingsContentUpdates()) {
-          updatedHoldingsRecord = resolveUpdateStrategy(contentUpdate).applyUpdate(updatedHoldingsRecord, contentUpdate);
-        }
-        if (!Objects.equals(updatedHoldingsRecord, holdingsFormat)) {
-          updateResult.addToUpdated(updatedHoldingsRecord);
-        } else {
-          errorStringBuilder
-            .append(holdingsFormat.getIdentifier(jobCommand.getJobParameters().getString(IDENTIFIER_TYPE)))
-            .append(COMMA)
-            .append(NO_CHANGE_MESSAGE)
-            .append(System.lineSeparator());
-        }
       }
-      updateResult.addToPreview(updatedHoldingsRecord);
-    });
-    if (!errorStringBuilder.toString().isEmpty()) {
+    }
+    return updatedHoldingsRecord;
+  }
+
+  private void saveErrors(JobCommand jobCommand, StringBuilder errorStringBuilder) {
+    if (!errorStringBuilder.isEmpty()) {
       errorsService.saveErrorInCSV(jobCommand.getId().toString(), errorStringBuilder.toString(), FilenameUtils.getName(jobCommand.getJobParameters().getString(FILE_NAME)));
+      errorStringBuilder.setLength(0);
     }
-    return updateResult;
   }
 
   private UpdateStrategy<HoldingsFormat, HoldingsContentUpdate> resolveUpdateStrategy(HoldingsContentUpdate update) {
@@ -1,6 +1,7 @@
 package org.folio.dew.service.update;
 
 import static java.lang.String.format;
+import static java.util.Objects.isNull;
 import static org.folio.dew.domain.dto.ExportType.BULK_EDIT_UPDATE;
 import static org.folio.dew.domain.dto.JobParameterNames.PREVIEW_FILE_NAME;
 import static org.folio.dew.domain.dto.JobParameterNames.TEMP_OUTPUT_FILE_PATH;
@@ -24,14 +25,13 @@ import org.folio.dew.error.BulkEditException;
 import org.folio.dew.error.FileOperationException;
 import org.folio.dew.repository.RemoteFilesStorage;
 import org.folio.dew.service.BulkEditProcessingErrorsService;
-import org.folio.dew.service.ContentUpdateRecords;
 import org.folio.dew.service.UpdatesResult;
 import org.folio.dew.service.validation.UserContentUpdateValidatorService;
 import org.folio.dew.utils.CsvHelper;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.ArrayList;
 import java.util.Objects;
 
 @Component
@@ -46,48 +46,73 @@ public class BulkEditUserContentUpdateService {
   private final UserContentUpdateValidatorService validatorService;
 
   public UpdatesResult<UserFormat> process(JobCommand jobCommand, UserContentUpdateCollection contentUpdates) {
+    return process(jobCommand, contentUpdates, null);
+  }
+
+  /**
+   * Applies content updates record by record while streaming the source file to the updated and preview files.
+   *
+   * @param jobCommand - job command
+   * @param contentUpdates - content updates to apply
+   * @param limit - max number of records kept for preview, all if null
+   * @return total number of records and records for preview
+   */
+  public UpdatesResult<UserFormat> process(JobCommand jobCommand, UserContentUpdateCollection contentUpdates, Integer limit) {
     validatorService.validateContentUpdateCollection(contentUpdates);
-    try {
-      var fileName = FilenameUtils.getName(jobCommand.getJobParameters().getString(TEMP_OUTPUT_FILE_PATH)) + CSV_EXTENSION;
-      var updatedFileName = jobCommand.getId() + PATH_SEPARATOR + UPDATED_PREFIX + fileName;
-      var previewFileName = jobCommand.getId() + PATH_SEPARATOR + PREVIEW_PREFIX + fileName;
-      var userFormats = CsvHelper.readRecordsFromStorage(remoteFilesStorage, jobCommand.getId() + PATH_SEPARATOR + fileName, UserFormat.class, true);
-      var contentUpdatedUsers = applyContentUpdates(userFormats, contentUpdates, jobCommand);
-      CsvHelper.saveRecordsToStorage(remoteFilesStorage, contentUpdatedUsers.getUpdated(), UserFormat.class, updatedFileName);
-      CsvHelper.saveRecordsToStorage(remoteFilesStorage, contentUpdatedUsers.getPreview(), UserFormat.class, previewFileName);
-      jobCommand.setJobParameters(new JobParametersBuilder(jobCommand.getJobParameters())
-        .addString(UPDATED_FILE_NAME, updatedFileName)
-        .addString(PREVIEW_FILE_NAME, previewFileName)
-        .toJobParameters());
-      jobCommand.setExportType(BULK_EDIT_UPDATE);
-      return new UpdatesResult<UserFormat>().withTotal(userFormats.size()).withEntitiesForPreview(contentUpdatedUsers.getPreview());
+    var fileName = FilenameUtils.getName(jobCommand.getJobParameters().getString(TEMP_OUTPUT_FILE_PATH)) + CSV_EXTENSION;
+    var updatedFileName = jobCommand.getId() + PATH_SEPARATOR + UPDATED_PREFIX + fileName;
+    var previewFileName = jobCommand.getId() + PATH_SEPARATOR + PREVIEW_PREFIX + fileName;
+    var result = new UpdatesResult<UserFormat>().withEntitiesForPreview(new ArrayList<>());
+    try (var userFormats = CsvHelper.streamRecordsFromStorage(remoteFilesStorage, jobCommand.getId() + PATH_SEPARATOR + fileName, UserFormat.class, true);
+         var updatedWriter = CsvHelper.recordsWriter(remoteFilesStorage, updatedFileName, UserFormat.class);
+         var previewWriter = CsvHelper.recordsWriter(remoteFilesStorage, previewFileName, UserFormat.class)) {
+      try {
+        var iterator = userFormats.iterator();
+        while (iterator.hasNext()) {
+          var userFormat = iterator.next();
+          var updatedUser = applyContentUpdates(userFormat, contentUpdates, jobCommand);
+          if (!Objects.equals(updatedUser, userFormat)) {
+            updatedWriter.write(updatedUser);
+          }
+          previewWriter.write(updatedUser);
+          if (isNull(limit) || result.getEntitiesForPreview().size() < limit) {
+            result.getEntitiesForPreview().add(updatedUser);
+          }
+          result.setTotal(result.getTotal() + 1);
+        }
+      } catch (Exception e) {
+        // records written so far are not published as the updated and preview files
+        updatedWriter.abort();
+        previewWriter.abort();
+        throw e;
+      }
     } catch (Exception e) {
       var msg = String.format("I/O exception for job id %s, reason: %s", jobCommand.getId(), e.getMessage());
       log.error(msg);
       throw new FileOperationException(msg);
     }
+    jobCommand.setJobParameters(new JobParametersBuilder(jobCommand.getJobParameters())
+      .addString(UPDATED_FILE_NAME, updatedFileName)
+      .addString(PREVIEW_FILE_NAME, previewFileName)
+      .toJobParameters());
+    jobCommand.setExportType(BULK_EDIT_UPDATE);
+    return result;
   }
 
-  private ContentUpdateRecords<UserFormat> applyContentUpdates(List<UserFormat> userFormats, UserContentUpdateCollection contentUpdateCollection, JobCommand jobCommand) {
-    var updateResult = new ContentUpdateRecords<UserFormat>();
-    userFormats.forEach(userFormat -> {
-      var updatedUser = userFormat;
-      for (UserContentUpdate contentUpdate: contentUpdateCollection.getUserContentUpdates()) {
-        try {
-          updatedUser = resolveUpdateStrategy(contentUpdate).applyUpdate(updatedUser, contentUpdate);
-        } catch (BulkEditException e) {
-          log.error("User content update {} was not applied for user {}, reason: {}", contentUpdate.getOption(), userFormat.getIdentifier(jobCommand.getJobParameters().getString(IDENTIFIER_TYPE)), e.getMessage());
-          errorsService.saveErrorInCSV(jobCommand.getId().toString(), userFormat.getIdentifier(jobCommand.getJobParameters().getString(IDENTIFIER_TYPE)), e, FilenameUtils.getName(jobCommand.getJobParameters().getString(FILE_NAME)));
-        }
-      }
-      if (!Objects.equals(updatedUser, userFormat)) {
-        updateResult.addToUpdated(updatedUser);
-      } else {
-        errorsService.saveErrorInCSV(jobCommand.getId().toString(), userFormat.getIdentifier(jobCommand.getJobParameters().getString(IDENTIFIER_TYPE)), new BulkEditException(NO_CHANGE_MESSAGE), FilenameUtils.getName(jobCommand.getJobParameters().getString(FILE_NAME)));
+  private UserFormat applyContentUpdates(UserFormat userFormat, UserContentUpdateCollection contentUpdateCollection, JobCommand jobCommand) {
+    var updatedUser = userFormat;
+    for (UserContentUpdate contentUpdate: contentUpdateCollection.getUserContentUpdates()) {
+      try {
+        updatedUser = resolveUpdateStrategy(contentUpdate).applyUpdate(updatedUser, contentUpdate);
+      } catch (BulkEditException e) {
+        log.error("User content update {} was not applied for user {}, reason: {}", contentUpdate.getOption(), userFormat.getIdentifier(jobCommand.getJobParameters().getString(IDENTIFIER_TYPE)), e.getMessage());
+        errorsService.saveErrorInCSV(jobCommand.getId().toString(), userFormat.getIdentifier(jobCommand.getJobParameters().getString(IDENTIFIER_TYPE)), e, FilenameUtils.getName(jobCommand.getJobParameters().getString(FILE_NAME)));
       }
-      updateResult.addToPreview(updatedUser);
-    });
-    return updateResult;
+    }
+    if (Objects.equals(updatedUser, userFormat)) {
+      errorsService.saveErrorInCSV(jobCommand.getId().toString(), userFormat.getIdentifier(jobCommand.getJobParameters().getString(IDENTIFIER_TYPE)), new BulkEditException(NO_CHANGE_MESSAGE), FilenameUtils.getName(jobCommand.getJobParameters().getString(FILE_NAME)));
+    }
+    return updatedUser;
   }
 
   private UpdateStrategy<UserFormat, UserContentUpdate> resolveUpdateStrategy(UserContentUpdate update) {
@@ -1,29 +1,27 @@
 package org.folio.dew.utils;
 
-import static org.folio.dew.utils.Constants.LINE_BREAK;
-
 import com.opencsv.bean.CsvToBeanBuilder;
-import com.opencsv.bean.StatefulBeanToCsvBuilder;
-import com.opencsv.exceptions.CsvDataTypeMismatchException;
-import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
 import lombok.experimental.UtilityClass;
 import lombok.extern.log4j.Log4j2;
 import org.folio.dew.repository.BaseFilesStorage;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 
 import java.io.StringReader;
-import java.io.StringWriter;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @UtilityClass
 @Log4j2
 public class CsvHelper {
-  private static final int BATCH_SIZE = 1000;
-
   public static <T, R extends BaseFilesStorage> List<T> readRecordsFromStorage(R storage, String fileName, Class<T> clazz, boolean skipHeaders) throws IOException {
     try (var reader = new BufferedReader(new InputStreamReader(storage.newInputStream(fileName)))) {
       return new CsvToBeanBuilder<T>(reader)
@@ -45,39 +43,39 @@ public class CsvHelper {
     }
   }
 
-  public static <T, R extends BaseFilesStorage> void saveRecordsToStorage(R storage, List<T> beans, Class<T> clazz, String fileName)
-    throws CsvRequiredFieldEmptyException, CsvDataTypeMismatchException, IOException {
-    var strategy = new RecordColumnMappingStrategy<T>();
-    strategy.setType(clazz);
+  /**
+   * Streams records of the CSV file, the file is read while the stream is consumed and closed along with the stream.
+   */
+  public static <T, R extends BaseFilesStorage> Stream<T> streamRecordsFromStorage(R storage, String fileName, Class<T> clazz, boolean skipHeaders) throws IOException {
+    var reader = new BufferedReader(new InputStreamReader(storage.newInputStream(fileName)));
+    var iterator = new CsvToBeanBuilder<T>(reader)
+      .withType(clazz)
+      .withSkipLines(skipHeaders ? 1 : 0)
+      .build()
+      .iterator();
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+      .onClose(() -> {
+        try {
+          reader.close();
+        } catch (IOException e) {
+          log.error("Failed to close reader of {}, reason: {}", fileName, e.getMessage());
+        }
+      });
+  }
 
-    if (storage.exists(fileName)) {
-      storage.delete(fileName);
-    }
+  /**
+   * Opens the writer of records to the CSV file, records are uploaded to the storage while they are written.
+   */
+  public static <T, R extends BaseFilesStorage> CsvRecordsWriter<T> recordsWriter(R storage, String fileName, Class<T> clazz) {
+    var out = storage.newOutputStream(fileName);
+    return new CsvRecordsWriter<>(new BufferedWriter(new OutputStreamWriter(out)), clazz, out::abort);
+  }
 
-    if (beans.size() > BATCH_SIZE) {
-      for (int batchNumber = 0; batchNumber <= beans.size() / BATCH_SIZE; batchNumber++) {
-        log.info("Writing batch #{}", batchNumber);
-        var batch = beans.stream()
-          .skip((long) batchNumber * BATCH_SIZE)
-          .limit(BATCH_SIZE)
-          .collect(Collectors.toList());
-        try (var stringWriter = new StringWriter()) {
-          new StatefulBeanToCsvBuilder<T>(stringWriter)
-            .withApplyQuotesToAll(false)
-            .withMappingStrategy(strategy)
-            .build()
-            .write(batch);
-          var csvString = stringWriter.toString();
-          storage.append(fileName, batchNumber == 0 ? csvString.getBytes() : csvString.substring(csvString.indexOf(LINE_BREAK) + 1).getBytes());
-        }
-      }
-    } else {
-      try (var writer = storage.writer(fileName)) {
-        new StatefulBeanToCsvBuilder<T>(writer)
-          .withApplyQuotesToAll(false)
-          .withMappingStrategy(strategy)
-          .build()
-          .write(beans);
+  public static <T, R extends BaseFilesStorage> void saveRecordsToStorage(R storage, List<T> beans, Class<T> clazz, String fileName)
+    throws IOException {
+    try (var writer = recordsWriter(storage, fileName, clazz)) {
+      for (T bean : beans) {
+        writer.write(bean);
       }
     }
   }
@@ -0,0 +1,71 @@
+package org.folio.dew.utils;
+
+import com.opencsv.bean.StatefulBeanToCsv;
+import com.opencsv.bean.StatefulBeanToCsvBuilder;
+import com.opencsv.exceptions.CsvException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes records to CSV one by one, the header is written along with the first record. The output is published when
+ * the writer is closed unless it was aborted before.
+ *
+ * @param <T> type of record
+ */
+public class CsvRecordsWriter<T> implements Closeable {
+  private final Writer writer;
+  private final StatefulBeanToCsv<T> beanToCsv;
+  private final Runnable abortAction;
+  private long count;
+  private boolean aborted;
+
+  public CsvRecordsWriter(Writer writer, Class<T> clazz) {
+    this(writer, clazz, () -> {});
+  }
+
+  /**
+   * @param writer - the output
+   * @param clazz - type of record
+   * @param abortAction - discards the output written so far
+   */
+  public CsvRecordsWriter(Writer writer, Class<T> clazz, Runnable abortAction) {
+    this.abortAction = abortAction;
+    var strategy = new RecordColumnMappingStrategy<T>();
+    strategy.setType(clazz);
+    this.writer = writer;
+    this.beanToCsv = new StatefulBeanToCsvBuilder<T>(writer)
+      .withApplyQuotesToAll(false)
+      .withMappingStrategy(strategy)
+      .build();
+  }
+
+  public void write(T bean) throws IOException {
+    try {
+      beanToCsv.write(bean);
+      count++;
+    } catch (CsvException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Discards the output, so records written before a failure are not published.
+   */
+  public void abort() {
+    aborted = true;
+    abortAction.run();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!aborted) {
+      writer.close();
+    }
+  }
+}
@@ -0,0 +1,10 @@
+ALTER TABLE e_holdings_resource
+    ALTER COLUMN resources_data TYPE JSONB USING resources_data::jsonb,
+    ALTER COLUMN agreements TYPE JSONB USING agreements::jsonb,
+    ALTER COLUMN notes TYPE JSONB USING notes::jsonb;
+
+ALTER TABLE e_holdings_package
+    ALTER COLUMN e_package TYPE JSONB USING e_package::jsonb,
+    ALTER COLUMN e_provider TYPE JSONB USING e_provider::jsonb,
+    ALTER COLUMN agreements TYPE JSONB USING agreements::jsonb,
+    ALTER COLUMN notes TYPE JSONB USING notes::jsonb;
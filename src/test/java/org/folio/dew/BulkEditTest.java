@@ -49,6 +49,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
@@ -324,6 +327,21 @@ class BulkEditTest extends BaseBatchTest {
     assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
   }
 
+  @Test
+  @DisplayName("Run bulk-edit (holdings records identifiers) resolving identifiers of a chunk with a batch query")
+  void shouldResolveHoldingsIdentifiersOfChunkWithBatchQuery() throws Exception {
+    JobLauncherTestUtils testLauncher = createTestLauncher(bulkEditProcessHoldingsIdentifiersJob);
+
+    final JobParameters jobParameters = prepareJobParameters(BULK_EDIT_IDENTIFIERS, HOLDINGS_RECORD, ID, HOLDINGS_IDENTIFIERS_CSV);
+    JobExecution jobExecution = testLauncher.launchJob(jobParameters);
+
+    wireMockServer.verify(getRequestedFor(urlPathEqualTo("/holdings-storage/holdings"))
+      .withQueryParam("query", equalTo("id==(\"123\" or \"456\" or \"789\")"))
+      .withQueryParam("limit", equalTo("30")));
+    verifyFilesOutput(jobExecution, EXPECTED_BULK_EDIT_HOLDINGS_OUTPUT, EXPECTED_BULK_EDIT_HOLDINGS_ERRORS);
+    assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+  }
+
   @Test
   @DisplayName("Run bulk-edit (holdings records identifiers) with wrong reference identifiers")
   void shouldWriteErrorsWhenHoldingsReferenceDataNotFoundAndContinueBulkEdit() throws Exception {
@@ -12,6 +12,7 @@ import org.folio.dew.domain.dto.JobParameterNames;
 import org.folio.dew.domain.dto.eholdings.EHoldingsPackageExportFormat;
 import org.folio.dew.domain.dto.eholdings.EHoldingsResourceExportFormat;
 import org.folio.dew.repository.EHoldingsPackageRepository;
+import org.folio.dew.repository.EHoldingsResourceCopyRepository;
 import org.folio.dew.repository.EHoldingsResourceRepository;
 import org.folio.dew.repository.RemoteFilesStorage;
 import org.folio.dew.service.FileNameResolver;
@@ -63,6 +64,8 @@ class EHoldingsTest extends BaseBatchTest {
   @Autowired
   private EHoldingsResourceRepository resourceRepository;
   @Autowired
+  private EHoldingsResourceCopyRepository resourceCopyRepository;
+  @Autowired
   private RemoteFilesStorage remoteFilesStorage;
   @SpyBean
   private KafkaService kafkaService;
@@ -239,6 +242,41 @@ class EHoldingsTest extends BaseBatchTest {
     verifyJobEvent();
   }
 
+  @Test
+  @DisplayName("Copy eHoldings resources upserting rows and keeping the last of repeated resources")
+  void eHoldingsResourcesCopyUpsertTest() throws Exception {
+    var written = resourceCopyRepository.copyAll(List.of(
+      buildResource(RESOURCE_ID, "first"), buildResource("1-22-334", "other"), buildResource(RESOURCE_ID, "second")));
+    assertEquals(2, written);
+    assertEquals(List.of("second", "other"), findResourceNames(RESOURCE_ID, "1-22-334"));
+
+    written = resourceCopyRepository.copyAll(List.of(buildResource(RESOURCE_ID, "third")));
+    assertEquals(1, written);
+    assertEquals(List.of("third", "other"), findResourceNames(RESOURCE_ID, "1-22-334"));
+
+    cleanJobDataInDatabase();
+  }
+
+  private EHoldingsResource buildResource(String id, String name) {
+    var resource = new EHoldingsResource();
+    resource.setId(id);
+    resource.setJobExecutionId(1L);
+    resource.setName(name);
+    resource.setResourcesData("{}");
+    return resource;
+  }
+
+  private List<String> findResourceNames(String... ids) {
+    return Arrays.stream(ids)
+      .map(id -> {
+        var resourceId = new EHoldingsResource.ResourceId();
+        resourceId.setId(id);
+        resourceId.setJobExecutionId(1L);
+        return resourceRepository.findById(resourceId).map(EHoldingsResource::getName).orElse(null);
+      })
+      .collect(Collectors.toList());
+  }
+
   private void populateOtherJobsDataInDatabase(){
     var packageFromAnotherJob = new EHoldingsPackage();
     packageFromAnotherJob.setId("1-22");
@@ -0,0 +1,133 @@
+package org.folio.dew;
+
+import static org.folio.dew.domain.dto.ExportType.AUTH_HEADINGS_UPDATES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+import org.folio.de.entity.JobCommand;
+import org.folio.dew.batch.ExportJobScheduler;
+import org.folio.dew.config.kafka.KafkaService;
+import org.folio.dew.config.properties.JobSchedulingProperties;
+import org.folio.dew.domain.dto.ExportType;
+import org.folio.dew.domain.dto.JobParameterNames;
+import org.folio.dew.domain.dto.authority.control.AuthorityControlExportConfig;
+import org.folio.dew.service.FileNameResolver;
+import org.folio.spring.DefaultFolioExecutionContext;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.integration.launch.JobLaunchRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+class ExportJobSchedulingTest extends BaseBatchTest {
+
+  private static final String BLOCKING_JOB_ID = "blocking-job";
+
+  @Autowired
+  private ExportJobScheduler exportJobScheduler;
+  @Autowired
+  private JobSchedulingProperties jobSchedulingProperties;
+  @Autowired
+  private FolioExecutionContext folioExecutionContext;
+  @Autowired
+  private FolioModuleMetadata folioModuleMetadata;
+  @Autowired
+  private FileNameResolver fileNameResolver;
+  @Autowired
+  private Job getAuthHeadingJob;
+  @SpyBean
+  private KafkaService kafkaService;
+
+  private int maxConcurrentJobs;
+
+  @AfterEach
+  void restoreProperties() {
+    if (maxConcurrentJobs > 0) {
+      jobSchedulingProperties.setMaxConcurrentJobs(maxConcurrentJobs);
+    }
+  }
+
+  @Test
+  @DisplayName("Job started by finishing job sends job updates with tenant of its own")
+  void shouldKeepTenantOfFinishingJob() throws Exception {
+    maxConcurrentJobs = jobSchedulingProperties.getMaxConcurrentJobs();
+    jobSchedulingProperties.setMaxConcurrentJobs(1);
+
+    List<String> updateTenants = new CopyOnWriteArrayList<>();
+    doAnswer(invocation -> {
+      updateTenants.add(String.valueOf(folioExecutionContext.getTenantId()));
+      return invocation.callRealMethod();
+    }).when(kafkaService).send(eq(KafkaService.Topic.JOB_UPDATE), anyString(), any());
+    when(exportJobManagerSync.launchJob(any())).thenAnswer(invocation -> {
+      var request = invocation.<JobLaunchRequest>getArgument(0);
+      if (BLOCKING_JOB_ID.equals(request.getJobParameters().getString(JobParameterNames.JOB_ID))) {
+        var execution = new JobExecution(1L, request.getJobParameters());
+        execution.setStatus(BatchStatus.STARTED);
+        return execution;
+      }
+      return jobLauncher.run(request.getJob(), request.getJobParameters());
+    });
+
+    var context = new DefaultFolioExecutionContext(folioModuleMetadata, okapiHeaders.entrySet().stream()
+      .collect(Collectors.toMap(Map.Entry::getKey, e -> (Collection<String>) List.of(String.valueOf(e.getValue())))));
+    var blockingParameters = new JobParametersBuilder()
+      .addString(JobParameterNames.JOB_ID, BLOCKING_JOB_ID)
+      .toJobParameters();
+    exportJobScheduler.submit(TENANT, AUTH_HEADINGS_UPDATES, new JobLaunchRequest(getAuthHeadingJob, blockingParameters),
+      context);
+    for (var i = 0; i < 2; i++) {
+      exportJobScheduler.submit(TENANT, AUTH_HEADINGS_UPDATES,
+        new JobLaunchRequest(getAuthHeadingJob, prepareJobParameters()), context);
+    }
+    assertEquals(2, exportJobScheduler.getQueuedJobs());
+
+    // the blocking job frees its slot for the first queued job, which starts the second one when it finishes
+    exportJobScheduler.afterJob(new JobExecution(1L, blockingParameters));
+
+    verify(kafkaService, timeout(30_000).times(4)).send(eq(KafkaService.Topic.JOB_UPDATE), anyString(), any());
+    assertEquals(List.of(TENANT, TENANT, TENANT, TENANT), updateTenants);
+  }
+
+  @SneakyThrows
+  private JobParameters prepareJobParameters() {
+    var exportConfig = new AuthorityControlExportConfig();
+    exportConfig.setFromDate(LocalDate.parse("2023-01-01"));
+    exportConfig.setToDate(LocalDate.parse("2023-12-01"));
+
+    var jobId = UUID.randomUUID().toString();
+    var paramBuilder = new JobParametersBuilder();
+    paramBuilder.addString(JobParameterNames.JOB_ID, jobId);
+    paramBuilder.addString("authorityControlExportConfig", objectMapper.writeValueAsString(exportConfig));
+
+    var workDir = System.getProperty("java.io.tmpdir") + File.separator + springApplicationName + File.separator;
+    var jobCommand = new JobCommand();
+    jobCommand.setJobParameters(paramBuilder.toJobParameters());
+    jobCommand.setExportType(ExportType.AUTH_HEADINGS_UPDATES);
+    paramBuilder.addString(JobParameterNames.TEMP_OUTPUT_FILE_PATH,
+      fileNameResolver.resolve(jobCommand, workDir, jobId));
+    return paramBuilder.toJobParameters();
+  }
+}
@@ -0,0 +1,158 @@
+package org.folio.dew.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.folio.dew.config.kafka.KafkaService;
+import org.folio.dew.config.properties.JobSchedulingProperties;
+import org.folio.dew.domain.dto.ExportType;
+import org.folio.dew.domain.dto.JobParameterNames;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.integration.launch.JobLaunchRequest;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+class ExportJobSchedulerTest {
+
+  private final ExportJobManagerSync exportJobManagerSync = mock(ExportJobManagerSync.class);
+  private final KafkaListenerEndpointRegistry registry = mock(KafkaListenerEndpointRegistry.class);
+  private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+  private final FolioExecutionContext context = mock(FolioExecutionContext.class);
+  private final KafkaService kafkaService = mock(KafkaService.class);
+  private final JobSchedulingProperties properties = new JobSchedulingProperties();
+  private final List<String> launched = new ArrayList<>();
+  private ExportJobScheduler scheduler;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    when(registry.getListenerContainer(KafkaService.EVENT_LISTENER_ID)).thenReturn(container);
+    when(exportJobManagerSync.launchJob(any())).thenAnswer(invocation -> {
+      var parameters = invocation.<JobLaunchRequest>getArgument(0).getJobParameters();
+      launched.add(parameters.getString(JobParameterNames.JOB_ID));
+      var execution = new JobExecution(1L, parameters);
+      execution.setStatus(BatchStatus.STARTED);
+      return execution;
+    });
+    scheduler = new ExportJobScheduler(exportJobManagerSync, registry, properties, List.of(), new SyncTaskExecutor(),
+      kafkaService);
+  }
+
+  @Test
+  void shouldLimitRunningJobsPerTenant() {
+    properties.setMaxConcurrentJobs(2);
+    properties.setMaxConcurrentJobsPerTenant(1);
+
+    submit("a1", "tenant_a", ExportType.CIRCULATION_LOG);
+    submit("a2", "tenant_a", ExportType.CIRCULATION_LOG);
+    submit("b1", "tenant_b", ExportType.CIRCULATION_LOG);
+
+    assertEquals(List.of("a1", "b1"), launched);
+    assertEquals(1, scheduler.getQueuedJobs());
+
+    finish("a1");
+    assertEquals(List.of("a1", "b1", "a2"), launched);
+    assertEquals(2, scheduler.getRunningJobs());
+  }
+
+  @Test
+  void shouldDispatchExportTypesOfTenantByWeight() {
+    properties.setMaxConcurrentJobs(1);
+    properties.setWeights(Map.of(ExportType.BULK_EDIT_QUERY.getValue(), 2));
+
+    submit("c0", "tenant", ExportType.CIRCULATION_LOG);
+    submit("c1", "tenant", ExportType.CIRCULATION_LOG);
+    submit("c2", "tenant", ExportType.CIRCULATION_LOG);
+    submit("c3", "tenant", ExportType.CIRCULATION_LOG);
+    submit("q1", "tenant", ExportType.BULK_EDIT_QUERY);
+    submit("q2", "tenant", ExportType.BULK_EDIT_QUERY);
+    submit("q3", "tenant", ExportType.BULK_EDIT_QUERY);
+    for (var i = 0; i < 6; i++) {
+      finish(launched.get(launched.size() - 1));
+    }
+
+    assertEquals(List.of("c0", "q1", "q2", "c1", "q3", "c2", "c3"), launched);
+  }
+
+  @Test
+  void shouldPauseConsumptionWhileQueueIsFull() {
+    properties.setMaxConcurrentJobs(1);
+    properties.setQueueCapacity(2);
+
+    submit("j1", "tenant", ExportType.CIRCULATION_LOG);
+    submit("j2", "tenant", ExportType.CIRCULATION_LOG);
+    verify(container, never()).pause();
+    submit("j3", "tenant", ExportType.CIRCULATION_LOG);
+    verify(container).pause();
+
+    finish("j1");
+    verify(container).resume();
+  }
+
+  @Test
+  void shouldReleaseSlotOfJobWhichWasNotStarted() throws Exception {
+    properties.setMaxConcurrentJobs(1);
+    when(exportJobManagerSync.launchJob(any())).thenReturn(null);
+
+    submit("j1", "tenant", ExportType.CIRCULATION_LOG);
+    submit("j2", "tenant", ExportType.CIRCULATION_LOG);
+
+    verify(exportJobManagerSync, times(2)).launchJob(any());
+    assertEquals(0, scheduler.getRunningJobs());
+    assertEquals(0, scheduler.getQueuedJobs());
+  }
+
+  @Test
+  void shouldFailQueuedJobsOnShutdown() {
+    properties.setMaxConcurrentJobs(1);
+    var running = UUID.randomUUID().toString();
+    var queued = UUID.randomUUID().toString();
+    submit(running, "tenant", ExportType.CIRCULATION_LOG);
+    submit(queued, "tenant", ExportType.CIRCULATION_LOG);
+
+    scheduler.failQueuedJobs();
+
+    var captor = ArgumentCaptor.forClass(Object.class);
+    verify(kafkaService).send(eq(KafkaService.Topic.JOB_UPDATE), eq(queued), captor.capture());
+    var jobUpdate = (org.folio.de.entity.Job) captor.getValue();
+    assertEquals(UUID.fromString(queued), jobUpdate.getId());
+    assertEquals(BatchStatus.FAILED, jobUpdate.getBatchStatus());
+    assertEquals(0, scheduler.getQueuedJobs());
+
+    var late = UUID.randomUUID().toString();
+    finish(running);
+    submit(late, "tenant", ExportType.CIRCULATION_LOG);
+    assertEquals(List.of(running), launched);
+    verify(kafkaService).send(eq(KafkaService.Topic.JOB_UPDATE), eq(late), any());
+  }
+
+  private void submit(String jobId, String tenantId, ExportType exportType) {
+    scheduler.submit(tenantId, exportType, new JobLaunchRequest(mock(Job.class), parameters(jobId)), context);
+  }
+
+  private void finish(String jobId) {
+    scheduler.afterJob(new JobExecution(1L, parameters(jobId)));
+  }
+
+  private JobParameters parameters(String jobId) {
+    return new JobParametersBuilder().addString(JobParameterNames.JOB_ID, jobId).toJobParameters();
+  }
+}
@@ -0,0 +1,51 @@
+package org.folio.dew.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.folio.dew.config.properties.PartitioningProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PartitionPlannerTest {
+
+  private static final long MIN_RECORDS = 16_384;
+  private static final long MAX_RECORDS = 131_072;
+
+  private final PartitionPlanner planner = new PartitionPlanner(new PartitioningProperties());
+
+  @Test
+  void shouldPlanSinglePartitionForSmallOrEmptyExport() {
+    assertEquals(List.of(new PartitionPlanner.Range(5, 0)), planner.plan(5, 0, 10));
+    assertEquals(List.of(new PartitionPlanner.Range(5, 20_000)), planner.plan(5, 20_000, 10));
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = { 40_000, 200_000, 1_000_000, 10_000_000 })
+  void shouldCoverAllRecordsWithShrinkingPartitions(long total) {
+    var ranges = planner.plan(100, total, 10);
+
+    var offset = 100L;
+    for (var i = 0; i < ranges.size(); i++) {
+      var range = ranges.get(i);
+      assertEquals(offset, range.offset());
+      assertTrue(range.limit() >= MIN_RECORDS);
+      assertTrue(range.limit() < MAX_RECORDS + MIN_RECORDS);
+      if (i > 0 && i < ranges.size() - 1) {
+        assertTrue(range.limit() <= ranges.get(i - 1).limit());
+      }
+      offset += range.limit();
+    }
+    assertEquals(100 + total, offset);
+  }
+
+  @Test
+  void shouldUseConcurrencyForMidSizedExport() {
+    var ranges = planner.plan(0, 400_000, 10);
+
+    assertTrue(ranges.size() > 10);
+    assertEquals(20_000, ranges.get(0).limit());
+  }
+}
@@ -0,0 +1,74 @@
+package org.folio.dew.batch;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.folio.dew.config.metrics.ExportMetrics;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+
+import java.util.List;
+
+class StepMetricsListenerTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private StepMetricsListener listener;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    var folioExecutionContext = mock(FolioExecutionContext.class);
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    listener = new StepMetricsListener(new ExportMetrics(meterRegistry, folioExecutionContext));
+
+    var jobExecution = new JobExecution(new JobInstance(1L, "BULK_EDIT_UPDATE-ITEM"), 1L, null);
+    StepSynchronizationManager.register(new StepExecution("updateStep:partition0", jobExecution, 1L));
+  }
+
+  @AfterEach
+  void tearDown() {
+    StepSynchronizationManager.close();
+  }
+
+  @Test
+  void shouldRecordTimingsAndItemsTaggedWithTenantExportTypeAndStep() {
+    listener.beforeRead();
+    listener.afterRead("a");
+    listener.beforeRead();
+    listener.afterRead("b");
+    listener.beforeProcess("a");
+    listener.afterProcess("a", "A");
+    listener.beforeProcess("b");
+    listener.afterProcess("b", null);
+    listener.beforeWrite(new Chunk<>(List.of("A")));
+    listener.onWriteError(new IllegalStateException(), new Chunk<>(List.of("A")));
+
+    var read = meterRegistry.find(StepMetricsListener.READ_METRIC)
+      .tags("tenant", "diku", "export_type", "BULK_EDIT_UPDATE", "step", "updateStep", "outcome", "success")
+      .timer();
+    assertThat(read.count(), is(2L));
+    assertThat(itemsCount("read", "success"), is(2.0));
+    assertThat(itemsCount("process", "success"), is(1.0));
+    assertThat(itemsCount("process", "filtered"), is(1.0));
+    assertThat(itemsCount("write", "error"), is(1.0));
+    assertThat(meterRegistry.find(StepMetricsListener.WRITE_METRIC).tag("outcome", "success").timer(), nullValue());
+  }
+
+  private double itemsCount(String phase, String outcome) {
+    return meterRegistry.find(StepMetricsListener.ITEMS_METRIC)
+      .tags("phase", phase, "outcome", outcome)
+      .counter()
+      .count();
+  }
+}
@@ -1,8 +1,15 @@
 package org.folio.dew.batch.acquisitions.edifact;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
 
 import org.folio.dew.BaseBatchTest;
 import org.folio.dew.batch.acquisitions.edifact.services.HoldingService;
@@ -29,4 +36,18 @@ class HoldingServiceTest extends BaseBatchTest {
     String locationId = holdingService.getPermanentLocationByHoldingId("65032151-39a5-4cef-8810-5350eb316300");
     assertEquals("b241764c-1466-4e1d-a028-1a3684a5da87", locationId);
   }
+
+  @Test
+  void resolvePermanentLocationsWithBatchQuery() throws JsonProcessingException {
+    var holdingsJson = objectMapper.readTree("{\"holdingsRecords\": [{\"id\": \"5a2b8e5e-3b4c-4bd3-9c62-1d8f8a6b8d01\", "
+      + "\"permanentLocationId\": \"fcd64ce1-6995-48f0-840e-89ffa2288371\"}]}");
+    doReturn(holdingsJson).when(client).getHoldingsJsonByQuery(eq("id==(5a2b8e5e-3b4c-4bd3-9c62-1d8f8a6b8d01 or 7b1e7f1c-1f0e-4d4c-8a4e-2c7c3c1d9e02)"), anyLong());
+
+    var locationIds = holdingService.resolvePermanentLocations(
+      List.of("5a2b8e5e-3b4c-4bd3-9c62-1d8f8a6b8d01", "7b1e7f1c-1f0e-4d4c-8a4e-2c7c3c1d9e02"));
+
+    assertEquals(Map.of("5a2b8e5e-3b4c-4bd3-9c62-1d8f8a6b8d01", "fcd64ce1-6995-48f0-840e-89ffa2288371"), locationIds);
+    assertEquals("fcd64ce1-6995-48f0-840e-89ffa2288371", holdingService.getPermanentLocationByHoldingId("5a2b8e5e-3b4c-4bd3-9c62-1d8f8a6b8d01"));
+    verify(client, never()).getHoldingById(anyString());
+  }
 }
@@ -2,6 +2,8 @@ package org.folio.dew.batch.acquisitions.edifact;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.List;
+
 import org.folio.dew.BaseBatchTest;
 import org.folio.dew.batch.acquisitions.edifact.services.LocationService;
 import org.junit.jupiter.api.Test;
@@ -17,4 +19,13 @@ class LocationServiceTest extends BaseBatchTest {
     String locationCode = locationService.getLocationCodeById("b241764c-1466-4e1d-a028-1a3684a5da87");
     assertEquals("KU/CC/DI/P", locationCode);
   }
+
+  @Test
+  void resolveLocationCodesWithBatchQuery() {
+    // the location is known only to the batch query, so it's found in cache afterwards
+    locationService.resolveLocationCodes(
+      List.of("6a3c1e52-6d1f-4d43-9a4e-8f2c51a7b001", "6a3c1e52-6d1f-4d43-9a4e-8f2c51a7b002"));
+
+    assertEquals("KU/CC/DI/B", locationService.getLocationCodeById("6a3c1e52-6d1f-4d43-9a4e-8f2c51a7b001"));
+  }
 }
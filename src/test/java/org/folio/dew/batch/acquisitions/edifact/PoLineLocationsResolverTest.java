@@ -0,0 +1,55 @@
+package org.folio.dew.batch.acquisitions.edifact;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.folio.dew.batch.acquisitions.edifact.services.HoldingService;
+import org.folio.dew.batch.acquisitions.edifact.services.LocationService;
+import org.folio.dew.batch.acquisitions.edifact.services.PoLineLocationsResolver;
+import org.folio.dew.domain.dto.CompositePurchaseOrder;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class PoLineLocationsResolverTest {
+  private static final String HOLDING_ID = "5a2b8e5e-3b4c-4bd3-9c62-1d8f8a6b8d01";
+  private static final String HOLDING_LOCATION_ID = "fcd64ce1-6995-48f0-840e-89ffa2288371";
+  private static final String LOCATION_ID = "b241764c-1466-4e1d-a028-1a3684a5da87";
+
+  private final HoldingService holdingService = mock(HoldingService.class);
+  private final LocationService locationService = mock(LocationService.class);
+  private final PoLineLocationsResolver resolver = new PoLineLocationsResolver(holdingService, locationService);
+
+  @Test
+  void resolveHoldingsAndLocationsOfAllOrders() throws JsonProcessingException {
+    when(holdingService.resolvePermanentLocations(any())).thenReturn(Map.of(HOLDING_ID, HOLDING_LOCATION_ID));
+
+    resolver.resolve(List.of(
+      order("{\"compositePoLines\": [{\"locations\": [{\"locationId\": \"" + LOCATION_ID + "\"}]}]}"),
+      order("{\"compositePoLines\": [{\"locations\": [{\"holdingId\": \"" + HOLDING_ID + "\"}, "
+        + "{\"locationId\": \"" + LOCATION_ID + "\"}]}, {}]}"),
+      order("{}")));
+
+    verify(holdingService).resolvePermanentLocations(Set.of(HOLDING_ID));
+    verify(locationService).resolveLocationCodes(Set.of(LOCATION_ID, HOLDING_LOCATION_ID));
+  }
+
+  @Test
+  void skipOrdersWithoutLocations() throws JsonProcessingException {
+    resolver.resolve(List.of(order("{\"compositePoLines\": [{\"locations\": []}]}")));
+
+    verifyNoInteractions(holdingService, locationService);
+  }
+
+  private static CompositePurchaseOrder order(String json) throws JsonProcessingException {
+    return new ObjectMapper().readValue(json, CompositePurchaseOrder.class);
+  }
+}
@@ -1,9 +1,9 @@
 package org.folio.dew.batch.acquisitions.edifact.jobs;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import org.apache.commons.lang3.RandomStringUtils;
 import org.folio.dew.BaseBatchTest;
 import org.folio.dew.batch.acquisitions.edifact.services.OrganizationsService;
+import org.folio.dew.repository.LocalFilesStorage;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
@@ -16,11 +16,14 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.UUID;
 
+import static org.folio.dew.domain.dto.JobParameterNames.PO_LINE_IDS_FILE_PATH;
 import static org.folio.dew.utils.TestUtils.getMockData;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 
@@ -29,6 +32,8 @@ class ExportHistoryTaskletTest extends BaseBatchTest {
   private Job edifactExportJob;
   @MockBean
   private OrganizationsService organizationsService;
+  @Autowired
+  private LocalFilesStorage localFilesStorage;
 
   @Test
   @DirtiesContext
@@ -52,17 +57,22 @@ class ExportHistoryTaskletTest extends BaseBatchTest {
     JsonNode vendorJson = objectMapper.readTree("{\"code\": \"GOBI\"}");
     doReturn(vendorJson).when(organizationsService).getOrganizationById(anyString());
 
-    JobExecution jobExecution1 = testLauncher.launchStep("createExportHistoryRecordsStep", getJobParameters(), getExecutionContext());
+    var poLineIdsFilePath = "edifact_export/diku/test_file_polines.txt";
+    localFilesStorage.write(poLineIdsFilePath, "id1\nid2\n".getBytes(StandardCharsets.UTF_8));
+
+    JobExecution jobExecution1 = testLauncher.launchStep("createExportHistoryRecordsStep", getJobParameters(), getExecutionContext(poLineIdsFilePath));
 
     var status = new ArrayList<>(jobExecution1.getStepExecutions()).get(0)
       .getStatus()
       .name();
     assertEquals("COMPLETED", status);
+    assertFalse(localFilesStorage.exists(poLineIdsFilePath));
   }
 
-  protected ExecutionContext getExecutionContext() {
+  protected ExecutionContext getExecutionContext(String poLineIdsFilePath) {
     ExecutionContext result = new ExecutionContext();
     result.put("edifactFileName", "test_file");
+    result.put(PO_LINE_IDS_FILE_PATH, poLineIdsFilePath);
 
     return result;
   }
@@ -71,7 +81,6 @@ class ExportHistoryTaskletTest extends BaseBatchTest {
     JobParametersBuilder paramsBuilder = new JobParametersBuilder();
 
     paramsBuilder.addString("edifactOrdersExport", getMockData("edifact/edifactOrdersExport.json"));
-    paramsBuilder.addString("edifactOrderAsString", RandomStringUtils.random(100, true, true));
     paramsBuilder.addString("jobName", "TestJob00123");
     var jobId = UUID.randomUUID().toString();
     paramsBuilder.addString("jobId", jobId);
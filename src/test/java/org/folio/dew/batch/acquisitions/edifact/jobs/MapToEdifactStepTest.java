@@ -1,14 +1,20 @@
 package org.folio.dew.batch.acquisitions.edifact.jobs;
 
+import static org.folio.dew.domain.dto.JobParameterNames.EDIFACT_ORDERS_COUNT;
+import static org.folio.dew.domain.dto.JobParameterNames.PO_LINE_IDS_FILE_PATH;
+import static org.folio.dew.domain.dto.JobParameterNames.UPLOADED_FILE_PATH;
 import static org.folio.dew.utils.TestUtils.getMockData;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -16,13 +22,18 @@ import java.util.Collection;
 import java.util.UUID;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.xlate.edi.stream.EDIStreamException;
+import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.api.Assertions;
 import org.folio.dew.BaseBatchTest;
 import org.folio.dew.batch.acquisitions.edifact.PurchaseOrdersToEdifactMapper;
 import org.folio.dew.batch.acquisitions.edifact.services.OrdersService;
+import org.folio.dew.batch.acquisitions.edifact.services.OrganizationsService;
 import org.folio.dew.domain.dto.CompositePurchaseOrder;
 import org.folio.dew.domain.dto.PurchaseOrderCollection;
+import org.folio.dew.repository.LocalFilesStorage;
 import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
@@ -35,17 +46,23 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-class MapToEdifactTaskletTest extends BaseBatchTest {
+class MapToEdifactStepTest extends BaseBatchTest {
 
   @MockBean
   private OrdersService ordersService;
   @MockBean
   private PurchaseOrdersToEdifactMapper purchaseOrdersToEdifactMapper;
+  @MockBean
+  private OrganizationsService organizationsService;
 
   @Autowired
   protected ObjectMapper objectMapper;
   @Autowired
   Job edifactExportJob;
+  @Autowired
+  private LocalFilesStorage localFilesStorage;
+  @Autowired
+  private EdiExportJobCompletionListener ediExportJobCompletionListener;
 
   @Test
   void edifactExportJobTestSuccess() throws Exception {
@@ -53,14 +70,19 @@ class MapToEdifactTaskletTest extends BaseBatchTest {
     PurchaseOrderCollection poCollection = objectMapper.readValue(getMockData("edifact/acquisitions/purchase_order_collection.json"), PurchaseOrderCollection.class);
     CompositePurchaseOrder comPO = objectMapper.readValue(getMockData("edifact/acquisitions/composite_purchase_order.json"), CompositePurchaseOrder.class);
 
-    String cqlString = "(workflowStatus==Open and vendor==d0fb5aa0-cdf1-11e8-a8d5-f2801f1b9fd1 and poLine.automaticExport==true and cql.allRecords=1 NOT manualPo==true)";
-    doReturn(poCollection).when(ordersService).getCompositePurchaseOrderByQuery(eq(cqlString), eq(Integer.MAX_VALUE));
+    String cqlString = "(workflowStatus==Open and vendor==d0fb5aa0-cdf1-11e8-a8d5-f2801f1b9fd1 and poLine.automaticExport==true and cql.allRecords=1 NOT manualPo==true) sortby id";
+    doReturn(poCollection).when(ordersService).getCompositePurchaseOrderByQuery(eq(cqlString), eq(0), eq(100));
     doReturn(comPO).when(ordersService).getCompositePurchaseOrderById(anyString());
-    doReturn("test1").when(purchaseOrdersToEdifactMapper).convertOrdersToEdifact(any(), any(), anyString());
+    doReturn(mock(PurchaseOrdersToEdifactMapper.OrdersWriter.class)).when(purchaseOrdersToEdifactMapper).openOrdersWriter(any(), any(), anyString());
+    doReturn(objectMapper.readTree("{\"code\": \"GOBI\"}")).when(organizationsService).getOrganizationById(anyString());
 
     JobExecution jobExecution = testLauncher.launchStep("mapToEdifactStep", getJobParameters(false));
 
     Assertions.assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+    var uploadedFilePath = jobExecution.getExecutionContext().getString(UPLOADED_FILE_PATH);
+    assertTrue(remoteFilesStorage.exists(uploadedFilePath));
+    assertTrue(jobExecution.getExecutionContext().containsKey(EDIFACT_ORDERS_COUNT));
+    Assertions.assertThat(jobExecution.getExecutionContext().containsKey("edifactOrderAsString")).isFalse();
 
   }
 
@@ -92,10 +114,11 @@ class MapToEdifactTaskletTest extends BaseBatchTest {
     PurchaseOrderCollection poCollection = objectMapper.readValue(getMockData("edifact/acquisitions/purchase_order_collection.json"), PurchaseOrderCollection.class);
     CompositePurchaseOrder comPO = objectMapper.readValue(getMockData("edifact/acquisitions/composite_purchase_order.json"), CompositePurchaseOrder.class);
     comPO.getCompositePoLines().get(0).getVendorDetail().setVendorAccount(null);
-    String cqlString = "(workflowStatus==Open and vendor==d0fb5aa0-cdf1-11e8-a8d5-f2801f1b9fd1 and poLine.automaticExport==true and cql.allRecords=1 NOT manualPo==true)";
-    doReturn(poCollection).when(ordersService).getCompositePurchaseOrderByQuery(eq(cqlString), eq(Integer.MAX_VALUE));
+    String cqlString = "(workflowStatus==Open and vendor==d0fb5aa0-cdf1-11e8-a8d5-f2801f1b9fd1 and poLine.automaticExport==true and cql.allRecords=1 NOT manualPo==true) sortby id";
+    doReturn(poCollection).when(ordersService).getCompositePurchaseOrderByQuery(eq(cqlString), eq(0), eq(100));
     doReturn(comPO).when(ordersService).getCompositePurchaseOrderById(anyString());
-    doReturn("test1").when(purchaseOrdersToEdifactMapper).convertOrdersToEdifact(any(), any(), anyString());
+    doReturn(mock(PurchaseOrdersToEdifactMapper.OrdersWriter.class)).when(purchaseOrdersToEdifactMapper).openOrdersWriter(any(), any(), anyString());
+    doReturn(objectMapper.readTree("{\"code\": \"GOBI\"}")).when(organizationsService).getOrganizationById(anyString());
 
     JobExecution jobExecution = testLauncher.launchStep("mapToEdifactStep", getJobParameters(true));
     Collection<StepExecution> actualStepExecutions = jobExecution.getStepExecutions();
@@ -104,12 +127,48 @@ class MapToEdifactTaskletTest extends BaseBatchTest {
 
   }
 
+  @Test
+  void edifactExportJobTestFailureAbortsFiles() throws Exception {
+    JobLauncherTestUtils testLauncher = createTestLauncher(edifactExportJob);
+    PurchaseOrderCollection poCollection = objectMapper.readValue(getMockData("edifact/acquisitions/purchase_order_collection.json"), PurchaseOrderCollection.class);
+    CompositePurchaseOrder comPO = objectMapper.readValue(getMockData("edifact/acquisitions/composite_purchase_order.json"), CompositePurchaseOrder.class);
+    var ordersWriter = mock(PurchaseOrdersToEdifactMapper.OrdersWriter.class);
+    doThrow(new EDIStreamException("mapping failed")).when(ordersWriter).write(any());
+
+    String cqlString = "(workflowStatus==Open and vendor==d0fb5aa0-cdf1-11e8-a8d5-f2801f1b9fd1 and poLine.automaticExport==true and cql.allRecords=1 NOT manualPo==true) sortby id";
+    doReturn(poCollection).when(ordersService).getCompositePurchaseOrderByQuery(eq(cqlString), eq(0), eq(100));
+    doReturn(comPO).when(ordersService).getCompositePurchaseOrderById(anyString());
+    doReturn(ordersWriter).when(purchaseOrdersToEdifactMapper).openOrdersWriter(any(), any(), anyString());
+    doReturn(objectMapper.readTree("{\"code\": \"GOBI\"}")).when(organizationsService).getOrganizationById(anyString());
+
+    JobExecution jobExecution = testLauncher.launchStep("mapToEdifactStep", getJobParameters(false));
+
+    Assertions.assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.FAILED.getExitCode());
+    assertFalse(jobExecution.getExecutionContext().containsKey(UPLOADED_FILE_PATH));
+    var poLineIdsFilePath = jobExecution.getExecutionContext().getString(PO_LINE_IDS_FILE_PATH);
+    assertFalse(localFilesStorage.exists(poLineIdsFilePath));
+    assertFalse(remoteFilesStorage.exists(StringUtils.removeEnd(poLineIdsFilePath, "_polines.txt") + ".edi"));
+  }
+
+  @Test
+  void edifactExportJobCompletionDeletesPoLineIdsFile() throws Exception {
+    var poLineIdsFilePath = "mod-data-export-worker/edifact_orders_export/diku/GOBI_polines.txt";
+    localFilesStorage.write(poLineIdsFilePath, "id1\n".getBytes());
+    var jobExecution = new JobExecution(1L, getJobParameters(false));
+    jobExecution.getExecutionContext().putString(PO_LINE_IDS_FILE_PATH, poLineIdsFilePath);
+    jobExecution.setStatus(BatchStatus.FAILED);
+
+    ediExportJobCompletionListener.afterJob(jobExecution);
+
+    assertFalse(localFilesStorage.exists(poLineIdsFilePath));
+  }
+
   @Test
   void purchaseOrdersNotFound() throws Exception {
     JobLauncherTestUtils testLauncher = createTestLauncher(edifactExportJob);
     PurchaseOrderCollection poCollection = new PurchaseOrderCollection();
-    String cqlString = "(workflowStatus==Open and vendor==d0fb5aa0-cdf1-11e8-a8d5-f2801f1b9fd1 and poLine.automaticExport==true and cql.allRecords=1 NOT manualPo==true)";
-    doReturn(poCollection).when(ordersService).getCompositePurchaseOrderByQuery(eq(cqlString), eq(Integer.MAX_VALUE));
+    String cqlString = "(workflowStatus==Open and vendor==d0fb5aa0-cdf1-11e8-a8d5-f2801f1b9fd1 and poLine.automaticExport==true and cql.allRecords=1 NOT manualPo==true) sortby id";
+    doReturn(poCollection).when(ordersService).getCompositePurchaseOrderByQuery(eq(cqlString), eq(0), eq(100));
     // when
     JobExecution jobExecution = testLauncher.launchStep("mapToEdifactStep", getJobParameters(false));
 
@@ -1,8 +1,8 @@
 package org.folio.dew.batch.acquisitions.edifact.jobs;
 
+import static org.folio.dew.domain.dto.JobParameterNames.UPLOADED_FILE_PATH;
 import static org.folio.dew.utils.TestUtils.getMockData;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -10,9 +10,7 @@ import static org.mockito.Mockito.doThrow;
 import java.io.IOException;
 import java.util.UUID;
 
-import org.apache.commons.lang3.RandomStringUtils;
 import org.folio.dew.BaseBatchTest;
-import org.folio.dew.batch.acquisitions.edifact.services.OrganizationsService;
 import org.folio.dew.repository.RemoteFilesStorage;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.ExitStatus;
@@ -26,14 +24,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.annotation.DirtiesContext;
 
-import com.fasterxml.jackson.databind.JsonNode;
-
 class SaveToMinioTaskletFailTest extends BaseBatchTest {
   @Autowired
   private Job edifactExportJob;
-  @MockBean
-  private OrganizationsService organizationsService;
-
   @MockBean
   private RemoteFilesStorage remoteFilesStorage;
 
@@ -45,10 +38,19 @@ class SaveToMinioTaskletFailTest extends BaseBatchTest {
       throws IOException {
     JobLauncherTestUtils testLauncher = createTestLauncher(edifactExportJob);
 
-    JsonNode vendorJson = objectMapper.readTree("{\"code\": \"GOBI\"}");
-    doReturn(vendorJson).when(organizationsService).getOrganizationById(anyString());
+    doThrow(new NullPointerException(NULL_POINTER_ERROR_TEXT)).when(remoteFilesStorage).exists(anyString());
+
+    JobExecution jobExecution = testLauncher.launchStep("saveToMinIOStep", getJobParameters(), getExecutionContext());
+
+    assertEquals(ExitStatus.FAILED.getExitCode(), jobExecution.getExitStatus().getExitCode());
+  }
+
+  @Test
+  @DirtiesContext
+  void minioFileNotFound() throws IOException {
+    JobLauncherTestUtils testLauncher = createTestLauncher(edifactExportJob);
 
-    doThrow(new NullPointerException(NULL_POINTER_ERROR_TEXT)).when(remoteFilesStorage).write(anyString(), any(byte[].class));
+    doReturn(false).when(remoteFilesStorage).exists(anyString());
 
     JobExecution jobExecution = testLauncher.launchStep("saveToMinIOStep", getJobParameters(), getExecutionContext());
 
@@ -67,7 +69,7 @@ class SaveToMinioTaskletFailTest extends BaseBatchTest {
 
   private ExecutionContext getExecutionContext() {
     ExecutionContext executionContext = new ExecutionContext();
-    executionContext.put("edifactOrderAsString", RandomStringUtils.random(100, true, true));
+    executionContext.put(UPLOADED_FILE_PATH, "mod-data-export-worker/edifact_export/diku/GOBI_test.edi");
     return executionContext;
   }
 
@@ -1,16 +1,18 @@
 package org.folio.dew.batch.acquisitions.edifact.jobs;
 
+import static org.folio.dew.domain.dto.JobParameterNames.OUTPUT_FILES_IN_STORAGE;
+import static org.folio.dew.domain.dto.JobParameterNames.UPLOADED_FILE_PATH;
+import static org.folio.dew.utils.Constants.EDIFACT_EXPORT_DIR_NAME;
+import static org.folio.dew.utils.Constants.getWorkingDirectory;
 import static org.folio.dew.utils.TestUtils.getMockData;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doReturn;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import org.apache.commons.lang3.RandomStringUtils;
 import org.folio.dew.BaseBatchTest;
-import org.folio.dew.batch.acquisitions.edifact.services.OrganizationsService;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
@@ -20,28 +22,24 @@ import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.test.JobLauncherTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.annotation.DirtiesContext;
 
-import com.fasterxml.jackson.databind.JsonNode;
-
 class SaveToMinioTaskletTest extends BaseBatchTest {
   @Autowired
   private Job edifactExportJob;
-  @MockBean
-  private OrganizationsService organizationsService;
 
   @Test
   @DirtiesContext
   void minioUploadSuccessful() throws IOException {
     JobLauncherTestUtils testLauncher = createTestLauncher(edifactExportJob);
 
-    JsonNode vendorJson = objectMapper.readTree("{\"code\": \"GOBI\"}");
-    doReturn(vendorJson).when(organizationsService).getOrganizationById(anyString());
+    var uploadedFilePath = remoteFilesStorage.write(getWorkingDirectory(springApplicationName, EDIFACT_EXPORT_DIR_NAME) + "diku/GOBI_test.edi",
+      RandomStringUtils.random(100, true, true).getBytes(StandardCharsets.UTF_8));
 
-    JobExecution jobExecution = testLauncher.launchStep("saveToMinIOStep", getJobParameters(), getExecutionContext());
+    JobExecution jobExecution = testLauncher.launchStep("saveToMinIOStep", getJobParameters(), getExecutionContext(uploadedFilePath));
 
     assertEquals(ExitStatus.COMPLETED, jobExecution.getExitStatus());
+    assertEquals(uploadedFilePath, jobExecution.getExecutionContext().getString(OUTPUT_FILES_IN_STORAGE));
   }
 
 
@@ -49,16 +47,15 @@ class SaveToMinioTaskletTest extends BaseBatchTest {
     JobParametersBuilder paramsBuilder = new JobParametersBuilder();
 
     paramsBuilder.addString("edifactOrdersExport", getMockData("edifact/edifactOrdersExport.json"));
-    paramsBuilder.addString("edifactOrderAsString", RandomStringUtils.random(100, true, true));
     var jobId = UUID.randomUUID().toString();
     paramsBuilder.addString("jobId", jobId);
 
     return paramsBuilder.toJobParameters();
   }
 
-  private ExecutionContext getExecutionContext() {
+  private ExecutionContext getExecutionContext(String uploadedFilePath) {
     ExecutionContext executionContext = new ExecutionContext();
-    executionContext.put("edifactOrderAsString", RandomStringUtils.random(100, true, true));
+    executionContext.put(UPLOADED_FILE_PATH, uploadedFilePath);
     return executionContext;
   }
 
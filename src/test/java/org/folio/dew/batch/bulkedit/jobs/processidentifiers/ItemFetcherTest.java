@@ -0,0 +1,68 @@
+package org.folio.dew.batch.bulkedit.jobs.processidentifiers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.folio.dew.client.InventoryClient;
+import org.folio.dew.domain.dto.IdentifierType;
+import org.folio.dew.domain.dto.Item;
+import org.folio.dew.domain.dto.ItemCollection;
+import org.folio.dew.domain.dto.ItemIdentifier;
+import org.folio.dew.error.BulkEditException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+@ExtendWith(MockitoExtension.class)
+class ItemFetcherTest {
+
+  @Mock
+  private InventoryClient inventoryClient;
+
+  @InjectMocks
+  private ItemFetcher itemFetcher;
+
+  @Test
+  void shouldResolveChunkWithBatchQueryAndFetchMissingOneByOne() {
+    ReflectionTestUtils.setField(itemFetcher, "identifierType", IdentifierType.BARCODE.getValue());
+    when(inventoryClient.getItemByQuery("barcode==(\"111\" or \"222\" or \"333\")", 30))
+      .thenReturn(new ItemCollection().items(List.of(new Item().id("1").barcode("111"), new Item().id("2").barcode("222"))).totalRecords(2));
+    when(inventoryClient.getItemByQuery("barcode==\"333\"", 1)).thenReturn(new ItemCollection().items(List.of()).totalRecords(0));
+
+    List.of("111", "222", "333", "111").forEach(barcode -> itemFetcher.afterRead(new ItemIdentifier(barcode)));
+
+    assertThat(itemFetcher.process(new ItemIdentifier("111")).getItems().get(0).getId(), equalTo("1"));
+    assertThat(itemFetcher.process(new ItemIdentifier("222")).getItems().get(0).getId(), equalTo("2"));
+    assertThat(itemFetcher.process(new ItemIdentifier("333")).getItems().isEmpty(), is(true));
+    var duplicate = new ItemIdentifier("111");
+    assertThrows(BulkEditException.class, () -> itemFetcher.process(duplicate));
+
+    verify(inventoryClient, times(2)).getItemByQuery(anyString(), anyLong());
+  }
+
+  @Test
+  void shouldSplitLongChunkIntoSeveralBatchQueries() {
+    ReflectionTestUtils.setField(itemFetcher, "identifierType", IdentifierType.BARCODE.getValue());
+    when(inventoryClient.getItemByQuery(anyString(), anyLong())).thenReturn(new ItemCollection().items(List.of()).totalRecords(0));
+
+    var barcodes = IntStream.range(0, 100).mapToObj(i -> "barcode-of-considerable-length-" + i).toList();
+    barcodes.forEach(barcode -> itemFetcher.afterRead(new ItemIdentifier(barcode)));
+    itemFetcher.process(new ItemIdentifier(barcodes.get(0)));
+
+    // Two batch queries bounded by query length and a single query for the identifier which was not resolved.
+    verify(inventoryClient, times(3)).getItemByQuery(anyString(), anyLong());
+  }
+}
@@ -0,0 +1,75 @@
+package org.folio.dew.batch.bulkedit.jobs.updatejob;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class RecordsUpdateExecutorTest {
+
+  private ThreadPoolTaskExecutor taskExecutor;
+  private RecordsUpdateExecutor recordsUpdateExecutor;
+
+  @BeforeEach
+  void setUp() {
+    taskExecutor = new ThreadPoolTaskExecutor();
+    taskExecutor.setCorePoolSize(3);
+    taskExecutor.setMaxPoolSize(3);
+    taskExecutor.initialize();
+    recordsUpdateExecutor = new RecordsUpdateExecutor(taskExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    taskExecutor.shutdown();
+  }
+
+  @Test
+  void shouldUpdateConcurrentlyAndHandleOutcomesInChunkOrder() {
+    var latch = new CountDownLatch(3);
+    var callerThread = Thread.currentThread();
+    var handledOnCaller = new ArrayList<Boolean>();
+    var updated = new ArrayList<String>();
+    var notChanged = new ArrayList<String>();
+    var failed = new ArrayList<String>();
+
+    recordsUpdateExecutor.<String>updateAll(new Chunk<>(List.of("a", "b", "c", "d", "e")), rec -> {
+      latch.countDown();
+      awaitQuietly(latch);
+      if ("c".equals(rec)) {
+        throw new IllegalStateException("Cannot update " + rec);
+      }
+      return !"d".equals(rec);
+    }, (rec, changed) -> {
+      handledOnCaller.add(Thread.currentThread() == callerThread);
+      (changed ? updated : notChanged).add(rec);
+    }, (rec, e) -> {
+      handledOnCaller.add(Thread.currentThread() == callerThread);
+      failed.add(rec + ": " + e.getMessage());
+    });
+
+    assertThat(latch.getCount(), is(0L));
+    assertThat(updated, contains("a", "b", "e"));
+    assertThat(notChanged, contains("d"));
+    assertThat(failed, contains("c: Cannot update c"));
+    assertThat(handledOnCaller, contains(true, true, true, true, true));
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(1, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
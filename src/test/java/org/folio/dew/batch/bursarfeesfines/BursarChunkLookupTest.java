@@ -0,0 +1,60 @@
+package org.folio.dew.batch.bursarfeesfines;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.folio.dew.batch.bursarfeesfines.service.BursarExportService;
+import org.folio.dew.batch.bursarfeesfines.service.BursarFeesFinesUtils;
+import org.folio.dew.domain.dto.Account;
+import org.folio.dew.domain.dto.User;
+import org.junit.jupiter.api.Test;
+
+class BursarChunkLookupTest {
+
+  private static final List<String> PATRON_GROUPS = List.of("group");
+
+  @Test
+  void shouldResolveOnlyMissingUsersAndRetainPendingOnes() {
+    var exportService = mock(BursarExportService.class);
+    when(exportService.findUsers(eq(PATRON_GROUPS), any()))
+      .thenReturn(List.of(new User().id("u1").externalSystemId("ext1"), new User().id("u2")));
+    var lookup = new BursarChunkLookup(exportService);
+
+    lookup.resolveUsers(PATRON_GROUPS, List.of("u1", "u2", "u3", "u1"));
+    lookup.resolveUsers(PATRON_GROUPS, List.of("u1", "u2"));
+    lookup.putAccount(new Account().id("a1"));
+
+    verify(exportService).findUsers(PATRON_GROUPS, List.of("u1", "u2", "u3"));
+    assertTrue(lookup.hasUser("u2"));
+    assertFalse(lookup.hasUser("u3"));
+    assertEquals(BursarFeesFinesUtils.getEmployeeId("u1", Map.of("u1", "ext1")), lookup.getEmployeeId("u1"));
+
+    lookup.retain(Set.of("u2"), Set.of());
+
+    assertFalse(lookup.hasUser("u1"));
+    assertTrue(lookup.hasUser("u2"));
+    assertNull(lookup.getAccount("a1"));
+  }
+
+  @Test
+  void shouldKeepCompactAccountLines() {
+    var account = BursarFeesFinesUtils.fromAccountLine(
+      BursarFeesFinesUtils.toAccountLine(new Account().id("a1").userId("u1").remaining(new BigDecimal("10.50"))));
+
+    assertEquals("a1", account.getId());
+    assertEquals("u1", account.getUserId());
+    assertNull(account.getOwnerId());
+    assertEquals(new BigDecimal("10.50"), account.getRemaining());
+  }
+}
@@ -1,9 +1,12 @@
 package org.folio.dew.batch.bursarfeesfines.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
@@ -18,62 +21,124 @@ import org.folio.dew.client.ServicePointClient;
 import org.folio.dew.client.TransferClient;
 import org.folio.dew.client.UserClient;
 import org.folio.dew.config.JacksonConfiguration;
+import org.folio.dew.config.properties.BatchFetchProperties;
 import org.folio.dew.domain.dto.Account;
 import org.folio.dew.domain.dto.AccountdataCollection;
 import org.folio.dew.domain.dto.Feefineaction;
 import org.folio.dew.domain.dto.FeefineactionCollection;
 import org.folio.dew.domain.dto.User;
+import org.folio.dew.domain.dto.UserCollection;
+import org.folio.dew.service.ParallelBatchFetcher;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.MockBeans;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-@SpringBootTest(classes = {JacksonConfiguration.class, BursarExportServiceImpl.class})
+@SpringBootTest(classes = {JacksonConfiguration.class, BursarExportServiceImpl.class, ParallelBatchFetcher.class,
+  BatchFetchProperties.class})
+@Import(BursarExportServiceImplTest.BatchFetchConfig.class)
 @MockBeans({
-  @MockBean(UserClient.class),
   @MockBean(AccountBulkClient.class),
   @MockBean(TransferClient.class),
   @MockBean(ServicePointClient.class)
 })
 class BursarExportServiceImplTest {
+
+  @TestConfiguration
+  static class BatchFetchConfig {
+    @Bean("batchFetchTaskExecutor")
+    ThreadPoolTaskExecutor batchFetchTaskExecutor() {
+      var executor = new ThreadPoolTaskExecutor();
+      executor.setCorePoolSize(2);
+      executor.setMaxPoolSize(2);
+      return executor;
+    }
+  }
+
   @Autowired
   private BursarExportServiceImpl bursarExportService;
   @MockBean
   private AccountClient client;
   @MockBean
+  private UserClient userClient;
+  @MockBean
   private FeefineactionsClient feefineactionsClient;
 
   @Test
   @DisplayName("Find accounts should return empty list for not defined outStanding days")
   void findAccountsEmptyTest() {
-    final List<User> users = generateUsers(100);
-    final List<Account> accounts = bursarExportService.findAccounts(null, users);
+    final List<Account> accounts = bursarExportService.findAccounts(null, List.of("u1"), null, 1000);
 
     assertTrue(accounts.isEmpty());
   }
 
   @Test
-  @DisplayName("Find accounts should fetch data in several buckets")
+  @DisplayName("Find accounts should fetch the page of the users after the last account")
   void findAccountsTest() {
-    when(client.getAccounts(any(), eq(10000L))).thenReturn(mockAccountData());
+    when(client.getAccounts(any(), eq(1000L))).thenReturn(mockAccountData());
 
-    final List<User> users = generateUsers(100);
-    final List<Account> accounts = bursarExportService.findAccounts(1L, users);
+    final List<Account> accounts = bursarExportService.findAccounts(1L, List.of("u1", "u2"), "a1", 1000);
 
-    assertEquals(2, accounts.size());
+    assertEquals(1, accounts.size());
+    var query = ArgumentCaptor.forClass(String.class);
+    verify(client).getAccounts(query.capture(), eq(1000L));
+    assertTrue(query.getValue().startsWith("userId==(u1 or u2) and remaining > 0.0"));
+    assertTrue(query.getValue().endsWith(" and id>\"a1\" sortby id"));
   }
 
   @Test
-  @DisplayName("Find accounts should fetch data in one call")
-  void findAccountsLessThanBucketSizeTest() {
-    when(client.getAccounts(any(), eq(10000L))).thenReturn(mockAccountData());
+  @DisplayName("Find accounts should not query without users")
+  void findAccountsWithoutUsersTest() {
+    assertTrue(bursarExportService.findAccounts(1L, Collections.emptyList(), null, 1000).isEmpty());
+    verifyNoInteractions(client);
+  }
 
-    final List<User> users = generateUsers(50);
-    final List<Account> accounts = bursarExportService.findAccounts(1L, users);
+  @Test
+  @DisplayName("Find users should fetch the page of the patron groups after the last user")
+  void findUsersPageTest() {
+    when(userClient.getUserByQuery(any(), eq(50L))).thenReturn(mockUserData());
 
-    assertEquals(1, accounts.size());
+    assertEquals(1, bursarExportService.findUsers(List.of("g1"), null, 50).size());
+    assertEquals(1, bursarExportService.findUsers(List.of("g1"), "u1", 50).size());
+
+    verify(userClient).getUserByQuery("(active==\"true\" and patronGroup==(g1)) sortby id", 50L);
+    verify(userClient).getUserByQuery("(active==\"true\" and patronGroup==(g1)) and id>\"u1\" sortby id", 50L);
+  }
+
+  @Test
+  @DisplayName("Find users should fetch data in several buckets")
+  void findUsersTest() {
+    when(userClient.getUserByQuery(any(), eq(50L))).thenReturn(mockUserData());
+
+    final List<User> users = bursarExportService.findUsers(List.of(UUID.randomUUID().toString()), generateAccountIds(100));
+
+    assertEquals(2, users.size());
+  }
+
+  @Test
+  @DisplayName("Find users should fetch data in one call")
+  void findUsersLessThanBucketSizeTest() {
+    when(userClient.getUserByQuery(any(), eq(30L))).thenReturn(mockUserData());
+
+    final List<User> users = bursarExportService.findUsers(List.of(UUID.randomUUID().toString()), generateAccountIds(30));
+
+    assertEquals(1, users.size());
+  }
+
+  @Test
+  @DisplayName("Has users should check total records of the patron groups")
+  void hasUsersTest() {
+    when(userClient.getUserByQuery(any(), eq(1L))).thenReturn(new UserCollection().totalRecords(0));
+
+    assertFalse(bursarExportService.hasUsers(List.of(UUID.randomUUID().toString())));
+    assertFalse(bursarExportService.hasUsers(null));
   }
 
   @Test
@@ -107,15 +172,6 @@ class BursarExportServiceImplTest {
     assertEquals(1, feefineActions.size());
   }
 
-  private List<User> generateUsers(int size) {
-    return Stream
-      .generate(UUID::randomUUID)
-      .map(UUID::toString)
-      .map(id -> new User().id(id))
-      .limit(size)
-      .collect(Collectors.toList());
-  }
-
   private List<String> generateAccountIds(int size) {
     return Stream
       .generate(UUID::randomUUID)
@@ -131,6 +187,12 @@ class BursarExportServiceImplTest {
     return accounts;
   }
 
+  private UserCollection mockUserData() {
+    UserCollection users = new UserCollection();
+    users.users(List.of(new User().id(UUID.randomUUID().toString())));
+    return users;
+  }
+
   private FeefineactionCollection mockFeeFineData() {
     FeefineactionCollection collection = new FeefineactionCollection();
     Feefineaction feefineaction = new Feefineaction().accountId(UUID.randomUUID().toString());
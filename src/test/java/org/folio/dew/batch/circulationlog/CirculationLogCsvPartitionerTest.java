@@ -0,0 +1,112 @@
+package org.folio.dew.batch.circulationlog;
+
+import static org.folio.dew.batch.circulationlog.CirculationLogCsvPartitioner.FROM_DATE;
+import static org.folio.dew.batch.circulationlog.CirculationLogCsvPartitioner.PARTITION;
+import static org.folio.dew.batch.circulationlog.CirculationLogCsvPartitioner.TO_DATE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import org.folio.dew.client.AuditClient;
+import org.folio.dew.domain.dto.JobParameterNames;
+import org.folio.dew.domain.dto.LogRecord;
+import org.folio.dew.domain.dto.LogRecordCollection;
+import org.junit.jupiter.api.Test;
+
+class CirculationLogCsvPartitionerTest {
+
+  private static final long FIRST_DATE = 1615541575000L;
+  private static final long LAST_DATE = FIRST_DATE + 999;
+  private static final String QUERY = "items=\"123\"";
+
+  private final AuditClient auditClient = mock(AuditClient.class);
+
+  @Test
+  void shouldSplitDateRangeIntoOrderedSlices() {
+    mockAuditClient(120_000, 40_000);
+
+    var partitions = new CirculationLogCsvPartitioner("out/circulation", auditClient, QUERY).partition(1);
+
+    assertEquals(3, partitions.size());
+    var first = partitions.get("Partition_0");
+    assertEquals(0L, first.getLong(PARTITION));
+    assertEquals("out/circulation_0.tmp", first.getString(JobParameterNames.TEMP_OUTPUT_FILE_PATH));
+    assertEquals(CirculationLogQuery.format(new Date(FIRST_DATE)), first.getString(FROM_DATE));
+    assertEquals(CirculationLogQuery.format(new Date(FIRST_DATE + 334)), first.getString(TO_DATE));
+    assertEquals(first.getString(TO_DATE), partitions.get("Partition_1").getString(FROM_DATE));
+    assertEquals(CirculationLogQuery.format(new Date(LAST_DATE + 1)), partitions.get("Partition_2").getString(TO_DATE));
+  }
+
+  @Test
+  void shouldCreateSingleUnboundedPartitionForSmallResult() {
+    mockAuditClient(51, 51);
+
+    var partitions = new CirculationLogCsvPartitioner("out/circulation", auditClient, QUERY).partition(1);
+
+    assertEquals(1, partitions.size());
+    assertFalse(partitions.get("Partition_0").containsKey(FROM_DATE));
+  }
+
+  @Test
+  void shouldBuildKeysetPageQueryInSortDirection() {
+    var query = CirculationLogQuery.of(QUERY + " sortby date/sort.descending");
+
+    assertEquals("(items=\"123\") and date>=\"a\" and date<\"b\" and (date<\"c\" or (date==\"c\" and id<\"d\"))"
+      + " sortby date/sort.descending id/sort.descending", query.page("a", "b", "c", "d"));
+    assertEquals("cql.allRecords=1 sortby date/sort.ascending id/sort.ascending", CirculationLogQuery.of(null).page(null, null, null, null));
+  }
+
+  @Test
+  void shouldKeepQuerySortedByOtherFieldsInSinglePartition() {
+    var sortedQuery = QUERY + " sortby userBarcode/sort.descending";
+    mockAuditClient(120_000, 40_000);
+
+    var partitions = new CirculationLogCsvPartitioner("out/circulation", auditClient, sortedQuery).partition(1);
+
+    assertEquals(1, partitions.size());
+    assertFalse(partitions.get("Partition_0").containsKey(FROM_DATE));
+    var query = CirculationLogQuery.of(sortedQuery);
+    assertFalse(query.isKeysetPaged());
+    assertEquals("(items=\"123\") sortby userBarcode/sort.descending", query.whole());
+    assertTrue(CirculationLogQuery.of(QUERY + " sortby date/sort.descending").isKeysetPaged());
+  }
+
+  @Test
+  void shouldPageQuerySortedByOtherFieldsByOffset() throws Exception {
+    var sortedQuery = "sortby userBarcode";
+    when(auditClient.getCirculationAuditLogs("cql.allRecords=1 sortby userBarcode", 0, 100, null))
+      .thenReturn(new LogRecordCollection().logRecords(Collections.nCopies(100, new LogRecord())));
+    when(auditClient.getCirculationAuditLogs("cql.allRecords=1 sortby userBarcode", 100, 100, null))
+      .thenReturn(new LogRecordCollection().logRecords(List.of(new LogRecord())));
+
+    var reader = new CirculationLogCsvItemReader(auditClient, sortedQuery, null, null);
+    var count = 0;
+    while (reader.read() != null) {
+      count++;
+    }
+
+    assertEquals(101, count);
+  }
+
+  private void mockAuditClient(int total, int perSlice) {
+    when(auditClient.getCirculationAuditLogs(anyString(), anyInt(), anyInt(), isNull())).thenAnswer(invocation -> {
+      String query = invocation.getArgument(0);
+      var collection = new LogRecordCollection();
+      if (query.endsWith("sortby date/sort.ascending")) {
+        collection.setLogRecords(List.of(new LogRecord().date(new Date(FIRST_DATE))));
+      } else if (query.endsWith("sortby date/sort.descending")) {
+        collection.setLogRecords(List.of(new LogRecord().date(new Date(LAST_DATE))));
+      }
+      collection.setTotalRecords(QUERY.equals(query) ? total : perSlice);
+      return collection;
+    });
+  }
+}
@@ -0,0 +1,71 @@
+package org.folio.dew.batch.eholdings;
+
+import static org.folio.dew.batch.eholdings.EHoldingsFetchPlanner.SELECTED_FILTER;
+import static org.folio.dew.batch.eholdings.EHoldingsFetchPlanner.TYPE_FILTER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.folio.dew.client.KbEbscoClient;
+import org.folio.dew.domain.dto.eholdings.EResources;
+import org.folio.dew.domain.dto.eholdings.MetaTotalResults;
+import org.junit.jupiter.api.Test;
+
+class EHoldingsFetchPlannerTest {
+
+  private static final String PACKAGE_ID = "1-22";
+  private static final String FILTERS = "filter[name]=*&sort=name";
+  private static final int MAX_SLICE_SIZE = 9_900;
+
+  private final KbEbscoClient kbEbscoClient = mock(KbEbscoClient.class);
+  private final EHoldingsFetchPlanner planner = new EHoldingsFetchPlanner(kbEbscoClient);
+
+  @Test
+  void shouldKeepSingleSliceUnderCap() {
+    mockTotals(Map.of(FILTERS, 120));
+
+    var slices = planner.plan(PACKAGE_ID, FILTERS, MAX_SLICE_SIZE);
+
+    assertEquals(1, slices.size());
+    assertEquals(FILTERS, slices.get(0).getFilters());
+    assertEquals(120, slices.get(0).getTotal());
+  }
+
+  @Test
+  void shouldSplitByFacetsUntilSlicesFitCap() {
+    var book = FILTERS + "&" + TYPE_FILTER + "=book";
+    var journal = FILTERS + "&" + TYPE_FILTER + "=journal";
+    mockTotals(Map.of(FILTERS, 24_000,
+      book, 15_000,
+      book + "&" + SELECTED_FILTER + "=true", 9_000,
+      book + "&" + SELECTED_FILTER + "=false", 6_000,
+      journal, 9_000));
+
+    var slices = planner.plan(PACKAGE_ID, FILTERS, MAX_SLICE_SIZE);
+
+    assertEquals(List.of(book + "&" + SELECTED_FILTER + "=true", book + "&" + SELECTED_FILTER + "=false", journal),
+      slices.stream().map(EHoldingsFetchPlanner.Slice::getFilters).toList());
+    assertEquals(24_000, slices.stream().mapToInt(EHoldingsFetchPlanner.Slice::getTotal).sum());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void mockTotals(Map<String, Integer> totals) {
+    doCallRealMethod().when(kbEbscoClient).constructParams(anyInt(), anyInt(), anyString());
+    when(kbEbscoClient.getResourcesByPackageId(eq(PACKAGE_ID), any())).thenAnswer(invocation -> {
+      var params = (Map<String, String>) invocation.getArgument(1);
+      var filters = totals.keySet().stream()
+        .filter(f -> Arrays.stream(f.split("&")).map(p -> p.split("="))
+          .allMatch(p -> p[1].equals(params.get(p[0]))) && f.split("&").length == params.size() - 2)
+        .findFirst();
+      return new EResources().meta(new MetaTotalResults().totalResults(filters.map(totals::get).orElse(0)));
+    });
+  }
+}
@@ -2,6 +2,7 @@ package org.folio.dew.batch.eholdings;
 
 import static java.util.Collections.singletonList;
 import static org.folio.dew.batch.eholdings.EHoldingsItemReader.MAX_RETRIEVABLE_RESULTS;
+import static org.folio.dew.batch.eholdings.EHoldingsItemReader.getMaxRetrievableResults;
 import static org.folio.dew.client.KbEbscoClient.COUNT_PARAM;
 import static org.folio.dew.client.KbEbscoClient.PAGE_PARAM;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -43,14 +44,14 @@ class EHoldingsItemReaderTest {
   private final KbEbscoClient kbEbscoClient = mock(KbEbscoClient.class);
 
   /**
-   * Verifies that pagination goes the right way, not exceeding upper bound of api
+   * Verifies that pagination goes the right way with constant page size, not exceeding upper bound of api
    * */
   @SuppressWarnings("unchecked")
   @ParameterizedTest
   @MethodSource("getLimits")
   void shouldReadAllPages(int limit) throws Exception {
     jobProperties.setKbEbscoChunkSize(limit);
-    var itemReader = spy(new EHoldingsItemReader(kbEbscoClient, exportConfig, jobProperties));
+    var itemReader = spy(new EHoldingsItemReader(kbEbscoClient, exportConfig, jobProperties, null, null));
 
     doCallRealMethod().when(kbEbscoClient).constructParams(anyInt(), anyInt(), anyString(), any());
 
@@ -84,7 +85,7 @@ class EHoldingsItemReaderTest {
       item = itemReader.read();
     } while (item != null);
 
-    assertEquals(MAX_RETRIEVABLE_RESULTS, resourcesQueried.get());
+    assertEquals(getMaxRetrievableResults(limit), resourcesQueried.get());
   }
 
   /**
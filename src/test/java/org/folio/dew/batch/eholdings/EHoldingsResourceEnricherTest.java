@@ -0,0 +1,116 @@
+package org.folio.dew.batch.eholdings;
+
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.LOAD_FIELD_TITLE_AGREEMENTS;
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.LOAD_FIELD_TITLE_NOTES;
+import static org.folio.dew.client.NotesClient.NoteLinkDomain.EHOLDINGS;
+import static org.folio.dew.client.NotesClient.NoteLinkType.RESOURCE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.folio.dew.client.AgreementClient;
+import org.folio.dew.client.NotesClient;
+import org.folio.dew.config.properties.EHoldingsJobProperties;
+import org.folio.dew.domain.dto.EHoldingsExportConfig;
+import org.folio.dew.domain.dto.eholdings.EHoldingsResourceDTO;
+import org.folio.dew.domain.dto.eholdings.Note;
+import org.folio.dew.domain.dto.eholdings.ResourcesAttributes;
+import org.folio.dew.domain.dto.eholdings.ResourcesData;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class EHoldingsResourceEnricherTest {
+
+  private final NotesClient notesClient = mock(NotesClient.class);
+  private final AgreementClient agreementClient = mock(AgreementClient.class);
+  private final ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+
+  @AfterEach
+  void tearDown() {
+    taskExecutor.shutdown();
+  }
+
+  @Test
+  void shouldLoadNotesAndAgreementsIsolatingFailedResources() {
+    taskExecutor.setCorePoolSize(4);
+    taskExecutor.initialize();
+    var folioExecutionContext = mock(FolioExecutionContext.class);
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    var exportConfig = new EHoldingsExportConfig()
+      .titleFields(List.of(LOAD_FIELD_TITLE_NOTES, LOAD_FIELD_TITLE_AGREEMENTS));
+    var enricher = new EHoldingsResourceEnricher(notesClient, agreementClient, taskExecutor,
+      new TenantRateLimiter(new EHoldingsJobProperties()), folioExecutionContext, exportConfig);
+
+    var notes = new NotesClient.NoteCollection();
+    notes.setNotes(List.of(new Note()));
+    notes.setTotalRecords(1);
+    when(notesClient.getAssignedNotes(EHOLDINGS, RESOURCE, "1-1")).thenReturn(notes);
+    when(notesClient.getAssignedNotes(EHOLDINGS, RESOURCE, "1-2")).thenThrow(new IllegalStateException("unavailable"));
+    var agreement = new AgreementClient.Agreement();
+    when(agreementClient.getAssignedAgreements(AgreementClient.getFiltersParam("1-1"))).thenReturn(List.of(agreement));
+    when(agreementClient.getAssignedAgreements(AgreementClient.getFiltersParam("1-2"))).thenReturn(List.of(agreement));
+
+    var first = resource(1);
+    var second = resource(2);
+    enricher.enrich(List.of(first, second));
+
+    assertEquals(1, first.getNotes().size());
+    assertEquals(List.of(agreement), first.getAgreements());
+    assertTrue(second.getNotes().isEmpty());
+    assertEquals(List.of(agreement), second.getAgreements());
+  }
+
+  @Test
+  void shouldNotHoldPoolThreadsWhileTenantIsThrottled() throws Exception {
+    taskExecutor.setCorePoolSize(1);
+    taskExecutor.initialize();
+    var jobProperties = new EHoldingsJobProperties();
+    jobProperties.setEnrichmentRequestsPerSecond(1);
+    var rateLimiter = new TenantRateLimiter(jobProperties);
+    var exportConfig = new EHoldingsExportConfig().titleFields(List.of(LOAD_FIELD_TITLE_NOTES));
+    var started = new CountDownLatch(1);
+    when(notesClient.getAssignedNotes(any(), any(), anyString())).thenAnswer(invocation -> {
+      started.countDown();
+      return new NotesClient.NoteCollection();
+    });
+    var throttled = new EHoldingsResourceEnricher(notesClient, agreementClient, taskExecutor, rateLimiter,
+      context("throttled"), exportConfig);
+    var other = new EHoldingsResourceEnricher(notesClient, agreementClient, taskExecutor, rateLimiter,
+      context("other"), exportConfig);
+
+    // requests of the throttled tenant are spaced out by a second, the last one waits for three seconds
+    var throttledEnrichment = CompletableFuture.runAsync(
+      () -> throttled.enrich(List.of(resource(1), resource(2), resource(3), resource(4))));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    var start = System.nanoTime();
+    other.enrich(List.of(resource(5)));
+
+    assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+    assertTrue(rateLimiter.reserve("throttled") > TimeUnit.SECONDS.toNanos(2));
+    throttledEnrichment.get(10, TimeUnit.SECONDS);
+  }
+
+  private FolioExecutionContext context(String tenant) {
+    var folioExecutionContext = mock(FolioExecutionContext.class);
+    when(folioExecutionContext.getTenantId()).thenReturn(tenant);
+    return folioExecutionContext;
+  }
+
+  private EHoldingsResourceDTO resource(int titleId) {
+    var attributes = new ResourcesAttributes();
+    attributes.setPackageId("1");
+    attributes.setTitleId(titleId);
+    var resourcesData = new ResourcesData();
+    resourcesData.setAttributes(attributes);
+    return EHoldingsResourceDTO.builder().resourcesData(resourcesData).build();
+  }
+}
@@ -0,0 +1,31 @@
+package org.folio.dew.batch.eholdings;
+
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.LOAD_FIELD_TITLE_NOTES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EHoldingsResourceProjectionTest {
+
+  @Test
+  void shouldSelectRequiredAndFieldAttributesOnly() {
+    var projection = new EHoldingsResourceProjection(List.of("titleName", "ISBNPrint", "ISSNOnline", "publisher",
+      LOAD_FIELD_TITLE_NOTES));
+
+    assertEquals("titleId,name,packageId,isSelected,publicationType,isTitleCustom,identifiers,publisherName",
+      projection.getAttributes());
+    assertTrue(projection.isWithNotes());
+    assertFalse(projection.isWithAgreements());
+    assertFalse(projection.isWithIncluded());
+  }
+
+  @Test
+  void shouldSelectIncludedForAccessStatusType() {
+    var projection = new EHoldingsResourceProjection(List.of("titleAccessStatusType"));
+
+    assertTrue(projection.isWithIncluded());
+  }
+}
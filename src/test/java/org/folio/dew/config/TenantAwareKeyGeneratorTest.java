@@ -0,0 +1,56 @@
+package org.folio.dew.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.folio.dew.domain.dto.ErrorServiceArgs;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.interceptor.SimpleKey;
+
+class TenantAwareKeyGeneratorTest {
+
+  @SuppressWarnings("unchecked")
+  private final ObjectProvider<FolioExecutionContext> provider = mock(ObjectProvider.class);
+  private final FolioExecutionContext folioExecutionContext = mock(FolioExecutionContext.class);
+  private final TenantAwareKeyGenerator keyGenerator = new TenantAwareKeyGenerator(provider);
+
+  @Test
+  void shouldSeparateKeysOfTenants() throws Exception {
+    var method = getClass().getDeclaredMethod("lookup", String.class, ErrorServiceArgs.class);
+    when(provider.getIfAvailable()).thenReturn(folioExecutionContext);
+
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    var dikuKey = keyGenerator.generate(this, method, "id", new ErrorServiceArgs("job", "1", "file.csv"));
+    when(folioExecutionContext.getTenantId()).thenReturn("college");
+    var collegeKey = keyGenerator.generate(this, method, "id", new ErrorServiceArgs("job", "1", "file.csv"));
+
+    assertEquals(new SimpleKey("diku", "lookup", "id"), dikuKey);
+    assertNotEquals(dikuKey, collegeKey);
+  }
+
+  @Test
+  void shouldExcludeErrorServiceArgsFromKey() throws Exception {
+    var method = getClass().getDeclaredMethod("lookup", String.class, ErrorServiceArgs.class);
+    when(provider.getIfAvailable()).thenReturn(folioExecutionContext);
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+
+    assertEquals(keyGenerator.generate(this, method, "id", new ErrorServiceArgs("job", "1", "file.csv")),
+      keyGenerator.generate(this, method, "id", new ErrorServiceArgs("job", "2", "file.csv")));
+  }
+
+  @Test
+  void shouldBuildKeyWithoutTenantOutsideOfFolioContext() throws Exception {
+    var method = getClass().getDeclaredMethod("lookup", String.class, ErrorServiceArgs.class);
+
+    assertEquals(new SimpleKey(null, "lookup", "id", null), keyGenerator.generate(this, method, "id", null));
+  }
+
+  @SuppressWarnings("unused")
+  private String lookup(String id, ErrorServiceArgs args) {
+    return id;
+  }
+}
@@ -0,0 +1,76 @@
+package org.folio.dew.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.folio.de.entity.EHoldingsResource;
+import org.folio.dew.BaseBatchTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class EHoldingsResourceCopyRepositoryTest extends BaseBatchTest {
+
+  private static final long JOB_EXECUTION_ID = 7L;
+
+  @Autowired
+  private EHoldingsResourceCopyRepository copyRepository;
+  @Autowired
+  private EHoldingsResourceRepository resourceRepository;
+
+  @Test
+  void shouldEncodeResourceAsCsvRowKeepingNulls() {
+    var resource = new EHoldingsResource();
+    resource.setId("1-22-333");
+    resource.setJobExecutionId(7L);
+    resource.setName("Title, \"quoted\"\nsecond line");
+    resource.setResourcesData("{\"id\":\"1-22-333\"}");
+    resource.setNotes("[]");
+
+    var row = new StringBuilder();
+    EHoldingsResourceCopyRepository.appendRow(row, resource);
+
+    assertEquals("\"1-22-333\",\"7\",\"Title, \"\"quoted\"\"\nsecond line\",\"{\"\"id\"\":\"\"1-22-333\"\"}\",,\"[]\"\n",
+      row.toString());
+  }
+
+  @Test
+  void shouldCopyChunkWithRepeatedResourcesKeepingTheLastOne() throws Exception {
+    try {
+      var written = copyRepository.copyAll(List.of(resource("1-1-1", "first"), resource("1-1-2", "second"),
+        resource("1-1-1", "first, \"updated\"")));
+
+      assertEquals(2, written);
+      assertEquals("first, \"updated\"", nameOf("1-1-1"));
+      assertEquals("second", nameOf("1-1-2"));
+
+      // the next chunk of the same job replaces stored rows
+      assertEquals(1, copyRepository.copyAll(List.of(resource("1-1-2", "second, updated"))));
+      assertEquals("second, updated", nameOf("1-1-2"));
+      assertEquals("first, \"updated\"", nameOf("1-1-1"));
+    } finally {
+      resourceRepository.deleteAllById(List.of(resourceId("1-1-1"), resourceId("1-1-2")));
+    }
+  }
+
+  private String nameOf(String id) {
+    return resourceRepository.findById(resourceId(id)).orElseThrow().getName();
+  }
+
+  private static EHoldingsResource.ResourceId resourceId(String id) {
+    var resourceId = new EHoldingsResource.ResourceId();
+    resourceId.setId(id);
+    resourceId.setJobExecutionId(JOB_EXECUTION_ID);
+    return resourceId;
+  }
+
+  private static EHoldingsResource resource(String id, String name) {
+    var resource = new EHoldingsResource();
+    resource.setId(id);
+    resource.setJobExecutionId(JOB_EXECUTION_ID);
+    resource.setName(name);
+    resource.setResourcesData("{\"id\":\"" + id + "\"}");
+    resource.setAgreements("[]");
+    resource.setNotes("[]");
+    return resource;
+  }
+}
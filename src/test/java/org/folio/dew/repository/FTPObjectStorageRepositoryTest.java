@@ -1,17 +1,21 @@
 package org.folio.dew.repository;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.net.URISyntaxException;
 import java.text.SimpleDateFormat;
 import java.util.Locale;
 import java.util.TimeZone;
 
 import org.apache.commons.net.ftp.FTPClient;
+import org.folio.dew.config.FTPConfig;
 import org.folio.dew.config.JacksonConfiguration;
 import org.folio.dew.config.properties.FTPProperties;
+import org.folio.dew.config.properties.FileTransferPoolProperties;
 import org.folio.dew.exceptions.FtpException;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -31,7 +35,8 @@ import lombok.extern.log4j.Log4j2;
 @SpringBootTest(classes ={JacksonConfiguration.class,
   FTPObjectStorageRepository.class,
   FTPProperties.class,
-  FTPClient.class})
+  FileTransferPoolProperties.class,
+  FTPConfig.class})
 class FTPObjectStorageRepositoryTest {
 
   @Autowired
@@ -90,7 +95,7 @@ class FTPObjectStorageRepositoryTest {
     log.info("=== Test unsuccessful login ===");
 
     Exception exception = assertThrows(URISyntaxException.class, () -> {
-      repository.upload(invalid_uri, username_valid, password_valid, filename, "Some text".getBytes());
+      repository.upload(invalid_uri, username_valid, password_valid, filename, new ByteArrayInputStream("Some text".getBytes()));
     });
 
     String expectedMessage = "URI should be valid ftp path";
@@ -102,20 +107,35 @@ class FTPObjectStorageRepositoryTest {
   @Test
   void testFailedLogin() {
     log.info("=== Test unsuccessful login ===");
-    assertThrows(FtpException.class, () -> repository.upload(uri, username_valid, password_invalid, filename, "Some text".getBytes()));
+    assertThrows(FtpException.class, () -> repository.upload(uri, username_valid, password_invalid, filename, new ByteArrayInputStream("Some text".getBytes())));
   }
 
   @Test
   void testSuccessfulUpload() {
     log.info("=== Test successful upload ===");
 
-    assertDoesNotThrow(() -> repository.upload(uri, username_valid, password_valid, filename, "Some text".getBytes()));
+    assertDoesNotThrow(() -> repository.upload(uri, username_valid, password_valid, filename, new ByteArrayInputStream("Some text".getBytes())));
     assertTrue(fakeFtpServer.getFileSystem().exists(user_home_dir + "/" + filename));
   }
 
+  @Test
+  void testUploadsToRelativeWorkingDirWithReusedConnection() throws Exception {
+    var workingDir = properties.getWorkingDir();
+    properties.setWorkingDir("exports");
+    try {
+      for (var i = 0; i < 2; i++) {
+        repository.upload(uri, username_valid, password_valid, i + filename, new ByteArrayInputStream("Some text".getBytes()));
+        assertTrue(fakeFtpServer.getFileSystem().exists(user_home_dir + "/exports/" + i + filename));
+      }
+      assertFalse(fakeFtpServer.getFileSystem().exists(user_home_dir + "/exports/exports"));
+    } finally {
+      properties.setWorkingDir(workingDir);
+    }
+  }
+
   @Test
   void testFailedUpload() {
     log.info("=== Test unsuccessful upload ===");
-    assertThrows(FtpException.class, () -> repository.upload(uri, username_valid, password_valid, "/invalid/path/" + filename, "Some text".getBytes()));
+    assertThrows(FtpException.class, () -> repository.upload(uri, username_valid, password_valid, "/invalid/path/" + filename, new ByteArrayInputStream("Some text".getBytes())));
   }
 }
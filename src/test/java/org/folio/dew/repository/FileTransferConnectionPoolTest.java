@@ -0,0 +1,115 @@
+package org.folio.dew.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.dew.config.properties.FileTransferPoolProperties;
+import org.junit.jupiter.api.Test;
+
+class FileTransferConnectionPoolTest {
+
+  private static final FileTransferServer SERVER = new FileTransferServer("localhost", 21, "user", "password");
+
+  private static class Connection {
+    private boolean valid = true;
+    private boolean closed;
+  }
+
+  private final List<Connection> opened = new ArrayList<>();
+
+  private FileTransferConnectionPool<Connection> createPool(FileTransferPoolProperties properties) {
+    return new FileTransferConnectionPool<>(new FileTransferConnectionPool.ConnectionFactory<>() {
+      @Override
+      public synchronized Connection connect(FileTransferServer server) {
+        var connection = new Connection();
+        opened.add(connection);
+        return connection;
+      }
+
+      @Override
+      public boolean isValid(Connection connection) {
+        return connection.valid;
+      }
+
+      @Override
+      public void disconnect(Connection connection) {
+        connection.closed = true;
+      }
+    }, properties);
+  }
+
+  @Test
+  void shouldReuseValidConnectionAndReplaceBrokenOne() throws Exception {
+    var pool = createPool(new FileTransferPoolProperties());
+
+    var first = pool.execute(SERVER, connection -> connection);
+    var second = pool.execute(SERVER, connection -> connection);
+    assertEquals(first, second);
+    assertEquals(1, opened.size());
+
+    first.valid = false;
+    var third = pool.execute(SERVER, connection -> connection);
+    assertTrue(first.closed);
+    assertEquals(2, opened.size());
+    assertEquals(opened.get(1), third);
+  }
+
+  @Test
+  void shouldCloseConnectionOfFailedCallbackAndIdleConnections() throws Exception {
+    var properties = new FileTransferPoolProperties();
+    properties.setIdleTimeout(0);
+    var pool = createPool(properties);
+
+    assertThrows(IOException.class, () -> pool.execute(SERVER, connection -> {
+      throw new IOException("upload failed");
+    }));
+    assertTrue(opened.get(0).closed);
+
+    pool.execute(SERVER, connection -> connection);
+    Thread.sleep(5);
+    pool.evictIdle();
+    assertTrue(opened.get(1).closed);
+    assertEquals(0, pool.getServers());
+  }
+
+  @Test
+  void shouldLimitConcurrentSessionsPerServer() throws Exception {
+    var properties = new FileTransferPoolProperties();
+    properties.setMaxSessionsPerServer(2);
+    var pool = createPool(properties);
+    var inUse = new AtomicInteger();
+    var maxInUse = new AtomicInteger();
+    var done = new CountDownLatch(6);
+    var executor = Executors.newFixedThreadPool(6);
+
+    for (int i = 0; i < 6; i++) {
+      executor.execute(() -> {
+        try {
+          pool.execute(SERVER, connection -> {
+            maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            return inUse.decrementAndGet();
+          });
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          done.countDown();
+        }
+      });
+    }
+
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    executor.shutdown();
+    assertTrue(maxInUse.get() <= 2);
+    assertTrue(opened.size() <= 2);
+  }
+}
@@ -13,11 +13,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
 
 import static java.util.List.of;
 import static java.util.stream.Collectors.toList;
@@ -81,7 +83,7 @@ class LocalFilesStorageTest {
   }
 
   @ParameterizedTest
-  @ValueSource(ints = {1024, 2048})
+  @ValueSource(ints = {1024, 2048, 3 * ObjectWriteArgs.MIN_MULTIPART_SIZE + 1})
   @DisplayName("Buffered writer test")
   void testBufferedWriter(int size) {
     var path = "directory/resource.csv";
@@ -128,6 +130,108 @@ class LocalFilesStorageTest {
     assertTrue(localFilesStorage.notExists(remoteFilePath));
   }
 
+  @Test
+  @DisplayName("Append many chunks crossing multipart threshold, read and delete")
+  void testAppendChunks() throws IOException {
+    var path = "directory_1/appended.csv";
+    var header = getRandomBytes(100);
+    var chunks = 12;
+    var chunkSize = ObjectWriteArgs.MIN_MULTIPART_SIZE / 5;
+    var expected = new ByteArrayOutputStream();
+
+    localFilesStorage.write(path, header);
+    expected.write(header);
+    for (int i = 0; i < chunks; i++) {
+      var chunk = getRandomBytes(chunkSize);
+      localFilesStorage.append(path, chunk);
+      expected.write(chunk);
+    }
+
+    assertTrue(localFilesStorage.exists(path));
+    assertTrue(Objects.deepEquals(localFilesStorage.readAllBytes(path), expected.toByteArray()));
+
+    var tail = getRandomBytes(1024);
+    localFilesStorage.append(path, tail);
+    expected.write(tail);
+    assertTrue(Objects.deepEquals(localFilesStorage.readAllBytes(path), expected.toByteArray()));
+
+    localFilesStorage.delete(path);
+    assertTrue(localFilesStorage.notExists(path));
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = { 0, 999, 1000, 1001, 2500, 4999, 5000 })
+  @DisplayName("Read lines from offset with lines index")
+  void testLinesFromOffset(long offset) throws IOException {
+    var path = "directory_1/identifiers.csv";
+    var lines = IntStream.range(0, 5000).mapToObj(i -> "line-" + i).collect(toList());
+    localFilesStorage.write(path, (String.join("\n", lines) + "\n").getBytes());
+
+    assertEquals(5000, localFilesStorage.countLines(path));
+    assertTrue(localFilesStorage.exists(LinesIndex.pathOf(path)));
+    assertEquals(of(path), localFilesStorage.walk("directory_1").collect(toList()));
+    try (var actual = localFilesStorage.lines(path, offset, 1500)) {
+      assertEquals(lines.stream().skip(offset).limit(1500).collect(toList()), actual.collect(toList()));
+    }
+
+    localFilesStorage.write(path, "changed\r\ncontent".getBytes());
+    assertEquals(2, localFilesStorage.countLines(path));
+    try (var actual = localFilesStorage.lines(path, 1, 10)) {
+      assertEquals(of("content"), actual.collect(toList()));
+    }
+
+    // same size, so only the ETag tells the index is stale
+    localFilesStorage.write(path, "a\nb\nc\nd\ne\nf\ng\nh\n".getBytes());
+    assertEquals(8, localFilesStorage.countLines(path));
+
+    localFilesStorage.delete("directory_1");
+    assertTrue(localFilesStorage.notExists(LinesIndex.pathOf(path)));
+
+    localFilesStorage.write(path, "a\nb\n".getBytes());
+    assertEquals(2, localFilesStorage.countLines(path));
+    localFilesStorage.deleteObjectsAsync(of(path)).join();
+    assertTrue(localFilesStorage.notExists(path));
+    assertTrue(localFilesStorage.notExists(LinesIndex.pathOf(path)));
+  }
+
+  @Test
+  @DisplayName("Count and read lines separated by CR, LF and CRLF like BufferedReader does")
+  void testLinesWithMixedLineEndings() throws IOException {
+    var path = "directory_1/mixed.csv";
+    var content = "a\rb\r\nc\n\rd\r\re";
+    localFilesStorage.write(path, content.getBytes());
+
+    List<String> expected;
+    try (var lines = localFilesStorage.lines(path)) {
+      expected = lines.collect(toList());
+    }
+    assertEquals(of("a", "b", "c", "", "d", "", "e"), expected);
+    assertEquals(expected.size(), localFilesStorage.countLines(path));
+    for (var offset = 0; offset < expected.size(); offset++) {
+      try (var actual = localFilesStorage.lines(path, offset, 10)) {
+        assertEquals(expected.subList(offset, expected.size()), actual.collect(toList()));
+      }
+    }
+
+    localFilesStorage.delete("directory_1");
+  }
+
+  @Test
+  @DisplayName("Delete objects by batches and in background")
+  void testDeleteObjects() throws IOException {
+    var paths = IntStream.range(0, 1005).mapToObj(i -> "directory_2/file_" + i + ".csv").collect(toList());
+    for (var path : paths) {
+      localFilesStorage.write(path, getRandomBytes(10));
+    }
+
+    localFilesStorage.deleteObjects(paths.subList(0, 1002));
+    assertTrue(paths.subList(0, 1002).stream().allMatch(localFilesStorage::notExists));
+    assertTrue(localFilesStorage.exists(paths.get(1002)));
+
+    localFilesStorage.deleteObjectsAsync(paths.subList(1002, 1005)).join();
+    assertTrue(localFilesStorage.walk("directory_2").findAny().isEmpty());
+  }
+
   @Test
   @DisplayName("Files operations on non-existing file")
   void testNonExistingFileOperations() {
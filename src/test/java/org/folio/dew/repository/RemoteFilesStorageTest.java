@@ -0,0 +1,237 @@
+package org.folio.dew.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.ObjectWriteArgs;
+import org.apache.commons.lang3.ArrayUtils;
+import org.folio.dew.config.metrics.ExportMetrics;
+import org.folio.dew.config.properties.LocalFilesStorageProperties;
+import org.folio.dew.config.properties.RemoteFilesStorageProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+@SpringBootTest(classes = {RemoteFilesStorageProperties.class, RemoteFilesStorage.class,
+  LocalFilesStorageProperties.class, LocalFilesStorage.class})
+@EnableConfigurationProperties
+class RemoteFilesStorageTest {
+
+  @SpyBean
+  private RemoteFilesStorage remoteFilesStorage;
+  @SpyBean
+  private LocalFilesStorage localFilesStorage;
+
+  @Test
+  @DisplayName("Compose parts which are still being appended")
+  void testAppendThenCompose() throws Exception {
+    var firstPart = "compose/part_0.tmp";
+    var secondPart = "compose/part_1.tmp";
+    var first = getRandomBytes(ObjectWriteArgs.MIN_MULTIPART_SIZE / 2);
+    var second = getRandomBytes(ObjectWriteArgs.MIN_MULTIPART_SIZE / 2 + 10);
+    var tail = getRandomBytes(1024);
+
+    remoteFilesStorage.append(firstPart, first);
+    remoteFilesStorage.append(firstPart, second);
+    remoteFilesStorage.append(secondPart, tail);
+
+    var composed = remoteFilesStorage.composeObject("compose/result.csv", List.of(firstPart, secondPart), null, "text/csv");
+
+    var expected = ArrayUtils.addAll(ArrayUtils.addAll(first, second), tail);
+    assertTrue(Objects.deepEquals(expected, remoteFilesStorage.readAllBytes(composed)));
+
+    remoteFilesStorage.delete("compose/result.csv");
+    assertFalse(remoteFilesStorage.exists("compose/result.csv"));
+  }
+
+  @Test
+  @DisplayName("Compose parts smaller than the compose minimum")
+  void testComposeSmallParts() throws Exception {
+    var partSizes = List.of(ObjectWriteArgs.MIN_MULTIPART_SIZE / 3, ObjectWriteArgs.MIN_MULTIPART_SIZE / 3,
+      ObjectWriteArgs.MIN_MULTIPART_SIZE / 3, ObjectWriteArgs.MIN_MULTIPART_SIZE + 300, 300, 300);
+    var parts = new ArrayList<String>();
+    var expected = new byte[0];
+    for (var size : partSizes) {
+      var part = "compose-small/part_" + parts.size() + ".csv";
+      var bytes = getRowBytes(size);
+      remoteFilesStorage.write(part, bytes);
+      parts.add(part);
+      expected = ArrayUtils.addAll(expected, bytes);
+    }
+
+    var composed = remoteFilesStorage.composeObject("compose-small/result.csv", parts, null, "text/csv");
+
+    assertTrue(Objects.deepEquals(expected, remoteFilesStorage.readAllBytes(composed)));
+    remoteFilesStorage.delete(composed);
+  }
+
+  @Test
+  @DisplayName("Failed compose drops temporary concatenations and keeps sources")
+  void testComposeFailure() throws Exception {
+    var parts = new ArrayList<String>();
+    for (var i = 0; i < 4; i++) {
+      var part = "compose-failure/part_" + i + ".csv";
+      remoteFilesStorage.write(part, getRowBytes(ObjectWriteArgs.MIN_MULTIPART_SIZE / 2));
+      parts.add(part);
+    }
+    doReturn(new SequenceInputStream(new ByteArrayInputStream(getRandomBytes(100)), failingStream()))
+      .when(remoteFilesStorage).newInputStream(parts.get(3));
+
+    assertThrows(IOException.class,
+      () -> remoteFilesStorage.composeObject("compose-failure/result.csv", parts, null, "text/csv"));
+
+    assertTrue(remoteFilesStorage.notExists("compose-failure/result.csv.run_0"));
+    assertTrue(remoteFilesStorage.notExists("compose-failure/result.csv.run_1"));
+    assertTrue(remoteFilesStorage.notExists("compose-failure/result.csv"));
+    for (var part : parts) {
+      assertTrue(remoteFilesStorage.exists(part));
+      remoteFilesStorage.delete(part);
+    }
+  }
+
+  @Test
+  @DisplayName("Record appended bytes once and time compose")
+  void testStorageMetrics() throws Exception {
+    var meterRegistry = new SimpleMeterRegistry();
+    remoteFilesStorage.setMetrics(new ExportMetrics(meterRegistry, mock(FolioExecutionContext.class)));
+    try {
+      var part = "compose-metrics/part_0.csv";
+      var first = getRandomBytes(ObjectWriteArgs.MIN_MULTIPART_SIZE + 10);
+      var second = getRandomBytes(1024);
+      remoteFilesStorage.append(part, first);
+      remoteFilesStorage.append(part, second);
+
+      var composed = remoteFilesStorage.composeObject("compose-metrics/result.csv", List.of(part), null, "text/csv");
+
+      assertEquals(first.length + second.length, bytesOf(meterRegistry, "upload"));
+      assertEquals(0, bytesOf(meterRegistry, "append"));
+      assertEquals(2, meterRegistry.find("dew.storage.operations").tag("operation", "append").timer().count());
+      assertEquals(1, meterRegistry.find("dew.storage.operations").tag("operation", "compose").timer().count());
+      remoteFilesStorage.delete(composed);
+    } finally {
+      remoteFilesStorage.setMetrics(null);
+    }
+  }
+
+  @Test
+  @DisplayName("Presign object which is still being appended")
+  void testAppendThenPresign() throws Exception {
+    var path = "presign/file.csv";
+    var bytes = getRandomBytes(100);
+    remoteFilesStorage.append(path, bytes);
+
+    remoteFilesStorage.objectToPresignedObjectUrl(path);
+
+    assertTrue(Objects.deepEquals(bytes, remoteFilesStorage.readObject(path)));
+    remoteFilesStorage.delete(path);
+  }
+
+  @Test
+  @DisplayName("Upload and download objects by streaming them between storages")
+  void testStreamingUploadAndDownload() throws Exception {
+    var localPath = "streaming/local.csv";
+    var remotePath = "streaming/remote.csv";
+    var bytes = getRandomBytes(ObjectWriteArgs.MIN_MULTIPART_SIZE + 1024);
+    localFilesStorage.write(localPath, bytes);
+    // too large for a single server-side copy, so the object is streamed
+    doReturn(ObjectWriteArgs.MAX_PART_SIZE + 1).when(localFilesStorage).sizeOf(localPath);
+
+    remoteFilesStorage.uploadObject(remotePath, localPath, "remote.csv", "text/csv", true);
+
+    assertTrue(Objects.deepEquals(bytes, remoteFilesStorage.readAllBytes(remotePath)));
+    assertTrue(localFilesStorage.notExists(localPath));
+
+    remoteFilesStorage.downloadObject(remotePath, localPath);
+
+    assertTrue(Objects.deepEquals(bytes, localFilesStorage.readAllBytes(localPath)));
+    remoteFilesStorage.delete(remotePath);
+    localFilesStorage.delete(localPath);
+  }
+
+  @Test
+  @DisplayName("Failed streaming upload doesn't publish truncated object")
+  void testStreamingUploadFailure() throws Exception {
+    var localPath = "streaming-failure/local.csv";
+    var remotePath = "streaming-failure/remote.csv";
+    localFilesStorage.write(localPath, getRandomBytes(1024));
+    doReturn(ObjectWriteArgs.MAX_PART_SIZE + 1).when(localFilesStorage).sizeOf(localPath);
+    doReturn(new SequenceInputStream(new ByteArrayInputStream(getRandomBytes(100)), failingStream()))
+      .when(localFilesStorage).newInputStream(localPath);
+
+    assertThrows(IOException.class,
+      () -> remoteFilesStorage.uploadObject(remotePath, localPath, "remote.csv", "text/csv", false));
+
+    assertTrue(remoteFilesStorage.notExists(remotePath));
+    localFilesStorage.delete(localPath);
+  }
+
+  @Test
+  @DisplayName("Failed download leaves no partial local file")
+  void testDownloadFailure() throws Exception {
+    var localPath = "download-failure/local.csv";
+    var remotePath = "download-failure/remote.csv";
+    remoteFilesStorage.write(remotePath, getRandomBytes(1024));
+    localFilesStorage.write(localPath, getRandomBytes(10));
+    doAnswer(invocation -> {
+      var stream = spy((StorageOutputStream) invocation.callRealMethod());
+      doThrow(new IOException("disk is full")).when(stream).write(any(byte[].class), anyInt(), anyInt());
+      return stream;
+    }).when(localFilesStorage).newOutputStream(localPath);
+
+    assertThrows(IOException.class, () -> remoteFilesStorage.downloadObject(remotePath, localPath));
+
+    assertTrue(localFilesStorage.notExists(localPath));
+    remoteFilesStorage.delete(remotePath);
+  }
+
+  private InputStream failingStream() {
+    return new InputStream() {
+      @Override
+      public int read() throws IOException {
+        throw new IOException("read failed");
+      }
+    };
+  }
+
+  private byte[] getRowBytes(int size) {
+    var row = "a".repeat(299) + "\n";
+    var bytes = new byte[size];
+    for (var i = 0; i < size; i++) {
+      bytes[i] = (byte) row.charAt(i % row.length());
+    }
+    return bytes;
+  }
+
+  private double bytesOf(SimpleMeterRegistry meterRegistry, String operation) {
+    var counter = meterRegistry.find("dew.storage.bytes").tag("operation", operation).counter();
+    return counter == null ? 0 : counter.count();
+  }
+
+  private byte[] getRandomBytes(int size) {
+    var bytes = new byte[size];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    return bytes;
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import lombok.extern.log4j.Log4j2;
@@ -91,7 +92,7 @@ class SFTPObjectStorageRepositoryTest extends BaseBatchTest {
     log.info("=== Test successful upload ===");
     String content = "Some string with content";
     SftpClient sftpClient = sftpRepository.getSftpClient(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT);
-    boolean uploaded = sftpRepository.upload(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT, EXPORT_FOLDER_NAME, FILENAME, content.getBytes());
+    boolean uploaded = sftpRepository.upload(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT, EXPORT_FOLDER_NAME, FILENAME, new ByteArrayInputStream(content.getBytes()));
 
     assertTrue(uploaded);
 
@@ -104,7 +105,7 @@ class SFTPObjectStorageRepositoryTest extends BaseBatchTest {
     log.info("=== Test successful upload for long path ===");
     String content = "Some string with content";
     SftpClient sftpClient = sftpRepository.getSftpClient(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT);
-    boolean uploaded = sftpRepository.upload(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT, EXPORT_FOLDER_NAME + "/test/long/path/creation", FILENAME, content.getBytes());
+    boolean uploaded = sftpRepository.upload(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT, EXPORT_FOLDER_NAME + "/test/long/path/creation", FILENAME, new ByteArrayInputStream(content.getBytes()));
 
     assertTrue(uploaded);
 
@@ -118,7 +119,7 @@ class SFTPObjectStorageRepositoryTest extends BaseBatchTest {
     String content = "Some string with content for download";
     String path = EXPORT_FOLDER_NAME + "/test/download";
     SftpClient sftpClient = sftpRepository.getSftpClient(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT);
-    boolean uploaded = sftpRepository.upload(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT, path, FILENAME, content.getBytes());
+    boolean uploaded = sftpRepository.upload(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT, path, FILENAME, new ByteArrayInputStream(content.getBytes()));
     byte[] fileBytes = sftpRepository.download(sftpClient, path + "/" + FILENAME);
 
     assertTrue(uploaded);
@@ -0,0 +1,101 @@
+package org.folio.dew.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.folio.dew.config.properties.StagingFilesStorageProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StagingFilesStorageTest {
+
+  @TempDir
+  Path directory;
+
+  private StagingFilesStorage storage;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    Files.writeString(directory.resolve("left-by-crash.csv"), "stale");
+    var properties = new StagingFilesStorageProperties();
+    properties.setEnabled(true);
+    properties.setDirectory(directory.toString());
+    properties.setMaxDiskUsage(100);
+    properties.setBufferSize(16);
+    storage = new StagingFilesStorage(properties);
+    storage.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    storage.destroy();
+  }
+
+  @Test
+  void shouldCleanDirectoryOnStartupAndAppendThroughBuffer() throws IOException {
+    assertFalse(Files.exists(directory.resolve("left-by-crash.csv")));
+
+    storage.write("job/part_1.csv", "header\n".getBytes(StandardCharsets.UTF_8));
+    storage.append("job/part_1.csv", "a\n".getBytes(StandardCharsets.UTF_8));
+    storage.append("job/part_1.csv", "b\n".getBytes(StandardCharsets.UTF_8));
+
+    assertTrue(storage.exists("job/part_1.csv"));
+    assertArrayEquals("header\na\nb\n".getBytes(StandardCharsets.UTF_8), storage.readAllBytes("job/part_1.csv"));
+    assertEquals(11, storage.getUsedBytes());
+  }
+
+  @Test
+  void shouldFailWritesExceedingQuotaAndReleaseQuotaOnDelete() throws IOException {
+    storage.append("part_1.csv", new byte[80]);
+
+    assertThrows(IOException.class, () -> storage.append("part_2.csv", new byte[30]));
+    assertEquals(80, storage.getUsedBytes());
+
+    storage.delete("part_1.csv");
+    assertFalse(storage.exists("part_1.csv"));
+    assertEquals(0, storage.getUsedBytes());
+    storage.append("part_2.csv", new byte[30]);
+  }
+
+  @Test
+  void shouldReleaseReservedQuotaWhenStagedFileIsNotOnDisk() throws IOException {
+    storage.append("job/part_1.csv", new byte[10]);
+    // the bytes are still buffered and the file is gone, so its size on disk tells nothing
+    Files.delete(directory.resolve("job/part_1.csv"));
+
+    storage.delete("job/part_1.csv");
+
+    assertEquals(0, storage.getUsedBytes());
+  }
+
+  @Test
+  void shouldUploadClosedFile() throws IOException {
+    var remote = mock(BaseFilesStorage.class);
+    storage.append("job/part_1.csv", "a\n".getBytes(StandardCharsets.UTF_8));
+
+    storage.uploadTo(remote, "job/part_1.csv");
+
+    var file = directory.resolve("job/part_1.csv");
+    assertEquals("a\n", Files.readString(file));
+    verify(remote).upload(eq("job/part_1.csv"), eq(file.toString()));
+  }
+
+  @Test
+  void shouldRejectPathsOutsideOfDirectory() {
+    assertThrows(IOException.class, () -> storage.append("../outside.csv", new byte[1]));
+    assertFalse(storage.exists("../outside.csv"));
+  }
+}
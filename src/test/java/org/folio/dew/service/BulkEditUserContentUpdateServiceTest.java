@@ -14,6 +14,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
 
 import lombok.SneakyThrows;
 import org.apache.commons.io.FilenameUtils;
@@ -22,10 +25,13 @@ import org.folio.dew.BaseBatchTest;
 import org.folio.dew.domain.dto.UserContentUpdate;
 import org.folio.dew.domain.dto.UserContentUpdateAction;
 import org.folio.dew.domain.dto.UserContentUpdateCollection;
+import org.folio.dew.error.FileOperationException;
 import org.folio.dew.service.update.BulkEditUserContentUpdateService;
+import org.folio.dew.service.update.PatronGroupUpdateStrategy;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 
 import java.util.Collections;
 import java.util.UUID;
@@ -35,6 +41,8 @@ class BulkEditUserContentUpdateServiceTest extends BaseBatchTest {
 
   @Autowired
   private BulkEditUserContentUpdateService contentUpdateService;
+  @SpyBean
+  private PatronGroupUpdateStrategy patronGroupUpdateStrategy;
 
   @Test
   @SneakyThrows
@@ -74,4 +82,38 @@ class BulkEditUserContentUpdateServiceTest extends BaseBatchTest {
     assertThat(jobCommand.getJobParameters().getString(UPDATED_FILE_NAME), equalTo(updatedFileName));
     assertThat(jobCommand.getJobParameters().getString(PREVIEW_FILE_NAME), equalTo(previewFileName));
   }
+
+  @Test
+  @SneakyThrows
+  void shouldNotPublishUpdatedAndPreviewFilesOnFailure() {
+    var jobId = UUID.randomUUID();
+    var uploadedFileName = FilenameUtils.getName(USER_DATA);
+    var updatedFileName = jobId + PATH_SEPARATOR + UPDATED_PREFIX + uploadedFileName;
+    var previewFileName = jobId + PATH_SEPARATOR + PREVIEW_PREFIX + uploadedFileName;
+    remoteFilesStorage.upload(jobId + PATH_SEPARATOR + uploadedFileName, USER_DATA);
+
+    var jobCommand = new JobCommand();
+    jobCommand.setId(jobId);
+    jobCommand.setExportType(BULK_EDIT_IDENTIFIERS);
+    jobCommand.setJobParameters(new JobParametersBuilder()
+      .addString(TEMP_OUTPUT_FILE_PATH, "test/path/" + USER_DATA.replace(CSV_EXTENSION, EMPTY))
+      .toJobParameters());
+
+    var contentUpdates = new UserContentUpdateCollection()
+      .userContentUpdates(Collections.singletonList(new UserContentUpdate()
+        .option(UserContentUpdate.OptionEnum.PATRON_GROUP)
+        .actions(Collections.singletonList(new UserContentUpdateAction()
+          .name(UserContentUpdateAction.NameEnum.REPLACE_WITH)
+          .value("PatronGroup")))))
+      .totalRecords(1);
+    // the first record is written, the second one fails
+    doCallRealMethod().doThrow(new IllegalStateException("Storage is unavailable"))
+      .when(patronGroupUpdateStrategy).applyUpdate(any(), any());
+
+    assertThrows(FileOperationException.class, () -> contentUpdateService.process(jobCommand, contentUpdates));
+
+    assertThat(remoteFilesStorage.containsFile(updatedFileName), is(false));
+    assertThat(remoteFilesStorage.containsFile(previewFileName), is(false));
+    assertThat(jobCommand.getExportType(), equalTo(BULK_EDIT_IDENTIFIERS));
+  }
 }
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.UUID;
@@ -58,7 +59,7 @@ class JobCommandsReceiverServiceTest extends BaseBatchTest {
   void startResendTest() throws Exception {
     String testString = "Test string";
 
-    doReturn(testString.getBytes()).when(remoteFilesStorage).readAllBytes(anyString());
+    doReturn(new ByteArrayInputStream(testString.getBytes())).when(remoteFilesStorage).newInputStream(anyString());
     doNothing().when(ftpStorageService).uploadToFtp(any(), any(), anyString());
 
     UUID id = UUID.randomUUID();
@@ -73,7 +74,7 @@ class JobCommandsReceiverServiceTest extends BaseBatchTest {
   void failedResendTest() throws Exception {
     String testString = "Test string";
 
-    doReturn(testString.getBytes()).when(remoteFilesStorage).readAllBytes(anyString());
+    doReturn(new ByteArrayInputStream(testString.getBytes())).when(remoteFilesStorage).newInputStream(anyString());
     doThrow(new Exception("Something went wrong")).when(ftpStorageService).uploadToFtp(any(), any(), anyString());
 
     UUID id = UUID.randomUUID();
@@ -0,0 +1,90 @@
+package org.folio.dew.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.folio.dew.config.properties.BatchFetchProperties;
+import org.folio.dew.error.BatchFetchException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class ParallelBatchFetcherTest {
+
+  private ThreadPoolTaskExecutor executor;
+  private ParallelBatchFetcher fetcher;
+
+  @BeforeEach
+  void setUp() {
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(8);
+    executor.setMaxPoolSize(8);
+    executor.initialize();
+    var properties = new BatchFetchProperties();
+    properties.setMaxInFlight(3);
+    fetcher = new ParallelBatchFetcher(executor, properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  void shouldPreserveOrderAndLimitBucketsInFlight() {
+    var inFlight = new AtomicInteger();
+    var maxInFlight = new AtomicInteger();
+    var ids = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+    var result = fetcher.fetch(ids, 7, bucket -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(10L * (bucket.get(0) % 3));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      inFlight.decrementAndGet();
+      return bucket.stream().map(String::valueOf).collect(Collectors.toList());
+    });
+
+    assertEquals(ids.stream().map(String::valueOf).collect(Collectors.toList()), result);
+    assertTrue(maxInFlight.get() <= 3);
+  }
+
+  @Test
+  void shouldReportFailedBucketsAfterAllBucketsCompleted() {
+    var completed = new AtomicInteger();
+    var ids = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    var exception = assertThrows(BatchFetchException.class, () -> fetcher.fetch(ids, 2, bucket -> {
+      if (bucket.contains(2) || bucket.contains(8)) {
+        throw new IllegalStateException("bucket " + bucket.get(0));
+      }
+      completed.incrementAndGet();
+      return bucket;
+    }));
+
+    assertEquals(List.of(1, 4), exception.getFailedBuckets());
+    assertEquals("bucket 2", exception.getCause().getMessage());
+    assertEquals(1, exception.getCause().getSuppressed().length);
+    assertEquals(3, completed.get());
+  }
+
+  @Test
+  void shouldFetchSingleBucketInCallerThread() {
+    var caller = Thread.currentThread();
+
+    var result = fetcher.fetch(List.of(1, 2), 5, bucket -> {
+      assertEquals(caller, Thread.currentThread());
+      return bucket;
+    });
+
+    assertEquals(List.of(1, 2), result);
+  }
+}
@@ -0,0 +1,85 @@
+package org.folio.dew.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.folio.dew.client.CallNumberTypeClient;
+import org.folio.dew.client.DepartmentClient;
+import org.folio.dew.client.GroupClient;
+import org.folio.dew.client.LoanTypeClient;
+import org.folio.dew.client.LocationClient;
+import org.folio.dew.client.MaterialTypeClient;
+import org.folio.dew.config.properties.ReferenceDataCacheProperties;
+import org.folio.dew.domain.dto.LoanType;
+import org.folio.dew.domain.dto.LoanTypeCollection;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class ReferenceDataServiceTest {
+
+  private final LoanTypeClient loanTypeClient = mock(LoanTypeClient.class);
+  private final FolioExecutionContext folioExecutionContext = mock(FolioExecutionContext.class);
+  private final ReferenceDataCacheProperties properties = new ReferenceDataCacheProperties();
+  private ReferenceDataService referenceDataService;
+
+  @BeforeEach
+  void setUp() {
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    referenceDataService = new ReferenceDataService(loanTypeClient, mock(MaterialTypeClient.class),
+      mock(LocationClient.class), mock(CallNumberTypeClient.class), mock(GroupClient.class), mock(DepartmentClient.class),
+      new ConcurrentMapCacheManager(ReferenceDataService.REFERENCE_TABLES_CACHE), folioExecutionContext, properties);
+  }
+
+  @Test
+  void shouldLoadTableOncePerTenant() {
+    when(loanTypeClient.getByQuery(anyString(), anyLong()))
+      .thenReturn(loanTypes(new LoanType().id("1").name("Can circulate")))
+      .thenReturn(loanTypes(new LoanType().id("2").name("Can circulate")));
+
+    assertEquals("1", referenceDataService.findLoanTypeByName("can circulate").orElseThrow().getId());
+    assertEquals("1", referenceDataService.findLoanTypeByName("Can circulate").orElseThrow().getId());
+    when(folioExecutionContext.getTenantId()).thenReturn("college");
+    assertEquals("2", referenceDataService.findLoanTypeByName("Can circulate").orElseThrow().getId());
+
+    verify(loanTypeClient, times(2)).getByQuery(anyString(), anyLong());
+  }
+
+  @Test
+  void shouldKeepTableReachingLimitIncomplete() {
+    properties.setTableLimit(2);
+    when(loanTypeClient.getByQuery(anyString(), anyLong()))
+      .thenReturn(loanTypes(new LoanType().id("1").name("Can circulate"), new LoanType().id("2").name("Reading room")));
+
+    assertTrue(referenceDataService.findLoanTypeByName("Can circulate").isEmpty());
+    assertTrue(referenceDataService.findLoanTypeByName("Reading room").isEmpty());
+
+    verify(loanTypeClient, times(1)).getByQuery(anyString(), anyLong());
+  }
+
+  @Test
+  void shouldNotCacheFailedLoad() {
+    when(loanTypeClient.getByQuery(anyString(), anyLong()))
+      .thenThrow(new IllegalStateException("Service unavailable"))
+      .thenReturn(loanTypes(new LoanType().id("1").name("Can circulate")));
+
+    assertTrue(referenceDataService.findLoanTypeByName("Can circulate").isEmpty());
+    assertEquals("1", referenceDataService.findLoanTypeByName("Can circulate").orElseThrow().getId());
+
+    verify(loanTypeClient, times(2)).getByQuery(anyString(), anyLong());
+  }
+
+  private LoanTypeCollection loanTypes(LoanType... loanTypes) {
+    var collection = new LoanTypeCollection();
+    collection.setLoantypes(List.of(loanTypes));
+    return collection;
+  }
+}
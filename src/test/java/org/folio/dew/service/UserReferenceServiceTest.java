@@ -22,6 +22,8 @@ public class UserReferenceServiceTest {
   private AddressTypeClient addressTypeClient;
   @Mock
   private DepartmentClient departmentClient;
+  @Mock
+  private ReferenceDataService referenceDataService;
 
   @InjectMocks
   private UserReferenceService userReferenceService;
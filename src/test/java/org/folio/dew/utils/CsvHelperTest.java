@@ -35,4 +35,20 @@ class CsvHelperTest {
     // Clean crated files
     localFilesStorage.delete(OUT_PATH);
   }
+
+  @Test
+  void shouldStreamRecordsFromCsv() throws IOException {
+    try (var writer = CsvHelper.recordsWriter(localFilesStorage, OUT_PATH, ItemFormat.class)) {
+      for (int i = 1; i <= 1100; i++) {
+        writer.write(ItemFormat.builder().id(UUID.randomUUID().toString()).barcode(Integer.toString(i)).build());
+      }
+      assertThat(writer.getCount()).isEqualTo(1100);
+    }
+    try (var records = CsvHelper.streamRecordsFromStorage(localFilesStorage, OUT_PATH, ItemFormat.class, true)) {
+      assertThat(records.map(ItemFormat::getBarcode).collect(Collectors.toList()))
+        .containsExactlyElementsOf(IntStream.rangeClosed(1, 1100).mapToObj(Integer::toString).collect(Collectors.toList()));
+    }
+    // Clean crated files
+    localFilesStorage.delete(OUT_PATH);
+  }
 }